@@ -0,0 +1,137 @@
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Compares the float[] based mesh generation of DrawTable/DrawCard
+ * (including the FloatBuffer.wrap and the copy into a direct buffer that JOGL
+ * performs for non-direct buffers) with the MeshBuilder path.
+ * Reports throughput and heap allocation per generated table (top + 4 legs) and card.
+ * Runs without OpenGL: java -cp out MeshBuilderBenchmark [iterations]
+ */
+public class MeshBuilderBenchmark {
+
+    private static final float[] TABLE_COLOR = {0.5f, 0.5f, 0.5f};
+    private static final float[] CARD_COLOR = {0.0f, 0.0f, 0.0f};
+    private static final int MESHES_PER_ITERATION = 6;
+
+    // Destination emulating the direct buffer JOGL copies non-direct buffers into
+    private static final ByteBuffer uploadBuffer =
+            ByteBuffer.allocateDirect(1 << 16).order(ByteOrder.nativeOrder());
+    private static long blackhole;
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 200000;
+
+        verifyIdenticalOutput();
+
+        MeshBuilder builder = new MeshBuilder();
+        for (int warmup = 0; warmup < 3; warmup++) {
+            runFloatArrayPath(iterations / 4);
+            runMeshBuilderPath(builder, iterations / 4);
+        }
+
+        report("float[] + FloatBuffer.wrap", iterations, new Runnable() {
+            public void run() { runFloatArrayPath(iterations); }
+        });
+        report("MeshBuilder (direct buffer)", iterations, new Runnable() {
+            public void run() { runMeshBuilderPath(builder, iterations); }
+        });
+        builder.release();
+        System.out.println("(checksum " + blackhole + ")");
+    }
+
+    private static void runFloatArrayPath(int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            uploadFloatArray(DrawTable.makeBoxVertices(0.8f, 0.05f, 0.6f, TABLE_COLOR),
+                    DrawTable.makeBoxIndicesForTriangleStrip());
+            uploadFloatArray(DrawTable.tableLegVRVerticices(TABLE_COLOR), DrawTable.makeVRLegIndicesForTriangleStrip());
+            uploadFloatArray(DrawTable.tableLegVLVerticices(TABLE_COLOR), DrawTable.makeVLLegIndicesForTriangleStrip());
+            uploadFloatArray(DrawTable.tableLegHLVerticices(TABLE_COLOR), DrawTable.makeHLLegIndicesForTriangleStrip());
+            uploadFloatArray(DrawTable.tableLegHRVerticices(TABLE_COLOR), DrawTable.makeHRLegIndicesForTriangleStrip());
+            uploadFloatArray(DrawCard.makeCardVertices(CARD_COLOR), DrawCard.makeCardIndicesForTriangleStrip());
+        }
+    }
+
+    private static void uploadFloatArray(float[] vertices, int[] indices) {
+        FloatBuffer vertexBuffer = FloatBuffer.wrap(vertices);
+        IntBuffer indexBuffer = IntBuffer.wrap(indices);
+        uploadBuffer.clear();
+        uploadBuffer.asFloatBuffer().put(vertexBuffer);
+        uploadBuffer.position(vertices.length * 4);
+        uploadBuffer.asIntBuffer().put(indexBuffer);
+        blackhole += uploadBuffer.getInt(4);
+    }
+
+    private static void runMeshBuilderPath(MeshBuilder builder, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            builder.reset();
+            DrawTable.putBox(builder, 0.8f, 0.05f, 0.6f, TABLE_COLOR);
+            uploadDirect(builder);
+            builder.reset();
+            DrawTable.putTableLegVR(builder, TABLE_COLOR);
+            uploadDirect(builder);
+            builder.reset();
+            DrawTable.putTableLegVL(builder, TABLE_COLOR);
+            uploadDirect(builder);
+            builder.reset();
+            DrawTable.putTableLegHL(builder, TABLE_COLOR);
+            uploadDirect(builder);
+            builder.reset();
+            DrawTable.putTableLegHR(builder, TABLE_COLOR);
+            uploadDirect(builder);
+            builder.reset();
+            DrawCard.putCard(builder, CARD_COLOR);
+            uploadDirect(builder);
+        }
+    }
+
+    private static void uploadDirect(MeshBuilder builder) {
+        // Direct buffers are handed to the driver as they are
+        blackhole += builder.getVertexData().getInt(4) + builder.getIndexData().remaining();
+    }
+
+    private static void report(String name, int iterations, Runnable benchmark) {
+        com.sun.management.ThreadMXBean threadBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long bytesBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        benchmark.run();
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadBean.getThreadAllocatedBytes(threadId) - bytesBefore;
+        long meshes = (long) iterations * MESHES_PER_ITERATION;
+        System.out.printf("%-30s %10.1f ns/mesh %12.0f meshes/s %10.1f B/mesh allocated%n",
+                name, (double) elapsed / meshes, meshes * 1e9 / elapsed, (double) allocated / meshes);
+    }
+
+    private static void verifyIdenticalOutput() {
+        MeshBuilder builder = new MeshBuilder();
+        DrawTable.putBox(builder, 0.8f, 0.05f, 0.6f, TABLE_COLOR);
+        compare("table", DrawTable.makeBoxVertices(0.8f, 0.05f, 0.6f, TABLE_COLOR),
+                DrawTable.makeBoxIndicesForTriangleStrip(), builder);
+        builder.reset();
+        DrawTable.putTableLegHL(builder, TABLE_COLOR);
+        compare("leg HL", DrawTable.tableLegHLVerticices(TABLE_COLOR),
+                DrawTable.makeHLLegIndicesForTriangleStrip(), builder);
+        builder.reset();
+        DrawCard.putCard(builder, CARD_COLOR);
+        compare("card", DrawCard.makeCardVertices(CARD_COLOR),
+                DrawCard.makeCardIndicesForTriangleStrip(), builder);
+        builder.release();
+    }
+
+    private static void compare(String name, float[] vertices, int[] indices, MeshBuilder builder) {
+        ByteBuffer vertexData = builder.getVertexData();
+        boolean identical = vertexData.remaining() == vertices.length * 4
+                && builder.getIndexCount() == indices.length;
+        for (int i = 0; identical && i < vertices.length; i++)
+            identical = vertexData.getFloat(i * 4) == vertices[i];
+        for (int i = 0; identical && i < indices.length; i++)
+            identical = builder.getIndex(i) == indices[i];
+        if (!identical)
+            throw new IllegalStateException("MeshBuilder output differs for " + name);
+    }
+}
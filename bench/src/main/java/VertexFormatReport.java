@@ -0,0 +1,44 @@
+/**
+ * Prints the memory needed by the table and card meshes in the standard and
+ * the compact vertex format, and the largest position error of the compact format.
+ * Runs without OpenGL: java -cp out VertexFormatReport
+ */
+public class VertexFormatReport {
+
+    private static final float[] COLOR = {0.5f, 0.5f, 0.5f};
+
+    public static void main(String[] args) {
+        System.out.printf("%-10s %8s %10s %10s %10s %10s%n",
+                "format", "B/vertex", "index type", "VBO bytes", "IBO bytes", "total");
+        for (VertexFormat format : VertexFormat.values()) {
+            MeshBuilder builder = new MeshBuilder(format);
+            DrawTable.putBox(builder, 0.8f, 0.05f, 0.6f, COLOR);
+            DrawTable.putTableLegVR(builder, COLOR);
+            DrawTable.putTableLegVL(builder, COLOR);
+            DrawTable.putTableLegHL(builder, COLOR);
+            DrawTable.putTableLegHR(builder, COLOR);
+            DrawCard.putCard(builder, COLOR);
+            int vertexBytes = builder.getVertexByteCount();
+            int indexBytes = builder.getIndexByteCount();
+            System.out.printf("%-10s %8d %10s %10d %10d %10d%n", format, format.getStride(),
+                    "u" + 8 * VertexFormat.indexTypeSize(builder.getIndexType()),
+                    vertexBytes, indexBytes, vertexBytes + indexBytes);
+            builder.release();
+        }
+
+        float[] corners = {0.4f, 0.055f, 0.1f, 0.30f, 0.05f, -0.1f, 0.75f, -0.6f, -0.55f, 0.8f, 0.05f, 0.6f};
+        float maxError = 0f;
+        for (float c : corners)
+            maxError = Math.max(maxError, Math.abs(halfToFloat(VertexFormat.floatToHalf(c)) - c));
+        System.out.printf("Largest half float position error of the scene corners: %.6f%n", maxError);
+    }
+
+    private static float halfToFloat(short half) {
+        int sign = (half & 0x8000) != 0 ? -1 : 1;
+        int exponent = (half >> 10) & 0x1F;
+        int mantissa = half & 0x3FF;
+        if (exponent == 0)
+            return sign * mantissa * (float) Math.pow(2, -24);
+        return sign * (1 + mantissa / 1024f) * (float) Math.pow(2, exponent - 15);
+    }
+}
@@ -0,0 +1,69 @@
+package benchmark;
+
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLEventListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import static benchmark.ProjectMethods.findConstructor;
+import static benchmark.ProjectMethods.findVirtual;
+
+/**
+ * CPU cost of StartRendererPP.display() (scene update, culling, render queue,
+ * GLStateCache and all GL calls) with a GLRecorder that only counts the calls
+ * instead of OpenGL, so it runs without GPU. The GL calls per frame are
+ * printed by StartRecordingPP. The renderer options are system properties,
+ * they are set before the renderer is created. Run from the project directory,
+ * the renderer loads its shaders and texture from resources/.
+ * GLRecorder is called through method handles, see ProjectMethods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class FrameSubmissionBenchmark {
+
+    private static final MethodHandle NEW_RECORDER = findConstructor("GLRecorder");
+    private static final MethodHandle CREATE_DRAWABLE = findVirtual("GLRecorder", "createDrawable",
+            GLAutoDrawable.class, int.class, int.class);
+
+    @Param({"1", "500"})
+    public int cards;
+
+    @Param({"false", "true"})
+    public boolean indirectDraw;
+
+    private GLEventListener renderer;
+    private GLAutoDrawable drawable;
+
+    @Setup(Level.Trial)
+    public void setup() throws Throwable {
+        System.setProperty("cards", Integer.toString(cards));
+        System.setProperty("indirectDraw", Boolean.toString(indirectDraw));
+        Object recorder = NEW_RECORDER.invokeExact();
+        drawable = (GLAutoDrawable) CREATE_DRAWABLE.invokeExact(recorder, 800, 650);
+        renderer = (GLEventListener) Class.forName("StartRendererPP").newInstance();
+        renderer.init(drawable);
+        renderer.reshape(drawable, 0, 0, 800, 650);
+    }
+
+    @Benchmark
+    public void display() {
+        renderer.display(drawable);
+    }
+}
@@ -0,0 +1,126 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Canvas;
+import java.awt.event.KeyEvent;
+import java.awt.event.KeyListener;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseListener;
+import java.awt.event.MouseMotionListener;
+import java.awt.event.MouseWheelEvent;
+import java.awt.event.MouseWheelListener;
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import static benchmark.ProjectMethods.findConstructor;
+import static benchmark.ProjectMethods.findVirtual;
+
+/**
+ * Input handling of InteractionHandler: single mouse and key events as
+ * delivered by the AWT event thread, and a frame with many mouse drag events
+ * that update() applies at once (with and without camera smoothing).
+ * The events are created once, their source is a Canvas that is never shown,
+ * so no display is needed (java.awt.headless=true).
+ * The listener methods are called through the AWT interfaces, the other
+ * methods through method handles, see ProjectMethods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class InputHandlingBenchmark {
+
+    private static final MethodHandle NEW_INTERACTION_HANDLER = findConstructor("InteractionHandler");
+    private static final MethodHandle UPDATE = findVirtual("InteractionHandler", "update", "CameraState");
+    private static final MethodHandle SET_SMOOTHING_TIME = findVirtual("InteractionHandler", "setSmoothingTime",
+            void.class, float.class);
+
+    // Mouse drag events of one frame
+    @Param({"20"})
+    public int eventsPerFrame;
+
+    @Param({"0", "0.08"})
+    public float smoothingTime;
+
+    private Object handler;
+    private MouseMotionListener mouseMotionListener;
+    private MouseWheelListener mouseWheelListener;
+    private KeyListener keyListener;
+    private MouseEvent[] dragEvents;
+    private MouseWheelEvent wheelEvent;
+    private KeyEvent keyEvent;
+    private int nextDragEvent;
+
+    @Setup
+    public void setup() throws Throwable {
+        handler = NEW_INTERACTION_HANDLER.invokeExact();
+        SET_SMOOTHING_TIME.invokeExact(handler, smoothingTime);
+        mouseMotionListener = (MouseMotionListener) handler;
+        mouseWheelListener = (MouseWheelListener) handler;
+        keyListener = (KeyListener) handler;
+
+        Canvas source = new Canvas();
+        long when = System.currentTimeMillis();
+        // Left button pressed, every drag event rotates the scene
+        ((MouseListener) handler).mousePressed(new MouseEvent(source, MouseEvent.MOUSE_PRESSED, when,
+                MouseEvent.BUTTON1_DOWN_MASK, 0, 0, 100, 100, 1, false, MouseEvent.BUTTON1));
+        // Back and forth, so the camera stays near its start position
+        dragEvents = new MouseEvent[2 * eventsPerFrame];
+        for (int i = 0; i < dragEvents.length; i++) {
+            int x = 100 + (i < eventsPerFrame ? i + 1 : dragEvents.length - i - 1);
+            dragEvents[i] = new MouseEvent(source, MouseEvent.MOUSE_DRAGGED, when, MouseEvent.BUTTON1_DOWN_MASK,
+                    x, 0, x, 100, 0, false, MouseEvent.NOBUTTON);
+        }
+        wheelEvent = new MouseWheelEvent(source, MouseEvent.MOUSE_WHEEL, when, 0, 0, 0, 100, 100, 0, false,
+                MouseWheelEvent.WHEEL_UNIT_SCROLL, 1, 1);
+        keyEvent = new KeyEvent(source, KeyEvent.KEY_PRESSED, when, 0, KeyEvent.VK_LEFT, KeyEvent.CHAR_UNDEFINED);
+    }
+
+    @Benchmark
+    public void mouseDragged() {
+        mouseMotionListener.mouseDragged(nextDragEvent());
+    }
+
+    @Benchmark
+    public void mouseWheelMoved() {
+        mouseWheelListener.mouseWheelMoved(wheelEvent);
+    }
+
+    @Benchmark
+    public void keyPressed() {
+        keyListener.keyPressed(keyEvent);
+    }
+
+    // A frame without input, the case of an idle camera
+    @Benchmark
+    public Object update() throws Throwable {
+        return (Object) UPDATE.invokeExact(handler);
+    }
+
+    // The drag events of one frame followed by the update() of the render thread
+    @Benchmark
+    public Object dragFrame() throws Throwable {
+        for (int i = 0; i < eventsPerFrame; i++)
+            mouseMotionListener.mouseDragged(nextDragEvent());
+        return (Object) UPDATE.invokeExact(handler);
+    }
+
+    private MouseEvent nextDragEvent() {
+        MouseEvent event = dragEvents[nextDragEvent];
+        nextDragEvent = nextDragEvent + 1 == dragEvents.length ? 0 : nextDragEvent + 1;
+        return event;
+    }
+}
@@ -0,0 +1,147 @@
+package benchmark;
+
+import com.jogamp.opengl.util.PMVMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static benchmark.ProjectMethods.findStatic;
+
+/**
+ * JMH comparison of Mat4/Mat3 with PMVMatrix for the matrix work of
+ * StartRendererPP: the camera matrices of display() (look-at, translation,
+ * two rotations, reading the matrices for the uniform buffer), the projection
+ * of reshape(), model-view matrices of many objects and normal matrices.
+ * Runs without OpenGL, PMVMatrix is pure Java.
+ * Mat4 and Mat3 are called through method handles, see ProjectMethods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class MatrixMathBenchmark {
+
+    private static final MethodHandle SET_LOOK_AT = findStatic("Mat4", "setLookAt", void.class,
+            float[].class, int.class, float.class, float.class, float.class, float.class, float.class, float.class,
+            float.class, float.class, float.class);
+    private static final MethodHandle TRANSLATE = findStatic("Mat4", "translate", void.class,
+            float[].class, int.class, float.class, float.class, float.class);
+    private static final MethodHandle ROTATE = findStatic("Mat4", "rotate", void.class,
+            float[].class, int.class, float.class, float.class, float.class, float.class);
+    private static final MethodHandle SET_PERSPECTIVE = findStatic("Mat4", "setPerspective", void.class,
+            float[].class, int.class, float.class, float.class, float.class, float.class);
+    private static final MethodHandle SET_TRANSLATION = findStatic("Mat4", "setTranslation", void.class,
+            float[].class, int.class, float.class, float.class, float.class);
+    private static final MethodHandle MULTIPLY_BATCH = findStatic("Mat4", "multiplyBatch", void.class,
+            float[].class, int.class, float[].class, int.class, float[].class, int.class, int.class);
+    private static final MethodHandle NORMAL_MATRIX = findStatic("Mat3", "normalMatrix", boolean.class,
+            float[].class, int.class, float[].class, int.class);
+
+    @Param({"1000"})
+    public int objects;
+
+    private final PMVMatrix pmvMatrix = new PMVMatrix();
+    private final float[] projectionMatrix = new float[16];
+    private final float[] modelViewMatrix = new float[16];
+    private final FloatBuffer mvBuffer = FloatBuffer.wrap(modelViewMatrix);
+    private final float[] normalMatrix = new float[9];
+    private float[] modelMatrices;
+    private float[] modelViewMatrices;
+    private float angle;
+
+    @Setup
+    public void setup() throws Throwable {
+        modelMatrices = new float[objects * 16];
+        modelViewMatrices = new float[objects * 16];
+        for (int i = 0; i < objects; i++) {
+            SET_TRANSLATION.invokeExact(modelMatrices, i * 16, i * 0.11f, 0.006f, -0.21f);
+            ROTATE.invokeExact(modelMatrices, i * 16, (float) i, 0f, 1f, 0f);
+        }
+        cameraMat4();
+        cameraPMVMatrix();
+    }
+
+    @Benchmark
+    public FloatBuffer cameraPMVMatrix() {
+        angle += 0.5f;
+        pmvMatrix.glMatrixMode(PMVMatrix.GL_MODELVIEW);
+        pmvMatrix.glLoadIdentity();
+        pmvMatrix.gluLookAt(0f, 2f, 0.5f, 0f, 0f, 0f, 0f, 1f, 0f);
+        pmvMatrix.glTranslatef(0.1f, -0.1f, 0f);
+        pmvMatrix.glRotatef(angle, 1f, 0f, 0f);
+        pmvMatrix.glRotatef(angle * 0.5f, 0f, 1f, 0f);
+        pmvMatrix.glGetPMatrixf();
+        return pmvMatrix.glGetMvMatrixf();
+    }
+
+    @Benchmark
+    public FloatBuffer cameraMat4() throws Throwable {
+        angle += 0.5f;
+        SET_LOOK_AT.invokeExact(modelViewMatrix, 0, 0f, 2f, 0.5f, 0f, 0f, 0f, 0f, 1f, 0f);
+        TRANSLATE.invokeExact(modelViewMatrix, 0, 0.1f, -0.1f, 0f);
+        ROTATE.invokeExact(modelViewMatrix, 0, angle, 1f, 0f, 0f);
+        ROTATE.invokeExact(modelViewMatrix, 0, angle * 0.5f, 0f, 1f, 0f);
+        return mvBuffer;
+    }
+
+    @Benchmark
+    public FloatBuffer perspectivePMVMatrix() {
+        pmvMatrix.glMatrixMode(PMVMatrix.GL_PROJECTION);
+        pmvMatrix.glLoadIdentity();
+        pmvMatrix.gluPerspective(45f, 800f / 650f, 0.1f, 100f);
+        return pmvMatrix.glGetPMatrixf();
+    }
+
+    @Benchmark
+    public float[] perspectiveMat4() throws Throwable {
+        SET_PERSPECTIVE.invokeExact(projectionMatrix, 0, 45f, 800f / 650f, 0.1f, 100f);
+        return projectionMatrix;
+    }
+
+    // Model-view matrix of every object, in the fixed function style push/mult/pop
+    @Benchmark
+    public void objectsPMVMatrix(Blackhole blackhole) {
+        pmvMatrix.glMatrixMode(PMVMatrix.GL_MODELVIEW);
+        for (int i = 0; i < objects; i++) {
+            pmvMatrix.glPushMatrix();
+            pmvMatrix.glMultMatrixf(modelMatrices, i * 16);
+            blackhole.consume(pmvMatrix.glGetMvMatrixf());
+            pmvMatrix.glPopMatrix();
+        }
+    }
+
+    @Benchmark
+    public float[] objectsMat4Batch() throws Throwable {
+        MULTIPLY_BATCH.invokeExact(modelViewMatrix, 0, modelMatrices, 0, modelViewMatrices, 0, objects);
+        return modelViewMatrices;
+    }
+
+    @Benchmark
+    public FloatBuffer normalMatrixPMVMatrix() {
+        pmvMatrix.glMatrixMode(PMVMatrix.GL_MODELVIEW);
+        pmvMatrix.glRotatef(0.5f, 0f, 1f, 0f);
+        return pmvMatrix.glGetMvitMatrixf();
+    }
+
+    @Benchmark
+    public float[] normalMatrixMat3() throws Throwable {
+        ROTATE.invokeExact(modelViewMatrix, 0, 0.5f, 0f, 1f, 0f);
+        boolean invertible = (boolean) NORMAL_MATRIX.invokeExact(modelViewMatrix, 0, normalMatrix, 0);
+        return normalMatrix;
+    }
+}
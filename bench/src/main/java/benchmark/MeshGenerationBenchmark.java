@@ -0,0 +1,119 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import static benchmark.ProjectMethods.findConstructor;
+import static benchmark.ProjectMethods.findStatic;
+import static benchmark.ProjectMethods.findVirtual;
+
+/**
+ * Mesh generation of the table (top and four legs) and the card: the float[]
+ * methods of DrawTable/DrawCard against writing into a MeshBuilder.
+ * With -prof gc JMH also reports the bytes allocated per mesh.
+ * The renderer classes are called through method handles, see ProjectMethods.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class MeshGenerationBenchmark {
+
+    private static final MethodHandle MAKE_BOX_VERTICES = findStatic("DrawTable", "makeBoxVertices", float[].class,
+            float.class, float.class, float.class, float[].class);
+    private static final MethodHandle MAKE_BOX_INDICES = findStatic("DrawTable", "makeBoxIndicesForTriangleStrip",
+            int[].class);
+    private static final MethodHandle LEG_VR_VERTICES = findStatic("DrawTable", "tableLegVRVerticices", float[].class,
+            float[].class);
+    private static final MethodHandle LEG_VL_VERTICES = findStatic("DrawTable", "tableLegVLVerticices", float[].class,
+            float[].class);
+    private static final MethodHandle LEG_HL_VERTICES = findStatic("DrawTable", "tableLegHLVerticices", float[].class,
+            float[].class);
+    private static final MethodHandle LEG_HR_VERTICES = findStatic("DrawTable", "tableLegHRVerticices", float[].class,
+            float[].class);
+    private static final MethodHandle MAKE_CARD_VERTICES = findStatic("DrawCard", "makeCardVertices", float[].class,
+            float[].class);
+    private static final MethodHandle MAKE_CARD_INDICES = findStatic("DrawCard", "makeCardIndicesForTriangleStrip",
+            int[].class);
+
+    private static final MethodHandle NEW_MESH_BUILDER = findConstructor("MeshBuilder");
+    private static final MethodHandle RESET = findVirtual("MeshBuilder", "reset", void.class);
+    private static final MethodHandle RELEASE = findVirtual("MeshBuilder", "release", void.class);
+    private static final MethodHandle GET_VERTEX_DATA = findVirtual("MeshBuilder", "getVertexData", ByteBuffer.class);
+    private static final MethodHandle PUT_BOX = findStatic("DrawTable", "putBox", void.class,
+            "MeshBuilder", float.class, float.class, float.class, float[].class);
+    private static final MethodHandle PUT_LEG_VR = findStatic("DrawTable", "putTableLegVR", void.class,
+            "MeshBuilder", float[].class);
+    private static final MethodHandle PUT_LEG_VL = findStatic("DrawTable", "putTableLegVL", void.class,
+            "MeshBuilder", float[].class);
+    private static final MethodHandle PUT_LEG_HL = findStatic("DrawTable", "putTableLegHL", void.class,
+            "MeshBuilder", float[].class);
+    private static final MethodHandle PUT_LEG_HR = findStatic("DrawTable", "putTableLegHR", void.class,
+            "MeshBuilder", float[].class);
+    private static final MethodHandle PUT_CARD = findStatic("DrawCard", "putCard", void.class,
+            "MeshBuilder", float[].class);
+
+    private final float[] tableColor = {0.5f, 0.5f, 0.5f};
+    private final float[] cardColor = {0.0f, 0.0f, 0.0f};
+    private Object builder;
+
+    @Setup
+    public void setup() throws Throwable {
+        builder = NEW_MESH_BUILDER.invokeExact();
+    }
+
+    @TearDown
+    public void tearDown() throws Throwable {
+        RELEASE.invokeExact(builder);
+    }
+
+    @Benchmark
+    public void tableFloatArrays(Blackhole blackhole) throws Throwable {
+        blackhole.consume((float[]) MAKE_BOX_VERTICES.invokeExact(0.8f, 0.05f, 0.6f, tableColor));
+        blackhole.consume((int[]) MAKE_BOX_INDICES.invokeExact());
+        blackhole.consume((float[]) LEG_VR_VERTICES.invokeExact(tableColor));
+        blackhole.consume((float[]) LEG_VL_VERTICES.invokeExact(tableColor));
+        blackhole.consume((float[]) LEG_HL_VERTICES.invokeExact(tableColor));
+        blackhole.consume((float[]) LEG_HR_VERTICES.invokeExact(tableColor));
+    }
+
+    @Benchmark
+    public ByteBuffer tableMeshBuilder() throws Throwable {
+        RESET.invokeExact(builder);
+        PUT_BOX.invokeExact(builder, 0.8f, 0.05f, 0.6f, tableColor);
+        PUT_LEG_VR.invokeExact(builder, tableColor);
+        PUT_LEG_VL.invokeExact(builder, tableColor);
+        PUT_LEG_HL.invokeExact(builder, tableColor);
+        PUT_LEG_HR.invokeExact(builder, tableColor);
+        return (ByteBuffer) GET_VERTEX_DATA.invokeExact(builder);
+    }
+
+    @Benchmark
+    public void cardFloatArrays(Blackhole blackhole) throws Throwable {
+        blackhole.consume((float[]) MAKE_CARD_VERTICES.invokeExact(cardColor));
+        blackhole.consume((int[]) MAKE_CARD_INDICES.invokeExact());
+    }
+
+    @Benchmark
+    public ByteBuffer cardMeshBuilder() throws Throwable {
+        RESET.invokeExact(builder);
+        PUT_CARD.invokeExact(builder, cardColor);
+        return (ByteBuffer) GET_VERTEX_DATA.invokeExact(builder);
+    }
+}
@@ -0,0 +1,77 @@
+package benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+
+/**
+ * Method handles for the classes of the renderer. JMH does not accept
+ * benchmarks in the default package and the classes of the renderer cannot be
+ * imported from another package, so the benchmarks call them through
+ * handles stored in static final fields. The JIT compiler inlines
+ * invokeExact() of such a handle like a direct call.
+ *
+ * Types are given as Class objects or, for classes of the renderer, as class
+ * names. In the type of the returned handle these classes are replaced by
+ * Object, eg. findVirtual("MeshBuilder", "reset", void.class) has the type
+ * (Object)void. Package-private methods can be found as well.
+ */
+final class ProjectMethods {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private ProjectMethods() {
+    }
+
+    static MethodHandle findStatic(String className, String name, Object returnType, Object... parameterTypes) {
+        try {
+            Method method = Class.forName(className).getDeclaredMethod(name, resolve(parameterTypes));
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method).asType(MethodType.methodType(erase(returnType), erase(parameterTypes)));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static MethodHandle findVirtual(String className, String name, Object returnType, Object... parameterTypes) {
+        try {
+            Method method = Class.forName(className).getDeclaredMethod(name, resolve(parameterTypes));
+            method.setAccessible(true);
+            return LOOKUP.unreflect(method).asType(MethodType.methodType(erase(returnType), erase(parameterTypes))
+                    .insertParameterTypes(0, Object.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static MethodHandle findConstructor(String className, Object... parameterTypes) {
+        try {
+            Constructor<?> constructor = Class.forName(className).getDeclaredConstructor(resolve(parameterTypes));
+            constructor.setAccessible(true);
+            return LOOKUP.unreflectConstructor(constructor)
+                    .asType(MethodType.methodType(Object.class, erase(parameterTypes)));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static Class<?>[] resolve(Object[] types) throws ClassNotFoundException {
+        Class<?>[] classes = new Class<?>[types.length];
+        for (int i = 0; i < types.length; i++)
+            classes[i] = types[i] instanceof String ? Class.forName((String) types[i]) : (Class<?>) types[i];
+        return classes;
+    }
+
+    private static Class<?> erase(Object type) {
+        return type instanceof String ? Object.class : (Class<?>) type;
+    }
+
+    private static Class<?>[] erase(Object[] types) {
+        Class<?>[] classes = new Class<?>[types.length];
+        for (int i = 0; i < types.length; i++)
+            classes[i] = erase(types[i]);
+        return classes;
+    }
+}
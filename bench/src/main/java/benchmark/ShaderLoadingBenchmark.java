@@ -0,0 +1,74 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.lang.invoke.MethodHandle;
+import java.util.concurrent.TimeUnit;
+
+import static benchmark.ProjectMethods.findStatic;
+
+/**
+ * Loading of shader sources as done by ShaderProgram.loadShaderAndCreateProgram()
+ * before the OpenGL calls: reading the file (ShaderProgram.readFileToString(),
+ * used by loadFileToString()) and inserting the defines of the shader variants.
+ * The shaders are read from resources/ of the working directory, run the
+ * benchmarks from the project directory or set -p resourcesDir=...
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+@State(Scope.Thread)
+public class ShaderLoadingBenchmark {
+
+    private static final MethodHandle READ_FILE_TO_STRING = findStatic("ShaderProgram", "readFileToString",
+            String.class, String.class);
+    private static final MethodHandle INSERT_DEFINES = findStatic("ShaderProgram", "insertDefines",
+            String.class, String.class, String[].class);
+
+    @Param({"resources"})
+    public String resourcesDir;
+
+    @Param({"BlinnPhongPointTex.vert", "BlinnPhongPointTex.frag"})
+    public String shaderFile;
+
+    private final String[] defines = {"INSTANCED"};
+    private String fileName;
+    private String source;
+
+    @Setup
+    public void setup() throws Throwable {
+        fileName = new File(resourcesDir, shaderFile).getPath();
+        if (!new File(fileName).isFile())
+            throw new IllegalStateException("Shader \"" + fileName + "\" not found, run the benchmarks from "
+                    + "the project directory or set -p resourcesDir=<path of resources>");
+        source = (String) READ_FILE_TO_STRING.invokeExact(fileName);
+    }
+
+    @Benchmark
+    public String readFile() throws Throwable {
+        return (String) READ_FILE_TO_STRING.invokeExact(fileName);
+    }
+
+    @Benchmark
+    public String insertDefines() throws Throwable {
+        return (String) INSERT_DEFINES.invokeExact(source, defines);
+    }
+
+    @Benchmark
+    public String readFileAndInsertDefines() throws Throwable {
+        return (String) INSERT_DEFINES.invokeExact((String) READ_FILE_TO_STRING.invokeExact(fileName), defines);
+    }
+}
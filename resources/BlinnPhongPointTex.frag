@@ -13,16 +13,47 @@
 // Author: Karsten Lehn
 // Version: 12.11.2017
 
-// Parameters of light source as uniform variables from application
-layout (location = 3) uniform vec4 lightSourceAmbient;
-layout (location = 4) uniform vec4 lightSourceDiffuse;
-layout (location = 5) uniform vec4 lightSourceSpecular;
-// Material parameters as uniform variables
-layout (location = 6) uniform vec4 materialEmission;
-layout (location = 7) uniform vec4 materialAmbient;
-layout (location = 8) uniform vec4 materialDiffuse;
-layout (location = 9) uniform vec4 materialSpecular;
-layout (location = 10) uniform float materialShininess;
+// With INDIRECT defined, the material is read from the per draw data
+// written by IndirectScene instead of the material block
+
+// Camera and light source, written once per frame (see FrameUniformBuffer)
+layout (std140, binding = 0) uniform FrameBlock
+{
+    mat4 pMatrix;
+    mat4 mvMatrix;
+    vec4 lightPosition;
+    vec4 lightSourceAmbient;
+    vec4 lightSourceDiffuse;
+    vec4 lightSourceSpecular;
+};
+
+#ifndef INDIRECT
+// Material of the object, a slot of MaterialUniformBuffer
+layout (std140, binding = 1) uniform MaterialBlock
+{
+    vec4 materialEmission;
+    vec4 materialAmbient;
+    vec4 materialDiffuse;
+    vec4 materialSpecular;
+    float materialShininess;
+};
+#endif
+
+#ifdef INDIRECT
+struct DrawData
+{
+    mat4 modelMatrix;
+    vec4 emission;
+    vec4 ambient;
+    vec4 diffuse;
+    vec4 specular;
+    vec4 shininess; // x: shininess, yzw: unused
+};
+layout (std430, binding = 0) readonly buffer DrawDataBuffer
+{
+    DrawData drawData[];
+};
+#endif
 
 // predefined type for texture usage
 layout (binding = 0) uniform sampler2D tex;
@@ -37,14 +68,34 @@ in VS_OUT
     vec3 L;
     vec3 V;
     vec2 vUV;
+    flat uint flags;
+    flat uint drawIndex;
 } fs_in;
 
+// Flag of instanced objects (see InstancedMesh)
+const uint FLAG_HIGHLIGHT = 2u;
+
 void main(void)
 {
-    vec3 emissiv = vec3(materialEmission);
-    vec3 ambient = vec3(materialAmbient) * vec3(lightSourceAmbient);
-    vec3 diffuseAlbedo = vec3(materialDiffuse) * vec3(lightSourceDiffuse);
-    vec3 specularAlbedo = vec3(materialSpecular) * vec3(lightSourceSpecular);
+#ifdef INDIRECT
+    vec4 matEmission = drawData[fs_in.drawIndex].emission;
+    vec4 matAmbient = drawData[fs_in.drawIndex].ambient;
+    vec4 matDiffuse = drawData[fs_in.drawIndex].diffuse;
+    vec4 matSpecular = drawData[fs_in.drawIndex].specular;
+    float matShininess = drawData[fs_in.drawIndex].shininess.x;
+#else
+    vec4 matEmission = materialEmission;
+    vec4 matAmbient = materialAmbient;
+    vec4 matDiffuse = materialDiffuse;
+    vec4 matSpecular = materialSpecular;
+    float matShininess = materialShininess;
+#endif
+    vec3 emissiv = vec3(matEmission);
+    if ((fs_in.flags & FLAG_HIGHLIGHT) != 0u)
+        emissiv += vec3(0.3, 0.3, 0.0);
+    vec3 ambient = vec3(matAmbient) * vec3(lightSourceAmbient);
+    vec3 diffuseAlbedo = vec3(matDiffuse) * vec3(lightSourceDiffuse);
+    vec3 specularAlbedo = vec3(matSpecular) * vec3(lightSourceSpecular);
 
     // Normalize the incoming N, L and V vectors
     vec3 N = normalize(fs_in.N);
@@ -54,7 +105,7 @@ void main(void)
 
     // Compute the diffuse and specular components for each fragment
     vec3 diffuse = max(dot(N, L), 0.0) * diffuseAlbedo;
-    vec3 specular = pow(max(dot(N, H), 0.0), materialShininess) * specularAlbedo;
+    vec3 specular = pow(max(dot(N, H), 0.0), matShininess) * specularAlbedo;
 
     // Write final color to the framebuffer
     FragColor = (vec4(emissiv + ambient + diffuse, 1.0) * texture(tex, fs_in.vUV)) + vec4(specular, 1.0);
@@ -10,6 +10,12 @@
 
 // Puts a texture on the surfaces of the object
 
+// With INSTANCED defined, model matrix, texture coordinate rectangle and flags
+// are read per instance (glDrawElementsInstanced), see InstancedMesh
+
+// With INDIRECT defined, model matrix and material are read from a shader storage
+// buffer indexed by the draw (glMultiDrawElementsIndirect), see IndirectScene
+
 // Author: Karsten Lehn
 // Version: 12.11.2017
 
@@ -19,10 +25,48 @@ layout (location = 1) in vec3 vInColor;
 layout (location = 2) in vec3 vNormal;
 layout (location = 3) in vec2 vInUV;
 //layout (location = 3) in vec3 vNormal;
-// Projection and model-view matrix as input uniform variables
-layout (location = 0) uniform mat4 pMatrix;
-layout (location = 1) uniform mat4 mvMatrix;
-layout (location = 2) uniform vec4 lightPosition;
+// Camera and light source, written once per frame (see FrameUniformBuffer)
+layout (std140, binding = 0) uniform FrameBlock
+{
+    mat4 pMatrix;
+    mat4 mvMatrix;
+    vec4 lightPosition;
+    vec4 lightSourceAmbient;
+    vec4 lightSourceDiffuse;
+    vec4 lightSourceSpecular;
+};
+
+#ifdef INSTANCED
+// Per instance attributes: model matrix (locations 4 - 7),
+// texture coordinate rectangle (u0, v0, u1, v1) and flags
+layout (location = 4) in mat4 iModelMatrix;
+layout (location = 8) in vec4 iUVRect;
+layout (location = 9) in uint iFlags;
+
+const uint FLAG_FACE_DOWN = 1u;
+#endif
+
+#ifdef INDIRECT
+// Index into the per draw data: an instanced attribute holding 0, 1, 2, ...
+// so that it is fetched at baseInstance + instance of each draw command
+// (works without GL_ARB_shader_draw_parameters and gl_DrawID)
+layout (location = 10) in uint iDrawIndex;
+
+// Per draw data, baseInstance of each draw command points to its first entry
+struct DrawData
+{
+    mat4 modelMatrix;
+    vec4 emission;
+    vec4 ambient;
+    vec4 diffuse;
+    vec4 specular;
+    vec4 shininess; // x: shininess, yzw: unused
+};
+layout (std430, binding = 0) readonly buffer DrawDataBuffer
+{
+    DrawData drawData[];
+};
+#endif
 
 // Outputs from vertex shader
 out VS_OUT
@@ -31,24 +75,63 @@ out VS_OUT
     vec3 L;
     vec3 V;
     vec2 vUV;
+    flat uint flags;
+    flat uint drawIndex;
 } vs_out;
 
 void main(void)
 {
+#ifdef INSTANCED
+    vec3 position = vPosition;
+    vec3 normal = vNormal;
+    // Mirror the instance at its xz-plane to turn it upside down
+    if ((iFlags & FLAG_FACE_DOWN) != 0u) {
+        position.y = -position.y;
+        normal.y = -normal.y;
+    }
+    mat4 modelView = mvMatrix * iModelMatrix;
+
+    // Calculate view-space coordinate
+    vec4 P = modelView * vec4(position, 1.0);
+
+    // Calculate normal in view-space
+    vs_out.N = mat3(modelView) * normal;
+
+    vs_out.vUV = mix(iUVRect.xy, iUVRect.zw, vInUV);
+    vs_out.flags = iFlags;
+    vs_out.drawIndex = 0u;
+#elif defined(INDIRECT)
+    // Commands with more than one instance read one entry per instance
+    uint drawIndex = iDrawIndex;
+    mat4 modelView = mvMatrix * drawData[drawIndex].modelMatrix;
+
+    // Calculate view-space coordinate
+    vec4 P = modelView * vec4(vPosition, 1.0);
+
+    // Calculate normal in view-space
+    vs_out.N = mat3(modelView) * vNormal;
+
+    vs_out.vUV = vInUV;
+    vs_out.flags = 0u;
+    vs_out.drawIndex = drawIndex;
+#else
     // Calculate view-space coordinate
     vec4 P = mvMatrix * vec4(vPosition, 1.0);
 
     // Calculate normal in view-space
     vs_out.N = mat3(mvMatrix) * vNormal;
 
+    vs_out.vUV = vInUV;
+    vs_out.flags = 0u;
+    vs_out.drawIndex = 0u;
+#endif
+
     // Calculate light vector
     vs_out.L = lightPosition.xyz - P.xyz;
 
     // Calculate view vector
     vs_out.V = -P.xyz;
 
-    vs_out.vUV = vInUV;
-
     // Calculate the clip-space position of each vertex
     gl_Position = pMatrix * P;
 }
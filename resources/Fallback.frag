@@ -0,0 +1,16 @@
+#version 430 core
+
+// Minimal shader drawn while the real shader programs are still being
+// compiled: texture shaded by a light at the camera position.
+
+layout (binding = 0) uniform sampler2D tex;
+
+in vec3 N;
+in vec2 vUV;
+out vec4 FragColor;
+
+void main(void)
+{
+    float light = 0.3 + 0.7 * abs(normalize(N).z);
+    FragColor = vec4(light * texture(tex, vUV).rgb, 1.0);
+}
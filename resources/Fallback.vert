@@ -0,0 +1,57 @@
+#version 430 core
+
+// Minimal shader drawn while the real shader programs are still being
+// compiled (see ShaderProgramCache.acquireAsync). Uses the same vertex
+// attributes, defines and frame block as BlinnPhongPointTex.vert, but no light.
+
+layout (location = 0) in vec3 vPosition;
+layout (location = 2) in vec3 vNormal;
+layout (location = 3) in vec2 vInUV;
+layout (std140, binding = 0) uniform FrameBlock
+{
+    mat4 pMatrix;
+    mat4 mvMatrix;
+    vec4 lightPosition;
+    vec4 lightSourceAmbient;
+    vec4 lightSourceDiffuse;
+    vec4 lightSourceSpecular;
+};
+
+#ifdef INSTANCED
+layout (location = 4) in mat4 iModelMatrix;
+#endif
+
+#ifdef INDIRECT
+layout (location = 10) in uint iDrawIndex;
+
+struct DrawData
+{
+    mat4 modelMatrix;
+    vec4 emission;
+    vec4 ambient;
+    vec4 diffuse;
+    vec4 specular;
+    vec4 shininess;
+};
+layout (std430, binding = 0) readonly buffer DrawDataBuffer
+{
+    DrawData drawData[];
+};
+#endif
+
+out vec3 N;
+out vec2 vUV;
+
+void main(void)
+{
+#ifdef INSTANCED
+    mat4 modelView = mvMatrix * iModelMatrix;
+#elif defined(INDIRECT)
+    mat4 modelView = mvMatrix * drawData[iDrawIndex].modelMatrix;
+#else
+    mat4 modelView = mvMatrix;
+#endif
+    N = mat3(modelView) * vNormal;
+    vUV = vInUV;
+    gl_Position = pMatrix * modelView * vec4(vPosition, 1.0);
+}
@@ -0,0 +1,8 @@
+#version 430 core
+
+// Writes nothing, color and depth writes are disabled while the proxies are
+// drawn. Only the number of samples passing the depth test is of interest.
+
+void main(void)
+{
+}
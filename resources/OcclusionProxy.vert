@@ -0,0 +1,24 @@
+#version 430 core
+
+// Bounding box proxy of an object for occlusion queries (see OcclusionCuller).
+// The unit cube (0..1) is scaled to the box given in model coordinates.
+
+layout (location = 0) in vec3 vPosition;
+layout (std140, binding = 0) uniform FrameBlock
+{
+    mat4 pMatrix;
+    mat4 mvMatrix;
+    vec4 lightPosition;
+    vec4 lightSourceAmbient;
+    vec4 lightSourceDiffuse;
+    vec4 lightSourceSpecular;
+};
+
+layout (location = 0) uniform vec3 boxMin;
+layout (location = 1) uniform vec3 boxMax;
+
+void main(void)
+{
+    vec3 position = mix(boxMin, boxMax, vPosition);
+    gl_Position = pMatrix * mvMatrix * vec4(position, 1.0);
+}
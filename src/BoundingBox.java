@@ -0,0 +1,134 @@
+/**
+ * Axis aligned bounding box, used for view frustum culling.
+ * A new box is empty, extend() adds points or boxes.
+ */
+public class BoundingBox {
+    private float minX, minY, minZ;
+    private float maxX, maxY, maxZ;
+
+    /**
+     * Creates an empty box.
+     */
+    public BoundingBox() {
+        setEmpty();
+    }
+
+    public BoundingBox(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        set(minX, minY, minZ, maxX, maxY, maxZ);
+    }
+
+    public void set(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    public void set(BoundingBox box) {
+        set(box.minX, box.minY, box.minZ, box.maxX, box.maxY, box.maxZ);
+    }
+
+    /**
+     * Makes the box empty, it contains no point.
+     */
+    public void setEmpty() {
+        minX = minY = minZ = Float.POSITIVE_INFINITY;
+        maxX = maxY = maxZ = Float.NEGATIVE_INFINITY;
+    }
+
+    public boolean isEmpty() {
+        return minX > maxX;
+    }
+
+    /**
+     * Extends the box to contain a point.
+     */
+    public void extend(float x, float y, float z) {
+        if (x < minX) minX = x;
+        if (y < minY) minY = y;
+        if (z < minZ) minZ = z;
+        if (x > maxX) maxX = x;
+        if (y > maxY) maxY = y;
+        if (z > maxZ) maxZ = z;
+    }
+
+    /**
+     * Extends the box to contain another box.
+     */
+    public void extend(BoundingBox box) {
+        if (box.isEmpty())
+            return;
+        extend(box.minX, box.minY, box.minZ);
+        extend(box.maxX, box.maxY, box.maxZ);
+    }
+
+    /**
+     * Sets this box to the bounding box of a transformed box
+     * (J. Arvo, Transforming Axis-Aligned Bounding Boxes, Graphics Gems 1990).
+     * @param box   Box in model coordinates, may be this box
+     * @param m     Column major 4x4 model matrix (affine)
+     */
+    public void setTransformed(BoundingBox box, float[] m) {
+        if (box.isEmpty()) {
+            setEmpty();
+            return;
+        }
+        float nx = m[12], ny = m[13], nz = m[14];
+        float xx = m[12], xy = m[13], xz = m[14];
+        // Every column of the matrix adds its smaller and larger product to min and max
+        float a, b;
+        a = m[0] * box.minX; b = m[0] * box.maxX; nx += Math.min(a, b); xx += Math.max(a, b);
+        a = m[1] * box.minX; b = m[1] * box.maxX; ny += Math.min(a, b); xy += Math.max(a, b);
+        a = m[2] * box.minX; b = m[2] * box.maxX; nz += Math.min(a, b); xz += Math.max(a, b);
+        a = m[4] * box.minY; b = m[4] * box.maxY; nx += Math.min(a, b); xx += Math.max(a, b);
+        a = m[5] * box.minY; b = m[5] * box.maxY; ny += Math.min(a, b); xy += Math.max(a, b);
+        a = m[6] * box.minY; b = m[6] * box.maxY; nz += Math.min(a, b); xz += Math.max(a, b);
+        a = m[8] * box.minZ; b = m[8] * box.maxZ; nx += Math.min(a, b); xx += Math.max(a, b);
+        a = m[9] * box.minZ; b = m[9] * box.maxZ; ny += Math.min(a, b); xy += Math.max(a, b);
+        a = m[10] * box.minZ; b = m[10] * box.maxZ; nz += Math.min(a, b); xz += Math.max(a, b);
+        set(nx, ny, nz, xx, xy, xz);
+    }
+
+    public float getMinX() {
+        return minX;
+    }
+
+    public float getMinY() {
+        return minY;
+    }
+
+    public float getMinZ() {
+        return minZ;
+    }
+
+    public float getMaxX() {
+        return maxX;
+    }
+
+    public float getMaxY() {
+        return maxY;
+    }
+
+    public float getMaxZ() {
+        return maxZ;
+    }
+
+    public float getCenterX() {
+        return (minX + maxX) * 0.5f;
+    }
+
+    public float getCenterY() {
+        return (minY + maxY) * 0.5f;
+    }
+
+    public float getCenterZ() {
+        return (minZ + maxZ) * 0.5f;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + minX + ", " + minY + ", " + minZ + "] - [" + maxX + ", " + maxY + ", " + maxZ + "]";
+    }
+}
@@ -0,0 +1,490 @@
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Bounding volume hierarchy over the bounding boxes of many objects (eg. tables
+ * and cards of a card room), for hierarchical frustum culling, box and ray queries.
+ *
+ * Objects are added with add() and identified by the returned ID. build() creates
+ * a binary tree by splitting the objects at the median of the longest axis.
+ * Moved objects are updated with update(), which refits the boxes of the nodes
+ * above the object; many moved objects are refitted at once with refit().
+ * Refitting keeps the tree structure, after large movements build() restores
+ * the quality of the tree. Build and refit of large hierarchies run in parallel
+ * with fork/join.
+ *
+ * Nodes are stored in arrays in depth first order (the left child follows its
+ * parent). Queries use a preallocated traversal stack and do not allocate, so
+ * they must not run concurrently with each other or with add(), update(),
+ * build() or refit().
+ */
+public class BoundingVolumeHierarchy {
+
+    private static final int MAX_LEAF_SIZE = 4;
+    // Subtrees with more objects are built and refitted by their own fork/join task
+    private static final int PARALLEL_THRESHOLD = 2048;
+    private static final int MAX_DEPTH = 64;
+
+    // Bounds of the objects: minX, minY, minZ, maxX, maxY, maxZ
+    private float[] objectBounds = new float[16 * 6];
+    private int objectCount;
+    // Object IDs in leaf order, each leaf references a range
+    private int[] objectOrder = new int[0];
+    private int[] objectLeaf = new int[0];
+
+    private int nodeCount;
+    private float[] nodeBounds = new float[0];
+    // Leaf: index of the first object in objectOrder, inner node: index of the right child
+    private int[] nodeFirst = new int[0];
+    // Leaf: number of objects, inner node: 0
+    private int[] nodeObjectCount = new int[0];
+    private int[] nodeParent = new int[0];
+    private boolean built;
+    // Traversal stack of the queries
+    private final int[] stack = new int[MAX_DEPTH];
+
+    /**
+     * Adds an object. build() must be called before the next query.
+     * @param bounds    Bounding box of the object
+     * @return          ID of the object
+     */
+    public int add(BoundingBox bounds) {
+        if ((objectCount + 1) * 6 > objectBounds.length)
+            objectBounds = Arrays.copyOf(objectBounds, objectBounds.length * 2);
+        int object = objectCount++;
+        setObjectBounds(object, bounds);
+        built = false;
+        return object;
+    }
+
+    /**
+     * Removes all objects.
+     */
+    public void clear() {
+        objectCount = 0;
+        nodeCount = 0;
+        built = false;
+    }
+
+    public int getObjectCount() {
+        return objectCount;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Builds the tree of all objects, in parallel for large numbers of objects.
+     */
+    public void build() {
+        if (objectOrder.length < objectCount) {
+            objectOrder = new int[objectBounds.length / 6];
+            objectLeaf = new int[objectOrder.length];
+        }
+        for (int i = 0; i < objectCount; i++)
+            objectOrder[i] = i;
+        // Without objects there is no root node to query
+        nodeCount = objectCount > 0 ? nodeCountFor(objectCount) : 0;
+        if (nodeFirst.length < nodeCount) {
+            nodeBounds = new float[nodeCount * 6];
+            nodeFirst = new int[nodeCount];
+            nodeObjectCount = new int[nodeCount];
+            nodeParent = new int[nodeCount];
+        }
+        if (objectCount > 0) {
+            BuildTask root = new BuildTask(0, -1, 0, objectCount);
+            if (objectCount > PARALLEL_THRESHOLD)
+                ForkJoinPool.commonPool().invoke(root);
+            else
+                root.compute();
+        }
+        built = true;
+    }
+
+    /**
+     * Sets the bounds of a moved object and refits the nodes above it.
+     * @param object    ID of the object
+     * @param bounds    New bounding box
+     */
+    public void update(int object, BoundingBox bounds) {
+        setObjectBounds(object, bounds);
+        if (!built)
+            return;
+        int node = objectLeaf[object];
+        while (node >= 0) {
+            if (!refitNode(node))
+                break;
+            node = nodeParent[node];
+        }
+    }
+
+    /**
+     * Sets the bounds of a moved object without refitting, for many moved objects
+     * followed by one refit().
+     * @param object    ID of the object
+     * @param bounds    New bounding box
+     */
+    public void setBounds(int object, BoundingBox bounds) {
+        setObjectBounds(object, bounds);
+    }
+
+    /**
+     * Recomputes the boxes of all nodes from the object bounds, in parallel for large trees.
+     */
+    public void refit() {
+        if (!built || nodeCount == 0)
+            return;
+        RefitTask root = new RefitTask(0);
+        if (objectCount > PARALLEL_THRESHOLD)
+            ForkJoinPool.commonPool().invoke(root);
+        else
+            root.compute();
+    }
+
+    /**
+     * Visits all objects whose bounding box intersects the frustum.
+     * Objects of nodes completely inside the frustum are visited without further tests.
+     * @param frustum   View frustum
+     * @param visitor   Receives the IDs of the objects
+     */
+    public void queryFrustum(Frustum frustum, IntConsumer visitor) {
+        checkBuilt();
+        int[] stack = this.stack;
+        int top = 0;
+        if (nodeCount > 0)
+            stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            int b = node * 6;
+            if (!frustum.intersects(nodeBounds[b], nodeBounds[b + 1], nodeBounds[b + 2],
+                    nodeBounds[b + 3], nodeBounds[b + 4], nodeBounds[b + 5]))
+                continue;
+            if (frustum.contains(nodeBounds[b], nodeBounds[b + 1], nodeBounds[b + 2],
+                    nodeBounds[b + 3], nodeBounds[b + 4], nodeBounds[b + 5])) {
+                visitSubtree(node, visitor);
+                continue;
+            }
+            if (nodeObjectCount[node] > 0) {
+                for (int i = nodeFirst[node], end = i + nodeObjectCount[node]; i < end; i++) {
+                    int o = objectOrder[i] * 6;
+                    if (frustum.intersects(objectBounds[o], objectBounds[o + 1], objectBounds[o + 2],
+                            objectBounds[o + 3], objectBounds[o + 4], objectBounds[o + 5]))
+                        visitor.accept(objectOrder[i]);
+                }
+            } else {
+                stack[top++] = nodeFirst[node];
+                stack[top++] = node + 1;
+            }
+        }
+    }
+
+    /**
+     * Visits all objects whose bounding box intersects a box.
+     * @param box       Query box
+     * @param visitor   Receives the IDs of the objects
+     */
+    public void queryBox(BoundingBox box, IntConsumer visitor) {
+        checkBuilt();
+        float minX = box.getMinX(), minY = box.getMinY(), minZ = box.getMinZ();
+        float maxX = box.getMaxX(), maxY = box.getMaxY(), maxZ = box.getMaxZ();
+        int[] stack = this.stack;
+        int top = 0;
+        if (nodeCount > 0)
+            stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (!overlaps(nodeBounds, node * 6, minX, minY, minZ, maxX, maxY, maxZ))
+                continue;
+            if (nodeObjectCount[node] > 0) {
+                for (int i = nodeFirst[node], end = i + nodeObjectCount[node]; i < end; i++) {
+                    if (overlaps(objectBounds, objectOrder[i] * 6, minX, minY, minZ, maxX, maxY, maxZ))
+                        visitor.accept(objectOrder[i]);
+                }
+            } else {
+                stack[top++] = nodeFirst[node];
+                stack[top++] = node + 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the object whose bounding box is hit first by a ray (eg. for picking).
+     * @param originX       Origin of the ray
+     * @param originY       ...
+     * @param originZ       ...
+     * @param directionX    Direction of the ray (need not be normalized)
+     * @param directionY    ...
+     * @param directionZ    ...
+     * @param maxDistance   Maximum distance in units of the direction vector
+     * @return              ID of the object, -1 if no object is hit
+     */
+    public int raycast(float originX, float originY, float originZ,
+                       float directionX, float directionY, float directionZ, float maxDistance) {
+        checkBuilt();
+        float invX = 1f / directionX, invY = 1f / directionY, invZ = 1f / directionZ;
+        int nearest = -1;
+        float nearestDistance = maxDistance;
+        int[] stack = this.stack;
+        int top = 0;
+        if (nodeCount > 0)
+            stack[top++] = 0;
+        while (top > 0) {
+            int node = stack[--top];
+            if (rayDistance(nodeBounds, node * 6, originX, originY, originZ, invX, invY, invZ) > nearestDistance)
+                continue;
+            if (nodeObjectCount[node] > 0) {
+                for (int i = nodeFirst[node], end = i + nodeObjectCount[node]; i < end; i++) {
+                    float distance = rayDistance(objectBounds, objectOrder[i] * 6,
+                            originX, originY, originZ, invX, invY, invZ);
+                    if (distance <= nearestDistance) {
+                        nearestDistance = distance;
+                        nearest = objectOrder[i];
+                    }
+                }
+            } else {
+                stack[top++] = nodeFirst[node];
+                stack[top++] = node + 1;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Writes the bounds of the whole hierarchy to a box (empty without objects).
+     */
+    public void getBounds(BoundingBox bounds) {
+        checkBuilt();
+        if (nodeCount == 0)
+            bounds.setEmpty();
+        else
+            bounds.set(nodeBounds[0], nodeBounds[1], nodeBounds[2], nodeBounds[3], nodeBounds[4], nodeBounds[5]);
+    }
+
+    private void checkBuilt() {
+        if (!built)
+            throw new IllegalStateException("Objects have been added since the last build().");
+    }
+
+    private void visitSubtree(int node, IntConsumer visitor) {
+        // The objects of a subtree are a contiguous range of objectOrder
+        int first = node;
+        while (nodeObjectCount[first] == 0)
+            first++;
+        int last = node;
+        while (nodeObjectCount[last] == 0)
+            last = nodeFirst[last];
+        for (int i = nodeFirst[first], end = nodeFirst[last] + nodeObjectCount[last]; i < end; i++)
+            visitor.accept(objectOrder[i]);
+    }
+
+    private void setObjectBounds(int object, BoundingBox bounds) {
+        int o = object * 6;
+        objectBounds[o] = bounds.getMinX();
+        objectBounds[o + 1] = bounds.getMinY();
+        objectBounds[o + 2] = bounds.getMinZ();
+        objectBounds[o + 3] = bounds.getMaxX();
+        objectBounds[o + 4] = bounds.getMaxY();
+        objectBounds[o + 5] = bounds.getMaxZ();
+    }
+
+    // Recomputes the box of a node from its objects or children, returns true if it changed
+    private boolean refitNode(int node) {
+        float minX = Float.POSITIVE_INFINITY, minY = Float.POSITIVE_INFINITY, minZ = Float.POSITIVE_INFINITY;
+        float maxX = Float.NEGATIVE_INFINITY, maxY = Float.NEGATIVE_INFINITY, maxZ = Float.NEGATIVE_INFINITY;
+        if (nodeObjectCount[node] > 0) {
+            for (int i = nodeFirst[node], end = i + nodeObjectCount[node]; i < end; i++) {
+                int o = objectOrder[i] * 6;
+                minX = Math.min(minX, objectBounds[o]);
+                minY = Math.min(minY, objectBounds[o + 1]);
+                minZ = Math.min(minZ, objectBounds[o + 2]);
+                maxX = Math.max(maxX, objectBounds[o + 3]);
+                maxY = Math.max(maxY, objectBounds[o + 4]);
+                maxZ = Math.max(maxZ, objectBounds[o + 5]);
+            }
+        } else {
+            int l = (node + 1) * 6;
+            int r = nodeFirst[node] * 6;
+            minX = Math.min(nodeBounds[l], nodeBounds[r]);
+            minY = Math.min(nodeBounds[l + 1], nodeBounds[r + 1]);
+            minZ = Math.min(nodeBounds[l + 2], nodeBounds[r + 2]);
+            maxX = Math.max(nodeBounds[l + 3], nodeBounds[r + 3]);
+            maxY = Math.max(nodeBounds[l + 4], nodeBounds[r + 4]);
+            maxZ = Math.max(nodeBounds[l + 5], nodeBounds[r + 5]);
+        }
+        int b = node * 6;
+        boolean changed = nodeBounds[b] != minX || nodeBounds[b + 1] != minY || nodeBounds[b + 2] != minZ
+                || nodeBounds[b + 3] != maxX || nodeBounds[b + 4] != maxY || nodeBounds[b + 5] != maxZ;
+        nodeBounds[b] = minX;
+        nodeBounds[b + 1] = minY;
+        nodeBounds[b + 2] = minZ;
+        nodeBounds[b + 3] = maxX;
+        nodeBounds[b + 4] = maxY;
+        nodeBounds[b + 5] = maxZ;
+        return changed;
+    }
+
+    // Number of nodes of a tree with n objects, defined by the median split
+    private static int nodeCountFor(int n) {
+        if (n <= MAX_LEAF_SIZE)
+            return 1;
+        int left = n / 2;
+        return 1 + nodeCountFor(left) + nodeCountFor(n - left);
+    }
+
+    private static boolean overlaps(float[] bounds, int b, float minX, float minY, float minZ,
+                                    float maxX, float maxY, float maxZ) {
+        return bounds[b] <= maxX && bounds[b + 3] >= minX
+                && bounds[b + 1] <= maxY && bounds[b + 4] >= minY
+                && bounds[b + 2] <= maxZ && bounds[b + 5] >= minZ;
+    }
+
+    // Slab test, returns the distance at which the ray enters the box or infinity
+    private static float rayDistance(float[] bounds, int b, float originX, float originY, float originZ,
+                                     float invX, float invY, float invZ) {
+        float t1 = (bounds[b] - originX) * invX, t2 = (bounds[b + 3] - originX) * invX;
+        float near = Math.min(t1, t2), far = Math.max(t1, t2);
+        t1 = (bounds[b + 1] - originY) * invY;
+        t2 = (bounds[b + 4] - originY) * invY;
+        near = Math.max(near, Math.min(t1, t2));
+        far = Math.min(far, Math.max(t1, t2));
+        t1 = (bounds[b + 2] - originZ) * invZ;
+        t2 = (bounds[b + 5] - originZ) * invZ;
+        near = Math.max(near, Math.min(t1, t2));
+        far = Math.min(far, Math.max(t1, t2));
+        if (far < Math.max(near, 0f))
+            return Float.POSITIVE_INFINITY;
+        return Math.max(near, 0f);
+    }
+
+    // Builds the subtree of the objects objectOrder[first ... first + count - 1] at index node
+    private class BuildTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int node;
+        private final int parent;
+        private final int first;
+        private final int count;
+
+        BuildTask(int node, int parent, int first, int count) {
+            this.node = node;
+            this.parent = parent;
+            this.first = first;
+            this.count = count;
+        }
+
+        @Override
+        protected void compute() {
+            nodeParent[node] = parent;
+            if (count <= MAX_LEAF_SIZE) {
+                nodeFirst[node] = first;
+                nodeObjectCount[node] = count;
+                for (int i = first; i < first + count; i++)
+                    objectLeaf[objectOrder[i]] = node;
+                refitNode(node);
+                return;
+            }
+            int leftCount = count / 2;
+            int axis = longestCentroidAxis();
+            select(first, first + count - 1, first + leftCount, axis);
+            int rightNode = node + 1 + nodeCountFor(leftCount);
+            nodeFirst[node] = rightNode;
+            nodeObjectCount[node] = 0;
+            BuildTask left = new BuildTask(node + 1, node, first, leftCount);
+            BuildTask right = new BuildTask(rightNode, node, first + leftCount, count - leftCount);
+            if (count > PARALLEL_THRESHOLD) {
+                invokeAll(left, right);
+            } else {
+                left.compute();
+                right.compute();
+            }
+            refitNode(node);
+        }
+
+        private int longestCentroidAxis() {
+            float[] min = { Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY };
+            float[] max = { Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY };
+            for (int i = first; i < first + count; i++) {
+                for (int axis = 0; axis < 3; axis++) {
+                    float c = centroid(objectOrder[i], axis);
+                    min[axis] = Math.min(min[axis], c);
+                    max[axis] = Math.max(max[axis], c);
+                }
+            }
+            int longest = 0;
+            for (int axis = 1; axis < 3; axis++) {
+                if (max[axis] - min[axis] > max[longest] - min[longest])
+                    longest = axis;
+            }
+            return longest;
+        }
+
+        // Quickselect: moves the object with the k-th smallest centroid to position k,
+        // smaller ones before and larger ones after it
+        private void select(int left, int right, int k, int axis) {
+            int[] order = objectOrder;
+            while (right > left) {
+                float pivot = centroid(order[(left + right) >>> 1], axis);
+                int i = left, j = right;
+                while (i <= j) {
+                    while (centroid(order[i], axis) < pivot) i++;
+                    while (centroid(order[j], axis) > pivot) j--;
+                    if (i <= j) {
+                        int swap = order[i];
+                        order[i] = order[j];
+                        order[j] = swap;
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j)
+                    right = j;
+                else if (k >= i)
+                    left = i;
+                else
+                    return;
+            }
+        }
+
+        private float centroid(int object, int axis) {
+            int o = object * 6 + axis;
+            return objectBounds[o] + objectBounds[o + 3];
+        }
+    }
+
+    // Refits the subtree at index node bottom up
+    private class RefitTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int node;
+
+        RefitTask(int node) {
+            this.node = node;
+        }
+
+        @Override
+        protected void compute() {
+            if (nodeObjectCount[node] == 0) {
+                RefitTask left = new RefitTask(node + 1);
+                RefitTask right = new RefitTask(nodeFirst[node]);
+                if (subtreeSize(node) > PARALLEL_THRESHOLD) {
+                    invokeAll(left, right);
+                } else {
+                    left.compute();
+                    right.compute();
+                }
+            }
+            refitNode(node);
+        }
+
+        // Number of nodes of the subtree, the right subtree ends where the parent's next sibling begins
+        private int subtreeSize(int node) {
+            int last = node;
+            while (nodeObjectCount[last] == 0)
+                last = nodeFirst[last];
+            return last - node + 1;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Camera movement for rendering without user interaction (see StartHeadlessPP).
+ * The script consists of key frames, the camera state between two key frames
+ * is interpolated linearly, after the last key frame the camera stays there.
+ *
+ * Script file: one key frame per line, empty lines and lines starting with #
+ * are ignored:
+ *   frame eyeZ angleXaxis angleYaxis xPosition yPosition
+ * The values have the meaning of the corresponding InteractionHandler properties.
+ */
+public class CameraScript {
+
+    private static final int VALUES = 6; // frame and five camera values
+
+    // Key frames sorted by frame, VALUES floats each
+    private final float[] keyFrames;
+    private final int keyFrameCount;
+
+    private CameraScript(List<float[]> keyFrameList) {
+        keyFrameList.sort((a, b) -> Float.compare(a[0], b[0]));
+        keyFrameCount = keyFrameList.size();
+        keyFrames = new float[keyFrameCount * VALUES];
+        for (int i = 0; i < keyFrameCount; i++)
+            System.arraycopy(keyFrameList.get(i), 0, keyFrames, i * VALUES, VALUES);
+    }
+
+    /**
+     * Reads a script file.
+     * @param fileName  Path of the script
+     * @return          Script with at least one key frame
+     * @throws IOException  If the file cannot be read or contains invalid lines
+     */
+    public static CameraScript load(String fileName) throws IOException {
+        List<float[]> keyFrameList = new ArrayList<float[]>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(fileName), StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#"))
+                    continue;
+                String[] fields = line.split("\\s+");
+                if (fields.length != VALUES)
+                    throw new IOException(fileName + ":" + lineNumber + ": expected " + VALUES + " values");
+                float[] keyFrame = new float[VALUES];
+                try {
+                    for (int i = 0; i < VALUES; i++)
+                        keyFrame[i] = Float.parseFloat(fields[i]);
+                } catch (NumberFormatException e) {
+                    throw new IOException(fileName + ":" + lineNumber + ": " + e.getMessage());
+                }
+                keyFrameList.add(keyFrame);
+            }
+        }
+        if (keyFrameList.isEmpty())
+            throw new IOException(fileName + ": no key frames");
+        return new CameraScript(keyFrameList);
+    }
+
+    /**
+     * Returns a script circling once around the table in the given number of frames,
+     * looking down on it from the start distance of the renderer.
+     * @param frames    Number of frames of one circle
+     */
+    public static CameraScript orbit(int frames) {
+        List<float[]> keyFrameList = new ArrayList<float[]>();
+        keyFrameList.add(new float[] {0, 0.5f, 0, 0, 0, 0});
+        keyFrameList.add(new float[] {Math.max(1, frames), 0.5f, 0, 360, 0, 0});
+        return new CameraScript(keyFrameList);
+    }
+
+    /**
+     * Sets the camera state of a frame.
+     * @param frame     Frame number
+     * @param camera    Receives the camera state
+     */
+    public void apply(int frame, InteractionHandler camera) {
+        int next = 0;
+        while (next < keyFrameCount && keyFrames[next * VALUES] <= frame)
+            next++;
+        int from = Math.max(0, next - 1) * VALUES;
+        int to = Math.min(next, keyFrameCount - 1) * VALUES;
+        float t = 0f;
+        if (to != from)
+            t = (frame - keyFrames[from]) / (keyFrames[to] - keyFrames[from]);
+        camera.setCameraState(new CameraState(interpolate(from, to, 1, t), interpolate(from, to, 2, t),
+                interpolate(from, to, 3, t), interpolate(from, to, 4, t), interpolate(from, to, 5, t)));
+    }
+
+    private float interpolate(int from, int to, int value, float t) {
+        return keyFrames[from + value] + (keyFrames[to + value] - keyFrames[from + value]) * t;
+    }
+}
@@ -0,0 +1,48 @@
+/**
+ * Immutable snapshot of the camera controlled by the InteractionHandler.
+ * The input thread publishes a new snapshot after every change, the render
+ * thread reads the latest one once per frame, so all values of a frame
+ * belong to the same input state.
+ */
+public final class CameraState {
+
+    private final float eyeZ;
+    private final float angleXaxis;
+    private final float angleYaxis;
+    private final float xPosition;
+    private final float yPosition;
+
+    public CameraState(float eyeZ, float angleXaxis, float angleYaxis, float xPosition, float yPosition) {
+        this.eyeZ = eyeZ;
+        this.angleXaxis = angleXaxis;
+        this.angleYaxis = angleYaxis;
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
+    }
+
+    public float getEyeZ() {
+        return eyeZ;
+    }
+
+    public float getAngleXaxis() {
+        return angleXaxis;
+    }
+
+    public float getAngleYaxis() {
+        return angleYaxis;
+    }
+
+    public float getxPosition() {
+        return xPosition;
+    }
+
+    public float getyPosition() {
+        return yPosition;
+    }
+
+    @Override
+    public String toString() {
+        return "z = " + eyeZ + ", x-Rot: " + angleXaxis + ", y-Rot: " + angleYaxis
+                + ", x-Translation: " + xPosition + ", y-Translation: " + yPosition;
+    }
+}
@@ -0,0 +1,65 @@
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayDeque;
+
+/**
+ * Pool of direct (off-heap) byte buffers in native byte order.
+ * Buffers are handed out in power-of-two size classes, so a released buffer
+ * can be reused by any later request that fits into the same size class.
+ * Direct buffers can be passed to OpenGL without an intermediate copy.
+ */
+public class DirectBufferPool {
+
+    /** Pool shared by all mesh builders of the application */
+    public static final DirectBufferPool SHARED = new DirectBufferPool();
+
+    // Smallest size class is 2^MIN_SIZE_CLASS bytes (1 KiB)
+    private static final int MIN_SIZE_CLASS = 10;
+    // Largest size class is 2^MAX_SIZE_CLASS bytes (1 GiB)
+    private static final int MAX_SIZE_CLASS = 30;
+
+    private final ArrayDeque<ByteBuffer>[] freeBuffers;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public DirectBufferPool() {
+        freeBuffers = new ArrayDeque[MAX_SIZE_CLASS + 1];
+        for (int i = MIN_SIZE_CLASS; i <= MAX_SIZE_CLASS; i++)
+            freeBuffers[i] = new ArrayDeque<ByteBuffer>();
+    }
+
+    /**
+     * Returns a cleared direct buffer with at least the requested capacity.
+     * @param minCapacity   Minimum capacity in bytes
+     * @return              Direct buffer in native byte order
+     */
+    public synchronized ByteBuffer acquire(int minCapacity) {
+        int sizeClass = sizeClassOf(minCapacity);
+        ByteBuffer buffer = freeBuffers[sizeClass].pollFirst();
+        if (buffer == null)
+            buffer = ByteBuffer.allocateDirect(1 << sizeClass).order(ByteOrder.nativeOrder());
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer obtained by acquire() to the pool.
+     * The buffer must not be used by the caller afterwards.
+     * @param buffer    Buffer to be reused
+     */
+    public synchronized void release(ByteBuffer buffer) {
+        if (buffer == null)
+            return;
+        int capacity = buffer.capacity();
+        int sizeClass = Integer.numberOfTrailingZeros(capacity);
+        if (capacity != (1 << sizeClass) || sizeClass < MIN_SIZE_CLASS || sizeClass > MAX_SIZE_CLASS)
+            throw new IllegalArgumentException("Buffer was not acquired from this pool.");
+        freeBuffers[sizeClass].addFirst(buffer);
+    }
+
+    private static int sizeClassOf(int capacity) {
+        if (capacity < 0 || capacity > (1 << MAX_SIZE_CLASS))
+            throw new IllegalArgumentException("Unsupported buffer capacity: " + capacity);
+        int sizeClass = 32 - Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1);
+        return Math.max(sizeClass, MIN_SIZE_CLASS);
+    }
+}
@@ -1,5 +1,17 @@
 public class DrawCard {
 
+    // Corner positions p0 - p7 of the card, used by putCard
+    private static final float[] CARD_CORNERS = {
+            0.4f, 0.055f, 0.1f,     // p0
+            0.30f, 0.055f, 0.1f,    // p1
+            0.30f, 0.055f, -0.1f,   // p2
+            0.4f, 0.055f, -0.1f,    // p3
+            0.4f, 0.05f, 0.1f,      // p4
+            0.30f, 0.05f, 0.1f,     // p5
+            0.30f, 0.05f, -0.1f,    // p6
+            0.4f, 0.05f, -0.1f      // p7
+    };
+
     private static float[] setVerticies(float[] p0, float[] p1, float[] p2, float[] p3, float[] p4, float[] p5, float[] p6, float[] p7, float[] c, float[] nf, float[] nb, float[] nl, float[] nr, float[] nu, float[] nd,
                                         float[] uv00, float[] uv01, float[] uv10, float[] uv11) {
 
@@ -193,5 +205,31 @@ public class DrawCard {
         return 28;
     }
 
+    // Center of the card placed by makeCardVertices/putCard
+    public static final float CARD_CENTER_X = 0.35f;
+    public static final float CARD_CENTER_Y = 0.0525f;
+    public static final float CARD_CENTER_Z = 0.0f;
+
+    // Corner positions p0 - p7 of a card centered at the origin, used by putUnitCard
+    private static final float[] UNIT_CARD_CORNERS = {
+            0.05f, 0.0025f, 0.1f,       // p0
+            -0.05f, 0.0025f, 0.1f,      // p1
+            -0.05f, 0.0025f, -0.1f,     // p2
+            0.05f, 0.0025f, -0.1f,      // p3
+            0.05f, -0.0025f, 0.1f,      // p4
+            -0.05f, -0.0025f, 0.1f,     // p5
+            -0.05f, -0.0025f, -0.1f,    // p6
+            0.05f, -0.0025f, -0.1f      // p7
+    };
+
+    // Writes a card centered at the origin, to be placed by a model matrix (eg. InstancedMesh)
+    public static void putUnitCard(MeshBuilder builder, float[] color) {
+        builder.putCuboid(UNIT_CARD_CORNERS, color);
+    }
+
+    // Writes the card directly into a MeshBuilder (no temporary arrays)
+    public static void putCard(MeshBuilder builder, float[] color) {
+        builder.putCuboid(CARD_CORNERS, color);
+    }
 
 }
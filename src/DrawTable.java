@@ -1,5 +1,47 @@
 public class DrawTable {
 
+    // Corner positions p0 - p7 of the table legs, used by the MeshBuilder based methods
+    private static final float[] LEG_VR_CORNERS = {
+            0.75f, -0.05f, 0.55f,   // p0 (top)
+            0.7f, -0.05f, 0.55f,    // p1
+            0.7f, -0.05f, 0.5f,     // p2
+            0.75f, -0.05f, 0.5f,    // p3
+            0.75f, -0.6f, 0.55f,    // p4 (bottom)
+            0.7f, -0.6f, 0.55f,     // p5
+            0.7f, -0.6f, 0.5f,      // p6
+            0.75f, -0.6f, 0.5f      // p7
+    };
+    private static final float[] LEG_VL_CORNERS = {
+            -0.7f, -0.05f, 0.55f,   // p0 (top)
+            -0.75f, -0.05f, 0.55f,  // p1
+            -0.75f, -0.05f, 0.5f,   // p2
+            -0.7f, -0.05f, 0.5f,    // p3
+            -0.7f, -0.6f, 0.55f,    // p4 (bottom)
+            -0.75f, -0.6f, 0.55f,   // p5
+            -0.75f, -0.6f, 0.5f,    // p6
+            -0.7f, -0.6f, 0.5f      // p7
+    };
+    private static final float[] LEG_HL_CORNERS = {
+            -0.7f, -0.05f, -0.5f,   // p0 (top)
+            -0.75f, -0.05f, -0.5f,  // p1
+            -0.75f, -0.05f, -0.55f, // p2
+            -0.7f, -0.05f, -0.55f,  // p3
+            -0.7f, -0.6f, -0.5f,    // p4 (bottom)
+            -0.75f, -0.6f, -0.5f,   // p5
+            -0.75f, -0.6f, -0.55f,  // p6
+            -0.7f, -0.6f, -0.55f    // p7
+    };
+    private static final float[] LEG_HR_CORNERS = {
+            0.75f, -0.05f, -0.5f,   // p0 (top)
+            0.7f, -0.05f, -0.5f,    // p1
+            0.7f, -0.05f, -0.55f,   // p2
+            0.75f, -0.05f, -0.55f,  // p3
+            0.75f, -0.6f, -0.5f,    // p4 (bottom)
+            0.7f, -0.6f, -0.5f,     // p5
+            0.7f, -0.6f, -0.55f,    // p6
+            0.75f, -0.6f, -0.55f    // p7
+    };
+
     private static float[] setVerticies(float[] p0, float[] p1, float[] p2, float[] p3, float[] p4, float[] p5, float[] p6, float[] p7, float[] c, float[] nf, float[] nb, float[] nl, float[] nr, float[] nu, float[] nd,
                                         float[] uv00, float[] uv01, float[] uv10, float[] uv11) {
 
@@ -400,4 +442,26 @@ public class DrawTable {
         return 28;
     }
 
-}
\ No newline at end of file
+    // Methods writing directly into a MeshBuilder (no temporary arrays)
+
+    public static void putBox(MeshBuilder builder, float width, float height, float depth, float[] color) {
+        builder.putBox(width, height, depth, color);
+    }
+
+    public static void putTableLegVR(MeshBuilder builder, float[] color) {
+        builder.putCuboid(LEG_VR_CORNERS, color);
+    }
+
+    public static void putTableLegVL(MeshBuilder builder, float[] color) {
+        builder.putCuboid(LEG_VL_CORNERS, color);
+    }
+
+    public static void putTableLegHL(MeshBuilder builder, float[] color) {
+        builder.putCuboid(LEG_HL_CORNERS, color);
+    }
+
+    public static void putTableLegHR(MeshBuilder builder, float[] color) {
+        builder.putCuboid(LEG_HR_CORNERS, color);
+    }
+
+}
@@ -0,0 +1,5640 @@
+import com.jogamp.common.nio.PointerBuffer;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GL2ES1;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL2GL3;
+import com.jogamp.opengl.GL3;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GL3bc;
+import com.jogamp.opengl.GL4;
+import com.jogamp.opengl.GL4ES3;
+import com.jogamp.opengl.GL4bc;
+import com.jogamp.opengl.GLArrayData;
+import com.jogamp.opengl.GLBufferStorage;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLES1;
+import com.jogamp.opengl.GLES2;
+import com.jogamp.opengl.GLES3;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLUniformData;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * GL3 that forwards every call to another GL3 object and counts the OpenGL
+ * calls (gl*). Wrappers such as GLStateCache extend it and override only the
+ * calls they handle, all other calls cost one direct method call.
+ * getGL(), getGL3(), ... return the forwarding object itself, so the wrapper
+ * is not bypassed, getDownstreamGL() returns the wrapped GL object.
+ *
+ * The methods were generated from the GL3 interface of JOGL 2.3.2 by
+ * tools/GL3WrapperGenerator.java, which describes how to generate them again.
+ */
+public class ForwardingGL3 implements GL3 {
+
+    protected final GL3 downstream;
+    /** Number of gl* calls passed to the downstream GL object */
+    protected long calls;
+
+    /**
+     * Creates a GL3 forwarding to a GL object.
+     * @param downstream  GL object all calls are passed to
+     */
+    public ForwardingGL3(GL3 downstream) {
+        this.downstream = downstream;
+    }
+
+    @Override
+    public int getBoundBuffer(int arg0) {
+        return downstream.getBoundBuffer(arg0);
+    }
+
+    @Override
+    public int getBoundFramebuffer(int arg0) {
+        return downstream.getBoundFramebuffer(arg0);
+    }
+
+    @Override
+    public GLBufferStorage getBufferStorage(int arg0) {
+        return downstream.getBufferStorage(arg0);
+    }
+
+    @Override
+    public GLContext getContext() {
+        return downstream.getContext();
+    }
+
+    @Override
+    public int getDefaultDrawFramebuffer() {
+        return downstream.getDefaultDrawFramebuffer();
+    }
+
+    @Override
+    public int getDefaultReadBuffer() {
+        return downstream.getDefaultReadBuffer();
+    }
+
+    @Override
+    public int getDefaultReadFramebuffer() {
+        return downstream.getDefaultReadFramebuffer();
+    }
+
+    @Override
+    public GL getDownstreamGL() {
+        return downstream;
+    }
+
+    @Override
+    public Object getExtension(String arg0) {
+        return downstream.getExtension(arg0);
+    }
+
+    @Override
+    public GL2ES1 getGL2ES1() {
+        return downstream.getGL2ES1();
+    }
+
+    @Override
+    public GL2ES2 getGL2ES2() {
+        return this;
+    }
+
+    @Override
+    public GL2ES3 getGL2ES3() {
+        return this;
+    }
+
+    @Override
+    public GL2GL3 getGL2GL3() {
+        return this;
+    }
+
+    @Override
+    public GL2 getGL2() {
+        return downstream.getGL2();
+    }
+
+    @Override
+    public GL3ES3 getGL3ES3() {
+        return this;
+    }
+
+    @Override
+    public GL3 getGL3() {
+        return this;
+    }
+
+    @Override
+    public GL3bc getGL3bc() {
+        return downstream.getGL3bc();
+    }
+
+    @Override
+    public GL4ES3 getGL4ES3() {
+        return downstream.getGL4ES3();
+    }
+
+    @Override
+    public GL4 getGL4() {
+        return downstream.getGL4();
+    }
+
+    @Override
+    public GL4bc getGL4bc() {
+        return downstream.getGL4bc();
+    }
+
+    @Override
+    public GLES1 getGLES1() {
+        return downstream.getGLES1();
+    }
+
+    @Override
+    public GLES2 getGLES2() {
+        return downstream.getGLES2();
+    }
+
+    @Override
+    public GLES3 getGLES3() {
+        return downstream.getGLES3();
+    }
+
+    @Override
+    public GLProfile getGLProfile() {
+        return downstream.getGLProfile();
+    }
+
+    @Override
+    public GL getGL() {
+        return this;
+    }
+
+    @Override
+    public int getMaxRenderbufferSamples() {
+        return downstream.getMaxRenderbufferSamples();
+    }
+
+    @Override
+    public Object getPlatformGLExtensions() {
+        return downstream.getPlatformGLExtensions();
+    }
+
+    @Override
+    public GL getRootGL() {
+        return downstream.getRootGL();
+    }
+
+    @Override
+    public int getSwapInterval() {
+        return downstream.getSwapInterval();
+    }
+
+    @Override
+    public void glActiveShaderProgram(int arg0, int arg1) {
+        calls++;
+        downstream.glActiveShaderProgram(arg0, arg1);
+    }
+
+    @Override
+    public void glActiveTexture(int arg0) {
+        calls++;
+        downstream.glActiveTexture(arg0);
+    }
+
+    @Override
+    public void glApplyFramebufferAttachmentCMAAINTEL() {
+        calls++;
+        downstream.glApplyFramebufferAttachmentCMAAINTEL();
+    }
+
+    @Override
+    public void glAttachShader(int arg0, int arg1) {
+        calls++;
+        downstream.glAttachShader(arg0, arg1);
+    }
+
+    @Override
+    public void glBeginConditionalRender(int arg0, int arg1) {
+        calls++;
+        downstream.glBeginConditionalRender(arg0, arg1);
+    }
+
+    @Override
+    public void glBeginQueryIndexed(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glBeginQueryIndexed(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glBeginQuery(int arg0, int arg1) {
+        calls++;
+        downstream.glBeginQuery(arg0, arg1);
+    }
+
+    @Override
+    public void glBeginTransformFeedback(int arg0) {
+        calls++;
+        downstream.glBeginTransformFeedback(arg0);
+    }
+
+    @Override
+    public void glBindAttribLocation(int arg0, int arg1, String arg2) {
+        calls++;
+        downstream.glBindAttribLocation(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glBindBufferBase(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glBindBufferBase(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glBindBufferRange(int arg0, int arg1, int arg2, long arg3, long arg4) {
+        calls++;
+        downstream.glBindBufferRange(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glBindBuffer(int arg0, int arg1) {
+        calls++;
+        downstream.glBindBuffer(arg0, arg1);
+    }
+
+    @Override
+    public void glBindFragDataLocationIndexed(int arg0, int arg1, int arg2, String arg3) {
+        calls++;
+        downstream.glBindFragDataLocationIndexed(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glBindFragDataLocation(int arg0, int arg1, String arg2) {
+        calls++;
+        downstream.glBindFragDataLocation(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glBindFramebuffer(int arg0, int arg1) {
+        calls++;
+        downstream.glBindFramebuffer(arg0, arg1);
+    }
+
+    @Override
+    public void glBindImageTexture(int arg0, int arg1, int arg2, boolean arg3, int arg4, int arg5, int arg6) {
+        calls++;
+        downstream.glBindImageTexture(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glBindProgramPipeline(int arg0) {
+        calls++;
+        downstream.glBindProgramPipeline(arg0);
+    }
+
+    @Override
+    public void glBindRenderbuffer(int arg0, int arg1) {
+        calls++;
+        downstream.glBindRenderbuffer(arg0, arg1);
+    }
+
+    @Override
+    public void glBindSampler(int arg0, int arg1) {
+        calls++;
+        downstream.glBindSampler(arg0, arg1);
+    }
+
+    @Override
+    public void glBindTexture(int arg0, int arg1) {
+        calls++;
+        downstream.glBindTexture(arg0, arg1);
+    }
+
+    @Override
+    public void glBindTransformFeedback(int arg0, int arg1) {
+        calls++;
+        downstream.glBindTransformFeedback(arg0, arg1);
+    }
+
+    @Override
+    public void glBindVertexArray(int arg0) {
+        calls++;
+        downstream.glBindVertexArray(arg0);
+    }
+
+    @Override
+    public void glBindVertexBuffer(int arg0, int arg1, long arg2, int arg3) {
+        calls++;
+        downstream.glBindVertexBuffer(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glBlendBarrier() {
+        calls++;
+        downstream.glBlendBarrier();
+    }
+
+    @Override
+    public void glBlendColor(float arg0, float arg1, float arg2, float arg3) {
+        calls++;
+        downstream.glBlendColor(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glBlendEquationSeparate(int arg0, int arg1) {
+        calls++;
+        downstream.glBlendEquationSeparate(arg0, arg1);
+    }
+
+    @Override
+    public void glBlendEquationSeparatei(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glBlendEquationSeparatei(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glBlendEquation(int arg0) {
+        calls++;
+        downstream.glBlendEquation(arg0);
+    }
+
+    @Override
+    public void glBlendEquationi(int arg0, int arg1) {
+        calls++;
+        downstream.glBlendEquationi(arg0, arg1);
+    }
+
+    @Override
+    public void glBlendFuncSeparate(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glBlendFuncSeparate(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glBlendFuncSeparatei(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glBlendFuncSeparatei(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glBlendFunc(int arg0, int arg1) {
+        calls++;
+        downstream.glBlendFunc(arg0, arg1);
+    }
+
+    @Override
+    public void glBlendFunci(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glBlendFunci(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glBlitFramebuffer(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9) {
+        calls++;
+        downstream.glBlitFramebuffer(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9);
+    }
+
+    @Override
+    public void glBufferAddressRangeNV(int arg0, int arg1, long arg2, long arg3) {
+        calls++;
+        downstream.glBufferAddressRangeNV(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glBufferData(int arg0, long arg1, Buffer arg2, int arg3) {
+        calls++;
+        downstream.glBufferData(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glBufferPageCommitmentARB(int arg0, long arg1, long arg2, boolean arg3) {
+        calls++;
+        downstream.glBufferPageCommitmentARB(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glBufferSubData(int arg0, long arg1, long arg2, Buffer arg3) {
+        calls++;
+        downstream.glBufferSubData(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public int glCheckFramebufferStatus(int arg0) {
+        calls++;
+        return downstream.glCheckFramebufferStatus(arg0);
+    }
+
+    @Override
+    public void glClampColor(int arg0, int arg1) {
+        calls++;
+        downstream.glClampColor(arg0, arg1);
+    }
+
+    @Override
+    public void glClearBufferData(int arg0, int arg1, int arg2, int arg3, Buffer arg4) {
+        calls++;
+        downstream.glClearBufferData(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glClearBufferSubData(int arg0, int arg1, long arg2, long arg3, int arg4, int arg5, Buffer arg6) {
+        calls++;
+        downstream.glClearBufferSubData(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glClearBufferfi(int arg0, int arg1, float arg2, int arg3) {
+        calls++;
+        downstream.glClearBufferfi(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glClearBufferfv(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glClearBufferfv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glClearBufferfv(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glClearBufferfv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glClearBufferiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glClearBufferiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glClearBufferiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glClearBufferiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glClearBufferuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glClearBufferuiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glClearBufferuiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glClearBufferuiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glClearColor(float arg0, float arg1, float arg2, float arg3) {
+        calls++;
+        downstream.glClearColor(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glClearDepth(double arg0) {
+        calls++;
+        downstream.glClearDepth(arg0);
+    }
+
+    @Override
+    public void glClearDepthf(float arg0) {
+        calls++;
+        downstream.glClearDepthf(arg0);
+    }
+
+    @Override
+    public void glClearStencil(int arg0) {
+        calls++;
+        downstream.glClearStencil(arg0);
+    }
+
+    @Override
+    public void glClear(int arg0) {
+        calls++;
+        downstream.glClear(arg0);
+    }
+
+    @Override
+    public int glClientWaitSync(long arg0, int arg1, long arg2) {
+        calls++;
+        return downstream.glClientWaitSync(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glColorFormatNV(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glColorFormatNV(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glColorMask(boolean arg0, boolean arg1, boolean arg2, boolean arg3) {
+        calls++;
+        downstream.glColorMask(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glColorMaski(int arg0, boolean arg1, boolean arg2, boolean arg3, boolean arg4) {
+        calls++;
+        downstream.glColorMaski(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glCompileShaderIncludeARB(int arg0, int arg1, String[] arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glCompileShaderIncludeARB(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glCompileShaderIncludeARB(int arg0, int arg1, String[] arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glCompileShaderIncludeARB(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glCompileShader(int arg0) {
+        calls++;
+        downstream.glCompileShader(arg0);
+    }
+
+    @Override
+    public void glCompressedTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        calls++;
+        downstream.glCompressedTexImage1D(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glCompressedTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, long arg6) {
+        calls++;
+        downstream.glCompressedTexImage1D(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glCompressedTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, Buffer arg7) {
+        calls++;
+        downstream.glCompressedTexImage2D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glCompressedTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, long arg7) {
+        calls++;
+        downstream.glCompressedTexImage2D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glCompressedTexImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        calls++;
+        downstream.glCompressedTexImage3D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+    }
+
+    @Override
+    public void glCompressedTexImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, long arg8) {
+        calls++;
+        downstream.glCompressedTexImage3D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+    }
+
+    @Override
+    public void glCompressedTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        calls++;
+        downstream.glCompressedTexSubImage1D(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glCompressedTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, long arg6) {
+        calls++;
+        downstream.glCompressedTexSubImage1D(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glCompressedTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        calls++;
+        downstream.glCompressedTexSubImage2D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+    }
+
+    @Override
+    public void glCompressedTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, long arg8) {
+        calls++;
+        downstream.glCompressedTexSubImage2D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+    }
+
+    @Override
+    public void glCompressedTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, Buffer arg10) {
+        calls++;
+        downstream.glCompressedTexSubImage3D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10);
+    }
+
+    @Override
+    public void glCompressedTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, long arg10) {
+        calls++;
+        downstream.glCompressedTexSubImage3D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10);
+    }
+
+    @Override
+    public void glCopyBufferSubData(int arg0, int arg1, long arg2, long arg3, long arg4) {
+        calls++;
+        downstream.glCopyBufferSubData(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glCopyImageSubData(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, int arg10, int arg11, int arg12, int arg13, int arg14) {
+        calls++;
+        downstream.glCopyImageSubData(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13, arg14);
+    }
+
+    @Override
+    public void glCopyTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6) {
+        calls++;
+        downstream.glCopyTexImage1D(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glCopyTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        calls++;
+        downstream.glCopyTexImage2D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glCopyTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        calls++;
+        downstream.glCopyTexSubImage1D(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glCopyTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        calls++;
+        downstream.glCopyTexSubImage2D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glCopyTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8) {
+        calls++;
+        downstream.glCopyTexSubImage3D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+    }
+
+    @Override
+    public int glCreateProgram() {
+        calls++;
+        return downstream.glCreateProgram();
+    }
+
+    @Override
+    public int glCreateShaderProgramv(int arg0, int arg1, String[] arg2) {
+        calls++;
+        return downstream.glCreateShaderProgramv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public int glCreateShader(int arg0) {
+        calls++;
+        return downstream.glCreateShader(arg0);
+    }
+
+    @Override
+    public long glCreateSyncFromCLeventARB(long arg0, long arg1, int arg2) {
+        calls++;
+        return downstream.glCreateSyncFromCLeventARB(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glCullFace(int arg0) {
+        calls++;
+        downstream.glCullFace(arg0);
+    }
+
+    @Override
+    public void glDebugMessageControl(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, boolean arg6) {
+        calls++;
+        downstream.glDebugMessageControl(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glDebugMessageControl(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, boolean arg5) {
+        calls++;
+        downstream.glDebugMessageControl(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glDebugMessageEnableAMD(int arg0, int arg1, int arg2, int[] arg3, int arg4, boolean arg5) {
+        calls++;
+        downstream.glDebugMessageEnableAMD(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glDebugMessageEnableAMD(int arg0, int arg1, int arg2, IntBuffer arg3, boolean arg4) {
+        calls++;
+        downstream.glDebugMessageEnableAMD(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glDebugMessageInsertAMD(int arg0, int arg1, int arg2, int arg3, String arg4) {
+        calls++;
+        downstream.glDebugMessageInsertAMD(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glDebugMessageInsert(int arg0, int arg1, int arg2, int arg3, int arg4, String arg5) {
+        calls++;
+        downstream.glDebugMessageInsert(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glDeleteBuffers(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glDeleteBuffers(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDeleteBuffers(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glDeleteBuffers(arg0, arg1);
+    }
+
+    @Override
+    public void glDeleteFramebuffers(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glDeleteFramebuffers(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDeleteFramebuffers(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glDeleteFramebuffers(arg0, arg1);
+    }
+
+    @Override
+    public void glDeleteNamedStringARB(int arg0, String arg1) {
+        calls++;
+        downstream.glDeleteNamedStringARB(arg0, arg1);
+    }
+
+    @Override
+    public void glDeleteProgramPipelines(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glDeleteProgramPipelines(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDeleteProgramPipelines(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glDeleteProgramPipelines(arg0, arg1);
+    }
+
+    @Override
+    public void glDeleteProgram(int arg0) {
+        calls++;
+        downstream.glDeleteProgram(arg0);
+    }
+
+    @Override
+    public void glDeleteQueries(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glDeleteQueries(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDeleteQueries(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glDeleteQueries(arg0, arg1);
+    }
+
+    @Override
+    public void glDeleteRenderbuffers(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glDeleteRenderbuffers(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDeleteRenderbuffers(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glDeleteRenderbuffers(arg0, arg1);
+    }
+
+    @Override
+    public void glDeleteSamplers(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glDeleteSamplers(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDeleteSamplers(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glDeleteSamplers(arg0, arg1);
+    }
+
+    @Override
+    public void glDeleteShader(int arg0) {
+        calls++;
+        downstream.glDeleteShader(arg0);
+    }
+
+    @Override
+    public void glDeleteSync(long arg0) {
+        calls++;
+        downstream.glDeleteSync(arg0);
+    }
+
+    @Override
+    public void glDeleteTextures(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glDeleteTextures(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDeleteTextures(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glDeleteTextures(arg0, arg1);
+    }
+
+    @Override
+    public void glDeleteTransformFeedbacks(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glDeleteTransformFeedbacks(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDeleteTransformFeedbacks(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glDeleteTransformFeedbacks(arg0, arg1);
+    }
+
+    @Override
+    public void glDeleteVertexArrays(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glDeleteVertexArrays(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDeleteVertexArrays(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glDeleteVertexArrays(arg0, arg1);
+    }
+
+    @Override
+    public void glDepthFunc(int arg0) {
+        calls++;
+        downstream.glDepthFunc(arg0);
+    }
+
+    @Override
+    public void glDepthMask(boolean arg0) {
+        calls++;
+        downstream.glDepthMask(arg0);
+    }
+
+    @Override
+    public void glDepthRangeArrayv(int arg0, int arg1, double[] arg2, int arg3) {
+        calls++;
+        downstream.glDepthRangeArrayv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glDepthRangeArrayv(int arg0, int arg1, DoubleBuffer arg2) {
+        calls++;
+        downstream.glDepthRangeArrayv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDepthRangeIndexed(int arg0, double arg1, double arg2) {
+        calls++;
+        downstream.glDepthRangeIndexed(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDepthRange(double arg0, double arg1) {
+        calls++;
+        downstream.glDepthRange(arg0, arg1);
+    }
+
+    @Override
+    public void glDepthRangef(float arg0, float arg1) {
+        calls++;
+        downstream.glDepthRangef(arg0, arg1);
+    }
+
+    @Override
+    public void glDetachShader(int arg0, int arg1) {
+        calls++;
+        downstream.glDetachShader(arg0, arg1);
+    }
+
+    @Override
+    public void glDisableClientState(int arg0) {
+        calls++;
+        downstream.glDisableClientState(arg0);
+    }
+
+    @Override
+    public void glDisableVertexAttribArray(int arg0) {
+        calls++;
+        downstream.glDisableVertexAttribArray(arg0);
+    }
+
+    @Override
+    public void glDisable(int arg0) {
+        calls++;
+        downstream.glDisable(arg0);
+    }
+
+    @Override
+    public void glDisablei(int arg0, int arg1) {
+        calls++;
+        downstream.glDisablei(arg0, arg1);
+    }
+
+    @Override
+    public void glDispatchComputeIndirect(long arg0) {
+        calls++;
+        downstream.glDispatchComputeIndirect(arg0);
+    }
+
+    @Override
+    public void glDispatchCompute(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glDispatchCompute(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDrawArraysIndirect(int arg0, Buffer arg1) {
+        calls++;
+        downstream.glDrawArraysIndirect(arg0, arg1);
+    }
+
+    @Override
+    public void glDrawArraysIndirect(int arg0, long arg1) {
+        calls++;
+        downstream.glDrawArraysIndirect(arg0, arg1);
+    }
+
+    @Override
+    public void glDrawArraysInstancedBaseInstance(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glDrawArraysInstancedBaseInstance(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glDrawArraysInstanced(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glDrawArraysInstanced(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glDrawArrays(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glDrawArrays(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDrawBuffer(int arg0) {
+        calls++;
+        downstream.glDrawBuffer(arg0);
+    }
+
+    @Override
+    public void glDrawBuffers(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glDrawBuffers(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDrawBuffers(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glDrawBuffers(arg0, arg1);
+    }
+
+    @Override
+    public void glDrawElementsBaseVertex(int arg0, int arg1, int arg2, Buffer arg3, int arg4) {
+        calls++;
+        downstream.glDrawElementsBaseVertex(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glDrawElementsBaseVertex(int arg0, int arg1, int arg2, long arg3, int arg4) {
+        calls++;
+        downstream.glDrawElementsBaseVertex(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glDrawElementsIndirect(int arg0, int arg1, Buffer arg2) {
+        calls++;
+        downstream.glDrawElementsIndirect(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDrawElementsIndirect(int arg0, int arg1, long arg2) {
+        calls++;
+        downstream.glDrawElementsIndirect(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseInstance(int arg0, int arg1, int arg2, long arg3, int arg4, int arg5) {
+        calls++;
+        downstream.glDrawElementsInstancedBaseInstance(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseVertexBaseInstance(int arg0, int arg1, int arg2, long arg3, int arg4, int arg5, int arg6) {
+        calls++;
+        downstream.glDrawElementsInstancedBaseVertexBaseInstance(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseVertex(int arg0, int arg1, int arg2, Buffer arg3, int arg4, int arg5) {
+        calls++;
+        downstream.glDrawElementsInstancedBaseVertex(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseVertex(int arg0, int arg1, int arg2, long arg3, int arg4, int arg5) {
+        calls++;
+        downstream.glDrawElementsInstancedBaseVertex(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glDrawElementsInstanced(int arg0, int arg1, int arg2, long arg3, int arg4) {
+        calls++;
+        downstream.glDrawElementsInstanced(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glDrawElements(int arg0, int arg1, int arg2, long arg3) {
+        calls++;
+        downstream.glDrawElements(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glDrawRangeElementsBaseVertex(int arg0, int arg1, int arg2, int arg3, int arg4, Buffer arg5, int arg6) {
+        calls++;
+        downstream.glDrawRangeElementsBaseVertex(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glDrawRangeElementsBaseVertex(int arg0, int arg1, int arg2, int arg3, int arg4, long arg5, int arg6) {
+        calls++;
+        downstream.glDrawRangeElementsBaseVertex(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glDrawRangeElements(int arg0, int arg1, int arg2, int arg3, int arg4, long arg5) {
+        calls++;
+        downstream.glDrawRangeElements(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glDrawTransformFeedbackInstanced(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glDrawTransformFeedbackInstanced(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDrawTransformFeedbackStreamInstanced(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glDrawTransformFeedbackStreamInstanced(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glDrawTransformFeedbackStream(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glDrawTransformFeedbackStream(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glDrawTransformFeedback(int arg0, int arg1) {
+        calls++;
+        downstream.glDrawTransformFeedback(arg0, arg1);
+    }
+
+    @Override
+    public void glEdgeFlagFormatNV(int arg0) {
+        calls++;
+        downstream.glEdgeFlagFormatNV(arg0);
+    }
+
+    @Override
+    public void glEnableClientState(int arg0) {
+        calls++;
+        downstream.glEnableClientState(arg0);
+    }
+
+    @Override
+    public void glEnableVertexAttribArray(int arg0) {
+        calls++;
+        downstream.glEnableVertexAttribArray(arg0);
+    }
+
+    @Override
+    public void glEnable(int arg0) {
+        calls++;
+        downstream.glEnable(arg0);
+    }
+
+    @Override
+    public void glEnablei(int arg0, int arg1) {
+        calls++;
+        downstream.glEnablei(arg0, arg1);
+    }
+
+    @Override
+    public void glEndConditionalRender() {
+        calls++;
+        downstream.glEndConditionalRender();
+    }
+
+    @Override
+    public void glEndQueryIndexed(int arg0, int arg1) {
+        calls++;
+        downstream.glEndQueryIndexed(arg0, arg1);
+    }
+
+    @Override
+    public void glEndQuery(int arg0) {
+        calls++;
+        downstream.glEndQuery(arg0);
+    }
+
+    @Override
+    public void glEndTransformFeedback() {
+        calls++;
+        downstream.glEndTransformFeedback();
+    }
+
+    @Override
+    public long glFenceSync(int arg0, int arg1) {
+        calls++;
+        return downstream.glFenceSync(arg0, arg1);
+    }
+
+    @Override
+    public void glFinish() {
+        calls++;
+        downstream.glFinish();
+    }
+
+    @Override
+    public void glFlushMappedBufferRange(int arg0, long arg1, long arg2) {
+        calls++;
+        downstream.glFlushMappedBufferRange(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glFlush() {
+        calls++;
+        downstream.glFlush();
+    }
+
+    @Override
+    public void glFogCoordFormatNV(int arg0, int arg1) {
+        calls++;
+        downstream.glFogCoordFormatNV(arg0, arg1);
+    }
+
+    @Override
+    public void glFramebufferParameteri(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glFramebufferParameteri(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glFramebufferRenderbuffer(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glFramebufferRenderbuffer(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glFramebufferTexture1D(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glFramebufferTexture1D(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glFramebufferTexture2D(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glFramebufferTexture2D(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glFramebufferTexture3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        calls++;
+        downstream.glFramebufferTexture3D(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glFramebufferTextureARB(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glFramebufferTextureARB(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glFramebufferTextureEXT(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glFramebufferTextureEXT(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glFramebufferTextureFaceARB(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glFramebufferTextureFaceARB(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glFramebufferTextureLayerARB(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glFramebufferTextureLayerARB(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glFramebufferTextureLayer(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glFramebufferTextureLayer(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glFramebufferTexture(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glFramebufferTexture(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glFrontFace(int arg0) {
+        calls++;
+        downstream.glFrontFace(arg0);
+    }
+
+    @Override
+    public void glGenBuffers(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glGenBuffers(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenBuffers(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glGenBuffers(arg0, arg1);
+    }
+
+    @Override
+    public void glGenFramebuffers(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glGenFramebuffers(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenFramebuffers(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glGenFramebuffers(arg0, arg1);
+    }
+
+    @Override
+    public void glGenProgramPipelines(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glGenProgramPipelines(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenProgramPipelines(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glGenProgramPipelines(arg0, arg1);
+    }
+
+    @Override
+    public void glGenQueries(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glGenQueries(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenQueries(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glGenQueries(arg0, arg1);
+    }
+
+    @Override
+    public void glGenRenderbuffers(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glGenRenderbuffers(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenRenderbuffers(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glGenRenderbuffers(arg0, arg1);
+    }
+
+    @Override
+    public void glGenSamplers(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glGenSamplers(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenSamplers(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glGenSamplers(arg0, arg1);
+    }
+
+    @Override
+    public void glGenTextures(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glGenTextures(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenTextures(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glGenTextures(arg0, arg1);
+    }
+
+    @Override
+    public void glGenTransformFeedbacks(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glGenTransformFeedbacks(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenTransformFeedbacks(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glGenTransformFeedbacks(arg0, arg1);
+    }
+
+    @Override
+    public void glGenVertexArrays(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glGenVertexArrays(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenVertexArrays(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glGenVertexArrays(arg0, arg1);
+    }
+
+    @Override
+    public void glGenerateMipmap(int arg0) {
+        calls++;
+        downstream.glGenerateMipmap(arg0);
+    }
+
+    @Override
+    public void glGetActiveAtomicCounterBufferiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glGetActiveAtomicCounterBufferiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetActiveAtomicCounterBufferiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glGetActiveAtomicCounterBufferiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetActiveAttrib(int arg0, int arg1, int arg2, int[] arg3, int arg4, int[] arg5, int arg6, int[] arg7, int arg8, byte[] arg9, int arg10) {
+        calls++;
+        downstream.glGetActiveAttrib(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10);
+    }
+
+    @Override
+    public void glGetActiveAttrib(int arg0, int arg1, int arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, ByteBuffer arg6) {
+        calls++;
+        downstream.glGetActiveAttrib(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glGetActiveSubroutineName(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, byte[] arg6, int arg7) {
+        calls++;
+        downstream.glGetActiveSubroutineName(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glGetActiveSubroutineName(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, ByteBuffer arg5) {
+        calls++;
+        downstream.glGetActiveSubroutineName(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetActiveSubroutineUniformName(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, byte[] arg6, int arg7) {
+        calls++;
+        downstream.glGetActiveSubroutineUniformName(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glGetActiveSubroutineUniformName(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, ByteBuffer arg5) {
+        calls++;
+        downstream.glGetActiveSubroutineUniformName(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetActiveSubroutineUniformiv(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5) {
+        calls++;
+        downstream.glGetActiveSubroutineUniformiv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetActiveSubroutineUniformiv(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4) {
+        calls++;
+        downstream.glGetActiveSubroutineUniformiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetActiveUniformBlockName(int arg0, int arg1, int arg2, int[] arg3, int arg4, byte[] arg5, int arg6) {
+        calls++;
+        downstream.glGetActiveUniformBlockName(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glGetActiveUniformBlockName(int arg0, int arg1, int arg2, IntBuffer arg3, ByteBuffer arg4) {
+        calls++;
+        downstream.glGetActiveUniformBlockName(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetActiveUniformBlockiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glGetActiveUniformBlockiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetActiveUniformBlockiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glGetActiveUniformBlockiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetActiveUniformName(int arg0, int arg1, int arg2, int[] arg3, int arg4, byte[] arg5, int arg6) {
+        calls++;
+        downstream.glGetActiveUniformName(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glGetActiveUniformName(int arg0, int arg1, int arg2, IntBuffer arg3, ByteBuffer arg4) {
+        calls++;
+        downstream.glGetActiveUniformName(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetActiveUniform(int arg0, int arg1, int arg2, int[] arg3, int arg4, int[] arg5, int arg6, int[] arg7, int arg8, byte[] arg9, int arg10) {
+        calls++;
+        downstream.glGetActiveUniform(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10);
+    }
+
+    @Override
+    public void glGetActiveUniform(int arg0, int arg1, int arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, ByteBuffer arg6) {
+        calls++;
+        downstream.glGetActiveUniform(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glGetActiveUniformsiv(int arg0, int arg1, int[] arg2, int arg3, int arg4, int[] arg5, int arg6) {
+        calls++;
+        downstream.glGetActiveUniformsiv(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glGetActiveUniformsiv(int arg0, int arg1, IntBuffer arg2, int arg3, IntBuffer arg4) {
+        calls++;
+        downstream.glGetActiveUniformsiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetAttachedShaders(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5) {
+        calls++;
+        downstream.glGetAttachedShaders(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetAttachedShaders(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glGetAttachedShaders(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public int glGetAttribLocation(int arg0, String arg1) {
+        calls++;
+        return downstream.glGetAttribLocation(arg0, arg1);
+    }
+
+    @Override
+    public void glGetBooleani_v(int arg0, int arg1, byte[] arg2, int arg3) {
+        calls++;
+        downstream.glGetBooleani_v(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetBooleani_v(int arg0, int arg1, ByteBuffer arg2) {
+        calls++;
+        downstream.glGetBooleani_v(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetBooleanv(int arg0, byte[] arg1, int arg2) {
+        calls++;
+        downstream.glGetBooleanv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetBooleanv(int arg0, ByteBuffer arg1) {
+        calls++;
+        downstream.glGetBooleanv(arg0, arg1);
+    }
+
+    @Override
+    public void glGetBufferParameteri64v(int arg0, int arg1, long[] arg2, int arg3) {
+        calls++;
+        downstream.glGetBufferParameteri64v(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetBufferParameteri64v(int arg0, int arg1, LongBuffer arg2) {
+        calls++;
+        downstream.glGetBufferParameteri64v(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetBufferParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetBufferParameteriv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetBufferParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetBufferParameteriv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetBufferParameterui64vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        calls++;
+        downstream.glGetBufferParameterui64vNV(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetBufferParameterui64vNV(int arg0, int arg1, LongBuffer arg2) {
+        calls++;
+        downstream.glGetBufferParameterui64vNV(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetBufferSubData(int arg0, long arg1, long arg2, Buffer arg3) {
+        calls++;
+        downstream.glGetBufferSubData(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetCompressedTexImage(int arg0, int arg1, Buffer arg2) {
+        calls++;
+        downstream.glGetCompressedTexImage(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetCompressedTexImage(int arg0, int arg1, long arg2) {
+        calls++;
+        downstream.glGetCompressedTexImage(arg0, arg1, arg2);
+    }
+
+    @Override
+    public int glGetDebugMessageLogAMD(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5, int[] arg6, int arg7, int[] arg8, int arg9, byte[] arg10, int arg11) {
+        calls++;
+        return downstream.glGetDebugMessageLogAMD(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11);
+    }
+
+    @Override
+    public int glGetDebugMessageLogAMD(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, ByteBuffer arg6) {
+        calls++;
+        return downstream.glGetDebugMessageLogAMD(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public int glGetDebugMessageLog(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5, int[] arg6, int arg7, int[] arg8, int arg9, int[] arg10, int arg11, byte[] arg12, int arg13) {
+        calls++;
+        return downstream.glGetDebugMessageLog(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10, arg11, arg12, arg13);
+    }
+
+    @Override
+    public int glGetDebugMessageLog(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, IntBuffer arg6, ByteBuffer arg7) {
+        calls++;
+        return downstream.glGetDebugMessageLog(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glGetDoublei_v(int arg0, int arg1, double[] arg2, int arg3) {
+        calls++;
+        downstream.glGetDoublei_v(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetDoublei_v(int arg0, int arg1, DoubleBuffer arg2) {
+        calls++;
+        downstream.glGetDoublei_v(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetDoublev(int arg0, double[] arg1, int arg2) {
+        calls++;
+        downstream.glGetDoublev(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetDoublev(int arg0, DoubleBuffer arg1) {
+        calls++;
+        downstream.glGetDoublev(arg0, arg1);
+    }
+
+    @Override
+    public int glGetError() {
+        calls++;
+        return downstream.glGetError();
+    }
+
+    @Override
+    public void glGetFloati_v(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glGetFloati_v(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetFloati_v(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glGetFloati_v(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetFloatv(int arg0, float[] arg1, int arg2) {
+        calls++;
+        downstream.glGetFloatv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetFloatv(int arg0, FloatBuffer arg1) {
+        calls++;
+        downstream.glGetFloatv(arg0, arg1);
+    }
+
+    @Override
+    public int glGetFragDataIndex(int arg0, String arg1) {
+        calls++;
+        return downstream.glGetFragDataIndex(arg0, arg1);
+    }
+
+    @Override
+    public int glGetFragDataLocation(int arg0, String arg1) {
+        calls++;
+        return downstream.glGetFragDataLocation(arg0, arg1);
+    }
+
+    @Override
+    public void glGetFramebufferAttachmentParameteriv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glGetFramebufferAttachmentParameteriv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetFramebufferAttachmentParameteriv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glGetFramebufferAttachmentParameteriv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetFramebufferParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetFramebufferParameteriv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetFramebufferParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetFramebufferParameteriv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public int glGetGraphicsResetStatus() {
+        calls++;
+        return downstream.glGetGraphicsResetStatus();
+    }
+
+    @Override
+    public void glGetInteger64i_v(int arg0, int arg1, long[] arg2, int arg3) {
+        calls++;
+        downstream.glGetInteger64i_v(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetInteger64i_v(int arg0, int arg1, LongBuffer arg2) {
+        calls++;
+        downstream.glGetInteger64i_v(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetInteger64v(int arg0, long[] arg1, int arg2) {
+        calls++;
+        downstream.glGetInteger64v(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetInteger64v(int arg0, LongBuffer arg1) {
+        calls++;
+        downstream.glGetInteger64v(arg0, arg1);
+    }
+
+    @Override
+    public void glGetIntegeri_v(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetIntegeri_v(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetIntegeri_v(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetIntegeri_v(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetIntegerui64i_vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        calls++;
+        downstream.glGetIntegerui64i_vNV(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetIntegerui64i_vNV(int arg0, int arg1, LongBuffer arg2) {
+        calls++;
+        downstream.glGetIntegerui64i_vNV(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetIntegerui64vNV(int arg0, long[] arg1, int arg2) {
+        calls++;
+        downstream.glGetIntegerui64vNV(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetIntegerui64vNV(int arg0, LongBuffer arg1) {
+        calls++;
+        downstream.glGetIntegerui64vNV(arg0, arg1);
+    }
+
+    @Override
+    public void glGetIntegerv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glGetIntegerv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetIntegerv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glGetIntegerv(arg0, arg1);
+    }
+
+    @Override
+    public void glGetInternalformati64v(int arg0, int arg1, int arg2, int arg3, long[] arg4, int arg5) {
+        calls++;
+        downstream.glGetInternalformati64v(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetInternalformati64v(int arg0, int arg1, int arg2, int arg3, LongBuffer arg4) {
+        calls++;
+        downstream.glGetInternalformati64v(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetInternalformativ(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5) {
+        calls++;
+        downstream.glGetInternalformativ(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetInternalformativ(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4) {
+        calls++;
+        downstream.glGetInternalformativ(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetMultisamplefv(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glGetMultisamplefv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetMultisamplefv(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glGetMultisamplefv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetNamedBufferParameterui64vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        calls++;
+        downstream.glGetNamedBufferParameterui64vNV(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetNamedBufferParameterui64vNV(int arg0, int arg1, LongBuffer arg2) {
+        calls++;
+        downstream.glGetNamedBufferParameterui64vNV(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetNamedStringARB(int arg0, String arg1, int arg2, int[] arg3, int arg4, byte[] arg5, int arg6) {
+        calls++;
+        downstream.glGetNamedStringARB(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glGetNamedStringARB(int arg0, String arg1, int arg2, IntBuffer arg3, ByteBuffer arg4) {
+        calls++;
+        downstream.glGetNamedStringARB(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetNamedStringivARB(int arg0, String arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glGetNamedStringivARB(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetNamedStringivARB(int arg0, String arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glGetNamedStringivARB(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetObjectLabel(int arg0, int arg1, int arg2, int[] arg3, int arg4, byte[] arg5, int arg6) {
+        calls++;
+        downstream.glGetObjectLabel(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glGetObjectLabel(int arg0, int arg1, int arg2, IntBuffer arg3, ByteBuffer arg4) {
+        calls++;
+        downstream.glGetObjectLabel(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetObjectPtrLabel(Buffer arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        calls++;
+        downstream.glGetObjectPtrLabel(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetObjectPtrLabel(Buffer arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        calls++;
+        downstream.glGetObjectPtrLabel(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetProgramBinary(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5, Buffer arg6) {
+        calls++;
+        downstream.glGetProgramBinary(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glGetProgramBinary(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3, Buffer arg4) {
+        calls++;
+        downstream.glGetProgramBinary(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetProgramInfoLog(int arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        calls++;
+        downstream.glGetProgramInfoLog(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetProgramInfoLog(int arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        calls++;
+        downstream.glGetProgramInfoLog(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetProgramInterfaceiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glGetProgramInterfaceiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetProgramInterfaceiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glGetProgramInterfaceiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetProgramPipelineInfoLog(int arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        calls++;
+        downstream.glGetProgramPipelineInfoLog(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetProgramPipelineInfoLog(int arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        calls++;
+        downstream.glGetProgramPipelineInfoLog(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetProgramPipelineiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetProgramPipelineiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetProgramPipelineiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetProgramPipelineiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public int glGetProgramResourceIndex(int arg0, int arg1, byte[] arg2, int arg3) {
+        calls++;
+        return downstream.glGetProgramResourceIndex(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public int glGetProgramResourceIndex(int arg0, int arg1, ByteBuffer arg2) {
+        calls++;
+        return downstream.glGetProgramResourceIndex(arg0, arg1, arg2);
+    }
+
+    @Override
+    public int glGetProgramResourceLocation(int arg0, int arg1, byte[] arg2, int arg3) {
+        calls++;
+        return downstream.glGetProgramResourceLocation(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public int glGetProgramResourceLocation(int arg0, int arg1, ByteBuffer arg2) {
+        calls++;
+        return downstream.glGetProgramResourceLocation(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetProgramResourceName(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, byte[] arg6, int arg7) {
+        calls++;
+        downstream.glGetProgramResourceName(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glGetProgramResourceName(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, ByteBuffer arg5) {
+        calls++;
+        downstream.glGetProgramResourceName(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetProgramResourceiv(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, int arg6, int[] arg7, int arg8, int[] arg9, int arg10) {
+        calls++;
+        downstream.glGetProgramResourceiv(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10);
+    }
+
+    @Override
+    public void glGetProgramResourceiv(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, int arg5, IntBuffer arg6, IntBuffer arg7) {
+        calls++;
+        downstream.glGetProgramResourceiv(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glGetProgramStageiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glGetProgramStageiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetProgramStageiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glGetProgramStageiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetProgramiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetProgramiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetProgramiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetProgramiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetQueryIndexediv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glGetQueryIndexediv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetQueryIndexediv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glGetQueryIndexediv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetQueryObjecti64v(int arg0, int arg1, long[] arg2, int arg3) {
+        calls++;
+        downstream.glGetQueryObjecti64v(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetQueryObjecti64v(int arg0, int arg1, LongBuffer arg2) {
+        calls++;
+        downstream.glGetQueryObjecti64v(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetQueryObjectiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetQueryObjectiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetQueryObjectiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetQueryObjectiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetQueryObjectui64v(int arg0, int arg1, long[] arg2, int arg3) {
+        calls++;
+        downstream.glGetQueryObjectui64v(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetQueryObjectui64v(int arg0, int arg1, LongBuffer arg2) {
+        calls++;
+        downstream.glGetQueryObjectui64v(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetQueryObjectuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetQueryObjectuiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetQueryObjectuiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetQueryObjectuiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetQueryiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetQueryiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetQueryiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetQueryiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetRenderbufferParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetRenderbufferParameteriv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetRenderbufferParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetRenderbufferParameteriv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetSamplerParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetSamplerParameterIiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetSamplerParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetSamplerParameterIiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetSamplerParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetSamplerParameterIuiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetSamplerParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetSamplerParameterIuiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetSamplerParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glGetSamplerParameterfv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetSamplerParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glGetSamplerParameterfv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetSamplerParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetSamplerParameteriv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetSamplerParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetSamplerParameteriv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetShaderInfoLog(int arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        calls++;
+        downstream.glGetShaderInfoLog(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetShaderInfoLog(int arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        calls++;
+        downstream.glGetShaderInfoLog(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetShaderPrecisionFormat(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5) {
+        calls++;
+        downstream.glGetShaderPrecisionFormat(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetShaderPrecisionFormat(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glGetShaderPrecisionFormat(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetShaderSource(int arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        calls++;
+        downstream.glGetShaderSource(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetShaderSource(int arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        calls++;
+        downstream.glGetShaderSource(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetShaderiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetShaderiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetShaderiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetShaderiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public String glGetString(int arg0) {
+        calls++;
+        return downstream.glGetString(arg0);
+    }
+
+    @Override
+    public String glGetStringi(int arg0, int arg1) {
+        calls++;
+        return downstream.glGetStringi(arg0, arg1);
+    }
+
+    @Override
+    public int glGetSubroutineIndex(int arg0, int arg1, String arg2) {
+        calls++;
+        return downstream.glGetSubroutineIndex(arg0, arg1, arg2);
+    }
+
+    @Override
+    public int glGetSubroutineUniformLocation(int arg0, int arg1, String arg2) {
+        calls++;
+        return downstream.glGetSubroutineUniformLocation(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetSynciv(long arg0, int arg1, int arg2, int[] arg3, int arg4, int[] arg5, int arg6) {
+        calls++;
+        downstream.glGetSynciv(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glGetSynciv(long arg0, int arg1, int arg2, IntBuffer arg3, IntBuffer arg4) {
+        calls++;
+        downstream.glGetSynciv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetTexImage(int arg0, int arg1, int arg2, int arg3, Buffer arg4) {
+        calls++;
+        downstream.glGetTexImage(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetTexImage(int arg0, int arg1, int arg2, int arg3, long arg4) {
+        calls++;
+        downstream.glGetTexImage(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetTexLevelParameterfv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glGetTexLevelParameterfv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetTexLevelParameterfv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glGetTexLevelParameterfv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetTexLevelParameteriv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glGetTexLevelParameteriv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetTexLevelParameteriv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glGetTexLevelParameteriv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetTexParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetTexParameterIiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetTexParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetTexParameterIiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetTexParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetTexParameterIuiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetTexParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetTexParameterIuiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetTexParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glGetTexParameterfv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetTexParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glGetTexParameterfv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetTexParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetTexParameteriv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetTexParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetTexParameteriv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetTransformFeedbackVarying(int arg0, int arg1, int arg2, int[] arg3, int arg4, int[] arg5, int arg6, int[] arg7, int arg8, byte[] arg9, int arg10) {
+        calls++;
+        downstream.glGetTransformFeedbackVarying(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10);
+    }
+
+    @Override
+    public void glGetTransformFeedbackVarying(int arg0, int arg1, int arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, ByteBuffer arg6) {
+        calls++;
+        downstream.glGetTransformFeedbackVarying(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public int glGetUniformBlockIndex(int arg0, String arg1) {
+        calls++;
+        return downstream.glGetUniformBlockIndex(arg0, arg1);
+    }
+
+    @Override
+    public void glGetUniformIndices(int arg0, int arg1, String[] arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glGetUniformIndices(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetUniformIndices(int arg0, int arg1, String[] arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glGetUniformIndices(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public int glGetUniformLocation(int arg0, String arg1) {
+        calls++;
+        return downstream.glGetUniformLocation(arg0, arg1);
+    }
+
+    @Override
+    public void glGetUniformSubroutineuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetUniformSubroutineuiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetUniformSubroutineuiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetUniformSubroutineuiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetUniformdv(int arg0, int arg1, double[] arg2, int arg3) {
+        calls++;
+        downstream.glGetUniformdv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetUniformdv(int arg0, int arg1, DoubleBuffer arg2) {
+        calls++;
+        downstream.glGetUniformdv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetUniformfv(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glGetUniformfv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetUniformfv(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glGetUniformfv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetUniformiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetUniformiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetUniformiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetUniformiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetUniformui64vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        calls++;
+        downstream.glGetUniformui64vNV(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetUniformui64vNV(int arg0, int arg1, LongBuffer arg2) {
+        calls++;
+        downstream.glGetUniformui64vNV(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetUniformuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetUniformuiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetUniformuiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetUniformuiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetVertexAttribIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetVertexAttribIiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetVertexAttribIiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetVertexAttribIiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetVertexAttribIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetVertexAttribIuiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetVertexAttribIuiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetVertexAttribIuiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetVertexAttribLdv(int arg0, int arg1, double[] arg2, int arg3) {
+        calls++;
+        downstream.glGetVertexAttribLdv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetVertexAttribLdv(int arg0, int arg1, DoubleBuffer arg2) {
+        calls++;
+        downstream.glGetVertexAttribLdv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetVertexAttribdv(int arg0, int arg1, double[] arg2, int arg3) {
+        calls++;
+        downstream.glGetVertexAttribdv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetVertexAttribdv(int arg0, int arg1, DoubleBuffer arg2) {
+        calls++;
+        downstream.glGetVertexAttribdv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetVertexAttribfv(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glGetVertexAttribfv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetVertexAttribfv(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glGetVertexAttribfv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetVertexAttribiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glGetVertexAttribiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetVertexAttribiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glGetVertexAttribiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetnCompressedTexImage(int arg0, int arg1, int arg2, Buffer arg3) {
+        calls++;
+        downstream.glGetnCompressedTexImage(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetnTexImage(int arg0, int arg1, int arg2, int arg3, int arg4, Buffer arg5) {
+        calls++;
+        downstream.glGetnTexImage(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetnUniformdv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glGetnUniformdv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetnUniformdv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glGetnUniformdv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetnUniformfv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glGetnUniformfv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetnUniformfv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glGetnUniformfv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetnUniformiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glGetnUniformiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetnUniformiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glGetnUniformiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetnUniformuiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glGetnUniformuiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetnUniformuiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glGetnUniformuiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glHint(int arg0, int arg1) {
+        calls++;
+        downstream.glHint(arg0, arg1);
+    }
+
+    @Override
+    public long glImportSyncEXT(int arg0, long arg1, int arg2) {
+        calls++;
+        return downstream.glImportSyncEXT(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glIndexFormatNV(int arg0, int arg1) {
+        calls++;
+        downstream.glIndexFormatNV(arg0, arg1);
+    }
+
+    @Override
+    public void glInvalidateBufferData(int arg0) {
+        calls++;
+        downstream.glInvalidateBufferData(arg0);
+    }
+
+    @Override
+    public void glInvalidateBufferSubData(int arg0, long arg1, long arg2) {
+        calls++;
+        downstream.glInvalidateBufferSubData(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glInvalidateFramebuffer(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glInvalidateFramebuffer(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glInvalidateFramebuffer(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glInvalidateFramebuffer(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glInvalidateSubFramebuffer(int arg0, int arg1, int[] arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        calls++;
+        downstream.glInvalidateSubFramebuffer(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glInvalidateSubFramebuffer(int arg0, int arg1, IntBuffer arg2, int arg3, int arg4, int arg5, int arg6) {
+        calls++;
+        downstream.glInvalidateSubFramebuffer(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glInvalidateTexImage(int arg0, int arg1) {
+        calls++;
+        downstream.glInvalidateTexImage(arg0, arg1);
+    }
+
+    @Override
+    public void glInvalidateTexSubImage(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        calls++;
+        downstream.glInvalidateTexSubImage(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public boolean glIsBufferResidentNV(int arg0) {
+        calls++;
+        return downstream.glIsBufferResidentNV(arg0);
+    }
+
+    @Override
+    public boolean glIsBuffer(int arg0) {
+        calls++;
+        return downstream.glIsBuffer(arg0);
+    }
+
+    @Override
+    public boolean glIsEnabled(int arg0) {
+        calls++;
+        return downstream.glIsEnabled(arg0);
+    }
+
+    @Override
+    public boolean glIsEnabledi(int arg0, int arg1) {
+        calls++;
+        return downstream.glIsEnabledi(arg0, arg1);
+    }
+
+    @Override
+    public boolean glIsFramebuffer(int arg0) {
+        calls++;
+        return downstream.glIsFramebuffer(arg0);
+    }
+
+    @Override
+    public boolean glIsNamedBufferResidentNV(int arg0) {
+        calls++;
+        return downstream.glIsNamedBufferResidentNV(arg0);
+    }
+
+    @Override
+    public boolean glIsNamedStringARB(int arg0, String arg1) {
+        calls++;
+        return downstream.glIsNamedStringARB(arg0, arg1);
+    }
+
+    @Override
+    public boolean glIsProgramPipeline(int arg0) {
+        calls++;
+        return downstream.glIsProgramPipeline(arg0);
+    }
+
+    @Override
+    public boolean glIsProgram(int arg0) {
+        calls++;
+        return downstream.glIsProgram(arg0);
+    }
+
+    @Override
+    public boolean glIsQuery(int arg0) {
+        calls++;
+        return downstream.glIsQuery(arg0);
+    }
+
+    @Override
+    public boolean glIsRenderbuffer(int arg0) {
+        calls++;
+        return downstream.glIsRenderbuffer(arg0);
+    }
+
+    @Override
+    public boolean glIsSampler(int arg0) {
+        calls++;
+        return downstream.glIsSampler(arg0);
+    }
+
+    @Override
+    public boolean glIsShader(int arg0) {
+        calls++;
+        return downstream.glIsShader(arg0);
+    }
+
+    @Override
+    public boolean glIsSync(long arg0) {
+        calls++;
+        return downstream.glIsSync(arg0);
+    }
+
+    @Override
+    public boolean glIsTexture(int arg0) {
+        calls++;
+        return downstream.glIsTexture(arg0);
+    }
+
+    @Override
+    public boolean glIsTransformFeedback(int arg0) {
+        calls++;
+        return downstream.glIsTransformFeedback(arg0);
+    }
+
+    @Override
+    public boolean glIsVertexArray(int arg0) {
+        calls++;
+        return downstream.glIsVertexArray(arg0);
+    }
+
+    @Override
+    public void glLineWidth(float arg0) {
+        calls++;
+        downstream.glLineWidth(arg0);
+    }
+
+    @Override
+    public void glLinkProgram(int arg0) {
+        calls++;
+        downstream.glLinkProgram(arg0);
+    }
+
+    @Override
+    public void glLogicOp(int arg0) {
+        calls++;
+        downstream.glLogicOp(arg0);
+    }
+
+    @Override
+    public void glMakeBufferNonResidentNV(int arg0) {
+        calls++;
+        downstream.glMakeBufferNonResidentNV(arg0);
+    }
+
+    @Override
+    public void glMakeBufferResidentNV(int arg0, int arg1) {
+        calls++;
+        downstream.glMakeBufferResidentNV(arg0, arg1);
+    }
+
+    @Override
+    public void glMakeNamedBufferNonResidentNV(int arg0) {
+        calls++;
+        downstream.glMakeNamedBufferNonResidentNV(arg0);
+    }
+
+    @Override
+    public void glMakeNamedBufferResidentNV(int arg0, int arg1) {
+        calls++;
+        downstream.glMakeNamedBufferResidentNV(arg0, arg1);
+    }
+
+    @Override
+    public ByteBuffer glMapBufferRange(int arg0, long arg1, long arg2, int arg3) {
+        calls++;
+        return downstream.glMapBufferRange(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public ByteBuffer glMapBuffer(int arg0, int arg1) {
+        calls++;
+        return downstream.glMapBuffer(arg0, arg1);
+    }
+
+    @Override
+    public void glMemoryBarrierByRegion(int arg0) {
+        calls++;
+        downstream.glMemoryBarrierByRegion(arg0);
+    }
+
+    @Override
+    public void glMemoryBarrier(int arg0) {
+        calls++;
+        downstream.glMemoryBarrier(arg0);
+    }
+
+    @Override
+    public void glMinSampleShading(float arg0) {
+        calls++;
+        downstream.glMinSampleShading(arg0);
+    }
+
+    @Override
+    public void glMultiDrawArraysIndirectAMD(int arg0, Buffer arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glMultiDrawArraysIndirectAMD(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glMultiDrawArraysIndirect(int arg0, long arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glMultiDrawArraysIndirect(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glMultiDrawArrays(int arg0, int[] arg1, int arg2, int[] arg3, int arg4, int arg5) {
+        calls++;
+        downstream.glMultiDrawArrays(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glMultiDrawArrays(int arg0, IntBuffer arg1, IntBuffer arg2, int arg3) {
+        calls++;
+        downstream.glMultiDrawArrays(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glMultiDrawElementsBaseVertex(int arg0, IntBuffer arg1, int arg2, PointerBuffer arg3, int arg4, IntBuffer arg5) {
+        calls++;
+        downstream.glMultiDrawElementsBaseVertex(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glMultiDrawElementsIndirectAMD(int arg0, int arg1, Buffer arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glMultiDrawElementsIndirectAMD(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glMultiDrawElementsIndirect(int arg0, int arg1, Buffer arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glMultiDrawElementsIndirect(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glMultiDrawElements(int arg0, IntBuffer arg1, int arg2, PointerBuffer arg3, int arg4) {
+        calls++;
+        downstream.glMultiDrawElements(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glNamedBufferPageCommitmentARB(int arg0, long arg1, long arg2, boolean arg3) {
+        calls++;
+        downstream.glNamedBufferPageCommitmentARB(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glNamedBufferPageCommitmentEXT(int arg0, long arg1, long arg2, boolean arg3) {
+        calls++;
+        downstream.glNamedBufferPageCommitmentEXT(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glNamedStringARB(int arg0, int arg1, String arg2, int arg3, String arg4) {
+        calls++;
+        downstream.glNamedStringARB(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glNormalFormatNV(int arg0, int arg1) {
+        calls++;
+        downstream.glNormalFormatNV(arg0, arg1);
+    }
+
+    @Override
+    public void glObjectLabel(int arg0, int arg1, int arg2, byte[] arg3, int arg4) {
+        calls++;
+        downstream.glObjectLabel(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glObjectLabel(int arg0, int arg1, int arg2, ByteBuffer arg3) {
+        calls++;
+        downstream.glObjectLabel(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glObjectPtrLabel(Buffer arg0, int arg1, byte[] arg2, int arg3) {
+        calls++;
+        downstream.glObjectPtrLabel(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glObjectPtrLabel(Buffer arg0, int arg1, ByteBuffer arg2) {
+        calls++;
+        downstream.glObjectPtrLabel(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glPatchParameterfv(int arg0, float[] arg1, int arg2) {
+        calls++;
+        downstream.glPatchParameterfv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glPatchParameterfv(int arg0, FloatBuffer arg1) {
+        calls++;
+        downstream.glPatchParameterfv(arg0, arg1);
+    }
+
+    @Override
+    public void glPatchParameteri(int arg0, int arg1) {
+        calls++;
+        downstream.glPatchParameteri(arg0, arg1);
+    }
+
+    @Override
+    public void glPauseTransformFeedback() {
+        calls++;
+        downstream.glPauseTransformFeedback();
+    }
+
+    @Override
+    public void glPixelStoref(int arg0, float arg1) {
+        calls++;
+        downstream.glPixelStoref(arg0, arg1);
+    }
+
+    @Override
+    public void glPixelStorei(int arg0, int arg1) {
+        calls++;
+        downstream.glPixelStorei(arg0, arg1);
+    }
+
+    @Override
+    public void glPointParameterf(int arg0, float arg1) {
+        calls++;
+        downstream.glPointParameterf(arg0, arg1);
+    }
+
+    @Override
+    public void glPointParameterfv(int arg0, float[] arg1, int arg2) {
+        calls++;
+        downstream.glPointParameterfv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glPointParameterfv(int arg0, FloatBuffer arg1) {
+        calls++;
+        downstream.glPointParameterfv(arg0, arg1);
+    }
+
+    @Override
+    public void glPointParameteri(int arg0, int arg1) {
+        calls++;
+        downstream.glPointParameteri(arg0, arg1);
+    }
+
+    @Override
+    public void glPointParameteriv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glPointParameteriv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glPointParameteriv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glPointParameteriv(arg0, arg1);
+    }
+
+    @Override
+    public void glPointSize(float arg0) {
+        calls++;
+        downstream.glPointSize(arg0);
+    }
+
+    @Override
+    public void glPolygonMode(int arg0, int arg1) {
+        calls++;
+        downstream.glPolygonMode(arg0, arg1);
+    }
+
+    @Override
+    public void glPolygonOffset(float arg0, float arg1) {
+        calls++;
+        downstream.glPolygonOffset(arg0, arg1);
+    }
+
+    @Override
+    public void glPopDebugGroup() {
+        calls++;
+        downstream.glPopDebugGroup();
+    }
+
+    @Override
+    public void glPrimitiveBoundingBox(float arg0, float arg1, float arg2, float arg3, float arg4, float arg5, float arg6, float arg7) {
+        calls++;
+        downstream.glPrimitiveBoundingBox(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glPrimitiveRestartIndex(int arg0) {
+        calls++;
+        downstream.glPrimitiveRestartIndex(arg0);
+    }
+
+    @Override
+    public void glProgramBinary(int arg0, int arg1, Buffer arg2, int arg3) {
+        calls++;
+        downstream.glProgramBinary(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramParameteriARB(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glProgramParameteriARB(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glProgramParameteri(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glProgramParameteri(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glProgramUniform1d(int arg0, int arg1, double arg2) {
+        calls++;
+        downstream.glProgramUniform1d(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glProgramUniform1dv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform1dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform1dv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform1dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform1f(int arg0, int arg1, float arg2) {
+        calls++;
+        downstream.glProgramUniform1f(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glProgramUniform1fv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform1fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform1fv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform1fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform1i(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glProgramUniform1i(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glProgramUniform1iv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform1iv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform1iv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform1iv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform1ui(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glProgramUniform1ui(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glProgramUniform1uiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform1uiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform1uiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform1uiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform2d(int arg0, int arg1, double arg2, double arg3) {
+        calls++;
+        downstream.glProgramUniform2d(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform2dv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform2dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform2dv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform2dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform2f(int arg0, int arg1, float arg2, float arg3) {
+        calls++;
+        downstream.glProgramUniform2f(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform2fv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform2fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform2fv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform2fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform2i(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glProgramUniform2i(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform2iv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform2iv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform2iv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform2iv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform2ui(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glProgramUniform2ui(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform2uiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform2uiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform2uiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform2uiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform3d(int arg0, int arg1, double arg2, double arg3, double arg4) {
+        calls++;
+        downstream.glProgramUniform3d(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform3dv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform3dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform3dv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform3dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform3f(int arg0, int arg1, float arg2, float arg3, float arg4) {
+        calls++;
+        downstream.glProgramUniform3f(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform3fv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform3fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform3fv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform3fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform3i(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform3i(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform3iv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform3iv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform3iv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform3iv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform3ui(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform3ui(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform3uiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform3uiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform3uiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform3uiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform4d(int arg0, int arg1, double arg2, double arg3, double arg4, double arg5) {
+        calls++;
+        downstream.glProgramUniform4d(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniform4dv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform4dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform4dv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform4dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform4f(int arg0, int arg1, float arg2, float arg3, float arg4, float arg5) {
+        calls++;
+        downstream.glProgramUniform4f(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniform4fv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform4fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform4fv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform4fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform4i(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniform4i(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniform4iv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform4iv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform4iv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform4iv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniform4ui(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniform4ui(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniform4uiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniform4uiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniform4uiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glProgramUniform4uiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProgramUniformMatrix2dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix2dv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix2dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix2dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix2fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix2fv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix2fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix2fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x3dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix2x3dv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x3dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix2x3dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x3fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix2x3fv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x3fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix2x3fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x4dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix2x4dv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x4dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix2x4dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x4fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix2x4fv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x4fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix2x4fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix3dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix3dv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix3dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix3dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix3fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix3fv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix3fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix3fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x2dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix3x2dv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x2dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix3x2dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x2fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix3x2fv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x2fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix3x2fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x4dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix3x4dv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x4dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix3x4dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x4fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix3x4fv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x4fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix3x4fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix4dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix4dv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix4dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix4dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix4fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix4fv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix4fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix4fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x2dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix4x2dv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x2dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix4x2dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x2fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix4x2fv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x2fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix4x2fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x3dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix4x3dv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x3dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix4x3dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x3fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        calls++;
+        downstream.glProgramUniformMatrix4x3fv(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x3fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        calls++;
+        downstream.glProgramUniformMatrix4x3fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformui64NV(int arg0, int arg1, long arg2) {
+        calls++;
+        downstream.glProgramUniformui64NV(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glProgramUniformui64vNV(int arg0, int arg1, int arg2, long[] arg3, int arg4) {
+        calls++;
+        downstream.glProgramUniformui64vNV(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glProgramUniformui64vNV(int arg0, int arg1, int arg2, LongBuffer arg3) {
+        calls++;
+        downstream.glProgramUniformui64vNV(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glProvokingVertex(int arg0) {
+        calls++;
+        downstream.glProvokingVertex(arg0);
+    }
+
+    @Override
+    public void glPushDebugGroup(int arg0, int arg1, int arg2, byte[] arg3, int arg4) {
+        calls++;
+        downstream.glPushDebugGroup(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glPushDebugGroup(int arg0, int arg1, int arg2, ByteBuffer arg3) {
+        calls++;
+        downstream.glPushDebugGroup(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glQueryCounter(int arg0, int arg1) {
+        calls++;
+        downstream.glQueryCounter(arg0, arg1);
+    }
+
+    @Override
+    public void glReadBuffer(int arg0) {
+        calls++;
+        downstream.glReadBuffer(arg0);
+    }
+
+    @Override
+    public void glReadPixels(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        calls++;
+        downstream.glReadPixels(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glReadPixels(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, long arg6) {
+        calls++;
+        downstream.glReadPixels(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glReadnPixels(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, Buffer arg7) {
+        calls++;
+        downstream.glReadnPixels(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glReleaseShaderCompiler() {
+        calls++;
+        downstream.glReleaseShaderCompiler();
+    }
+
+    @Override
+    public void glRenderbufferStorageMultisample(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glRenderbufferStorageMultisample(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glRenderbufferStorage(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glRenderbufferStorage(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glResumeTransformFeedback() {
+        calls++;
+        downstream.glResumeTransformFeedback();
+    }
+
+    @Override
+    public void glSampleCoverage(float arg0, boolean arg1) {
+        calls++;
+        downstream.glSampleCoverage(arg0, arg1);
+    }
+
+    @Override
+    public void glSampleMaski(int arg0, int arg1) {
+        calls++;
+        downstream.glSampleMaski(arg0, arg1);
+    }
+
+    @Override
+    public void glSamplerParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glSamplerParameterIiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glSamplerParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glSamplerParameterIiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glSamplerParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glSamplerParameterIuiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glSamplerParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glSamplerParameterIuiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glSamplerParameterf(int arg0, int arg1, float arg2) {
+        calls++;
+        downstream.glSamplerParameterf(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glSamplerParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glSamplerParameterfv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glSamplerParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glSamplerParameterfv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glSamplerParameteri(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glSamplerParameteri(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glSamplerParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glSamplerParameteriv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glSamplerParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glSamplerParameteriv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glScissorArrayv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glScissorArrayv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glScissorArrayv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glScissorArrayv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glScissorIndexed(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glScissorIndexed(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glScissorIndexedv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glScissorIndexedv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glScissorIndexedv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glScissorIndexedv(arg0, arg1);
+    }
+
+    @Override
+    public void glScissor(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glScissor(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glSecondaryColorFormatNV(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glSecondaryColorFormatNV(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glSetMultisamplefvAMD(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glSetMultisamplefvAMD(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glSetMultisamplefvAMD(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glSetMultisamplefvAMD(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glShaderBinary(int arg0, int[] arg1, int arg2, int arg3, Buffer arg4, int arg5) {
+        calls++;
+        downstream.glShaderBinary(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glShaderBinary(int arg0, IntBuffer arg1, int arg2, Buffer arg3, int arg4) {
+        calls++;
+        downstream.glShaderBinary(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glShaderSource(int arg0, int arg1, String[] arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glShaderSource(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glShaderSource(int arg0, int arg1, String[] arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glShaderSource(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glStencilFuncSeparate(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glStencilFuncSeparate(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glStencilFunc(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glStencilFunc(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glStencilMaskSeparate(int arg0, int arg1) {
+        calls++;
+        downstream.glStencilMaskSeparate(arg0, arg1);
+    }
+
+    @Override
+    public void glStencilMask(int arg0) {
+        calls++;
+        downstream.glStencilMask(arg0);
+    }
+
+    @Override
+    public void glStencilOpSeparate(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glStencilOpSeparate(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glStencilOpValueAMD(int arg0, int arg1) {
+        calls++;
+        downstream.glStencilOpValueAMD(arg0, arg1);
+    }
+
+    @Override
+    public void glStencilOp(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glStencilOp(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glTessellationFactorAMD(float arg0) {
+        calls++;
+        downstream.glTessellationFactorAMD(arg0);
+    }
+
+    @Override
+    public void glTessellationModeAMD(int arg0) {
+        calls++;
+        downstream.glTessellationModeAMD(arg0);
+    }
+
+    @Override
+    public void glTexBufferRange(int arg0, int arg1, int arg2, long arg3, long arg4) {
+        calls++;
+        downstream.glTexBufferRange(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glTexBuffer(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glTexBuffer(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glTexCoordFormatNV(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glTexCoordFormatNV(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, Buffer arg7) {
+        calls++;
+        downstream.glTexImage1D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, long arg7) {
+        calls++;
+        downstream.glTexImage1D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glTexImage2DMultisampleCoverageNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, boolean arg6) {
+        calls++;
+        downstream.glTexImage2DMultisampleCoverageNV(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glTexImage2DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, boolean arg5) {
+        calls++;
+        downstream.glTexImage2DMultisample(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        calls++;
+        downstream.glTexImage2D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+    }
+
+    @Override
+    public void glTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, long arg8) {
+        calls++;
+        downstream.glTexImage2D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+    }
+
+    @Override
+    public void glTexImage3DMultisampleCoverageNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, boolean arg7) {
+        calls++;
+        downstream.glTexImage3DMultisampleCoverageNV(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glTexImage3DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, boolean arg6) {
+        calls++;
+        downstream.glTexImage3DMultisample(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glTexImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, Buffer arg9) {
+        calls++;
+        downstream.glTexImage3D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9);
+    }
+
+    @Override
+    public void glTexImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, long arg9) {
+        calls++;
+        downstream.glTexImage3D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9);
+    }
+
+    @Override
+    public void glTexPageCommitmentARB(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, boolean arg8) {
+        calls++;
+        downstream.glTexPageCommitmentARB(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+    }
+
+    @Override
+    public void glTexParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glTexParameterIiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glTexParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glTexParameterIiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glTexParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glTexParameterIuiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glTexParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glTexParameterIuiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glTexParameterf(int arg0, int arg1, float arg2) {
+        calls++;
+        downstream.glTexParameterf(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glTexParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glTexParameterfv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glTexParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glTexParameterfv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glTexParameteri(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glTexParameteri(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glTexParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glTexParameteriv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glTexParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glTexParameteriv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glTexStorage1D(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glTexStorage1D(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glTexStorage2DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, boolean arg5) {
+        calls++;
+        downstream.glTexStorage2DMultisample(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glTexStorage2D(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glTexStorage2D(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glTexStorage3DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, boolean arg6) {
+        calls++;
+        downstream.glTexStorage3DMultisample(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glTexStorage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        calls++;
+        downstream.glTexStorage3D(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        calls++;
+        downstream.glTexSubImage1D(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, long arg6) {
+        calls++;
+        downstream.glTexSubImage1D(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        calls++;
+        downstream.glTexSubImage2D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+    }
+
+    @Override
+    public void glTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, long arg8) {
+        calls++;
+        downstream.glTexSubImage2D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+    }
+
+    @Override
+    public void glTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, Buffer arg10) {
+        calls++;
+        downstream.glTexSubImage3D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10);
+    }
+
+    @Override
+    public void glTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, long arg10) {
+        calls++;
+        downstream.glTexSubImage3D(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8, arg9, arg10);
+    }
+
+    @Override
+    public void glTextureImage2DMultisampleCoverageNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, boolean arg7) {
+        calls++;
+        downstream.glTextureImage2DMultisampleCoverageNV(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glTextureImage2DMultisampleNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, boolean arg6) {
+        calls++;
+        downstream.glTextureImage2DMultisampleNV(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glTextureImage3DMultisampleCoverageNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, boolean arg8) {
+        calls++;
+        downstream.glTextureImage3DMultisampleCoverageNV(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7, arg8);
+    }
+
+    @Override
+    public void glTextureImage3DMultisampleNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, boolean arg7) {
+        calls++;
+        downstream.glTextureImage3DMultisampleNV(arg0, arg1, arg2, arg3, arg4, arg5, arg6, arg7);
+    }
+
+    @Override
+    public void glTextureStorage1DEXT(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glTextureStorage1DEXT(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glTextureStorage2DEXT(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        calls++;
+        downstream.glTextureStorage2DEXT(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glTextureStorage3DEXT(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6) {
+        calls++;
+        downstream.glTextureStorage3DEXT(arg0, arg1, arg2, arg3, arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glTransformFeedbackVaryings(int arg0, int arg1, String[] arg2, int arg3) {
+        calls++;
+        downstream.glTransformFeedbackVaryings(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform1d(int arg0, double arg1) {
+        calls++;
+        downstream.glUniform1d(arg0, arg1);
+    }
+
+    @Override
+    public void glUniform1dv(int arg0, int arg1, double[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform1dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform1dv(int arg0, int arg1, DoubleBuffer arg2) {
+        calls++;
+        downstream.glUniform1dv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform1f(int arg0, float arg1) {
+        calls++;
+        downstream.glUniform1f(arg0, arg1);
+    }
+
+    @Override
+    public void glUniform1fv(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform1fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform1fv(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glUniform1fv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform1i(int arg0, int arg1) {
+        calls++;
+        downstream.glUniform1i(arg0, arg1);
+    }
+
+    @Override
+    public void glUniform1iv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform1iv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform1iv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glUniform1iv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform1ui(int arg0, int arg1) {
+        calls++;
+        downstream.glUniform1ui(arg0, arg1);
+    }
+
+    @Override
+    public void glUniform1uiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform1uiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform1uiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glUniform1uiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform2d(int arg0, double arg1, double arg2) {
+        calls++;
+        downstream.glUniform2d(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform2dv(int arg0, int arg1, double[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform2dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform2dv(int arg0, int arg1, DoubleBuffer arg2) {
+        calls++;
+        downstream.glUniform2dv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform2f(int arg0, float arg1, float arg2) {
+        calls++;
+        downstream.glUniform2f(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform2fv(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform2fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform2fv(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glUniform2fv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform2i(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glUniform2i(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform2iv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform2iv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform2iv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glUniform2iv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform2ui(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glUniform2ui(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform2uiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform2uiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform2uiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glUniform2uiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform3d(int arg0, double arg1, double arg2, double arg3) {
+        calls++;
+        downstream.glUniform3d(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform3dv(int arg0, int arg1, double[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform3dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform3dv(int arg0, int arg1, DoubleBuffer arg2) {
+        calls++;
+        downstream.glUniform3dv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform3f(int arg0, float arg1, float arg2, float arg3) {
+        calls++;
+        downstream.glUniform3f(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform3fv(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform3fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform3fv(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glUniform3fv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform3i(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glUniform3i(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform3iv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform3iv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform3iv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glUniform3iv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform3ui(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glUniform3ui(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform3uiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform3uiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform3uiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glUniform3uiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform4d(int arg0, double arg1, double arg2, double arg3, double arg4) {
+        calls++;
+        downstream.glUniform4d(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniform4dv(int arg0, int arg1, double[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform4dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform4dv(int arg0, int arg1, DoubleBuffer arg2) {
+        calls++;
+        downstream.glUniform4dv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform4f(int arg0, float arg1, float arg2, float arg3, float arg4) {
+        calls++;
+        downstream.glUniform4f(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniform4fv(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform4fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform4fv(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glUniform4fv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform4i(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glUniform4i(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniform4iv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform4iv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform4iv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glUniform4iv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform4ui(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glUniform4ui(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniform4uiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glUniform4uiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniform4uiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glUniform4uiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniformBlockBinding(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glUniformBlockBinding(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniformMatrix2dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix2dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix2dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix2dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix2fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix2fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix2fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix2fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix2x3dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix2x3dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix2x3dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix2x3dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix2x3fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix2x3fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix2x3fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix2x3fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix2x4dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix2x4dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix2x4dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix2x4dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix2x4fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix2x4fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix2x4fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix2x4fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix3dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix3dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix3dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix3dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix3fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix3fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix3fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix3fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix3x2dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix3x2dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix3x2dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix3x2dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix3x2fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix3x2fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix3x2fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix3x2fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix3x4dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix3x4dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix3x4dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix3x4dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix3x4fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix3x4fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix3x4fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix3x4fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix4dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix4dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix4dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix4dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix4fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix4fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix4fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix4fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix4x2dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix4x2dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix4x2dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix4x2dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix4x2fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix4x2fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix4x2fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix4x2fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix4x3dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix4x3dv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix4x3dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix4x3dv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformMatrix4x3fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        calls++;
+        downstream.glUniformMatrix4x3fv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glUniformMatrix4x3fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        calls++;
+        downstream.glUniformMatrix4x3fv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformSubroutinesuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        calls++;
+        downstream.glUniformSubroutinesuiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformSubroutinesuiv(int arg0, int arg1, IntBuffer arg2) {
+        calls++;
+        downstream.glUniformSubroutinesuiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUniform(GLUniformData arg0) {
+        calls++;
+        downstream.glUniform(arg0);
+    }
+
+    @Override
+    public void glUniformui64NV(int arg0, long arg1) {
+        calls++;
+        downstream.glUniformui64NV(arg0, arg1);
+    }
+
+    @Override
+    public void glUniformui64vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        calls++;
+        downstream.glUniformui64vNV(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glUniformui64vNV(int arg0, int arg1, LongBuffer arg2) {
+        calls++;
+        downstream.glUniformui64vNV(arg0, arg1, arg2);
+    }
+
+    @Override
+    public boolean glUnmapBuffer(int arg0) {
+        calls++;
+        return downstream.glUnmapBuffer(arg0);
+    }
+
+    @Override
+    public void glUseProgramStages(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glUseProgramStages(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glUseProgram(int arg0) {
+        calls++;
+        downstream.glUseProgram(arg0);
+    }
+
+    @Override
+    public void glValidateProgramPipeline(int arg0) {
+        calls++;
+        downstream.glValidateProgramPipeline(arg0);
+    }
+
+    @Override
+    public void glValidateProgram(int arg0) {
+        calls++;
+        downstream.glValidateProgram(arg0);
+    }
+
+    @Override
+    public void glVertexAttrib1d(int arg0, double arg1) {
+        calls++;
+        downstream.glVertexAttrib1d(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib1dv(int arg0, double[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib1dv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib1dv(int arg0, DoubleBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib1dv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib1f(int arg0, float arg1) {
+        calls++;
+        downstream.glVertexAttrib1f(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib1fv(int arg0, float[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib1fv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib1fv(int arg0, FloatBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib1fv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib1s(int arg0, short arg1) {
+        calls++;
+        downstream.glVertexAttrib1s(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib1sv(int arg0, short[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib1sv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib1sv(int arg0, ShortBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib1sv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib2d(int arg0, double arg1, double arg2) {
+        calls++;
+        downstream.glVertexAttrib2d(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib2dv(int arg0, double[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib2dv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib2dv(int arg0, DoubleBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib2dv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib2f(int arg0, float arg1, float arg2) {
+        calls++;
+        downstream.glVertexAttrib2f(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib2fv(int arg0, float[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib2fv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib2fv(int arg0, FloatBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib2fv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib2s(int arg0, short arg1, short arg2) {
+        calls++;
+        downstream.glVertexAttrib2s(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib2sv(int arg0, short[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib2sv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib2sv(int arg0, ShortBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib2sv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib3d(int arg0, double arg1, double arg2, double arg3) {
+        calls++;
+        downstream.glVertexAttrib3d(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttrib3dv(int arg0, double[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib3dv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib3dv(int arg0, DoubleBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib3dv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib3f(int arg0, float arg1, float arg2, float arg3) {
+        calls++;
+        downstream.glVertexAttrib3f(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttrib3fv(int arg0, float[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib3fv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib3fv(int arg0, FloatBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib3fv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib3s(int arg0, short arg1, short arg2, short arg3) {
+        calls++;
+        downstream.glVertexAttrib3s(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttrib3sv(int arg0, short[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib3sv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib3sv(int arg0, ShortBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib3sv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4Nbv(int arg0, byte[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4Nbv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4Nbv(int arg0, ByteBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4Nbv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4Niv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4Niv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4Niv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4Niv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4Nsv(int arg0, short[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4Nsv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4Nsv(int arg0, ShortBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4Nsv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4Nub(int arg0, byte arg1, byte arg2, byte arg3, byte arg4) {
+        calls++;
+        downstream.glVertexAttrib4Nub(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttrib4Nubv(int arg0, byte[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4Nubv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4Nubv(int arg0, ByteBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4Nubv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4Nuiv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4Nuiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4Nuiv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4Nuiv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4Nusv(int arg0, short[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4Nusv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4Nusv(int arg0, ShortBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4Nusv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4bv(int arg0, byte[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4bv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4bv(int arg0, ByteBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4bv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4d(int arg0, double arg1, double arg2, double arg3, double arg4) {
+        calls++;
+        downstream.glVertexAttrib4d(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttrib4dv(int arg0, double[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4dv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4dv(int arg0, DoubleBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4dv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4f(int arg0, float arg1, float arg2, float arg3, float arg4) {
+        calls++;
+        downstream.glVertexAttrib4f(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttrib4fv(int arg0, float[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4fv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4fv(int arg0, FloatBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4fv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4iv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4iv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4iv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4iv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4s(int arg0, short arg1, short arg2, short arg3, short arg4) {
+        calls++;
+        downstream.glVertexAttrib4s(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttrib4sv(int arg0, short[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4sv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4sv(int arg0, ShortBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4sv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4ubv(int arg0, byte[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4ubv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4ubv(int arg0, ByteBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4ubv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4uiv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4uiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4uiv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4uiv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttrib4usv(int arg0, short[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttrib4usv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttrib4usv(int arg0, ShortBuffer arg1) {
+        calls++;
+        downstream.glVertexAttrib4usv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribBinding(int arg0, int arg1) {
+        calls++;
+        downstream.glVertexAttribBinding(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribDivisor(int arg0, int arg1) {
+        calls++;
+        downstream.glVertexAttribDivisor(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribFormatNV(int arg0, int arg1, int arg2, boolean arg3, int arg4) {
+        calls++;
+        downstream.glVertexAttribFormatNV(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttribFormat(int arg0, int arg1, int arg2, boolean arg3, int arg4) {
+        calls++;
+        downstream.glVertexAttribFormat(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttribI1i(int arg0, int arg1) {
+        calls++;
+        downstream.glVertexAttribI1i(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribI1iv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI1iv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI1iv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribI1iv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribI1ui(int arg0, int arg1) {
+        calls++;
+        downstream.glVertexAttribI1ui(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribI1uiv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI1uiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI1uiv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribI1uiv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribI2i(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI2i(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI2iv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI2iv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI2iv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribI2iv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribI2ui(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI2ui(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI2uiv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI2uiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI2uiv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribI2uiv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribI3i(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glVertexAttribI3i(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttribI3iv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI3iv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI3iv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribI3iv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribI3ui(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glVertexAttribI3ui(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttribI3uiv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI3uiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI3uiv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribI3uiv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribI4bv(int arg0, byte[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI4bv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI4bv(int arg0, ByteBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribI4bv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribI4i(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glVertexAttribI4i(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttribI4iv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI4iv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI4iv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribI4iv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribI4sv(int arg0, short[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI4sv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI4sv(int arg0, ShortBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribI4sv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribI4ubv(int arg0, byte[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI4ubv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI4ubv(int arg0, ByteBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribI4ubv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribI4ui(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        calls++;
+        downstream.glVertexAttribI4ui(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttribI4uiv(int arg0, int[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI4uiv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI4uiv(int arg0, IntBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribI4uiv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribI4usv(int arg0, short[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribI4usv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribI4usv(int arg0, ShortBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribI4usv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribIFormatNV(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glVertexAttribIFormatNV(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttribIFormat(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glVertexAttribIFormat(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttribIPointer(int arg0, int arg1, int arg2, int arg3, long arg4) {
+        calls++;
+        downstream.glVertexAttribIPointer(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttribL1d(int arg0, double arg1) {
+        calls++;
+        downstream.glVertexAttribL1d(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribL1dv(int arg0, double[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribL1dv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribL1dv(int arg0, DoubleBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribL1dv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribL2d(int arg0, double arg1, double arg2) {
+        calls++;
+        downstream.glVertexAttribL2d(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribL2dv(int arg0, double[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribL2dv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribL2dv(int arg0, DoubleBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribL2dv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribL3d(int arg0, double arg1, double arg2, double arg3) {
+        calls++;
+        downstream.glVertexAttribL3d(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttribL3dv(int arg0, double[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribL3dv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribL3dv(int arg0, DoubleBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribL3dv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribL4d(int arg0, double arg1, double arg2, double arg3, double arg4) {
+        calls++;
+        downstream.glVertexAttribL4d(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttribL4dv(int arg0, double[] arg1, int arg2) {
+        calls++;
+        downstream.glVertexAttribL4dv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glVertexAttribL4dv(int arg0, DoubleBuffer arg1) {
+        calls++;
+        downstream.glVertexAttribL4dv(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexAttribLPointer(int arg0, int arg1, int arg2, int arg3, long arg4) {
+        calls++;
+        downstream.glVertexAttribLPointer(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttribP1ui(int arg0, int arg1, boolean arg2, int arg3) {
+        calls++;
+        downstream.glVertexAttribP1ui(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttribP1uiv(int arg0, int arg1, boolean arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glVertexAttribP1uiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttribP1uiv(int arg0, int arg1, boolean arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glVertexAttribP1uiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttribP2ui(int arg0, int arg1, boolean arg2, int arg3) {
+        calls++;
+        downstream.glVertexAttribP2ui(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttribP2uiv(int arg0, int arg1, boolean arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glVertexAttribP2uiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttribP2uiv(int arg0, int arg1, boolean arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glVertexAttribP2uiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttribP3ui(int arg0, int arg1, boolean arg2, int arg3) {
+        calls++;
+        downstream.glVertexAttribP3ui(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttribP3uiv(int arg0, int arg1, boolean arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glVertexAttribP3uiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttribP3uiv(int arg0, int arg1, boolean arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glVertexAttribP3uiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttribP4ui(int arg0, int arg1, boolean arg2, int arg3) {
+        calls++;
+        downstream.glVertexAttribP4ui(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttribP4uiv(int arg0, int arg1, boolean arg2, int[] arg3, int arg4) {
+        calls++;
+        downstream.glVertexAttribP4uiv(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glVertexAttribP4uiv(int arg0, int arg1, boolean arg2, IntBuffer arg3) {
+        calls++;
+        downstream.glVertexAttribP4uiv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glVertexAttribPointer(int arg0, int arg1, int arg2, boolean arg3, int arg4, long arg5) {
+        calls++;
+        downstream.glVertexAttribPointer(arg0, arg1, arg2, arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glVertexAttribPointer(GLArrayData arg0) {
+        calls++;
+        downstream.glVertexAttribPointer(arg0);
+    }
+
+    @Override
+    public void glVertexBindingDivisor(int arg0, int arg1) {
+        calls++;
+        downstream.glVertexBindingDivisor(arg0, arg1);
+    }
+
+    @Override
+    public void glVertexFormatNV(int arg0, int arg1, int arg2) {
+        calls++;
+        downstream.glVertexFormatNV(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glViewportArrayv(int arg0, int arg1, float[] arg2, int arg3) {
+        calls++;
+        downstream.glViewportArrayv(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glViewportArrayv(int arg0, int arg1, FloatBuffer arg2) {
+        calls++;
+        downstream.glViewportArrayv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glViewportIndexedf(int arg0, float arg1, float arg2, float arg3, float arg4) {
+        calls++;
+        downstream.glViewportIndexedf(arg0, arg1, arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glViewportIndexedfv(int arg0, float[] arg1, int arg2) {
+        calls++;
+        downstream.glViewportIndexedfv(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glViewportIndexedfv(int arg0, FloatBuffer arg1) {
+        calls++;
+        downstream.glViewportIndexedfv(arg0, arg1);
+    }
+
+    @Override
+    public void glViewport(int arg0, int arg1, int arg2, int arg3) {
+        calls++;
+        downstream.glViewport(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glWaitSync(long arg0, int arg1, long arg2) {
+        calls++;
+        downstream.glWaitSync(arg0, arg1, arg2);
+    }
+
+    @Override
+    public boolean hasBasicFBOSupport() {
+        return downstream.hasBasicFBOSupport();
+    }
+
+    @Override
+    public boolean hasFullFBOSupport() {
+        return downstream.hasFullFBOSupport();
+    }
+
+    @Override
+    public boolean hasGLSL() {
+        return downstream.hasGLSL();
+    }
+
+    @Override
+    public boolean isExtensionAvailable(String arg0) {
+        return downstream.isExtensionAvailable(arg0);
+    }
+
+    @Override
+    public boolean isFunctionAvailable(String arg0) {
+        return downstream.isFunctionAvailable(arg0);
+    }
+
+    @Override
+    public boolean isGL2ES1() {
+        return downstream.isGL2ES1();
+    }
+
+    @Override
+    public boolean isGL2ES2() {
+        return downstream.isGL2ES2();
+    }
+
+    @Override
+    public boolean isGL2ES3() {
+        return downstream.isGL2ES3();
+    }
+
+    @Override
+    public boolean isGL2GL3() {
+        return downstream.isGL2GL3();
+    }
+
+    @Override
+    public boolean isGL2() {
+        return downstream.isGL2();
+    }
+
+    @Override
+    public boolean isGL3ES3() {
+        return downstream.isGL3ES3();
+    }
+
+    @Override
+    public boolean isGL3() {
+        return downstream.isGL3();
+    }
+
+    @Override
+    public boolean isGL3bc() {
+        return downstream.isGL3bc();
+    }
+
+    @Override
+    public boolean isGL3core() {
+        return downstream.isGL3core();
+    }
+
+    @Override
+    public boolean isGL4ES3() {
+        return downstream.isGL4ES3();
+    }
+
+    @Override
+    public boolean isGL4() {
+        return downstream.isGL4();
+    }
+
+    @Override
+    public boolean isGL4bc() {
+        return downstream.isGL4bc();
+    }
+
+    @Override
+    public boolean isGL4core() {
+        return downstream.isGL4core();
+    }
+
+    @Override
+    public boolean isGLES1() {
+        return downstream.isGLES1();
+    }
+
+    @Override
+    public boolean isGLES2Compatible() {
+        return downstream.isGLES2Compatible();
+    }
+
+    @Override
+    public boolean isGLES2() {
+        return downstream.isGLES2();
+    }
+
+    @Override
+    public boolean isGLES31Compatible() {
+        return downstream.isGLES31Compatible();
+    }
+
+    @Override
+    public boolean isGLES32Compatible() {
+        return downstream.isGLES32Compatible();
+    }
+
+    @Override
+    public boolean isGLES3Compatible() {
+        return downstream.isGLES3Compatible();
+    }
+
+    @Override
+    public boolean isGLES3() {
+        return downstream.isGLES3();
+    }
+
+    @Override
+    public boolean isGLES() {
+        return downstream.isGLES();
+    }
+
+    @Override
+    public boolean isGL() {
+        return downstream.isGL();
+    }
+
+    @Override
+    public boolean isGLcore() {
+        return downstream.isGLcore();
+    }
+
+    @Override
+    public boolean isNPOTTextureAvailable() {
+        return downstream.isNPOTTextureAvailable();
+    }
+
+    @Override
+    public boolean isPBOPackBound() {
+        return downstream.isPBOPackBound();
+    }
+
+    @Override
+    public boolean isPBOUnpackBound() {
+        return downstream.isPBOUnpackBound();
+    }
+
+    @Override
+    public boolean isTextureFormatBGRA8888Available() {
+        return downstream.isTextureFormatBGRA8888Available();
+    }
+
+    @Override
+    public boolean isVBOArrayBound() {
+        return downstream.isVBOArrayBound();
+    }
+
+    @Override
+    public boolean isVBOElementArrayBound() {
+        return downstream.isVBOElementArrayBound();
+    }
+
+    @Override
+    public GLBufferStorage mapBufferRange(int arg0, long arg1, long arg2, int arg3) {
+        return downstream.mapBufferRange(arg0, arg1, arg2, arg3);
+    }
+
+    @Override
+    public GLBufferStorage mapBuffer(int arg0, int arg1) {
+        return downstream.mapBuffer(arg0, arg1);
+    }
+
+    @Override
+    public void setSwapInterval(int arg0) {
+        downstream.setSwapInterval(arg0);
+    }
+}
@@ -0,0 +1,282 @@
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL3;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Captures frames without stalling the render loop. glReadPixels copies the
+ * framebuffer into one of RING_SIZE pixel buffer objects and a fence marks the
+ * end of the copy. The buffer of frame N is mapped LATENCY frames later, when
+ * the GPU has finished the copy, its content is copied into a host buffer and
+ * encoded (PNG or raw) and written to disk by a pool of worker threads.
+ *
+ * If all host buffers are still in use by the workers, the frame is dropped
+ * (counted by getDroppedFrames()) instead of waiting for them. The render
+ * thread only waits for a fence if a frame is captured while the GPU is more
+ * than RING_SIZE frames behind.
+ *
+ * Pixels are read as BGRA, the format of most framebuffers, so the driver does
+ * not need to convert them. PNG files are written by PngWriter, raw files
+ * contain the rows from bottom to top (OpenGL order) without a header, the
+ * size is part of the file name.
+ */
+public class FrameCapture {
+
+    public enum Format {
+        PNG("png"), RAW("bgra");
+
+        private final String extension;
+
+        Format(String extension) {
+            this.extension = extension;
+        }
+    }
+
+    /** Number of frames between reading the framebuffer and mapping the pixel buffer */
+    public static final int LATENCY = 2;
+    /** Number of pixel buffer objects */
+    public static final int RING_SIZE = LATENCY + 1;
+
+    // Upper limit of waiting for a fence in nanoseconds
+    private static final long FENCE_TIMEOUT = 1000000000L;
+
+    private final File directory;
+    private final Format format;
+    private final ExecutorService encoders;
+    private final BlockingQueue<ByteBuffer> freeBuffers;
+    private final int bufferCount;
+
+    // Per ring slot: pixel buffer object, fence, file name and frame of the glReadPixels call
+    private final int[] pixelBuffers = new int[RING_SIZE];
+    private final long[] fences = new long[RING_SIZE];
+    private final String[] fileNames = new String[RING_SIZE];
+    private final long[] readFrames = new long[RING_SIZE];
+    private int nextSlot;
+    private int width;
+    private int height;
+    private volatile int bufferBytes;
+    private long frame;
+    private int frameIndex;
+
+    private final AtomicLong writtenFrames = new AtomicLong();
+    private final AtomicLong droppedFrames = new AtomicLong();
+    private final AtomicInteger failedWrites = new AtomicInteger();
+    // PNG writer of every encoder thread
+    private final ThreadLocal<PngWriter> pngWriters = ThreadLocal.withInitial(PngWriter::new);
+
+    /**
+     * Creates a capture writing into a directory, the pixel buffers are created with the first frame.
+     * @param directory     Existing directory of the files
+     * @param format        File format
+     * @param threads       Number of encoder threads
+     */
+    public FrameCapture(File directory, Format format, int threads) {
+        this.directory = directory;
+        this.format = format;
+        // Two frames per worker: one being encoded, one waiting
+        bufferCount = 2 * threads;
+        freeBuffers = new ArrayBlockingQueue<ByteBuffer>(bufferCount);
+        AtomicInteger threadNumber = new AtomicInteger();
+        encoders = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "Frame encoder " + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Number of encoder threads for continuous capture: encoding a PNG file can
+     * take longer than a frame at 60 FPS.
+     */
+    public static int defaultThreads() {
+        return Math.max(2, Runtime.getRuntime().availableProcessors() - 1);
+    }
+
+    /**
+     * Hands finished reads of earlier frames to the encoders and, if a file
+     * name is given, reads the framebuffer of this frame. Called once per
+     * frame after the frame has been drawn.
+     * @param gl        OpenGL context
+     * @param width     Width of the framebuffer
+     * @param height    Height of the framebuffer
+     * @param fileName  File name without extension or null to not capture this frame
+     */
+    public void endFrame(GL3 gl, int width, int height, String fileName) {
+        for (int i = 0; i < RING_SIZE; i++) {
+            int slot = (nextSlot + i) % RING_SIZE;
+            if (fences[slot] != 0 && frame - readFrames[slot] >= LATENCY)
+                finishRead(gl, slot, false);
+        }
+        if (fileName != null) {
+            if (width != this.width || height != this.height)
+                resize(gl, width, height);
+            // Only if the GPU is far behind
+            if (fences[nextSlot] != 0)
+                finishRead(gl, nextSlot, true);
+            readPixels(gl, nextSlot, fileName);
+            nextSlot = (nextSlot + 1) % RING_SIZE;
+        }
+        frame++;
+    }
+
+    /**
+     * Captures the frame as file with a consecutive number (frame00000, frame00001, ...).
+     * @see #endFrame(GL3, int, int, String)
+     */
+    public void captureFrame(GL3 gl, int width, int height) {
+        endFrame(gl, width, height, String.format("frame%05d", frameIndex++));
+    }
+
+    /**
+     * Returns true if frames have been read but not handed to the encoders yet,
+     * further frames (calls of endFrame()) are needed to finish them
+     */
+    public boolean hasPendingReads() {
+        for (long fence : fences) {
+            if (fence != 0)
+                return true;
+        }
+        return false;
+    }
+
+    public long getWrittenFrames() {
+        return writtenFrames.get();
+    }
+
+    /**
+     * Returns the number of frames not captured because the encoders were too slow
+     */
+    public long getDroppedFrames() {
+        return droppedFrames.get();
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Writes the outstanding frames, waits for the encoders and deletes the pixel buffers.
+     * @param gl    OpenGL context
+     */
+    public void dispose(GL3 gl) {
+        for (int i = 0; i < RING_SIZE; i++) {
+            int slot = (nextSlot + i) % RING_SIZE;
+            if (fences[slot] != 0)
+                finishRead(gl, slot, true);
+        }
+        encoders.shutdown();
+        try {
+            if (!encoders.awaitTermination(1, TimeUnit.MINUTES))
+                System.err.println("Frame capture: encoders did not finish.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (pixelBuffers[0] != 0)
+            gl.glDeleteBuffers(RING_SIZE, pixelBuffers, 0);
+        if (failedWrites.get() > 0)
+            System.err.println("Frame capture: " + failedWrites.get() + " files could not be written.");
+    }
+
+    private void resize(GL3 gl, int width, int height) {
+        // Reads of the old size are written before the buffers change
+        for (int i = 0; i < RING_SIZE; i++) {
+            int slot = (nextSlot + i) % RING_SIZE;
+            if (fences[slot] != 0)
+                finishRead(gl, slot, true);
+        }
+        this.width = width;
+        this.height = height;
+        bufferBytes = width * height * 4;
+        if (pixelBuffers[0] == 0)
+            gl.glGenBuffers(RING_SIZE, pixelBuffers, 0);
+        for (int slot = 0; slot < RING_SIZE; slot++) {
+            gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, pixelBuffers[slot]);
+            gl.glBufferData(GL2ES3.GL_PIXEL_PACK_BUFFER, bufferBytes, null, GL2ES3.GL_STREAM_READ);
+        }
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+        // Host buffers of the old size are dropped when the encoders return them
+        freeBuffers.clear();
+        for (int i = 0; i < bufferCount; i++)
+            freeBuffers.add(ByteBuffer.allocateDirect(bufferBytes).order(ByteOrder.nativeOrder()));
+    }
+
+    private void readPixels(GL3 gl, int slot, String fileName) {
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, pixelBuffers[slot]);
+        gl.glPixelStorei(GL3.GL_PACK_ALIGNMENT, 4);
+        // BGRA with reversed 8 bit components matches TYPE_INT_RGB on little endian machines
+        gl.glReadPixels(0, 0, width, height, GL3.GL_BGRA, GL3.GL_UNSIGNED_INT_8_8_8_8_REV, 0);
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+        fences[slot] = gl.glFenceSync(GL3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        fileNames[slot] = fileName;
+        readFrames[slot] = frame;
+    }
+
+    // Copies the pixels of a slot into a host buffer and submits them to the encoders
+    private void finishRead(GL3 gl, int slot, boolean wait) {
+        int status = gl.glClientWaitSync(fences[slot], wait ? GL3.GL_SYNC_FLUSH_COMMANDS_BIT : 0,
+                wait ? FENCE_TIMEOUT : 0);
+        if (status == GL3.GL_TIMEOUT_EXPIRED && !wait)
+            return;
+        gl.glDeleteSync(fences[slot]);
+        fences[slot] = 0;
+        ByteBuffer pixels = freeBuffers.poll();
+        if (status == GL3.GL_WAIT_FAILED || status == GL3.GL_TIMEOUT_EXPIRED || pixels == null) {
+            droppedFrames.incrementAndGet();
+            return;
+        }
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, pixelBuffers[slot]);
+        ByteBuffer mapped = gl.glMapBufferRange(GL2ES3.GL_PIXEL_PACK_BUFFER, 0, bufferBytes, GL3.GL_MAP_READ_BIT);
+        if (mapped != null) {
+            pixels.clear();
+            pixels.put(mapped);
+            pixels.flip();
+            gl.glUnmapBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER);
+        }
+        gl.glBindBuffer(GL2ES3.GL_PIXEL_PACK_BUFFER, 0);
+        if (mapped == null) {
+            freeBuffers.offer(pixels);
+            droppedFrames.incrementAndGet();
+            return;
+        }
+        String fileName = fileNames[slot];
+        int width = this.width;
+        int height = this.height;
+        encoders.execute(() -> write(pixels, width, height, fileName));
+    }
+
+    // Runs on an encoder thread
+    private void write(ByteBuffer pixels, int width, int height, String fileName) {
+        File file = format == Format.RAW
+                ? new File(directory, fileName + "-" + width + "x" + height + "." + format.extension)
+                : new File(directory, fileName + "." + format.extension);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (format == Format.RAW) {
+                while (pixels.hasRemaining())
+                    channel.write(pixels);
+            } else {
+                pngWriters.get().write(channel, pixels, width, height);
+            }
+            writtenFrames.incrementAndGet();
+        } catch (IOException e) {
+            if (failedWrites.getAndIncrement() == 0)
+                System.err.println("Error writing frame " + file + ": " + e.getMessage());
+        } finally {
+            // Buffers of an old size do not fit anymore
+            if (pixels.capacity() == bufferBytes)
+                freeBuffers.offer(pixels);
+        }
+    }
+}
@@ -0,0 +1,452 @@
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Records per frame the CPU time of the frame, draw calls, triangles, state
+ * changes, bytes transferred to the GPU, the GL calls issued and skipped by a
+ * GLStateCache and the objects tested and hidden by occlusion culling. The values of the recent frames are kept in ring buffers,
+ * all values since the start (or reset()) in histograms.
+ *
+ * In addition CPU and GPU times of named passes (eg. the draws of the table)
+ * are recorded (see GpuProfiler), GPU times arrive some frames late.
+ *
+ * Recording is done by the render thread only and neither locks nor allocates:
+ * values are written to atomic arrays and published by advancing the frame
+ * count. Any thread can read the statistics (JMX, periodic summary), a read
+ * concurrent to a frame may see some values of that frame.
+ *
+ * Usage: beginFrame() and endFrame() around the rendering of every frame,
+ * registerMBean() and startSummary() once.
+ */
+public class FrameTelemetry implements FrameTelemetryMBean {
+
+    public static final int FRAME_TIME = 0;      // nanoseconds
+    public static final int DRAW_CALLS = 1;
+    public static final int TRIANGLES = 2;
+    public static final int STATE_CHANGES = 3;
+    public static final int BYTES_UPLOADED = 4;
+    public static final int OCCLUSION_TESTS = 5;
+    public static final int OCCLUDED_OBJECTS = 6;
+    public static final int GL_CALLS = 7;
+    public static final int SKIPPED_STATE_CALLS = 8;
+    public static final int METRIC_COUNT = 9;
+
+    public static final int MAX_PASSES = 16;
+
+    public static final String OBJECT_NAME = "OpenGLProject:type=FrameTelemetry";
+
+    private final int windowFrames;
+    // Values of the recent frames, frame f of metric m at m * windowFrames + f % windowFrames
+    private final AtomicLongArray window;
+    private final AtomicLong frameCount = new AtomicLong();
+    private final Histogram[] histograms = new Histogram[METRIC_COUNT];
+    private volatile boolean resetRequested;
+    // Times of the recent passes, pass p at (2 * p + (gpu ? 1 : 0)) * windowFrames + sample % windowFrames
+    private final String[] passNames = new String[MAX_PASSES];
+    private volatile int passCount;
+    private final AtomicLongArray passWindow;
+    private final AtomicLongArray passSamples = new AtomicLongArray(2 * MAX_PASSES);
+    private long frameStart;
+    // Occlusion culling results of the running frame, see recordOcclusion()
+    private long occlusionTests;
+    private long occludedObjects;
+    // GL calls of the running frame, see recordGLCalls()
+    private long glCalls;
+    private long skippedStateCalls;
+
+    private ScheduledExecutorService summaryExecutor;
+
+    /**
+     * Creates the telemetry.
+     * @param windowFrames  Number of recent frames kept for averages
+     */
+    public FrameTelemetry(int windowFrames) {
+        this.windowFrames = windowFrames;
+        window = new AtomicLongArray(METRIC_COUNT * windowFrames);
+        for (int metric = 0; metric < METRIC_COUNT; metric++)
+            histograms[metric] = new Histogram();
+        passWindow = new AtomicLongArray(2 * MAX_PASSES * windowFrames);
+    }
+
+    /**
+     * Adds a pass whose CPU and GPU times are recorded.
+     * @param name  Name of the pass
+     * @return      ID of the pass
+     */
+    public int addPass(String name) {
+        int pass = passCount;
+        if (pass == MAX_PASSES)
+            throw new IllegalStateException("Maximum number of passes reached: " + MAX_PASSES);
+        passNames[pass] = name;
+        passCount = pass + 1;
+        return pass;
+    }
+
+    /**
+     * Records the CPU time of a pass (issuing its GL calls).
+     * @param pass  ID returned by addPass()
+     * @param nanos Time in nanoseconds
+     */
+    public void recordPassCpuTime(int pass, long nanos) {
+        recordPass(2 * pass, nanos);
+    }
+
+    /**
+     * Records the GPU time of a pass.
+     * @param pass  ID returned by addPass()
+     * @param nanos Time in nanoseconds
+     */
+    public void recordPassGpuTime(int pass, long nanos) {
+        recordPass(2 * pass + 1, nanos);
+    }
+
+    private void recordPass(int series, long nanos) {
+        long sample = passSamples.get(series);
+        passWindow.lazySet(series * windowFrames + (int) (sample % windowFrames), nanos);
+        passSamples.lazySet(series, sample + 1);
+    }
+
+    /**
+     * Returns the average time of a pass over the recent samples.
+     * @param pass  ID returned by addPass()
+     * @param gpu   true for the GPU time, false for the CPU time
+     * @return      Time in nanoseconds, 0 without samples
+     */
+    public double getPassAverage(int pass, boolean gpu) {
+        int series = 2 * pass + (gpu ? 1 : 0);
+        long samples = Math.min(passSamples.get(series), windowFrames);
+        if (samples == 0)
+            return 0;
+        long sum = 0;
+        for (int i = 0; i < samples; i++)
+            sum += passWindow.get(series * windowFrames + i);
+        return (double) sum / samples;
+    }
+
+    /**
+     * Starts the CPU time measurement of a frame.
+     */
+    public void beginFrame() {
+        frameStart = System.nanoTime();
+    }
+
+    /**
+     * Records the occlusion culling result of the running frame, frames
+     * without a call record 0 tested and hidden objects.
+     * @param testedObjects Number of objects whose occlusion queries were issued
+     * @param hiddenObjects Number of objects not drawn because they were hidden
+     */
+    public void recordOcclusion(long testedObjects, long hiddenObjects) {
+        occlusionTests = testedObjects;
+        occludedObjects = hiddenObjects;
+    }
+
+    /**
+     * Records the GL calls of the running frame, frames without a call record 0.
+     * @param issuedCalls       Number of GL calls passed to the driver
+     * @param skippedStateCalls Number of redundant state calls not passed to the driver
+     */
+    public void recordGLCalls(long issuedCalls, long skippedStateCalls) {
+        glCalls = issuedCalls;
+        this.skippedStateCalls = skippedStateCalls;
+    }
+
+    /**
+     * Ends a frame and records its values.
+     * @param drawCalls     Number of draw calls
+     * @param triangles     Number of triangles
+     * @param stateChanges  Number of state changes passed to the driver
+     * @param bytesUploaded Number of bytes transferred to buffer objects
+     */
+    public void endFrame(long drawCalls, long triangles, long stateChanges, long bytesUploaded) {
+        long frameTime = System.nanoTime() - frameStart;
+        if (resetRequested) {
+            for (Histogram histogram : histograms)
+                histogram.clear();
+            resetRequested = false;
+        }
+        long frame = frameCount.get();
+        int slot = (int) (frame % windowFrames);
+        record(FRAME_TIME, slot, frameTime);
+        record(DRAW_CALLS, slot, drawCalls);
+        record(TRIANGLES, slot, triangles);
+        record(STATE_CHANGES, slot, stateChanges);
+        record(BYTES_UPLOADED, slot, bytesUploaded);
+        record(OCCLUSION_TESTS, slot, occlusionTests);
+        record(OCCLUDED_OBJECTS, slot, occludedObjects);
+        record(GL_CALLS, slot, glCalls);
+        record(SKIPPED_STATE_CALLS, slot, skippedStateCalls);
+        occlusionTests = 0;
+        occludedObjects = 0;
+        glCalls = 0;
+        skippedStateCalls = 0;
+        frameCount.lazySet(frame + 1);
+    }
+
+    private void record(int metric, int slot, long value) {
+        window.lazySet(metric * windowFrames + slot, value);
+        histograms[metric].add(value);
+    }
+
+    /**
+     * Returns the average of a metric over the recent frames.
+     * @param metric    FRAME_TIME, DRAW_CALLS, ...
+     */
+    public double getAverage(int metric) {
+        long frames = Math.min(frameCount.get(), windowFrames);
+        if (frames == 0)
+            return 0;
+        long sum = 0;
+        for (int slot = 0; slot < frames; slot++)
+            sum += window.get(metric * windowFrames + slot);
+        return (double) sum / frames;
+    }
+
+    /**
+     * Returns a percentile of a metric over all frames since the start or the
+     * last reset, with a relative error below 12.5 percent.
+     * @param metric        FRAME_TIME, DRAW_CALLS, ...
+     * @param percentile    0 to 100
+     */
+    public long getPercentile(int metric, double percentile) {
+        return histograms[metric].percentile(percentile);
+    }
+
+    /**
+     * Returns the maximum of a metric since the start or the last reset.
+     * @param metric    FRAME_TIME, DRAW_CALLS, ...
+     */
+    public long getMax(int metric) {
+        return histograms[metric].max();
+    }
+
+    /**
+     * Registers the telemetry with the platform MBean server.
+     */
+    public void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name))
+                server.registerMBean(this, name);
+        } catch (JMException e) {
+            System.err.println("Error registering the frame telemetry MBean: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Prints getSummary() periodically from a background thread.
+     * @param periodSeconds Seconds between two summaries
+     */
+    public void startSummary(long periodSeconds) {
+        if (summaryExecutor != null)
+            return;
+        summaryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Frame telemetry summary");
+            thread.setDaemon(true);
+            return thread;
+        });
+        summaryExecutor.scheduleAtFixedRate(() -> System.out.println(getSummary()),
+                periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic summary and unregisters the MBean.
+     */
+    public void stop() {
+        if (summaryExecutor != null) {
+            summaryExecutor.shutdownNow();
+            summaryExecutor = null;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (server.isRegistered(name))
+                server.unregisterMBean(name);
+        } catch (JMException e) {
+            System.err.println("Error unregistering the frame telemetry MBean: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public long getFrameCount() {
+        return frameCount.get();
+    }
+
+    @Override
+    public double getFrameTimeMillisAverage() {
+        return getAverage(FRAME_TIME) / 1e6;
+    }
+
+    @Override
+    public double getFrameTimeMillis50() {
+        return getPercentile(FRAME_TIME, 50) / 1e6;
+    }
+
+    @Override
+    public double getFrameTimeMillis99() {
+        return getPercentile(FRAME_TIME, 99) / 1e6;
+    }
+
+    @Override
+    public double getFrameTimeMillisMax() {
+        return getMax(FRAME_TIME) / 1e6;
+    }
+
+    @Override
+    public double getDrawCallsAverage() {
+        return getAverage(DRAW_CALLS);
+    }
+
+    @Override
+    public double getTrianglesAverage() {
+        return getAverage(TRIANGLES);
+    }
+
+    @Override
+    public double getStateChangesAverage() {
+        return getAverage(STATE_CHANGES);
+    }
+
+    @Override
+    public double getBytesUploadedAverage() {
+        return getAverage(BYTES_UPLOADED);
+    }
+
+    @Override
+    public double getOcclusionTestsAverage() {
+        return getAverage(OCCLUSION_TESTS);
+    }
+
+    @Override
+    public double getOccludedObjectsAverage() {
+        return getAverage(OCCLUDED_OBJECTS);
+    }
+
+    @Override
+    public double getGLCallsAverage() {
+        return getAverage(GL_CALLS);
+    }
+
+    @Override
+    public double getSkippedStateCallsAverage() {
+        return getAverage(SKIPPED_STATE_CALLS);
+    }
+
+    @Override
+    public String[] getPassTimes() {
+        int count = passCount;
+        String[] times = new String[count];
+        for (int pass = 0; pass < count; pass++)
+            times[pass] = String.format("%s: CPU %.3f ms, GPU %.3f ms", passNames[pass],
+                    getPassAverage(pass, false) / 1e6, getPassAverage(pass, true) / 1e6);
+        return times;
+    }
+
+    @Override
+    public String getSummary() {
+        String[] passTimes = getPassTimes();
+        if (passTimes.length == 0)
+            return getFrameSummary();
+        StringBuilder summary = new StringBuilder(getFrameSummary());
+        for (String passTime : passTimes)
+            summary.append(System.lineSeparator()).append("  ").append(passTime);
+        return summary.toString();
+    }
+
+    private String getFrameSummary() {
+        String summary = String.format("Frames: %d, CPU frame time: %.2f ms average, %.2f ms 50%%, %.2f ms 99%%,"
+                        + " %.2f ms max; per frame: %.1f draw calls, %.0f triangles, %.1f state changes,"
+                        + " %.0f bytes uploaded",
+                getFrameCount(), getFrameTimeMillisAverage(), getFrameTimeMillis50(),
+                getFrameTimeMillis99(), getFrameTimeMillisMax(), getDrawCallsAverage(),
+                getTrianglesAverage(), getStateChangesAverage(), getBytesUploadedAverage());
+        if (getGLCallsAverage() > 0)
+            summary += String.format(", %.1f GL calls, %.1f state calls skipped",
+                    getGLCallsAverage(), getSkippedStateCallsAverage());
+        if (getOcclusionTestsAverage() > 0)
+            summary += String.format(", %.1f of %.1f objects occluded",
+                    getOccludedObjectsAverage(), getOcclusionTestsAverage());
+        return summary;
+    }
+
+    @Override
+    public void reset() {
+        resetRequested = true;
+    }
+
+    /**
+     * Log-linear histogram of non-negative values: every power of two is split
+     * into SUB_BUCKETS buckets. Written by one thread, read by any thread.
+     */
+    private static class Histogram {
+
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+
+        void add(long value) {
+            if (value < 0)
+                value = 0;
+            int bucket = bucketOf(value);
+            // Single writer, no compare and set needed
+            counts.lazySet(bucket, counts.get(bucket) + 1);
+            if (value > max.get())
+                max.lazySet(value);
+            total.lazySet(total.get() + 1);
+        }
+
+        void clear() {
+            for (int i = 0; i < counts.length(); i++)
+                counts.lazySet(i, 0);
+            max.lazySet(0);
+            total.lazySet(0);
+        }
+
+        long max() {
+            return max.get();
+        }
+
+        // Upper value of the bucket containing the percentile
+        long percentile(double percentile) {
+            long count = total.get();
+            if (count == 0)
+                return 0;
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int bucket = 0; bucket < counts.length(); bucket++) {
+                seen += counts.get(bucket);
+                if (seen >= rank)
+                    return Math.min(upperValueOf(bucket), max.get());
+            }
+            return max.get();
+        }
+
+        private static int bucketOf(long value) {
+            if (value < SUB_BUCKETS)
+                return (int) value;
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+        }
+
+        private static long upperValueOf(int bucket) {
+            if (bucket < SUB_BUCKETS)
+                return bucket;
+            int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+            long width = 1L << (exponent - SUB_BUCKET_BITS);
+            long lower = (SUB_BUCKETS + bucket % SUB_BUCKETS) * width;
+            return lower + width - 1;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/**
+ * Management interface of FrameTelemetry, registered with the platform MBean
+ * server as "OpenGLProject:type=FrameTelemetry" (eg. visible in JConsole).
+ * Averages are taken over the recent frames kept in the ring buffers,
+ * percentiles and maxima over all frames since the start or the last reset.
+ */
+public interface FrameTelemetryMBean {
+
+    long getFrameCount();
+
+    double getFrameTimeMillisAverage();
+
+    double getFrameTimeMillis50();
+
+    double getFrameTimeMillis99();
+
+    double getFrameTimeMillisMax();
+
+    double getDrawCallsAverage();
+
+    double getTrianglesAverage();
+
+    double getStateChangesAverage();
+
+    double getBytesUploadedAverage();
+
+    /**
+     * Returns the average number of objects tested by occlusion culling
+     */
+    double getOcclusionTestsAverage();
+
+    /**
+     * Returns the average number of objects not drawn because they were hidden
+     */
+    double getOccludedObjectsAverage();
+
+    /**
+     * Returns the average number of GL calls passed to the driver
+     */
+    double getGLCallsAverage();
+
+    /**
+     * Returns the average number of redundant state calls not passed to the driver
+     */
+    double getSkippedStateCallsAverage();
+
+    /**
+     * Returns the average CPU and GPU time of every pass
+     */
+    String[] getPassTimes();
+
+    String getSummary();
+
+    /**
+     * Clears the histograms, takes effect with the next frame
+     */
+    void reset();
+}
@@ -0,0 +1,92 @@
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * Uniform buffer object with the state shared by all objects of a frame:
+ * camera matrices and light source (uniform block FrameBlock, binding 0,
+ * see BlinnPhongPointTex.vert). It is written once per frame with one
+ * glBufferSubData call and stays bound to its binding point, so no shader
+ * program needs its own camera or light uniforms.
+ */
+public class FrameUniformBuffer {
+
+    /** Binding point of the uniform block FrameBlock */
+    public static final int BINDING = 0;
+
+    // FrameBlock (std140): pMatrix, mvMatrix, lightPosition, light ambient, diffuse, specular
+    private static final int SIZE = (16 + 16 + 4 * 4) * 4;
+    private static final int LIGHT_OFFSET = 32 * 4;
+
+    private final ByteBuffer data;
+    private final int[] bufferName = new int[1];
+
+    public FrameUniformBuffer() {
+        data = DirectBufferPool.SHARED.acquire(SIZE);
+    }
+
+    /**
+     * Creates the buffer and binds it to BINDING.
+     * @param gl    OpenGL context
+     */
+    public void upload(GL3 gl) {
+        gl.glGenBuffers(1, bufferName, 0);
+        if (bufferName[0] < 1)
+            System.err.println("Error allocating uniform buffer object.");
+        gl.glBindBuffer(GL3.GL_UNIFORM_BUFFER, bufferName[0]);
+        gl.glBufferData(GL3.GL_UNIFORM_BUFFER, SIZE, null, GL.GL_DYNAMIC_DRAW);
+        gl.glBindBufferBase(GL3.GL_UNIFORM_BUFFER, BINDING, bufferName[0]);
+    }
+
+    /**
+     * Sets the camera matrices.
+     * @param pMatrix   Column major projection matrix
+     * @param mvMatrix  Column major model-view matrix
+     */
+    public void setMatrices(FloatBuffer pMatrix, FloatBuffer mvMatrix) {
+        for (int i = 0; i < 16; i++) {
+            data.putFloat(i * 4, pMatrix.get(pMatrix.position() + i));
+            data.putFloat((16 + i) * 4, mvMatrix.get(mvMatrix.position() + i));
+        }
+    }
+
+    /**
+     * Sets the light source.
+     * @param light Light source (position in model-view coordinates)
+     */
+    public void setLight(LightSource light) {
+        putVec4(LIGHT_OFFSET, light.getPosition());
+        putVec4(LIGHT_OFFSET + 16, light.getAmbient());
+        putVec4(LIGHT_OFFSET + 32, light.getDiffuse());
+        putVec4(LIGHT_OFFSET + 48, light.getSpecular());
+    }
+
+    /**
+     * Transfers the block to the GPU, once per frame before the first draw.
+     * @param gl    OpenGL context
+     */
+    public void update(GL3 gl) {
+        data.limit(SIZE).position(0);
+        gl.glBindBuffer(GL3.GL_UNIFORM_BUFFER, bufferName[0]);
+        gl.glBufferSubData(GL3.GL_UNIFORM_BUFFER, 0, SIZE, data);
+        data.clear();
+    }
+
+    /**
+     * Deletes the buffer and returns the client side storage to the pool.
+     * @param gl    OpenGL context
+     */
+    public void dispose(GL3 gl) {
+        gl.glDeleteBuffers(1, bufferName, 0);
+        DirectBufferPool.SHARED.release(data);
+    }
+
+    private void putVec4(int pos, float[] v) {
+        data.putFloat(pos, v[0]);
+        data.putFloat(pos + 4, v[1]);
+        data.putFloat(pos + 8, v[2]);
+        data.putFloat(pos + 12, v[3]);
+    }
+}
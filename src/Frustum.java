@@ -0,0 +1,97 @@
+import java.nio.FloatBuffer;
+
+/**
+ * View frustum of the camera as six planes in model coordinates, extracted from
+ * the product of projection and model-view matrix (G. Gribb, K. Hartmann, Fast
+ * Extraction of Viewing Frustum Planes from the World-View-Projection Matrix, 2001).
+ * Used to skip objects outside the view before any OpenGL call is made.
+ */
+public class Frustum {
+
+    // a, b, c, d of the planes left, right, bottom, top, near, far, normals point inwards
+    private final float[] planes = new float[6 * 4];
+    private final float[] pmv = new float[16];
+
+    /**
+     * Extracts the planes for the current camera.
+     * @param pMatrix   Column major projection matrix (eg. PMVMatrix.glGetPMatrixf())
+     * @param mvMatrix  Column major model-view matrix (eg. PMVMatrix.glGetMvMatrixf())
+     */
+    public void update(FloatBuffer pMatrix, FloatBuffer mvMatrix) {
+        int p = pMatrix.position();
+        int mv = mvMatrix.position();
+        for (int column = 0; column < 4; column++) {
+            for (int row = 0; row < 4; row++) {
+                float sum = 0f;
+                for (int k = 0; k < 4; k++)
+                    sum += pMatrix.get(p + k * 4 + row) * mvMatrix.get(mv + column * 4 + k);
+                pmv[column * 4 + row] = sum;
+            }
+        }
+        // plane = row 3 +/- row 0, 1, 2
+        for (int i = 0; i < 6; i++) {
+            int row = i >> 1;
+            float sign = (i & 1) == 0 ? 1f : -1f;
+            float a = pmv[3] + sign * pmv[row];
+            float b = pmv[7] + sign * pmv[4 + row];
+            float c = pmv[11] + sign * pmv[8 + row];
+            float d = pmv[15] + sign * pmv[12 + row];
+            float length = (float) Math.sqrt(a * a + b * b + c * c);
+            planes[i * 4] = a / length;
+            planes[i * 4 + 1] = b / length;
+            planes[i * 4 + 2] = c / length;
+            planes[i * 4 + 3] = d / length;
+        }
+    }
+
+    /**
+     * Returns false if the box is completely outside the frustum.
+     * Boxes near a frustum corner may be reported as intersecting although they are outside.
+     * @param box   Box in the coordinates of the model-view matrix
+     */
+    public boolean intersects(BoundingBox box) {
+        return intersects(box.getMinX(), box.getMinY(), box.getMinZ(),
+                box.getMaxX(), box.getMaxY(), box.getMaxZ());
+    }
+
+    /**
+     * Returns false if the box is completely outside the frustum.
+     */
+    public boolean intersects(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        for (int i = 0; i < planes.length; i += 4) {
+            float a = planes[i], b = planes[i + 1], c = planes[i + 2];
+            // corner of the box farthest in the direction of the plane normal
+            float x = a > 0f ? maxX : minX;
+            float y = b > 0f ? maxY : minY;
+            float z = c > 0f ? maxZ : minZ;
+            if (a * x + b * y + c * z + planes[i + 3] < 0f)
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the box is completely inside the frustum,
+     * the objects in it need no further test.
+     */
+    public boolean contains(BoundingBox box) {
+        return contains(box.getMinX(), box.getMinY(), box.getMinZ(),
+                box.getMaxX(), box.getMaxY(), box.getMaxZ());
+    }
+
+    /**
+     * Returns true if the box is completely inside the frustum.
+     */
+    public boolean contains(float minX, float minY, float minZ, float maxX, float maxY, float maxZ) {
+        for (int i = 0; i < planes.length; i += 4) {
+            float a = planes[i], b = planes[i + 1], c = planes[i + 2];
+            // corner of the box nearest to the plane
+            float x = a > 0f ? minX : maxX;
+            float y = b > 0f ? minY : maxY;
+            float z = c > 0f ? minZ : maxZ;
+            if (a * x + b * y + c * z + planes[i + 3] < 0f)
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,588 @@
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL3;
+import com.jogamp.opengl.GLAutoDrawable;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A GL3 without OpenGL: records every call with its arguments instead of
+ * calling a driver, so the CPU side of init() and display() can be run,
+ * measured and checked on machines without a GPU (see StartRecordingPP).
+ *
+ * The recorder is handed to the renderer in place of the GL object of a
+ * drawable, eg. with createDrawable(). It answers calls with return values
+ * like a driver that supports everything (see RecordingGL3), glGet* returns
+ * the values of valueOf() and mapped buffers are scratch memory.
+ *
+ * Every GL3 method is implemented directly (RecordingGL3 is generated), a
+ * call costs a few direct method calls and array writes and allocates nothing,
+ * apart from the recorded strings.
+ *
+ * Counts the calls per function, in total and per frame (beginFrame() and
+ * endFrame()), and optionally writes them to a compact binary log:
+ * - definition of a function, before its first call:
+ *   u16 0xFFFF, u16 function, string of name and JNI descriptor (eg. "glEnable(I)V")
+ * - frame start: u16 0xFFFE, int frame number
+ * - call: u16 function, then the arguments in the order of the descriptor:
+ *   primitives with their size, strings as u16 length and UTF-8 bytes (cut
+ *   after 65535 bytes), arrays as int length followed by the elements,
+ *   buffers as int number of remaining bytes (the data is not recorded),
+ *   null arrays and buffers as length -1.
+ * All values are big endian, printLog() prints a log as text.
+ */
+public class GLRecorder extends RecordingGL3 {
+
+    private static final int DEFINITION = 0xFFFF;
+    private static final int FRAME = 0xFFFE;
+
+    private final OutputStream logStream;
+    private final ByteBuffer log;
+
+    private final long[] callCounts = new long[FUNCTIONS.length];
+    private final long[] frameStartCounts = new long[FUNCTIONS.length];
+    private final long[] lastFrameCounts = new long[FUNCTIONS.length];
+    private long calls;
+    private long frameStartCalls;
+    private long lastFrameCalls;
+    private int frameNumber;
+
+    private int nextName = 1;
+    private ByteBuffer mappedBuffer = ByteBuffer.allocateDirect(0);
+
+    /**
+     * Creates a recorder that only counts the calls.
+     */
+    public GLRecorder() {
+        this(null);
+    }
+
+    /**
+     * Creates a recorder.
+     * @param logStream Receives the binary log (may be null), written in blocks, see flush()
+     */
+    public GLRecorder(OutputStream logStream) {
+        this.logStream = logStream;
+        log = logStream != null ? ByteBuffer.allocate(1 << 17) : null;
+    }
+
+    /**
+     * Returns the recording GL object, the recorder itself
+     */
+    public GL3 getGL() {
+        return this;
+    }
+
+    /**
+     * Returns a drawable of the given size whose GL object is the recorder,
+     * to be passed to init(), reshape() and display() of a GLEventListener.
+     * Other methods of the drawable do nothing and return null, 0 or false.
+     */
+    public GLAutoDrawable createDrawable(final int width, final int height) {
+        return (GLAutoDrawable) Proxy.newProxyInstance(GLAutoDrawable.class.getClassLoader(),
+                new Class<?>[] { GLAutoDrawable.class }, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object drawable, Method method, Object[] args) {
+                        String name = method.getName();
+                        if (name.equals("getGL"))
+                            return GLRecorder.this;
+                        if (name.equals("getSurfaceWidth") || name.equals("getWidth"))
+                            return width;
+                        if (name.equals("getSurfaceHeight") || name.equals("getHeight"))
+                            return height;
+                        if (name.equals("toString"))
+                            return "GLRecorder drawable " + width + "x" + height;
+                        if (name.equals("hashCode"))
+                            return System.identityHashCode(drawable);
+                        if (name.equals("equals"))
+                            return drawable == args[0];
+                        return defaultValue(method.getReturnType());
+                    }
+                });
+    }
+
+    /**
+     * Starts a new frame: marks it in the log and starts counting its calls.
+     */
+    public void beginFrame() {
+        frameStartCalls = calls;
+        System.arraycopy(callCounts, 0, frameStartCounts, 0, callCounts.length);
+        if (log != null) {
+            reserve(6);
+            log.putShort((short) FRAME);
+            log.putInt(frameNumber);
+        }
+        frameNumber++;
+    }
+
+    /**
+     * Ends the frame, its counts are returned by the getters until the next endFrame().
+     */
+    public void endFrame() {
+        lastFrameCalls = calls - frameStartCalls;
+        for (int function = 0; function < lastFrameCounts.length; function++)
+            lastFrameCounts[function] = callCounts[function] - frameStartCounts[function];
+    }
+
+    /**
+     * Returns the number of calls since the recorder was created
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * Returns the number of calls in the last frame
+     */
+    public long getFrameCalls() {
+        return lastFrameCalls;
+    }
+
+    /**
+     * Returns the number of calls of every function since the recorder was
+     * created, sorted by function name. Overloads are counted together.
+     */
+    public Map<String, Long> getCallCounts() {
+        return countsByName(callCounts);
+    }
+
+    /**
+     * Returns the number of calls of every function called in the last frame, sorted by function name
+     */
+    public Map<String, Long> getFrameCallCounts() {
+        return countsByName(lastFrameCounts);
+    }
+
+    private static Map<String, Long> countsByName(long[] counts) {
+        Map<String, Long> countsByName = new TreeMap<String, Long>();
+        for (int function = 0; function < counts.length; function++) {
+            if (counts[function] == 0)
+                continue;
+            String name = FUNCTIONS[function].substring(0, FUNCTIONS[function].indexOf('('));
+            Long count = countsByName.get(name);
+            countsByName.put(name, count == null ? counts[function] : count + counts[function]);
+        }
+        return countsByName;
+    }
+
+    /**
+     * Writes the recorded calls not yet written to the log stream.
+     * @throws IOException if the log cannot be written
+     */
+    public void flush() throws IOException {
+        if (log == null)
+            return;
+        logStream.write(log.array(), 0, log.position());
+        logStream.flush();
+        log.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "GLRecorder";
+    }
+
+    @Override
+    protected boolean call(int function) {
+        calls++;
+        if (callCounts[function]++ == 0 && log != null) {
+            byte[] signature = FUNCTIONS[function].getBytes(StandardCharsets.UTF_8);
+            reserve(4 + 2 + Math.min(signature.length, 0xFFFF));
+            log.putShort((short) DEFINITION);
+            log.putShort((short) function);
+            putUTF(signature);
+        }
+        if (log == null)
+            return false;
+        reserve(2);
+        log.putShort((short) function);
+        return true;
+    }
+
+    @Override
+    protected void genNames(int count, int[] names, int offset) {
+        for (int i = 0; i < count; i++)
+            names[offset + i] = nextName++;
+    }
+
+    @Override
+    protected void genNames(int count, IntBuffer names) {
+        for (int i = 0; i < count; i++)
+            names.put(names.position() + i, nextName++);
+    }
+
+    @Override
+    protected int createName() {
+        return nextName++;
+    }
+
+    @Override
+    protected boolean getValues(int pname, int[] values, int offset) {
+        if (values == null)
+            return false;
+        values[offset] = valueOf(pname);
+        return true;
+    }
+
+    @Override
+    protected boolean getValues(int pname, long[] values, int offset) {
+        if (values == null)
+            return false;
+        values[offset] = valueOf(pname);
+        return true;
+    }
+
+    @Override
+    protected boolean getValues(int pname, float[] values, int offset) {
+        if (values == null)
+            return false;
+        values[offset] = valueOf(pname);
+        return true;
+    }
+
+    @Override
+    protected boolean getValues(int pname, IntBuffer values) {
+        if (values == null)
+            return false;
+        values.put(values.position(), valueOf(pname));
+        return true;
+    }
+
+    @Override
+    protected boolean getValues(int pname, LongBuffer values) {
+        if (values == null)
+            return false;
+        values.put(values.position(), valueOf(pname));
+        return true;
+    }
+
+    // Value of glGetIntegerv, glGetProgramiv, ... for a pname, other pnames give 1 (GL_TRUE)
+    private static int valueOf(int pname) {
+        switch (pname) {
+            case GL2ES2.GL_INFO_LOG_LENGTH:
+            case GL2ES3.GL_NUM_PROGRAM_BINARY_FORMATS:
+            case GL2ES3.GL_PROGRAM_BINARY_LENGTH:
+            case GL2ES2.GL_QUERY_COUNTER_BITS:
+                return 0;
+            case GL2ES3.GL_UNIFORM_BUFFER_OFFSET_ALIGNMENT:
+                return 256;
+            case GL2ES3.GL_MAX_UNIFORM_BLOCK_SIZE:
+                return 65536;
+            case GL.GL_MAX_TEXTURE_SIZE:
+                return 16384;
+            case GL2ES2.GL_MAX_VERTEX_ATTRIBS:
+                return 16;
+            default:
+                return 1;
+        }
+    }
+
+    @Override
+    protected ByteBuffer mapBuffer(long length) {
+        if (mappedBuffer.capacity() < length)
+            mappedBuffer = ByteBuffer.allocateDirect((int) length).order(ByteOrder.nativeOrder());
+        mappedBuffer.clear();
+        mappedBuffer.limit((int) length);
+        return mappedBuffer.slice().order(ByteOrder.nativeOrder());
+    }
+
+    @Override
+    protected String getString(int name) {
+        return name == GL.GL_VERSION ? "4.3 GLRecorder" : "GLRecorder";
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class)
+            return false;
+        if (type == int.class)
+            return 0;
+        if (type == long.class)
+            return 0L;
+        if (type == float.class)
+            return 0f;
+        if (type == double.class)
+            return 0.0;
+        if (type == short.class)
+            return (short) 0;
+        if (type == byte.class)
+            return (byte) 0;
+        if (type == char.class)
+            return '\0';
+        return null;
+    }
+
+    @Override
+    protected void record(int value) {
+        reserve(4);
+        log.putInt(value);
+    }
+
+    @Override
+    protected void record(long value) {
+        reserve(8);
+        log.putLong(value);
+    }
+
+    @Override
+    protected void record(float value) {
+        reserve(4);
+        log.putFloat(value);
+    }
+
+    @Override
+    protected void record(double value) {
+        reserve(8);
+        log.putDouble(value);
+    }
+
+    @Override
+    protected void record(boolean value) {
+        reserve(1);
+        log.put((byte) (value ? 1 : 0));
+    }
+
+    @Override
+    protected void record(byte value) {
+        reserve(1);
+        log.put(value);
+    }
+
+    @Override
+    protected void record(short value) {
+        reserve(2);
+        log.putShort(value);
+    }
+
+    @Override
+    protected void record(String value) {
+        byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+        reserve(2 + Math.min(bytes.length, 0xFFFF));
+        putUTF(bytes);
+    }
+
+    @Override
+    protected void record(int[] values) {
+        if (recordLength(values == null ? -1 : values.length))
+            return;
+        for (int value : values)
+            record(value);
+    }
+
+    @Override
+    protected void record(long[] values) {
+        if (recordLength(values == null ? -1 : values.length))
+            return;
+        for (long value : values)
+            record(value);
+    }
+
+    @Override
+    protected void record(float[] values) {
+        if (recordLength(values == null ? -1 : values.length))
+            return;
+        for (float value : values)
+            record(value);
+    }
+
+    @Override
+    protected void record(double[] values) {
+        if (recordLength(values == null ? -1 : values.length))
+            return;
+        for (double value : values)
+            record(value);
+    }
+
+    @Override
+    protected void record(byte[] values) {
+        if (recordLength(values == null ? -1 : values.length))
+            return;
+        reserve(values.length);
+        log.put(values);
+    }
+
+    @Override
+    protected void record(short[] values) {
+        if (recordLength(values == null ? -1 : values.length))
+            return;
+        for (short value : values)
+            record(value);
+    }
+
+    @Override
+    protected void record(String[] values) {
+        if (recordLength(values == null ? -1 : values.length))
+            return;
+        for (String value : values)
+            record(value);
+    }
+
+    @Override
+    protected void record(Buffer buffer) {
+        reserve(4);
+        log.putInt(buffer == null ? -1 : buffer.remaining() * elementSize(buffer));
+    }
+
+    // Objects without recorded content (eg. GLArrayData)
+    @Override
+    protected void record(Object value) {
+        reserve(4);
+        log.putInt(value == null ? -1 : 0);
+    }
+
+    // Records the length of an array, -1 for null, returns true if there are no elements
+    private boolean recordLength(int length) {
+        reserve(4);
+        log.putInt(length);
+        return length <= 0;
+    }
+
+    private static int elementSize(Buffer buffer) {
+        if (buffer instanceof ByteBuffer)
+            return 1;
+        if (buffer instanceof IntBuffer || buffer instanceof FloatBuffer)
+            return 4;
+        if (buffer instanceof LongBuffer || buffer instanceof DoubleBuffer)
+            return 8;
+        return 2;
+    }
+
+    // Strings are limited to 65535 bytes, longer ones (shader sources) are cut
+    private void putUTF(byte[] bytes) {
+        int length = Math.min(bytes.length, 0xFFFF);
+        log.putShort((short) length);
+        log.put(bytes, 0, length);
+    }
+
+    // Makes room for the given number of bytes, writes the log if the block is full
+    private void reserve(int bytes) {
+        if (log.remaining() >= bytes)
+            return;
+        try {
+            flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Error writing the GL log", e);
+        }
+        if (log.remaining() < bytes)
+            throw new IllegalStateException("Log entry too large: " + bytes + " bytes");
+    }
+
+    /**
+     * Prints a binary log as text, one call per line, eg. "glEnable(2929)".
+     * Buffers are printed as their number of bytes, eg. "<1024 bytes>".
+     * @param in    Binary log written by a GLRecorder
+     * @param out   Receives the text
+     * @throws IOException if the log cannot be read or is damaged
+     */
+    public static void printLog(InputStream in, PrintStream out) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        Map<Integer, String> names = new HashMap<Integer, String>();
+        Map<Integer, String> descriptors = new HashMap<Integer, String>();
+        while (true) {
+            int id;
+            try {
+                id = data.readUnsignedShort();
+            } catch (EOFException e) {
+                return;
+            }
+            if (id == DEFINITION) {
+                int definedID = data.readUnsignedShort();
+                String signature = readString(data);
+                int parenthesis = signature.indexOf('(');
+                names.put(definedID, signature.substring(0, parenthesis));
+                descriptors.put(definedID, signature.substring(parenthesis + 1, signature.indexOf(')')));
+                continue;
+            }
+            if (id == FRAME) {
+                out.println("# frame " + data.readInt());
+                continue;
+            }
+            String descriptor = descriptors.get(id);
+            if (descriptor == null)
+                throw new IOException("Call of undefined function " + id);
+            StringBuilder line = new StringBuilder(names.get(id)).append('(');
+            int position = 0;
+            while (position < descriptor.length()) {
+                if (position > 0)
+                    line.append(", ");
+                position = printArgument(data, descriptor, position, line);
+            }
+            out.println(line.append(')'));
+        }
+    }
+
+    // Prints the argument of the type at position in the descriptor, returns the position of the next type
+    private static int printArgument(DataInputStream data, String descriptor, int position, StringBuilder line)
+            throws IOException {
+        char type = descriptor.charAt(position);
+        switch (type) {
+            case 'I': line.append(data.readInt()); return position + 1;
+            case 'J': line.append(data.readLong()); return position + 1;
+            case 'F': line.append(data.readFloat()); return position + 1;
+            case 'D': line.append(data.readDouble()); return position + 1;
+            case 'Z': line.append(data.readBoolean()); return position + 1;
+            case 'B': line.append(data.readByte()); return position + 1;
+            case 'S': line.append(data.readShort()); return position + 1;
+            case 'C': line.append((int) data.readChar()); return position + 1;
+            case '[': {
+                int length = data.readInt();
+                int elementEnd = typeEnd(descriptor, position + 1);
+                if (length < 0)
+                    line.append("null");
+                else {
+                    line.append('{');
+                    for (int i = 0; i < length; i++) {
+                        if (i > 0)
+                            line.append(", ");
+                        printArgument(data, descriptor, position + 1, line);
+                    }
+                    line.append('}');
+                }
+                return elementEnd;
+            }
+            default: {
+                int end = descriptor.indexOf(';', position) + 1;
+                String className = descriptor.substring(position, end);
+                if (className.equals("Ljava/lang/String;"))
+                    line.append('"').append(readString(data)).append('"');
+                else {
+                    int bytes = data.readInt();
+                    line.append(bytes < 0 ? "null" : "<" + bytes + " bytes>");
+                }
+                return end;
+            }
+        }
+    }
+
+    private static String readString(DataInputStream data) throws IOException {
+        byte[] bytes = new byte[data.readUnsignedShort()];
+        data.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int typeEnd(String descriptor, int position) {
+        while (descriptor.charAt(position) == '[')
+            position++;
+        return descriptor.charAt(position) == 'L' ? descriptor.indexOf(';', position) + 1 : position + 1;
+    }
+}
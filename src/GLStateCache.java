@@ -0,0 +1,612 @@
+import com.jogamp.common.nio.PointerBuffer;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2GL3;
+import com.jogamp.opengl.GL3;
+
+import java.nio.Buffer;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * Wraps a GL3 object and drops calls that would not change the OpenGL state:
+ * bound program, vertex array, buffers (also indexed uniform and storage buffer
+ * bindings), active texture unit, bound textures, enable flags and clear color.
+ * All other calls are passed through unchanged (see ForwardingGL3).
+ *
+ * The wrapper is a GL3 itself and is handed to all code that uses OpenGL
+ * (ShaderProgram, LoadTexture, ...). State changed past the wrapper, eg. by
+ * JOGL utility classes using the context's own GL object, must be announced
+ * with invalidate().
+ *
+ * The state is kept in int and long tables indexed by target, texture unit and
+ * binding index, so the tracked calls neither allocate nor box. Targets,
+ * units, indices and capabilities outside of the tables are passed through
+ * without tracking.
+ *
+ * Counts issued and skipped state calls, draw calls and the bytes transferred
+ * with glBufferData/glBufferSubData per frame, see beginFrame() and endFrame().
+ */
+public class GLStateCache extends ForwardingGL3 {
+
+    private static final int UNKNOWN = -1;
+
+    // Buffer targets with a tracked binding, the first four also have indexed bindings
+    private static final int[] BUFFER_TARGETS = {
+            GL3.GL_UNIFORM_BUFFER,
+            GL3.GL_SHADER_STORAGE_BUFFER,
+            GL3.GL_TRANSFORM_FEEDBACK_BUFFER,
+            GL3.GL_ATOMIC_COUNTER_BUFFER,
+            GL.GL_ARRAY_BUFFER,
+            GL.GL_ELEMENT_ARRAY_BUFFER,
+            GL3.GL_DRAW_INDIRECT_BUFFER,
+            GL3.GL_DISPATCH_INDIRECT_BUFFER,
+            GL3.GL_COPY_READ_BUFFER,
+            GL3.GL_COPY_WRITE_BUFFER,
+            GL3.GL_PIXEL_PACK_BUFFER,
+            GL3.GL_PIXEL_UNPACK_BUFFER,
+            GL3.GL_TEXTURE_BUFFER
+    };
+    private static final int INDEXED_TARGETS = 4;
+    private static final int MAX_BINDING_INDEX = 32;
+    private static final int ELEMENT_ARRAY_SLOT = 5;
+
+    private static final int[] TEXTURE_TARGETS = {
+            GL.GL_TEXTURE_2D,
+            GL2GL3.GL_TEXTURE_1D,
+            GL3.GL_TEXTURE_3D,
+            GL.GL_TEXTURE_CUBE_MAP,
+            GL2GL3.GL_TEXTURE_1D_ARRAY,
+            GL3.GL_TEXTURE_2D_ARRAY,
+            GL3.GL_TEXTURE_CUBE_MAP_ARRAY,
+            GL3.GL_TEXTURE_RECTANGLE,
+            GL3.GL_TEXTURE_BUFFER,
+            GL3.GL_TEXTURE_2D_MULTISAMPLE,
+            GL3.GL_TEXTURE_2D_MULTISAMPLE_ARRAY
+    };
+    private static final int MAX_TEXTURE_UNITS = 32;
+
+    private static final int[] CAPABILITIES = {
+            GL.GL_DEPTH_TEST,
+            GL.GL_CULL_FACE,
+            GL.GL_BLEND,
+            GL.GL_SCISSOR_TEST,
+            GL.GL_STENCIL_TEST,
+            GL.GL_POLYGON_OFFSET_FILL,
+            GL.GL_MULTISAMPLE,
+            GL.GL_SAMPLE_ALPHA_TO_COVERAGE,
+            GL.GL_DITHER,
+            GL3.GL_PRIMITIVE_RESTART,
+            GL3.GL_PRIMITIVE_RESTART_FIXED_INDEX,
+            GL3.GL_PROGRAM_POINT_SIZE,
+            GL3.GL_DEPTH_CLAMP,
+            GL3.GL_FRAMEBUFFER_SRGB,
+            GL3.GL_TEXTURE_CUBE_MAP_SEAMLESS,
+            GL3.GL_RASTERIZER_DISCARD
+    };
+
+    private int program;
+    private int vertexArray;
+    // Buffer bound to each of BUFFER_TARGETS
+    private final int[] buffers = new int[BUFFER_TARGETS.length];
+    // Indexed bindings, slot * MAX_BINDING_INDEX + index: buffer, offset and size (-1 for glBindBufferBase)
+    private final int[] indexedBuffers = new int[INDEXED_TARGETS * MAX_BINDING_INDEX];
+    private final long[] indexedOffsets = new long[INDEXED_TARGETS * MAX_BINDING_INDEX];
+    private final long[] indexedSizes = new long[INDEXED_TARGETS * MAX_BINDING_INDEX];
+    // Active unit as index (GL_TEXTURE0 = 0)
+    private int activeTexture;
+    // Texture bound per unit and target, unit * TEXTURE_TARGETS.length + slot
+    private final int[] textures = new int[MAX_TEXTURE_UNITS * TEXTURE_TARGETS.length];
+    // UNKNOWN, 0 (disabled) or 1 (enabled) for each of CAPABILITIES
+    private final int[] capabilities = new int[CAPABILITIES.length];
+    private final float[] clearColor = new float[4];
+    private boolean clearColorKnown;
+
+    private long stateCalls;
+    private long skippedCalls;
+    private long drawCalls;
+    private long uploadedBytes;
+    private long lastFrameCalls;
+    private long lastFrameStateCalls;
+    private long lastFrameSkippedCalls;
+    private long lastFrameDrawCalls;
+    private long lastFrameUploadedBytes;
+
+    /**
+     * Creates a state cache for a GL object. Nothing is known about the state at first.
+     * @param gl    GL object of the current context
+     */
+    public GLStateCache(GL3 gl) {
+        super(gl);
+        invalidate();
+    }
+
+    /**
+     * Returns the wrapped GL object to be used instead of the GL object of the drawable
+     */
+    @Override
+    public GL3 getGL() {
+        return this;
+    }
+
+    /**
+     * Forgets the tracked state, the next state calls are issued in any case.
+     */
+    public void invalidate() {
+        program = UNKNOWN;
+        vertexArray = UNKNOWN;
+        Arrays.fill(buffers, UNKNOWN);
+        Arrays.fill(indexedBuffers, UNKNOWN);
+        activeTexture = UNKNOWN;
+        Arrays.fill(textures, UNKNOWN);
+        Arrays.fill(capabilities, UNKNOWN);
+        clearColorKnown = false;
+    }
+
+    /**
+     * Starts counting the calls of a new frame.
+     */
+    public void beginFrame() {
+        calls = 0;
+        stateCalls = 0;
+        skippedCalls = 0;
+        drawCalls = 0;
+        uploadedBytes = 0;
+    }
+
+    /**
+     * Ends the frame, its counts are returned by the getters until the next endFrame().
+     */
+    public void endFrame() {
+        lastFrameCalls = calls;
+        lastFrameStateCalls = stateCalls;
+        lastFrameSkippedCalls = skippedCalls;
+        lastFrameDrawCalls = drawCalls;
+        lastFrameUploadedBytes = uploadedBytes;
+    }
+
+    /**
+     * Returns the number of GL calls passed to the driver in the last frame
+     */
+    public long getIssuedCalls() {
+        return lastFrameCalls;
+    }
+
+    /**
+     * Returns the number of tracked state calls (issued or skipped) in the last frame
+     */
+    public long getStateCalls() {
+        return lastFrameStateCalls;
+    }
+
+    /**
+     * Returns the number of state calls dropped in the last frame
+     */
+    public long getSkippedCalls() {
+        return lastFrameSkippedCalls;
+    }
+
+    /**
+     * Returns the number of draw calls (glDraw*, glMultiDraw*) in the last frame
+     */
+    public long getDrawCalls() {
+        return lastFrameDrawCalls;
+    }
+
+    /**
+     * Returns the number of bytes transferred to buffer objects in the last frame
+     */
+    public long getUploadedBytes() {
+        return lastFrameUploadedBytes;
+    }
+
+    @Override
+    public void glUseProgram(int id) {
+        if (skip(program == id))
+            return;
+        program = id;
+        super.glUseProgram(id);
+    }
+
+    @Override
+    public void glBindVertexArray(int id) {
+        if (skip(vertexArray == id))
+            return;
+        vertexArray = id;
+        // The element array buffer binding is part of the vertex array
+        buffers[ELEMENT_ARRAY_SLOT] = UNKNOWN;
+        super.glBindVertexArray(id);
+    }
+
+    @Override
+    public void glBindBuffer(int target, int id) {
+        int slot = indexOf(BUFFER_TARGETS, target);
+        if (slot >= 0) {
+            if (skip(buffers[slot] == id))
+                return;
+            buffers[slot] = id;
+        }
+        super.glBindBuffer(target, id);
+    }
+
+    @Override
+    public void glBindBufferBase(int target, int index, int id) {
+        if (bindIndexedBuffer(target, index, id, -1, -1))
+            super.glBindBufferBase(target, index, id);
+    }
+
+    @Override
+    public void glBindBufferRange(int target, int index, int id, long offset, long size) {
+        if (bindIndexedBuffer(target, index, id, offset, size))
+            super.glBindBufferRange(target, index, id, offset, size);
+    }
+
+    // Tracks an indexed binding, returns false if the call is to be skipped
+    private boolean bindIndexedBuffer(int target, int index, int id, long offset, long size) {
+        int slot = indexOf(BUFFER_TARGETS, target);
+        if (slot < 0 || slot >= INDEXED_TARGETS || index < 0 || index >= MAX_BINDING_INDEX) {
+            // Also binds the generic binding point of the target
+            if (slot >= 0)
+                buffers[slot] = id;
+            return true;
+        }
+        int binding = slot * MAX_BINDING_INDEX + index;
+        if (skip(indexedBuffers[binding] == id && indexedOffsets[binding] == offset
+                && indexedSizes[binding] == size && buffers[slot] == id))
+            return false;
+        indexedBuffers[binding] = id;
+        indexedOffsets[binding] = offset;
+        indexedSizes[binding] = size;
+        buffers[slot] = id;
+        return true;
+    }
+
+    @Override
+    public void glActiveTexture(int texture) {
+        int unit = texture - GL.GL_TEXTURE0;
+        if (skip(activeTexture == unit))
+            return;
+        activeTexture = unit;
+        super.glActiveTexture(texture);
+    }
+
+    @Override
+    public void glBindTexture(int target, int id) {
+        int slot = indexOf(TEXTURE_TARGETS, target);
+        if (slot >= 0 && activeTexture >= 0 && activeTexture < MAX_TEXTURE_UNITS) {
+            int binding = activeTexture * TEXTURE_TARGETS.length + slot;
+            if (skip(textures[binding] == id))
+                return;
+            textures[binding] = id;
+        }
+        super.glBindTexture(target, id);
+    }
+
+    @Override
+    public void glEnable(int cap) {
+        if (setCapability(cap, 1))
+            super.glEnable(cap);
+    }
+
+    @Override
+    public void glDisable(int cap) {
+        if (setCapability(cap, 0))
+            super.glDisable(cap);
+    }
+
+    // Tracks an enable flag, returns false if the call is to be skipped
+    private boolean setCapability(int cap, int enabled) {
+        int slot = indexOf(CAPABILITIES, cap);
+        if (slot < 0)
+            return true;
+        if (skip(capabilities[slot] == enabled))
+            return false;
+        capabilities[slot] = enabled;
+        return true;
+    }
+
+    @Override
+    public void glClearColor(float r, float g, float b, float a) {
+        if (skip(clearColorKnown && clearColor[0] == r && clearColor[1] == g
+                && clearColor[2] == b && clearColor[3] == a))
+            return;
+        clearColor[0] = r;
+        clearColor[1] = g;
+        clearColor[2] = b;
+        clearColor[3] = a;
+        clearColorKnown = true;
+        super.glClearColor(r, g, b, a);
+    }
+
+    // Deleting a bound object resets its binding to 0
+
+    @Override
+    public void glDeleteProgram(int id) {
+        if (program == id)
+            program = UNKNOWN;
+        super.glDeleteProgram(id);
+    }
+
+    @Override
+    public void glDeleteVertexArrays(int n, int[] ids, int offset) {
+        for (int i = 0; i < n; i++)
+            forgetVertexArray(ids[offset + i]);
+        super.glDeleteVertexArrays(n, ids, offset);
+    }
+
+    @Override
+    public void glDeleteVertexArrays(int n, IntBuffer ids) {
+        for (int i = 0; i < n; i++)
+            forgetVertexArray(ids.get(ids.position() + i));
+        super.glDeleteVertexArrays(n, ids);
+    }
+
+    private void forgetVertexArray(int id) {
+        if (vertexArray == id) {
+            vertexArray = UNKNOWN;
+            buffers[ELEMENT_ARRAY_SLOT] = UNKNOWN;
+        }
+    }
+
+    @Override
+    public void glDeleteBuffers(int n, int[] ids, int offset) {
+        for (int i = 0; i < n; i++)
+            forgetBuffer(ids[offset + i]);
+        super.glDeleteBuffers(n, ids, offset);
+    }
+
+    @Override
+    public void glDeleteBuffers(int n, IntBuffer ids) {
+        for (int i = 0; i < n; i++)
+            forgetBuffer(ids.get(ids.position() + i));
+        super.glDeleteBuffers(n, ids);
+    }
+
+    private void forgetBuffer(int id) {
+        forget(buffers, id);
+        forget(indexedBuffers, id);
+    }
+
+    @Override
+    public void glDeleteTextures(int n, int[] ids, int offset) {
+        for (int i = 0; i < n; i++)
+            forget(textures, ids[offset + i]);
+        super.glDeleteTextures(n, ids, offset);
+    }
+
+    @Override
+    public void glDeleteTextures(int n, IntBuffer ids) {
+        for (int i = 0; i < n; i++)
+            forget(textures, ids.get(ids.position() + i));
+        super.glDeleteTextures(n, ids);
+    }
+
+    // glBufferData without data only allocates
+
+    @Override
+    public void glBufferData(int target, long size, Buffer data, int usage) {
+        if (data != null)
+            uploadedBytes += size;
+        super.glBufferData(target, size, data, usage);
+    }
+
+    @Override
+    public void glBufferSubData(int target, long offset, long size, Buffer data) {
+        uploadedBytes += size;
+        super.glBufferSubData(target, offset, size, data);
+    }
+
+    // Draw calls
+
+    @Override
+    public void glDrawArrays(int mode, int first, int count) {
+        drawCalls++;
+        super.glDrawArrays(mode, first, count);
+    }
+
+    @Override
+    public void glDrawArraysIndirect(int mode, Buffer indirect) {
+        drawCalls++;
+        super.glDrawArraysIndirect(mode, indirect);
+    }
+
+    @Override
+    public void glDrawArraysIndirect(int mode, long indirect) {
+        drawCalls++;
+        super.glDrawArraysIndirect(mode, indirect);
+    }
+
+    @Override
+    public void glDrawArraysInstanced(int mode, int first, int count, int instances) {
+        drawCalls++;
+        super.glDrawArraysInstanced(mode, first, count, instances);
+    }
+
+    @Override
+    public void glDrawArraysInstancedBaseInstance(int mode, int first, int count, int instances,
+                                                  int baseInstance) {
+        drawCalls++;
+        super.glDrawArraysInstancedBaseInstance(mode, first, count, instances, baseInstance);
+    }
+
+    @Override
+    public void glDrawElements(int mode, int count, int type, long indices) {
+        drawCalls++;
+        super.glDrawElements(mode, count, type, indices);
+    }
+
+    @Override
+    public void glDrawElementsBaseVertex(int mode, int count, int type, Buffer indices, int baseVertex) {
+        drawCalls++;
+        super.glDrawElementsBaseVertex(mode, count, type, indices, baseVertex);
+    }
+
+    @Override
+    public void glDrawElementsBaseVertex(int mode, int count, int type, long indices, int baseVertex) {
+        drawCalls++;
+        super.glDrawElementsBaseVertex(mode, count, type, indices, baseVertex);
+    }
+
+    @Override
+    public void glDrawElementsIndirect(int mode, int type, Buffer indirect) {
+        drawCalls++;
+        super.glDrawElementsIndirect(mode, type, indirect);
+    }
+
+    @Override
+    public void glDrawElementsIndirect(int mode, int type, long indirect) {
+        drawCalls++;
+        super.glDrawElementsIndirect(mode, type, indirect);
+    }
+
+    @Override
+    public void glDrawElementsInstanced(int mode, int count, int type, long indices, int instances) {
+        drawCalls++;
+        super.glDrawElementsInstanced(mode, count, type, indices, instances);
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseInstance(int mode, int count, int type, long indices,
+                                                    int instances, int baseInstance) {
+        drawCalls++;
+        super.glDrawElementsInstancedBaseInstance(mode, count, type, indices, instances, baseInstance);
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseVertex(int mode, int count, int type, Buffer indices,
+                                                  int instances, int baseVertex) {
+        drawCalls++;
+        super.glDrawElementsInstancedBaseVertex(mode, count, type, indices, instances, baseVertex);
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseVertex(int mode, int count, int type, long indices,
+                                                  int instances, int baseVertex) {
+        drawCalls++;
+        super.glDrawElementsInstancedBaseVertex(mode, count, type, indices, instances, baseVertex);
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseVertexBaseInstance(int mode, int count, int type, long indices,
+                                                              int instances, int baseVertex, int baseInstance) {
+        drawCalls++;
+        super.glDrawElementsInstancedBaseVertexBaseInstance(mode, count, type, indices, instances,
+                baseVertex, baseInstance);
+    }
+
+    @Override
+    public void glDrawRangeElements(int mode, int start, int end, int count, int type, long indices) {
+        drawCalls++;
+        super.glDrawRangeElements(mode, start, end, count, type, indices);
+    }
+
+    @Override
+    public void glDrawRangeElementsBaseVertex(int mode, int start, int end, int count, int type,
+                                              Buffer indices, int baseVertex) {
+        drawCalls++;
+        super.glDrawRangeElementsBaseVertex(mode, start, end, count, type, indices, baseVertex);
+    }
+
+    @Override
+    public void glDrawRangeElementsBaseVertex(int mode, int start, int end, int count, int type,
+                                              long indices, int baseVertex) {
+        drawCalls++;
+        super.glDrawRangeElementsBaseVertex(mode, start, end, count, type, indices, baseVertex);
+    }
+
+    @Override
+    public void glDrawTransformFeedback(int mode, int id) {
+        drawCalls++;
+        super.glDrawTransformFeedback(mode, id);
+    }
+
+    @Override
+    public void glDrawTransformFeedbackInstanced(int mode, int id, int instances) {
+        drawCalls++;
+        super.glDrawTransformFeedbackInstanced(mode, id, instances);
+    }
+
+    @Override
+    public void glDrawTransformFeedbackStream(int mode, int id, int stream) {
+        drawCalls++;
+        super.glDrawTransformFeedbackStream(mode, id, stream);
+    }
+
+    @Override
+    public void glDrawTransformFeedbackStreamInstanced(int mode, int id, int stream, int instances) {
+        drawCalls++;
+        super.glDrawTransformFeedbackStreamInstanced(mode, id, stream, instances);
+    }
+
+    @Override
+    public void glMultiDrawArrays(int mode, int[] first, int firstOffset, int[] count, int countOffset,
+                                  int drawCount) {
+        drawCalls++;
+        super.glMultiDrawArrays(mode, first, firstOffset, count, countOffset, drawCount);
+    }
+
+    @Override
+    public void glMultiDrawArrays(int mode, IntBuffer first, IntBuffer count, int drawCount) {
+        drawCalls++;
+        super.glMultiDrawArrays(mode, first, count, drawCount);
+    }
+
+    @Override
+    public void glMultiDrawArraysIndirect(int mode, long indirect, int drawCount, int stride) {
+        drawCalls++;
+        super.glMultiDrawArraysIndirect(mode, indirect, drawCount, stride);
+    }
+
+    @Override
+    public void glMultiDrawArraysIndirectAMD(int mode, Buffer indirect, int drawCount, int stride) {
+        drawCalls++;
+        super.glMultiDrawArraysIndirectAMD(mode, indirect, drawCount, stride);
+    }
+
+    @Override
+    public void glMultiDrawElements(int mode, IntBuffer count, int type, PointerBuffer indices, int drawCount) {
+        drawCalls++;
+        super.glMultiDrawElements(mode, count, type, indices, drawCount);
+    }
+
+    @Override
+    public void glMultiDrawElementsBaseVertex(int mode, IntBuffer count, int type, PointerBuffer indices,
+                                              int drawCount, IntBuffer baseVertex) {
+        drawCalls++;
+        super.glMultiDrawElementsBaseVertex(mode, count, type, indices, drawCount, baseVertex);
+    }
+
+    @Override
+    public void glMultiDrawElementsIndirect(int mode, int type, Buffer indirect, int drawCount, int stride) {
+        drawCalls++;
+        super.glMultiDrawElementsIndirect(mode, type, indirect, drawCount, stride);
+    }
+
+    @Override
+    public void glMultiDrawElementsIndirectAMD(int mode, int type, Buffer indirect, int drawCount, int stride) {
+        drawCalls++;
+        super.glMultiDrawElementsIndirectAMD(mode, type, indirect, drawCount, stride);
+    }
+
+    // Counts a tracked state call, returns true if it is to be skipped
+    private boolean skip(boolean unchanged) {
+        stateCalls++;
+        if (unchanged)
+            skippedCalls++;
+        return unchanged;
+    }
+
+    // Position of a GL enum in a table, -1 if it is not tracked
+    private static int indexOf(int[] table, int value) {
+        for (int i = 0; i < table.length; i++)
+            if (table[i] == value)
+                return i;
+        return -1;
+    }
+
+    // Bindings of a deleted object are reset to 0, the cache forgets them
+    private static void forget(int[] bindings, int id) {
+        for (int i = 0; i < bindings.length; i++)
+            if (bindings[i] == id)
+                bindings[i] = UNKNOWN;
+    }
+}
@@ -0,0 +1,211 @@
+import com.jogamp.common.util.VersionNumber;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL3;
+
+/**
+ * Measures the GPU time of passes (eg. the draws of the table or of the cards)
+ * with GL_TIME_ELAPSED queries and the GPU time of whole frames with two
+ * GL_TIMESTAMP queries. The CPU time of every pass is measured as well, both
+ * are recorded in a FrameTelemetry.
+ *
+ * The queries of a frame are read RING_SIZE frames later, when the GPU has
+ * finished the frame, so reading never stalls. If the results of a frame are
+ * still not available then, the frame is dropped from the statistics.
+ *
+ * Without timer query support (GL 3.3 / ARB_timer_query, counter bits > 0)
+ * the profiler does nothing. GL_TIME_ELAPSED queries cannot be nested, so
+ * passes must not overlap. Every pass is measured at most once per frame.
+ */
+public class GpuProfiler {
+
+    /** Number of frames between issuing and reading a query */
+    public static final int RING_SIZE = 4;
+
+    private final FrameTelemetry telemetry;
+    private final boolean enabled;
+    private final int[] passIDs = new int[FrameTelemetry.MAX_PASSES]; // pass IDs of the telemetry
+    private int passCount;
+    private final int framePass;
+
+    // Per ring slot: elapsed query per pass, then start and end timestamp
+    private int[] queryNames;
+    private int queriesPerSlot;
+    private boolean[] passIssued;
+    private final boolean[] slotIssued = new boolean[RING_SIZE];
+    private int slot;
+    private long frame;
+    private int activePass = -1;
+    private long passStart;
+    private long frameStart;
+    private long droppedFrames;
+
+    private final int[] available = new int[1];
+    private final long[] result = new long[1];
+
+    /**
+     * Creates a profiler, passes are added with addPass() before the first frame.
+     * @param gl        OpenGL context
+     * @param telemetry Receives the CPU and GPU times
+     */
+    public GpuProfiler(GL3 gl, FrameTelemetry telemetry) {
+        this.telemetry = telemetry;
+        enabled = isTimerQuerySupported(gl);
+        if (!enabled)
+            System.err.println("Timer queries not supported, GPU times are not measured.");
+        framePass = addPass("frame");
+    }
+
+    private static boolean isTimerQuerySupported(GL3 gl) {
+        VersionNumber version = gl.getContext().getGLVersionNumber();
+        boolean core33 = version.getMajor() > 3 || version.getMajor() == 3 && version.getMinor() >= 3;
+        if (!core33 && !gl.isExtensionAvailable("GL_ARB_timer_query"))
+            return false;
+        int[] bits = new int[1];
+        gl.glGetQueryiv(GL2ES2.GL_TIME_ELAPSED, GL2ES2.GL_QUERY_COUNTER_BITS, bits, 0);
+        return bits[0] > 0;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Adds a pass.
+     * @param name  Name of the pass in the telemetry
+     * @return      ID of the pass
+     */
+    public int addPass(String name) {
+        if (queryNames != null)
+            throw new IllegalStateException("Passes must be added before the first frame.");
+        passIDs[passCount] = telemetry.addPass(name);
+        return passCount++;
+    }
+
+    /**
+     * Reads the results of the frame RING_SIZE frames ago and starts a frame.
+     * @param gl    OpenGL context
+     */
+    public void beginFrame(GL3 gl) {
+        frameStart = System.nanoTime();
+        if (!enabled)
+            return;
+        if (queryNames == null) {
+            queriesPerSlot = passCount + 2;
+            queryNames = new int[RING_SIZE * queriesPerSlot];
+            passIssued = new boolean[RING_SIZE * passCount];
+            gl.glGenQueries(queryNames.length, queryNames, 0);
+        }
+        slot = (int) (frame % RING_SIZE);
+        if (slotIssued[slot])
+            readSlot(gl);
+        for (int pass = 0; pass < passCount; pass++)
+            passIssued[slot * passCount + pass] = false;
+        gl.glQueryCounter(timestampQuery(0), GL2ES2.GL_TIMESTAMP);
+    }
+
+    /**
+     * Starts measuring a pass.
+     * @param gl    OpenGL context
+     * @param pass  ID returned by addPass()
+     */
+    public void beginPass(GL3 gl, int pass) {
+        if (activePass >= 0)
+            throw new IllegalStateException("Passes cannot be nested.");
+        activePass = pass;
+        passStart = System.nanoTime();
+        if (!enabled || passIssued[slot * passCount + pass])
+            return;
+        gl.glBeginQuery(GL2ES2.GL_TIME_ELAPSED, queryNames[slot * queriesPerSlot + pass]);
+        passIssued[slot * passCount + pass] = true;
+    }
+
+    /**
+     * Ends the pass started by beginPass().
+     * @param gl    OpenGL context
+     */
+    public void endPass(GL3 gl) {
+        telemetry.recordPassCpuTime(passIDs[activePass], System.nanoTime() - passStart);
+        if (enabled && passIssued[slot * passCount + activePass])
+            gl.glEndQuery(GL2ES2.GL_TIME_ELAPSED);
+        activePass = -1;
+    }
+
+    /**
+     * Ends the frame started by beginFrame().
+     * @param gl    OpenGL context
+     */
+    public void endFrame(GL3 gl) {
+        telemetry.recordPassCpuTime(passIDs[framePass], System.nanoTime() - frameStart);
+        if (!enabled)
+            return;
+        gl.glQueryCounter(timestampQuery(1), GL2ES2.GL_TIMESTAMP);
+        slotIssued[slot] = true;
+        frame++;
+    }
+
+    /**
+     * Returns a Renderable that draws the given one as a pass.
+     * @param renderable    Renderable to measure
+     * @param pass          ID returned by addPass()
+     */
+    public Renderable wrap(Renderable renderable, int pass) {
+        return new Renderable() {
+            @Override
+            public void draw(GL3 gl) {
+                beginPass(gl, pass);
+                renderable.draw(gl);
+                endPass(gl);
+            }
+
+            @Override
+            public int getVertexArrayID() {
+                return renderable.getVertexArrayID();
+            }
+
+            @Override
+            public long getTriangleCount() {
+                return renderable.getTriangleCount();
+            }
+        };
+    }
+
+    /**
+     * Returns the number of frames whose results were not available in time
+     */
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+
+    /**
+     * Deletes the queries.
+     * @param gl    OpenGL context
+     */
+    public void dispose(GL3 gl) {
+        if (queryNames != null)
+            gl.glDeleteQueries(queryNames.length, queryNames, 0);
+    }
+
+    private void readSlot(GL3 gl) {
+        // The end timestamp is the last query of the frame, the GPU finishes them in order
+        gl.glGetQueryObjectuiv(timestampQuery(1), GL2ES2.GL_QUERY_RESULT_AVAILABLE, available, 0);
+        if (available[0] == 0) {
+            droppedFrames++;
+            return;
+        }
+        gl.glGetQueryObjectui64v(timestampQuery(0), GL2ES2.GL_QUERY_RESULT, result, 0);
+        long start = result[0];
+        gl.glGetQueryObjectui64v(timestampQuery(1), GL2ES2.GL_QUERY_RESULT, result, 0);
+        telemetry.recordPassGpuTime(passIDs[framePass], result[0] - start);
+        for (int pass = 0; pass < passCount; pass++) {
+            if (!passIssued[slot * passCount + pass])
+                continue;
+            gl.glGetQueryObjectui64v(queryNames[slot * queriesPerSlot + pass], GL2ES2.GL_QUERY_RESULT, result, 0);
+            telemetry.recordPassGpuTime(passIDs[pass], result[0]);
+        }
+    }
+
+    // index 0: start, 1: end of the frame of the current slot
+    private int timestampQuery(int index) {
+        return queryNames[slot * queriesPerSlot + passCount + index];
+    }
+}
@@ -0,0 +1,269 @@
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Submits a whole scene with one glMultiDrawElementsIndirect call.
+ * All meshes share one vertex and index buffer. Every draw is described by a
+ * DrawElementsIndirectCommand and reads its model matrix and material from a
+ * shader storage buffer (binding 0). Requires the shader program to be built
+ * with the define "INDIRECT" (see BlinnPhongPointTex.vert).
+ *
+ * Usage: add meshes with beginMesh()/endMesh(), call upload() once, then add the
+ * draws of the visible objects with addDraw() and submit them with draw().
+ * Draws are kept until clearDraws(), only changed draws are transferred.
+ */
+public class IndirectScene implements Renderable {
+
+    // DrawElementsIndirectCommand: count, instanceCount, firstIndex, baseVertex, baseInstance
+    private static final int COMMAND_SIZE = 5 * 4;
+    // DrawData (std430): model matrix, emission, ambient, diffuse, specular, shininess (vec4)
+    private static final int DRAW_DATA_SIZE = (16 + 5 * 4) * 4;
+    private static final int DRAW_DATA_BINDING = 0;
+    private static final int DRAW_INDEX_LOCATION = 10;
+
+    private MeshBuilder builder;
+    // first index and index count of each mesh
+    private int[] meshFirstIndex = new int[8];
+    private int[] meshIndexCount = new int[8];
+    private int[] meshTriangleCount = new int[8];
+    private BoundingBox[] meshBounds = new BoundingBox[8];
+    private int meshCount;
+    private int meshStartIndex;
+    private int indexType;
+
+    private final int maxDraws;
+    private final ByteBuffer commands;
+    private final ByteBuffer drawData;
+    private int commandCount;
+    private long triangleCount;
+    private int drawDataCount;
+    private boolean drawsChanged;
+
+    private final int[] vaoName = new int[1];
+    // VBO, IBO, draw index buffer, indirect command buffer, draw data buffer
+    private final int[] bufferNames = new int[5];
+
+    /**
+     * Creates an empty scene.
+     * @param format    Vertex layout of all meshes
+     * @param maxDraws  Maximum number of draw data entries (objects) per frame
+     */
+    public IndirectScene(VertexFormat format, int maxDraws) {
+        this.maxDraws = maxDraws;
+        builder = new MeshBuilder(format);
+        builder.setPrimitiveRestart(true);
+        commands = DirectBufferPool.SHARED.acquire(maxDraws * COMMAND_SIZE);
+        drawData = DirectBufferPool.SHARED.acquire(maxDraws * DRAW_DATA_SIZE);
+    }
+
+    /**
+     * Starts a new mesh.
+     * @return  Builder to write the mesh to (in model coordinates)
+     */
+    public MeshBuilder beginMesh() {
+        if (builder == null)
+            throw new IllegalStateException("Meshes have already been uploaded.");
+        builder.restart();
+        builder.resetBounds();
+        meshStartIndex = builder.getIndexCount();
+        return builder;
+    }
+
+    /**
+     * Ends the mesh started by beginMesh().
+     * @return  Mesh ID to be used with addDraw()
+     */
+    public int endMesh() {
+        if (meshCount == meshFirstIndex.length) {
+            meshFirstIndex = Arrays.copyOf(meshFirstIndex, meshCount * 2);
+            meshIndexCount = Arrays.copyOf(meshIndexCount, meshCount * 2);
+            meshTriangleCount = Arrays.copyOf(meshTriangleCount, meshCount * 2);
+            meshBounds = Arrays.copyOf(meshBounds, meshCount * 2);
+        }
+        meshFirstIndex[meshCount] = meshStartIndex;
+        meshIndexCount[meshCount] = builder.getIndexCount() - meshStartIndex;
+        meshTriangleCount[meshCount] = builder.getTriangleCount(meshStartIndex, meshIndexCount[meshCount]);
+        meshBounds[meshCount] = new BoundingBox();
+        meshBounds[meshCount].set(builder.getBounds());
+        return meshCount++;
+    }
+
+    /**
+     * Returns the bounding box of a mesh in model coordinates
+     * @param mesh  Mesh ID returned by endMesh()
+     */
+    public BoundingBox getMeshBounds(int mesh) {
+        return meshBounds[mesh];
+    }
+
+    /**
+     * Creates the VAO and buffers and transfers all meshes to the GPU.
+     * No meshes can be added afterwards.
+     * @param gl    OpenGL context
+     */
+    public void upload(GL3 gl) {
+        gl.glGenVertexArrays(1, vaoName, 0);
+        if (vaoName[0] < 1)
+            System.err.println("Error allocating vertex array object (VAO).");
+        gl.glBindVertexArray(vaoName[0]);
+
+        gl.glGenBuffers(bufferNames.length, bufferNames, 0);
+        for (int i = 0; i < bufferNames.length; i++) {
+            if (bufferNames[i] < 1)
+                System.err.println("Error allocating buffer object.");
+        }
+
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, bufferNames[0]);
+        gl.glBufferData(GL.GL_ARRAY_BUFFER, builder.getVertexByteCount(),
+                builder.getVertexData(), GL.GL_STATIC_DRAW);
+        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, bufferNames[1]);
+        gl.glBufferData(GL.GL_ELEMENT_ARRAY_BUFFER, builder.getIndexByteCount(),
+                builder.getIndexData(), GL.GL_STATIC_DRAW);
+        builder.getFormat().setupAttributes(gl);
+        indexType = builder.getIndexType();
+        builder.release();
+        builder = null;
+
+        // Draw index attribute 0, 1, 2, ... advanced per instance, so it is fetched
+        // at baseInstance (+ instance) of each command
+        ByteBuffer drawIndices = DirectBufferPool.SHARED.acquire(maxDraws * 4);
+        for (int i = 0; i < maxDraws; i++)
+            drawIndices.putInt(i * 4, i);
+        drawIndices.limit(maxDraws * 4);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, bufferNames[2]);
+        gl.glBufferData(GL.GL_ARRAY_BUFFER, maxDraws * 4, drawIndices, GL.GL_STATIC_DRAW);
+        DirectBufferPool.SHARED.release(drawIndices);
+        gl.glEnableVertexAttribArray(DRAW_INDEX_LOCATION);
+        gl.glVertexAttribIPointer(DRAW_INDEX_LOCATION, 1, GL.GL_UNSIGNED_INT, 4, 0);
+        gl.glVertexAttribDivisor(DRAW_INDEX_LOCATION, 1);
+        gl.glBindVertexArray(0);
+
+        gl.glBindBuffer(GL3.GL_DRAW_INDIRECT_BUFFER, bufferNames[3]);
+        gl.glBufferData(GL3.GL_DRAW_INDIRECT_BUFFER, (long) maxDraws * COMMAND_SIZE, null, GL.GL_DYNAMIC_DRAW);
+        gl.glBindBuffer(GL3.GL_SHADER_STORAGE_BUFFER, bufferNames[4]);
+        gl.glBufferData(GL3.GL_SHADER_STORAGE_BUFFER, (long) maxDraws * DRAW_DATA_SIZE, null, GL.GL_DYNAMIC_DRAW);
+    }
+
+    /**
+     * Removes all draws, eg. at the start of a frame.
+     */
+    public void clearDraws() {
+        commandCount = 0;
+        triangleCount = 0;
+        drawDataCount = 0;
+        drawsChanged = true;
+    }
+
+    /**
+     * Adds a draw of a mesh with instanceCount instances. Every instance has its own
+     * draw data entry, to be filled with setTransform() and setMaterial().
+     * @param mesh          Mesh ID returned by endMesh()
+     * @param instanceCount Number of instances
+     * @return              Index of the draw data entry of the first instance
+     */
+    public int addDraw(int mesh, int instanceCount) {
+        if (drawDataCount + instanceCount > maxDraws)
+            throw new IllegalStateException("Maximum number of draws reached: " + maxDraws);
+        int pos = commandCount * COMMAND_SIZE;
+        commands.putInt(pos, meshIndexCount[mesh]);        // count
+        commands.putInt(pos + 4, instanceCount);            // instanceCount
+        commands.putInt(pos + 8, meshFirstIndex[mesh]);     // firstIndex
+        commands.putInt(pos + 12, 0);                       // baseVertex
+        commands.putInt(pos + 16, drawDataCount);           // baseInstance
+        commandCount++;
+        triangleCount += (long) meshTriangleCount[mesh] * instanceCount;
+        int first = drawDataCount;
+        drawDataCount += instanceCount;
+        drawsChanged = true;
+        return first;
+    }
+
+    /**
+     * Sets the model matrix of a draw data entry.
+     * @param entry         Index returned by addDraw() (+ instance)
+     * @param modelMatrix   Column major 4x4 model matrix
+     */
+    public void setTransform(int entry, float[] modelMatrix) {
+        int pos = entry * DRAW_DATA_SIZE;
+        for (int i = 0; i < 16; i++)
+            drawData.putFloat(pos + i * 4, modelMatrix[i]);
+        drawsChanged = true;
+    }
+
+    /**
+     * Sets the material of a draw data entry.
+     * @param entry     Index returned by addDraw() (+ instance)
+     * @param material  Material of the object
+     */
+    public void setMaterial(int entry, Material material) {
+        int pos = entry * DRAW_DATA_SIZE + 16 * 4;
+        putVec4(pos, material.getEmission());
+        putVec4(pos + 16, material.getAmbient());
+        putVec4(pos + 32, material.getDiffuse());
+        putVec4(pos + 48, material.getSpecular());
+        drawData.putFloat(pos + 64, material.getShininess());
+        drawsChanged = true;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Transfers changed draws to the GPU and submits all draws with one call.
+     * The shader program, camera and light uniforms and textures must be set by the caller.
+     * @param gl    OpenGL context
+     */
+    @Override
+    public void draw(GL3 gl) {
+        if (commandCount == 0)
+            return;
+        gl.glBindBuffer(GL3.GL_DRAW_INDIRECT_BUFFER, bufferNames[3]);
+        if (drawsChanged) {
+            commands.limit(commandCount * COMMAND_SIZE).position(0);
+            gl.glBufferSubData(GL3.GL_DRAW_INDIRECT_BUFFER, 0, commandCount * COMMAND_SIZE, commands);
+            commands.clear();
+            drawData.limit(drawDataCount * DRAW_DATA_SIZE).position(0);
+            gl.glBindBuffer(GL3.GL_SHADER_STORAGE_BUFFER, bufferNames[4]);
+            gl.glBufferSubData(GL3.GL_SHADER_STORAGE_BUFFER, 0, drawDataCount * DRAW_DATA_SIZE, drawData);
+            drawData.clear();
+            drawsChanged = false;
+        }
+        gl.glBindBufferBase(GL3.GL_SHADER_STORAGE_BUFFER, DRAW_DATA_BINDING, bufferNames[4]);
+        gl.glBindVertexArray(vaoName[0]);
+        // JOGL only offers the client memory variant, a null buffer is offset 0
+        // into the bound GL_DRAW_INDIRECT_BUFFER
+        gl.glMultiDrawElementsIndirect(GL.GL_TRIANGLE_STRIP, indexType, null, commandCount, 0);
+    }
+
+    @Override
+    public int getVertexArrayID() {
+        return vaoName[0];
+    }
+
+    @Override
+    public long getTriangleCount() {
+        return triangleCount;
+    }
+
+    /**
+     * Deletes the VAO and buffers and returns the client side storage to the pool.
+     * @param gl    OpenGL context
+     */
+    public void dispose(GL3 gl) {
+        gl.glDeleteVertexArrays(1, vaoName, 0);
+        gl.glDeleteBuffers(bufferNames.length, bufferNames, 0);
+        DirectBufferPool.SHARED.release(commands);
+        DirectBufferPool.SHARED.release(drawData);
+    }
+
+    private void putVec4(int pos, float[] v) {
+        drawData.putFloat(pos, v[0]);
+        drawData.putFloat(pos + 4, v[1]);
+        drawData.putFloat(pos + 8, v[2]);
+        drawData.putFloat(pos + 12, v[3]);
+    }
+}
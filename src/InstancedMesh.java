@@ -0,0 +1,310 @@
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One mesh (eg. a unit card or cuboid) drawn many times with a single
+ * glDrawElementsInstanced call. Every instance has its own model matrix,
+ * texture coordinate rectangle and flags, stored in an instance buffer.
+ * Requires the shader program to be built with the define "INSTANCED"
+ * (see BlinnPhongPointTex.vert, attribute locations 4 - 9).
+ *
+ * Changed instances are collected in a dirty range and transferred to the GPU
+ * with one glBufferSubData call before the next draw.
+ *
+ * A range of the instances can be drawn on its own (drawInstances(), Range),
+ * eg. instances of the same mesh with different materials or textures.
+ */
+public class InstancedMesh implements Renderable {
+
+    /** Instance is turned upside down (mirrored at its xz-plane) */
+    public static final int FLAG_FACE_DOWN = 1;
+    /** Instance is drawn with an additional emission (eg. selected card) */
+    public static final int FLAG_HIGHLIGHT = 2;
+
+    // Instance layout: model matrix (16 floats), uv rectangle (4 floats), flags (1 uint)
+    private static final int INSTANCE_STRIDE = (16 + 4 + 1) * 4;
+    private static final int MATRIX_OFFSET = 0;
+    private static final int UV_RECT_OFFSET = 16 * 4;
+    private static final int FLAGS_OFFSET = 20 * 4;
+    private static final int MATRIX_LOCATION = 4;
+    private static final int UV_RECT_LOCATION = 8;
+    private static final int FLAGS_LOCATION = 9;
+
+    private final int maxInstances;
+    private final ByteBuffer instanceData;
+    private int instanceCount;
+    // Range of instances changed since the last transfer to the GPU
+    private int dirtyFrom = Integer.MAX_VALUE;
+    private int dirtyTo = 0;
+
+    private final int[] vaoName = new int[1];
+    private final int[] bufferNames = new int[3]; // VBO, IBO, instance buffer
+    private int indexCount;
+    private int meshTriangleCount;
+    private int indexType;
+    // Bounds of the mesh and of all instances
+    private final BoundingBox meshBounds = new BoundingBox();
+    private final BoundingBox instanceBounds = new BoundingBox();
+    private final BoundingBox bounds = new BoundingBox();
+
+    /**
+     * Creates an instanced mesh without instances.
+     * @param maxInstances  Maximum number of instances
+     */
+    public InstancedMesh(int maxInstances) {
+        this.maxInstances = maxInstances;
+        instanceData = DirectBufferPool.SHARED.acquire(maxInstances * INSTANCE_STRIDE);
+    }
+
+    /**
+     * Creates the VAO and buffers and transfers the mesh to the GPU.
+     * @param gl    OpenGL context
+     * @param mesh  Builder containing the mesh of one instance (in model coordinates)
+     */
+    public void upload(GL3 gl, MeshBuilder mesh) {
+        gl.glGenVertexArrays(1, vaoName, 0);
+        if (vaoName[0] < 1)
+            System.err.println("Error allocating vertex array object (VAO).");
+        gl.glBindVertexArray(vaoName[0]);
+
+        gl.glGenBuffers(3, bufferNames, 0);
+        if (bufferNames[0] < 1 || bufferNames[1] < 1 || bufferNames[2] < 1)
+            System.err.println("Error allocating buffer objects.");
+
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, bufferNames[0]);
+        gl.glBufferData(GL.GL_ARRAY_BUFFER, mesh.getVertexByteCount(),
+                mesh.getVertexData(), GL.GL_STATIC_DRAW);
+        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, bufferNames[1]);
+        gl.glBufferData(GL.GL_ELEMENT_ARRAY_BUFFER, mesh.getIndexByteCount(),
+                mesh.getIndexData(), GL.GL_STATIC_DRAW);
+        mesh.getFormat().setupAttributes(gl);
+        indexCount = mesh.getIndexCount();
+        meshTriangleCount = mesh.getTriangleCount();
+        indexType = mesh.getIndexType();
+        meshBounds.set(mesh.getBounds());
+
+        // Per instance attributes, advanced once per instance (divisor 1)
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, bufferNames[2]);
+        gl.glBufferData(GL.GL_ARRAY_BUFFER, (long) maxInstances * INSTANCE_STRIDE,
+                null, GL.GL_DYNAMIC_DRAW);
+        for (int column = 0; column < 4; column++) {
+            gl.glEnableVertexAttribArray(MATRIX_LOCATION + column);
+            gl.glVertexAttribPointer(MATRIX_LOCATION + column, 4, GL.GL_FLOAT, false,
+                    INSTANCE_STRIDE, MATRIX_OFFSET + column * 4 * 4);
+            gl.glVertexAttribDivisor(MATRIX_LOCATION + column, 1);
+        }
+        gl.glEnableVertexAttribArray(UV_RECT_LOCATION);
+        gl.glVertexAttribPointer(UV_RECT_LOCATION, 4, GL.GL_FLOAT, false, INSTANCE_STRIDE, UV_RECT_OFFSET);
+        gl.glVertexAttribDivisor(UV_RECT_LOCATION, 1);
+        gl.glEnableVertexAttribArray(FLAGS_LOCATION);
+        gl.glVertexAttribIPointer(FLAGS_LOCATION, 1, GL.GL_UNSIGNED_INT, INSTANCE_STRIDE, FLAGS_OFFSET);
+        gl.glVertexAttribDivisor(FLAGS_LOCATION, 1);
+
+        gl.glBindVertexArray(0);
+    }
+
+    /**
+     * Appends an instance showing the whole texture.
+     * @param modelMatrix   Column major 4x4 model matrix
+     * @param flags         Combination of FLAG_FACE_DOWN and FLAG_HIGHLIGHT
+     * @return              Index of the instance
+     */
+    public int addInstance(float[] modelMatrix, int flags) {
+        return addInstance(modelMatrix, 0f, 0f, 1f, 1f, flags);
+    }
+
+    /**
+     * Appends an instance.
+     * @param modelMatrix   Column major 4x4 model matrix
+     * @param u0            Texture coordinate rectangle (eg. one card of a card atlas)
+     * @param v0            ...
+     * @param u1            ...
+     * @param v1            ...
+     * @param flags         Combination of FLAG_FACE_DOWN and FLAG_HIGHLIGHT
+     * @return              Index of the instance
+     */
+    public int addInstance(float[] modelMatrix, float u0, float v0, float u1, float v1, int flags) {
+        if (instanceCount == maxInstances)
+            throw new IllegalStateException("Maximum number of instances reached: " + maxInstances);
+        int instance = instanceCount++;
+        setTransform(instance, modelMatrix);
+        setUVRect(instance, u0, v0, u1, v1);
+        setFlags(instance, flags);
+        return instance;
+    }
+
+    public void setTransform(int instance, float[] modelMatrix) {
+        int pos = instance * INSTANCE_STRIDE + MATRIX_OFFSET;
+        for (int i = 0; i < 16; i++)
+            instanceData.putFloat(pos + i * 4, modelMatrix[i]);
+        // The bounds only grow, a moved instance may leave its old place inside them
+        instanceBounds.setTransformed(meshBounds, modelMatrix);
+        bounds.extend(instanceBounds);
+        markDirty(instance);
+    }
+
+    public void setUVRect(int instance, float u0, float v0, float u1, float v1) {
+        int pos = instance * INSTANCE_STRIDE + UV_RECT_OFFSET;
+        instanceData.putFloat(pos, u0);
+        instanceData.putFloat(pos + 4, v0);
+        instanceData.putFloat(pos + 8, u1);
+        instanceData.putFloat(pos + 12, v1);
+        markDirty(instance);
+    }
+
+    public void setFlags(int instance, int flags) {
+        instanceData.putInt(instance * INSTANCE_STRIDE + FLAGS_OFFSET, flags);
+        markDirty(instance);
+    }
+
+    public int getFlags(int instance) {
+        return instanceData.getInt(instance * INSTANCE_STRIDE + FLAGS_OFFSET);
+    }
+
+    /**
+     * Removes all instances.
+     */
+    public void clear() {
+        instanceCount = 0;
+        bounds.setEmpty();
+        dirtyFrom = Integer.MAX_VALUE;
+        dirtyTo = 0;
+    }
+
+    /**
+     * Returns the bounding box of the mesh of one instance (known after upload())
+     */
+    public BoundingBox getMeshBounds() {
+        return meshBounds;
+    }
+
+    /**
+     * Returns the bounding box of all instances (added after upload())
+     */
+    public BoundingBox getBounds() {
+        return bounds;
+    }
+
+    public int getInstanceCount() {
+        return instanceCount;
+    }
+
+    /**
+     * Transfers changed instances to the GPU and draws all instances with one call.
+     * The shader program, uniforms and textures must be set by the caller.
+     * @param gl    OpenGL context
+     */
+    @Override
+    public void draw(GL3 gl) {
+        drawInstances(gl, 0, instanceCount);
+    }
+
+    /**
+     * Transfers changed instances to the GPU and draws a range of the instances with one call.
+     * The shader program, uniforms and textures must be set by the caller.
+     * @param gl            OpenGL context
+     * @param firstInstance Index of the first instance to draw
+     * @param count         Number of instances to draw
+     */
+    public void drawInstances(GL3 gl, int firstInstance, int count) {
+        if (count == 0)
+            return;
+        if (dirtyFrom < dirtyTo) {
+            int offset = dirtyFrom * INSTANCE_STRIDE;
+            int size = (dirtyTo - dirtyFrom) * INSTANCE_STRIDE;
+            instanceData.limit(offset + size).position(offset);
+            gl.glBindBuffer(GL.GL_ARRAY_BUFFER, bufferNames[2]);
+            gl.glBufferSubData(GL.GL_ARRAY_BUFFER, offset, size, instanceData);
+            instanceData.clear();
+            dirtyFrom = Integer.MAX_VALUE;
+            dirtyTo = 0;
+        }
+        gl.glBindVertexArray(vaoName[0]);
+        if (firstInstance == 0)
+            gl.glDrawElementsInstanced(GL.GL_TRIANGLE_STRIP, indexCount, indexType, 0, count);
+        else
+            // The instance attributes are fetched from firstInstance on
+            gl.glDrawElementsInstancedBaseInstance(GL.GL_TRIANGLE_STRIP, indexCount, indexType, 0,
+                    count, firstInstance);
+    }
+
+    @Override
+    public int getVertexArrayID() {
+        return vaoName[0];
+    }
+
+    @Override
+    public long getTriangleCount() {
+        return (long) meshTriangleCount * instanceCount;
+    }
+
+    /**
+     * Returns the number of triangles of one instance
+     */
+    public int getMeshTriangleCount() {
+        return meshTriangleCount;
+    }
+
+    /**
+     * Deletes the VAO and buffers and returns the instance storage to the pool.
+     * @param gl    OpenGL context
+     */
+    public void dispose(GL3 gl) {
+        gl.glDeleteVertexArrays(1, vaoName, 0);
+        gl.glDeleteBuffers(3, bufferNames, 0);
+        DirectBufferPool.SHARED.release(instanceData);
+    }
+
+    /**
+     * A range of the instances of an InstancedMesh, drawn with drawInstances().
+     */
+    public static class Range implements Renderable {
+
+        private final InstancedMesh mesh;
+        private int firstInstance;
+        private int count;
+
+        public Range(InstancedMesh mesh) {
+            this.mesh = mesh;
+        }
+
+        public void set(int firstInstance, int count) {
+            this.firstInstance = firstInstance;
+            this.count = count;
+        }
+
+        public InstancedMesh getMesh() {
+            return mesh;
+        }
+
+        public int getFirstInstance() {
+            return firstInstance;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        @Override
+        public void draw(GL3 gl) {
+            mesh.drawInstances(gl, firstInstance, count);
+        }
+
+        @Override
+        public int getVertexArrayID() {
+            return mesh.getVertexArrayID();
+        }
+
+        @Override
+        public long getTriangleCount() {
+            return (long) mesh.getMeshTriangleCount() * count;
+        }
+    }
+
+    private void markDirty(int instance) {
+        dirtyFrom = Math.min(dirtyFrom, instance);
+        dirtyTo = Math.max(dirtyTo, instance + 1);
+    }
+}
@@ -1,5 +1,6 @@
 import java.awt.*;
 import java.awt.event.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
 
 /**
  * Java class for handling the keyboard and mouse interaction.
@@ -28,10 +29,31 @@ public class InteractionHandler implements KeyListener, MouseListener, MouseMoti
     private float yPositionInc= 0.1f;
     // Variables for keyboard control
     private boolean ctrlKeyPressed = false;
+    // Set by the key F12, taken by the renderer
+    private volatile boolean screenshotRequested = false;
+    // Camera values of the current frame, replaced by update() and the setters
+    private volatile CameraState cameraState;
+    // Changes of the input events since the last update(), float bits per camera value
+    private static final int DELTA_EYE_Z = 0;
+    private static final int DELTA_ANGLE_X = 1;
+    private static final int DELTA_ANGLE_Y = 2;
+    private static final int DELTA_X_POSITION = 3;
+    private static final int DELTA_Y_POSITION = 4;
+    private final AtomicIntegerArray pendingDeltas = new AtomicIntegerArray(5);
+    // Time constant of the camera following the input in seconds, 0: no smoothing
+    private float smoothingTime = 0f;
+    private long lastUpdateTime;
+    // Longest time step of the smoothing, the first frame after a pause moves only a bit
+    private static final float MAX_SMOOTHING_STEP = 0.05f;
+    // Smoothed values closer than this to the target are set to the target
+    private static final float SETTLE_DISTANCE = 1e-4f;
+    // Called after every change of the camera, eg. to request a redraw
+    private Runnable changeListener;
     // Variables for mouse control
     private boolean leftMouseButtonPressed = false;
     private boolean rightMouseButtonPressed = false;
-    private Point lastMouseLocation;
+    private int lastMouseX;
+    private int lastMouseY;
     // Taking care of the screen size (mapping of mouse coordinates to angle/translation)
     private final float mouseRotationFactor = 0.1f;
     private final float mouseTranslationFactor = 0.1f;
@@ -39,8 +61,100 @@ public class InteractionHandler implements KeyListener, MouseListener, MouseMoti
 
     /**
      * Standard constructor for creation of the interaction handler.
+     * The input events (AWT event thread) only add up the changes, update()
+     * applies them once per frame on the render thread. The camera variables
+     * and their setters belong to the render thread, other threads read the
+     * camera with getCameraState().
      */
     public InteractionHandler() {
+        cameraState = new CameraState(eyeZ, angleXaxis, angleYaxis, xPosition, yPosition);
+    }
+
+    /**
+     * Applies the input since the last call, called once per frame by the render thread.
+     * With smoothing the camera moves only part of the way to the new values.
+     * @return  Camera values of the frame
+     */
+    public CameraState update() {
+        long time = System.nanoTime();
+        float elapsed = lastUpdateTime == 0 ? 0f : (time - lastUpdateTime) / 1e9f;
+        lastUpdateTime = time;
+        eyeZ += takeDelta(DELTA_EYE_Z);
+        angleXaxis += takeDelta(DELTA_ANGLE_X);
+        angleYaxis += takeDelta(DELTA_ANGLE_Y);
+        xPosition += takeDelta(DELTA_X_POSITION);
+        yPosition += takeDelta(DELTA_Y_POSITION);
+        if (isSettled())
+            return cameraState;
+
+        float t = 1f;
+        if (smoothingTime > 0f)
+            t = 1f - (float) Math.exp(-Math.min(elapsed, MAX_SMOOTHING_STEP) / smoothingTime);
+        CameraState shown = cameraState;
+        cameraState = new CameraState(approach(shown.getEyeZ(), eyeZ, t),
+                approach(shown.getAngleXaxis(), angleXaxis, t), approach(shown.getAngleYaxis(), angleYaxis, t),
+                approach(shown.getxPosition(), xPosition, t), approach(shown.getyPosition(), yPosition, t));
+        return cameraState;
+    }
+
+    /**
+     * Returns false while the smoothed camera has not reached the input yet,
+     * further frames (calls of update()) are needed
+     */
+    public boolean isSettled() {
+        CameraState shown = cameraState;
+        return shown.getEyeZ() == eyeZ && shown.getAngleXaxis() == angleXaxis && shown.getAngleYaxis() == angleYaxis
+                && shown.getxPosition() == xPosition && shown.getyPosition() == yPosition;
+    }
+
+    /**
+     * Sets the smoothing of the camera movement.
+     * @param smoothingTime Time in seconds until the camera has moved about 63 % of
+     *                      the way to the input, 0 to follow the input immediately
+     */
+    public void setSmoothingTime(float smoothingTime) {
+        this.smoothingTime = Math.max(0f, smoothingTime);
+    }
+
+    private static float approach(float value, float target, float t) {
+        float next = value + (target - value) * t;
+        return Math.abs(target - next) < SETTLE_DISTANCE ? target : next;
+    }
+
+    // Adds the change of an input event, allocation-free and without locks
+    private void addDelta(int index, float delta) {
+        int bits;
+        do {
+            bits = pendingDeltas.get(index);
+        } while (!pendingDeltas.compareAndSet(index, bits,
+                Float.floatToRawIntBits(Float.intBitsToFloat(bits) + delta)));
+    }
+
+    // Float bits 0 are 0f
+    private float takeDelta(int index) {
+        return Float.intBitsToFloat(pendingDeltas.getAndSet(index, 0));
+    }
+
+    /**
+     * Returns the camera values of the last frame as a consistent snapshot,
+     * can be called from any thread without blocking the input thread.
+     */
+    public CameraState getCameraState() {
+        return cameraState;
+    }
+
+    /**
+     * Sets all camera values with one change.
+     * @param camera    New camera values
+     */
+    public void setCameraState(CameraState camera) {
+        eyeZ = camera.getEyeZ();
+        angleXaxis = camera.getAngleXaxis();
+        angleYaxis = camera.getAngleYaxis();
+        xPosition = camera.getxPosition();
+        yPosition = camera.getyPosition();
+        cameraState = camera;
+        notifyChange();
     }
 
     public float getEyeZ() {
@@ -49,6 +163,7 @@ public class InteractionHandler implements KeyListener, MouseListener, MouseMoti
 
     public void setEyeZ(float eyeZ) {
         this.eyeZ = eyeZ;
+        publish();
     }
 
     public float getEyeZInc() {
@@ -65,6 +180,7 @@ public class InteractionHandler implements KeyListener, MouseListener, MouseMoti
 
     public void setAngleXaxis(float angleXaxis) {
         this.angleXaxis = angleXaxis;
+        publish();
     }
 
     public float getAngleYaxis() {
@@ -73,6 +189,7 @@ public class InteractionHandler implements KeyListener, MouseListener, MouseMoti
 
     public void setAngleYaxis(float angleYaxis) {
         this.angleYaxis = angleYaxis;
+        publish();
     }
 
     public float getAngleXaxisInc() {
@@ -97,6 +214,7 @@ public class InteractionHandler implements KeyListener, MouseListener, MouseMoti
 
     public void setxPosition(float xPosition) {
         this.xPosition = xPosition;
+        publish();
     }
 
     public float getyPosition() {
@@ -105,6 +223,7 @@ public class InteractionHandler implements KeyListener, MouseListener, MouseMoti
 
     public void setyPosition(float yPosition) {
         this.yPosition = yPosition;
+        publish();
     }
 
     public float getxPositionInc() {
@@ -123,6 +242,34 @@ public class InteractionHandler implements KeyListener, MouseListener, MouseMoti
         this.yPositionInc = yPositionInc;
     }
 
+    /**
+     * Sets the listener called after every change of the camera or a screenshot request.
+     * @param changeListener    Listener, eg. a redraw request, or null
+     */
+    public void setChangeListener(Runnable changeListener) {
+        this.changeListener = changeListener;
+    }
+
+    // Shows values changed by a setter immediately, without smoothing
+    private void publish() {
+        cameraState = new CameraState(eyeZ, angleXaxis, angleYaxis, xPosition, yPosition);
+        notifyChange();
+    }
+
+    private void notifyChange() {
+        if (changeListener != null)
+            changeListener.run();
+    }
+
+    /**
+     * Returns whether a screenshot was requested since the last call and clears the request.
+     */
+    public boolean takeScreenshotRequest() {
+        boolean requested = screenshotRequested;
+        screenshotRequested = false;
+        return requested;
+    }
+
     public float getMouseRotationFactor() {
         return mouseRotationFactor;
     }
@@ -148,39 +295,44 @@ public class InteractionHandler implements KeyListener, MouseListener, MouseMoti
                 break;
             case KeyEvent.VK_LEFT:
                 if (ctrlKeyPressed) {
-                    xPosition += xPositionInc;
+                    addDelta(DELTA_X_POSITION, xPositionInc);
                 } else {
-                    angleYaxis += angleYaxisInc;
+                    addDelta(DELTA_ANGLE_Y, angleYaxisInc);
                 }
                 break;
             case KeyEvent.VK_RIGHT:
                 if (ctrlKeyPressed) {
-                    xPosition -= xPositionInc;
+                    addDelta(DELTA_X_POSITION, -xPositionInc);
                 } else {
-                    angleYaxis -= angleYaxisInc;
+                    addDelta(DELTA_ANGLE_Y, -angleYaxisInc);
                 }
                 break;
             case KeyEvent.VK_UP:
                 if (ctrlKeyPressed) {
-                    yPosition -= yPositionInc;
+                    addDelta(DELTA_Y_POSITION, -yPositionInc);
                 } else {
-                    angleXaxis += angleXaxisInc;
+                    addDelta(DELTA_ANGLE_X, angleXaxisInc);
                 }
                 break;
             case KeyEvent.VK_DOWN:
                 if (ctrlKeyPressed) {
-                    yPosition += yPositionInc;
+                    addDelta(DELTA_Y_POSITION, yPositionInc);
                 } else {
-                    angleXaxis -= angleXaxisInc;
+                    addDelta(DELTA_ANGLE_X, -angleXaxisInc);
                 }
                 break;
             case KeyEvent.VK_MINUS:
-                eyeZ = eyeZ - eyeZInc;
+                addDelta(DELTA_EYE_Z, -eyeZInc);
                 break;
             case KeyEvent.VK_PLUS:
-                eyeZ = eyeZ + eyeZInc;
+                addDelta(DELTA_EYE_Z, eyeZInc);
+                break;
+            case KeyEvent.VK_F12:
+                screenshotRequested = true;
                 break;
         }
+        if (keyCode != KeyEvent.VK_CONTROL)
+            notifyChange();
     }
 
     @Override
@@ -213,7 +365,8 @@ public class InteractionHandler implements KeyListener, MouseListener, MouseMoti
      */
     public void mousePressed(MouseEvent e) {
         int pressedButton = e.getButton();
-        lastMouseLocation = e.getLocationOnScreen();
+        lastMouseX = e.getXOnScreen();
+        lastMouseY = e.getYOnScreen();
         if (VERBOSE) {
             System.out.print("Mouse pressed event. ");
             switch (pressedButton) {
@@ -232,7 +385,7 @@ public class InteractionHandler implements KeyListener, MouseListener, MouseMoti
                 default:
                     System.out.print("Unknown button pressed.");
             }
-            System.out.println(" At location: " + lastMouseLocation);
+            System.out.println(" At location: " + lastMouseX + ", " + lastMouseY);
         }
         switch (pressedButton) {
             case MouseEvent.BUTTON1:
@@ -298,24 +451,31 @@ public class InteractionHandler implements KeyListener, MouseListener, MouseMoti
      */
     @Override
     public void mouseDragged(MouseEvent e) {
-        Point currentMouseLocation = e.getLocationOnScreen();
+        // Screen coordinates without creating a Point
+        int currentMouseX = e.getXOnScreen();
+        int currentMouseY = e.getYOnScreen();
         if (VERBOSE) {
             System.out.print("Mouse dragged event.");
-            System.out.println(" At mouse location: " + currentMouseLocation);
+            System.out.println(" At mouse location: " + currentMouseX + ", " + currentMouseY);
         }
-        double deltaX = currentMouseLocation.getX() - lastMouseLocation.getX();
-        double deltaY = currentMouseLocation.getY() - lastMouseLocation.getY();
-        lastMouseLocation = currentMouseLocation;
+        int deltaX = currentMouseX - lastMouseX;
+        int deltaY = currentMouseY - lastMouseY;
+        lastMouseX = currentMouseX;
+        lastMouseY = currentMouseY;
+        if (deltaX == 0 && deltaY == 0)
+            return;
         // holding the left mouse button rotates the scene
         if (leftMouseButtonPressed) {
-            angleYaxis += angleYaxisInc * mouseRotationFactor * -deltaX;
-            angleXaxis += angleXaxisInc * mouseRotationFactor * -deltaY;
+            addDelta(DELTA_ANGLE_Y, angleYaxisInc * mouseRotationFactor * -deltaX);
+            addDelta(DELTA_ANGLE_X, angleXaxisInc * mouseRotationFactor * -deltaY);
         }
         // holding the right mouse button translates the scene
         if (rightMouseButtonPressed) {
-            xPosition += xPositionInc * mouseTranslationFactor * -deltaX;
-            yPosition += yPositionInc * mouseTranslationFactor * +deltaY;
+            addDelta(DELTA_X_POSITION, xPositionInc * mouseTranslationFactor * -deltaX);
+            addDelta(DELTA_Y_POSITION, yPositionInc * mouseTranslationFactor * +deltaY);
         }
+        if (leftMouseButtonPressed || rightMouseButtonPressed)
+            notifyChange();
     }
 
     /**
@@ -334,6 +494,7 @@ public class InteractionHandler implements KeyListener, MouseListener, MouseMoti
             System.out.print("Mouse wheel moved event.");
             System.out.println(" Wheel rotation: " + e.getPreciseWheelRotation());
         }
-        eyeZ += eyeZInc * mouseWheelScrollFactor * e.getPreciseWheelRotation();
+        addDelta(DELTA_EYE_Z, (float) (eyeZInc * mouseWheelScrollFactor * e.getPreciseWheelRotation()));
+        notifyChange();
     }
 }
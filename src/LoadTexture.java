@@ -1,41 +1,71 @@
 import com.jogamp.opengl.GL3;
-import com.jogamp.opengl.util.texture.Texture;
-import com.jogamp.opengl.util.texture.TextureIO;
 
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 
 import static com.jogamp.opengl.GL.*;
 
+/**
+ * Loads an image file into a 2D texture with mipmaps. The image is decoded
+ * with ImageIO and uploaded with the given GL object only, so the texture
+ * calls pass the GLStateCache and work with any GL3 (eg. a GLRecorder
+ * without OpenGL context).
+ */
 public class LoadTexture {
 
+    private int textureID;
+
     public void loadTexture (GL3 gl, String path) {
 
-        Texture texture = null;
+        BufferedImage image = null;
         String texturePath = path;
         try {
-            File textureFile = new File(texturePath);
-            texture = TextureIO.newTexture(textureFile, true);
-
-            texture.setTexParameteri(gl, gl.GL_TEXTURE_MIN_FILTER, gl.GL_LINEAR);
-            texture.setTexParameteri(gl, gl.GL_TEXTURE_MAG_FILTER, gl.GL_LINEAR);
-            texture.setTexParameteri(gl, gl.GL_TEXTURE_WRAP_S, gl.GL_CLAMP_TO_EDGE);
-            texture.setTexParameteri(gl, gl.GL_TEXTURE_WRAP_T, gl.GL_CLAMP_TO_EDGE);
+            image = ImageIO.read(new File(texturePath));
         } catch (IOException e) {
             e.printStackTrace();
         }
-        if (texture != null)
-            System.out.println("Texture loaded successfully from: " + texturePath);
-        else
+        if (image == null) {
             System.err.println("Error loading texture.");
-        System.out.println("  Texture height: " + texture.getImageHeight());
-        System.out.println("  Texture width: " + texture.getImageWidth());
-        System.out.println("  Texture object: " + texture.getTextureObject(gl));
-        System.out.println("  Estimated memory size of texture: " + texture.getEstimatedMemorySize());
+            System.exit(1);
+        }
+        int width = image.getWidth();
+        int height = image.getHeight();
+        // ARGB ints in native byte order are the bytes of GL_BGRA / GL_UNSIGNED_INT_8_8_8_8_REV,
+        // the top row of the image is at texture coordinate t = 0
+        ByteBuffer pixels = ByteBuffer.allocateDirect(width * height * 4).order(ByteOrder.nativeOrder());
+        pixels.asIntBuffer().put(image.getRGB(0, 0, width, height, null, 0, width));
+        System.out.println("Texture loaded successfully from: " + texturePath);
 
-        texture.enable(gl);
+        int[] textures = new int[1];
+        gl.glGenTextures(1, textures, 0);
+        textureID = textures[0];
         gl.glActiveTexture(GL_TEXTURE0);
-        gl.glBindTexture(GL_TEXTURE_2D, texture.getTextureObject(gl));
+        gl.glBindTexture(GL_TEXTURE_2D, textureID);
+        gl.glPixelStorei(GL_UNPACK_ALIGNMENT, 4);
+        gl.glTexImage2D(GL_TEXTURE_2D, 0, GL_RGBA8, width, height, 0,
+                GL_BGRA, GL3.GL_UNSIGNED_INT_8_8_8_8_REV, pixels);
+        gl.glGenerateMipmap(GL_TEXTURE_2D);
+        gl.glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MIN_FILTER, GL_LINEAR);
+        gl.glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_MAG_FILTER, GL_LINEAR);
+        gl.glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_S, GL_CLAMP_TO_EDGE);
+        gl.glTexParameteri(GL_TEXTURE_2D, GL_TEXTURE_WRAP_T, GL_CLAMP_TO_EDGE);
+
+        System.out.println("  Texture height: " + height);
+        System.out.println("  Texture width: " + width);
+        System.out.println("  Texture object: " + textureID);
+        // Base level and the mipmap levels (one third of it)
+        System.out.println("  Estimated memory size of texture: " + (long) width * height * 4 * 4 / 3);
+    }
+
+    /**
+     * Returns the OpenGL-ID of the loaded texture
+     */
+    public int getTextureID() {
+        return textureID;
     }
 
     public void deactivateTexture(GL3 gl) {
@@ -0,0 +1,84 @@
+/**
+ * Column major 3x3 matrices stored in float arrays at an offset, like Mat4.
+ * Mainly used for normal matrices. No method allocates.
+ */
+public final class Mat3 {
+
+    // Matrices with a smaller determinant are treated as singular
+    private static final float MIN_DETERMINANT = 1e-12f;
+
+    private Mat3() {
+    }
+
+    /**
+     * Sets m to the identity matrix.
+     */
+    public static void setIdentity(float[] m, int mo) {
+        for (int i = 0; i < 9; i++)
+            m[mo + i] = (i % 4 == 0) ? 1f : 0f;
+    }
+
+    /**
+     * Sets out to the upper left 3x3 part of a 4x4 matrix.
+     */
+    public static void fromMat4(float[] m4, int mo, float[] out, int oo) {
+        for (int column = 0; column < 3; column++) {
+            out[oo + column * 3] = m4[mo + column * 4];
+            out[oo + column * 3 + 1] = m4[mo + column * 4 + 1];
+            out[oo + column * 3 + 2] = m4[mo + column * 4 + 2];
+        }
+    }
+
+    /**
+     * Sets out to the normal matrix of a model-view matrix: the inverse transpose
+     * of its upper left 3x3 part. For rotations and uniform scaling it equals
+     * the 3x3 part, with non-uniform scaling only the normal matrix keeps the
+     * normals perpendicular to the surfaces.
+     * @return  false if the matrix is singular, out is not changed then
+     */
+    public static boolean normalMatrix(float[] m4, int mo, float[] out, int oo) {
+        float a00 = m4[mo], a10 = m4[mo + 1], a20 = m4[mo + 2];
+        float a01 = m4[mo + 4], a11 = m4[mo + 5], a21 = m4[mo + 6];
+        float a02 = m4[mo + 8], a12 = m4[mo + 9], a22 = m4[mo + 10];
+        // Cofactors, the inverse transpose is the cofactor matrix divided by the determinant
+        float c00 = a11 * a22 - a12 * a21;
+        float c01 = a12 * a20 - a10 * a22;
+        float c02 = a10 * a21 - a11 * a20;
+        float determinant = a00 * c00 + a01 * c01 + a02 * c02;
+        if (Math.abs(determinant) < MIN_DETERMINANT)
+            return false;
+        float inv = 1f / determinant;
+        out[oo] = c00 * inv;
+        out[oo + 1] = (a02 * a21 - a01 * a22) * inv;
+        out[oo + 2] = (a01 * a12 - a02 * a11) * inv;
+        out[oo + 3] = c01 * inv;
+        out[oo + 4] = (a00 * a22 - a02 * a20) * inv;
+        out[oo + 5] = (a02 * a10 - a00 * a12) * inv;
+        out[oo + 6] = c02 * inv;
+        out[oo + 7] = (a01 * a20 - a00 * a21) * inv;
+        out[oo + 8] = (a00 * a11 - a01 * a10) * inv;
+        return true;
+    }
+
+    /**
+     * Normal matrices of count consecutive 4x4 matrices, singular matrices get the identity.
+     */
+    public static void normalMatrices(float[] m4, int mo, float[] out, int oo, int count) {
+        for (int i = 0; i < count; i++) {
+            if (!normalMatrix(m4, mo + i * 16, out, oo + i * 9))
+                setIdentity(out, oo + i * 9);
+        }
+    }
+
+    /**
+     * Transforms a direction, out may be the same as v.
+     */
+    public static void transform(float[] m, int mo, float[] v, int vo, float[] out, int oo) {
+        float x = v[vo];
+        float y = v[vo + 1];
+        float z = v[vo + 2];
+        out[oo] = m[mo] * x + m[mo + 3] * y + m[mo + 6] * z;
+        out[oo + 1] = m[mo + 1] * x + m[mo + 4] * y + m[mo + 7] * z;
+        out[oo + 2] = m[mo + 2] * x + m[mo + 5] * y + m[mo + 8] * z;
+    }
+}
@@ -0,0 +1,201 @@
+import java.nio.FloatBuffer;
+
+/**
+ * Column major 4x4 matrices stored in float arrays at an offset, the layout
+ * of OpenGL and PMVMatrix. The matrices of many objects can be kept in one
+ * array (see SceneGraph). No method allocates, the loops are straight-line
+ * code over primitive arrays the JIT compiler can unroll and vectorize.
+ *
+ * translate() and rotate() multiply from the right like glTranslatef() and
+ * glRotatef(), so setLookAt(), translate(), rotate() build the same
+ * model-view matrix as the PMVMatrix calls of the same names.
+ */
+public final class Mat4 {
+
+    private Mat4() {
+    }
+
+    /**
+     * Sets m to the identity matrix.
+     */
+    public static void setIdentity(float[] m, int mo) {
+        for (int i = 0; i < 16; i++)
+            m[mo + i] = (i % 5 == 0) ? 1f : 0f;
+    }
+
+    /**
+     * Sets m to a translation matrix.
+     */
+    public static void setTranslation(float[] m, int mo, float x, float y, float z) {
+        setIdentity(m, mo);
+        m[mo + 12] = x;
+        m[mo + 13] = y;
+        m[mo + 14] = z;
+    }
+
+    /**
+     * Sets m to a perspective projection (gluPerspective).
+     * @param fovy      Vertical field of view in degrees
+     * @param aspect    Width divided by height
+     * @param near      Distance of the near plane
+     * @param far       Distance of the far plane
+     */
+    public static void setPerspective(float[] m, int mo, float fovy, float aspect, float near, float far) {
+        float f = 1f / (float) Math.tan(Math.toRadians(fovy) / 2.0);
+        for (int i = 0; i < 16; i++)
+            m[mo + i] = 0f;
+        m[mo] = f / aspect;
+        m[mo + 5] = f;
+        m[mo + 10] = (far + near) / (near - far);
+        m[mo + 11] = -1f;
+        m[mo + 14] = 2f * far * near / (near - far);
+    }
+
+    /**
+     * Sets m to a view matrix (gluLookAt after glLoadIdentity).
+     * @param eyeX      Camera position
+     * @param centerX   Point the camera looks at
+     * @param upX       Up direction, not parallel to the view direction
+     */
+    public static void setLookAt(float[] m, int mo, float eyeX, float eyeY, float eyeZ,
+                                 float centerX, float centerY, float centerZ, float upX, float upY, float upZ) {
+        float fx = centerX - eyeX;
+        float fy = centerY - eyeY;
+        float fz = centerZ - eyeZ;
+        float invLength = 1f / (float) Math.sqrt(fx * fx + fy * fy + fz * fz);
+        fx *= invLength;
+        fy *= invLength;
+        fz *= invLength;
+        // s = f x up
+        float sx = fy * upZ - fz * upY;
+        float sy = fz * upX - fx * upZ;
+        float sz = fx * upY - fy * upX;
+        invLength = 1f / (float) Math.sqrt(sx * sx + sy * sy + sz * sz);
+        sx *= invLength;
+        sy *= invLength;
+        sz *= invLength;
+        // u = s x f
+        float ux = sy * fz - sz * fy;
+        float uy = sz * fx - sx * fz;
+        float uz = sx * fy - sy * fx;
+        m[mo] = sx;
+        m[mo + 1] = ux;
+        m[mo + 2] = -fx;
+        m[mo + 3] = 0f;
+        m[mo + 4] = sy;
+        m[mo + 5] = uy;
+        m[mo + 6] = -fy;
+        m[mo + 7] = 0f;
+        m[mo + 8] = sz;
+        m[mo + 9] = uz;
+        m[mo + 10] = -fz;
+        m[mo + 11] = 0f;
+        m[mo + 12] = -(sx * eyeX + sy * eyeY + sz * eyeZ);
+        m[mo + 13] = -(ux * eyeX + uy * eyeY + uz * eyeZ);
+        m[mo + 14] = fx * eyeX + fy * eyeY + fz * eyeZ;
+        m[mo + 15] = 1f;
+    }
+
+    /**
+     * m = m * translation (glTranslatef).
+     */
+    public static void translate(float[] m, int mo, float x, float y, float z) {
+        for (int row = 0; row < 4; row++)
+            m[mo + 12 + row] += m[mo + row] * x + m[mo + 4 + row] * y + m[mo + 8 + row] * z;
+    }
+
+    /**
+     * m = m * rotation (glRotatef).
+     * @param angle Angle in degrees, counterclockwise looking against the axis
+     * @param x     Rotation axis, does not need to be normalized
+     */
+    public static void rotate(float[] m, int mo, float angle, float x, float y, float z) {
+        float length = (float) Math.sqrt(x * x + y * y + z * z);
+        if (length == 0f)
+            return;
+        x /= length;
+        y /= length;
+        z /= length;
+        double radians = Math.toRadians(angle);
+        float c = (float) Math.cos(radians);
+        float s = (float) Math.sin(radians);
+        float t = 1f - c;
+        // Rotation matrix, rRowColumn
+        float r00 = t * x * x + c, r01 = t * x * y - s * z, r02 = t * x * z + s * y;
+        float r10 = t * x * y + s * z, r11 = t * y * y + c, r12 = t * y * z - s * x;
+        float r20 = t * x * z - s * y, r21 = t * y * z + s * x, r22 = t * z * z + c;
+        for (int row = 0; row < 4; row++) {
+            float a0 = m[mo + row];
+            float a1 = m[mo + 4 + row];
+            float a2 = m[mo + 8 + row];
+            m[mo + row] = a0 * r00 + a1 * r10 + a2 * r20;
+            m[mo + 4 + row] = a0 * r01 + a1 * r11 + a2 * r21;
+            m[mo + 8 + row] = a0 * r02 + a1 * r12 + a2 * r22;
+        }
+    }
+
+    /**
+     * out = a * b, out must not overlap a or b.
+     */
+    public static void multiply(float[] a, int ao, float[] b, int bo, float[] out, int oo) {
+        for (int column = 0; column < 4; column++) {
+            float b0 = b[bo + column * 4];
+            float b1 = b[bo + column * 4 + 1];
+            float b2 = b[bo + column * 4 + 2];
+            float b3 = b[bo + column * 4 + 3];
+            for (int row = 0; row < 4; row++)
+                out[oo + column * 4 + row] = a[ao + row] * b0 + a[ao + 4 + row] * b1
+                        + a[ao + 8 + row] * b2 + a[ao + 12 + row] * b3;
+        }
+    }
+
+    /**
+     * out[i] = a * b[i] for count consecutive matrices, eg. view matrix times
+     * the model matrices of many objects. out must not overlap a or b.
+     */
+    public static void multiplyBatch(float[] a, int ao, float[] b, int bo, float[] out, int oo, int count) {
+        // a stays in registers for all matrices
+        float a00 = a[ao], a10 = a[ao + 1], a20 = a[ao + 2], a30 = a[ao + 3];
+        float a01 = a[ao + 4], a11 = a[ao + 5], a21 = a[ao + 6], a31 = a[ao + 7];
+        float a02 = a[ao + 8], a12 = a[ao + 9], a22 = a[ao + 10], a32 = a[ao + 11];
+        float a03 = a[ao + 12], a13 = a[ao + 13], a23 = a[ao + 14], a33 = a[ao + 15];
+        int end = bo + count * 16;
+        for (int bi = bo, oi = oo; bi < end; bi += 4, oi += 4) {
+            float b0 = b[bi];
+            float b1 = b[bi + 1];
+            float b2 = b[bi + 2];
+            float b3 = b[bi + 3];
+            out[oi] = a00 * b0 + a01 * b1 + a02 * b2 + a03 * b3;
+            out[oi + 1] = a10 * b0 + a11 * b1 + a12 * b2 + a13 * b3;
+            out[oi + 2] = a20 * b0 + a21 * b1 + a22 * b2 + a23 * b3;
+            out[oi + 3] = a30 * b0 + a31 * b1 + a32 * b2 + a33 * b3;
+        }
+    }
+
+    /**
+     * Transforms count points (x, y, z) with w = 1, out may be the same as points.
+     */
+    public static void transformPoints(float[] m, int mo, float[] points, int po, float[] out, int oo, int count) {
+        float m00 = m[mo], m10 = m[mo + 1], m20 = m[mo + 2];
+        float m01 = m[mo + 4], m11 = m[mo + 5], m21 = m[mo + 6];
+        float m02 = m[mo + 8], m12 = m[mo + 9], m22 = m[mo + 10];
+        float m03 = m[mo + 12], m13 = m[mo + 13], m23 = m[mo + 14];
+        for (int i = 0; i < count * 3; i += 3) {
+            float x = points[po + i];
+            float y = points[po + i + 1];
+            float z = points[po + i + 2];
+            out[oo + i] = m00 * x + m01 * y + m02 * z + m03;
+            out[oo + i + 1] = m10 * x + m11 * y + m12 * z + m13;
+            out[oo + i + 2] = m20 * x + m21 * y + m22 * z + m23;
+        }
+    }
+
+    /**
+     * Copies m into a buffer at its position, the position is not changed.
+     */
+    public static void get(float[] m, int mo, FloatBuffer buffer) {
+        int position = buffer.position();
+        for (int i = 0; i < 16; i++)
+            buffer.put(position + i, m[mo + i]);
+    }
+}
@@ -0,0 +1,104 @@
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3;
+
+import java.nio.ByteBuffer;
+
+/**
+ * One uniform buffer object holding the materials of the scene (uniform block
+ * MaterialBlock, binding 1, see BlinnPhongPointTex.frag). Every material is
+ * packed into its own slot once, a draw only selects its slot with
+ * glBindBufferRange instead of setting five uniforms.
+ */
+public class MaterialUniformBuffer {
+
+    /** Binding point of the uniform block MaterialBlock */
+    public static final int BINDING = 1;
+
+    // MaterialBlock (std140): emission, ambient, diffuse, specular, shininess.
+    // std140 rounds the block up to a multiple of vec4, GL_UNIFORM_BLOCK_DATA_SIZE
+    // is 80 bytes, a bound range of 68 bytes would be too small for it.
+    private static final int SIZE = 5 * 16;
+
+    private final int maxMaterials;
+    private ByteBuffer data;
+    private int slotStride;
+    private int materialCount;
+    private final int[] bufferName = new int[1];
+
+    /**
+     * Creates an empty buffer.
+     * @param maxMaterials  Maximum number of materials
+     */
+    public MaterialUniformBuffer(int maxMaterials) {
+        this.maxMaterials = maxMaterials;
+    }
+
+    /**
+     * Creates the buffer, the slots are aligned to GL_UNIFORM_BUFFER_OFFSET_ALIGNMENT.
+     * Materials are added afterwards.
+     * @param gl    OpenGL context
+     */
+    public void upload(GL3 gl) {
+        int[] alignment = new int[1];
+        gl.glGetIntegerv(GL3.GL_UNIFORM_BUFFER_OFFSET_ALIGNMENT, alignment, 0);
+        int align = Math.max(16, alignment[0]);
+        slotStride = (SIZE + align - 1) / align * align;
+        data = DirectBufferPool.SHARED.acquire(maxMaterials * slotStride);
+
+        gl.glGenBuffers(1, bufferName, 0);
+        if (bufferName[0] < 1)
+            System.err.println("Error allocating uniform buffer object.");
+        gl.glBindBuffer(GL3.GL_UNIFORM_BUFFER, bufferName[0]);
+        gl.glBufferData(GL3.GL_UNIFORM_BUFFER, (long) maxMaterials * slotStride, null, GL.GL_STATIC_DRAW);
+    }
+
+    /**
+     * Packs a material into the next slot and transfers it to the GPU.
+     * @param gl        OpenGL context
+     * @param material  Material
+     * @return          Slot to be used with bind()
+     */
+    public int add(GL3 gl, Material material) {
+        if (materialCount == maxMaterials)
+            throw new IllegalStateException("Maximum number of materials reached: " + maxMaterials);
+        int slot = materialCount++;
+        int pos = slot * slotStride;
+        putVec4(pos, material.getEmission());
+        putVec4(pos + 16, material.getAmbient());
+        putVec4(pos + 32, material.getDiffuse());
+        putVec4(pos + 48, material.getSpecular());
+        data.putFloat(pos + 64, material.getShininess());
+
+        data.limit(pos + SIZE).position(pos);
+        gl.glBindBuffer(GL3.GL_UNIFORM_BUFFER, bufferName[0]);
+        gl.glBufferSubData(GL3.GL_UNIFORM_BUFFER, pos, SIZE, data);
+        data.clear();
+        return slot;
+    }
+
+    /**
+     * Selects the material of the following draws.
+     * @param gl    OpenGL context
+     * @param slot  Slot returned by add()
+     */
+    public void bind(GL3 gl, int slot) {
+        gl.glBindBufferRange(GL3.GL_UNIFORM_BUFFER, BINDING, bufferName[0], (long) slot * slotStride, SIZE);
+    }
+
+    /**
+     * Deletes the buffer and returns the client side storage to the pool.
+     * @param gl    OpenGL context
+     */
+    public void dispose(GL3 gl) {
+        gl.glDeleteBuffers(1, bufferName, 0);
+        if (data != null)
+            DirectBufferPool.SHARED.release(data);
+    }
+
+    private void putVec4(int pos, float[] v) {
+        data.putFloat(pos, v[0]);
+        data.putFloat(pos + 4, v[1]);
+        data.putFloat(pos + 8, v[2]);
+        data.putFloat(pos + 12, v[3]);
+    }
+}
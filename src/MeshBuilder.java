@@ -0,0 +1,453 @@
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import static com.jogamp.opengl.GL.GL_UNSIGNED_INT;
+import static com.jogamp.opengl.GL.GL_UNSIGNED_SHORT;
+
+/**
+ * Builds interleaved vertex data and triangle strip indices directly into
+ * direct (off-heap) buffers taken from a DirectBufferPool.
+ * The vertex layout is given by a VertexFormat, by default the standard
+ * 11 float layout: position (3), color (3), normal (3) and texture coordinates (2).
+ * Indices are stored in the smallest type able to address all vertices.
+ * The buffers returned by getVertexData() and getIndexData() can be passed
+ * to glBufferData without any intermediate copy.
+ */
+public class MeshBuilder {
+
+    public static final int VERTICES_PER_CUBOID = 24;
+    public static final int INDICES_PER_CUBOID = 28;
+    /**
+     * Index value marking the end of a triangle strip. It is stored as the maximum
+     * value of the index type (GL_PRIMITIVE_RESTART_FIXED_INDEX).
+     */
+    public static final int RESTART_INDEX = -1;
+
+    // Corner (p0 - p7) used for each of the 24 cuboid vertices,
+    // same order as DrawTable.setVerticies: front, back, left, right, top, bottom
+    private static final int[] CUBOID_CORNERS = {
+            0, 3, 1, 2,
+            5, 6, 4, 7,
+            4, 7, 0, 3,
+            1, 2, 5, 6,
+            4, 0, 5, 1,
+            3, 7, 2, 6
+    };
+    // Normal vector of each cuboid surface
+    private static final float[] CUBOID_NORMALS = {
+            0, 0, 1,    // front
+            0, 0, -1,   // back
+            -1, 0, 0,   // left
+            1, 0, 0,    // right
+            0, 1, 0,    // up (top)
+            0, -1, 0    // down (bottom)
+    };
+    // Texture coordinates of each of the 24 cuboid vertices
+    private static final float[] CUBOID_UVS = {
+            0, 1, 0, 0, 1, 1, 1, 0,
+            0, 1, 0, 0, 1, 1, 1, 0,
+            0, 1, 0, 0, 1, 1, 1, 0,
+            0, 1, 0, 0, 1, 1, 1, 0,
+            0, 1, 0, 0, 1, 1, 1, 0,
+            1, 0, 1, 1, 0, 0, 0, 1
+    };
+    // Triangle strip indices of one cuboid (see DrawTable.makeBoxIndicesForTriangleStrip)
+    private static final int[] CUBOID_STRIP_INDICES = {
+            21, 23, 20, 22,         // down (bottom)
+            1, 3, 0, 2, 2, 3,       // front
+            12, 13, 14, 15,         // right
+            4, 5, 6, 7,             // back
+            8, 9, 10, 11, 10, 10,   // left
+            16, 17, 18, 19          // up (top)
+    };
+    // Cuboid as six separate surface strips, for use with primitive restart (-1)
+    private static final int[] CUBOID_RESTART_STRIP_INDICES = {
+            21, 23, 20, 22, -1,     // down (bottom)
+            1, 3, 0, 2, -1,         // front
+            12, 13, 14, 15, -1,     // right
+            4, 5, 6, 7, -1,         // back
+            8, 9, 10, 11, -1,       // left
+            16, 17, 18, 19          // up (top)
+    };
+    // Signs of the box corners p0 - p7 (see DrawTable.makeBoxVertices)
+    private static final float[] BOX_CORNER_SIGNS = {
+            1, 1, 1,
+            1, -1, 1,
+            -1, -1, 1,
+            -1, 1, 1,
+            1, 1, -1,
+            1, -1, -1,
+            -1, -1, -1,
+            -1, 1, -1
+    };
+
+    private final DirectBufferPool pool;
+    private final VertexFormat format;
+    private final int stride;
+    private ByteBuffer vertexData;
+    private FloatBuffer vertexFloats; // float view of vertexData for bulk transfers
+    // Indices as unsigned int while building
+    private ByteBuffer indexData;
+    private IntBuffer indexInts; // int view of indexData for bulk transfers
+    // Indices converted to the index type returned by getIndexType()
+    private ByteBuffer packedIndexData;
+    private int vertexCount;
+    private int indexCount;
+    // Reused storage for the corners of a box, avoids garbage per box
+    private final float[] boxCorners = new float[8 * 3];
+    // Reused staging arrays, a cuboid is copied to the direct buffers in one bulk transfer
+    private final float[] cuboidVertices = new float[VERTICES_PER_CUBOID * 11];
+    private final int[] cuboidIndices = new int[INDICES_PER_CUBOID];
+    // Use primitive restart instead of connecting triangles between strips
+    private boolean primitiveRestart;
+    // Bounds of all vertex positions
+    private final BoundingBox bounds = new BoundingBox();
+
+    /**
+     * Creates a mesh builder for the standard vertex format using the shared buffer pool,
+     * sized for one cuboid.
+     */
+    public MeshBuilder() {
+        this(VertexFormat.STANDARD);
+    }
+
+    /**
+     * Creates a mesh builder using the shared buffer pool, sized for one cuboid.
+     * @param format    Vertex layout to write
+     */
+    public MeshBuilder(VertexFormat format) {
+        this(DirectBufferPool.SHARED, format, VERTICES_PER_CUBOID, INDICES_PER_CUBOID);
+    }
+
+    /**
+     * Creates a mesh builder.
+     * @param pool              Pool the direct buffers are taken from
+     * @param format            Vertex layout to write
+     * @param expectedVertices  Number of vertices to reserve space for
+     * @param expectedIndices   Number of indices to reserve space for
+     */
+    public MeshBuilder(DirectBufferPool pool, VertexFormat format, int expectedVertices, int expectedIndices) {
+        this.pool = pool;
+        this.format = format;
+        this.stride = format.getStride();
+        vertexData = pool.acquire(expectedVertices * stride);
+        vertexFloats = vertexData.asFloatBuffer();
+        indexData = pool.acquire(expectedIndices * 4);
+        indexInts = indexData.asIntBuffer();
+        packedIndexData = pool.acquire(expectedIndices * 2);
+    }
+
+    /**
+     * Discards all vertices and indices but keeps the buffers for reuse.
+     */
+    public void reset() {
+        vertexCount = 0;
+        indexCount = 0;
+        bounds.setEmpty();
+    }
+
+    /**
+     * Enables primitive restart: every cuboid is written as six surface strips
+     * separated by RESTART_INDEX and separate meshes are separated by RESTART_INDEX.
+     * The draw call requires GL_PRIMITIVE_RESTART_FIXED_INDEX to be enabled.
+     */
+    public void setPrimitiveRestart(boolean primitiveRestart) {
+        this.primitiveRestart = primitiveRestart;
+    }
+
+    public boolean isPrimitiveRestart() {
+        return primitiveRestart;
+    }
+
+    /**
+     * Returns the buffers to the pool. The builder must not be used afterwards.
+     */
+    public void release() {
+        pool.release(vertexData);
+        pool.release(indexData);
+        pool.release(packedIndexData);
+        vertexData = null;
+        indexData = null;
+        packedIndexData = null;
+    }
+
+    /**
+     * Appends one vertex.
+     * @return  Index of the vertex
+     */
+    public int vertex(float x, float y, float z, float r, float g, float b,
+                      float nx, float ny, float nz, float u, float v) {
+        ensureVertexCapacity(vertexCount + 1);
+        int pos = vertexCount * stride;
+        ByteBuffer vd = vertexData;
+        bounds.extend(x, y, z);
+        if (format == VertexFormat.COMPACT) {
+            vd.putShort(pos, VertexFormat.floatToHalf(x));
+            vd.putShort(pos + 2, VertexFormat.floatToHalf(y));
+            vd.putShort(pos + 4, VertexFormat.floatToHalf(z));
+            vd.putShort(pos + 6, (short) 0);
+            vd.putInt(pos + 8, VertexFormat.packNormal(nx, ny, nz));
+            vd.putShort(pos + 12, VertexFormat.packUnorm16(u));
+            vd.putShort(pos + 14, VertexFormat.packUnorm16(v));
+            return vertexCount++;
+        }
+        vd.putFloat(pos, x);
+        vd.putFloat(pos + 4, y);
+        vd.putFloat(pos + 8, z);
+        vd.putFloat(pos + 12, r);
+        vd.putFloat(pos + 16, g);
+        vd.putFloat(pos + 20, b);
+        vd.putFloat(pos + 24, nx);
+        vd.putFloat(pos + 28, ny);
+        vd.putFloat(pos + 32, nz);
+        vd.putFloat(pos + 36, u);
+        vd.putFloat(pos + 40, v);
+        return vertexCount++;
+    }
+
+    /**
+     * Appends one index.
+     * @param index Vertex index
+     */
+    public void index(int index) {
+        ensureIndexCapacity(indexCount + 1);
+        indexData.putInt(indexCount * 4, index);
+        indexCount++;
+    }
+
+    /**
+     * Ends the current triangle strip. Has no effect at the start of the mesh
+     * or directly after another restart.
+     */
+    public void restart() {
+        if (indexCount > 0 && getIndex(indexCount - 1) != RESTART_INDEX)
+            index(RESTART_INDEX);
+    }
+
+    /**
+     * Appends a cuboid with the same vertex layout and triangle strip indices
+     * as DrawTable.makeBoxVertices and DrawTable.makeBoxIndicesForTriangleStrip.
+     * With primitive restart enabled, the surfaces are separate strips instead.
+     * @param corners   Positions of the corners p0 - p7 (24 floats)
+     * @param color     RGB color of all vertices
+     */
+    public void putCuboid(float[] corners, float[] color) {
+        ensureVertexCapacity(vertexCount + VERTICES_PER_CUBOID);
+        ensureIndexCapacity(indexCount + CUBOID_RESTART_STRIP_INDICES.length + 1);
+        int baseVertex = vertexCount;
+        if (format == VertexFormat.STANDARD && !primitiveRestart) {
+            putStandardCuboid(corners, color, baseVertex);
+            return;
+        }
+        for (int i = 0; i < VERTICES_PER_CUBOID; i++) {
+            int c = CUBOID_CORNERS[i] * 3;
+            int n = (i >> 2) * 3;
+            vertex(corners[c], corners[c + 1], corners[c + 2],
+                    color[0], color[1], color[2],
+                    CUBOID_NORMALS[n], CUBOID_NORMALS[n + 1], CUBOID_NORMALS[n + 2],
+                    CUBOID_UVS[2 * i], CUBOID_UVS[2 * i + 1]);
+        }
+        if (primitiveRestart) {
+            restart();
+            for (int i = 0; i < CUBOID_RESTART_STRIP_INDICES.length; i++) {
+                int index = CUBOID_RESTART_STRIP_INDICES[i];
+                index(index == RESTART_INDEX ? RESTART_INDEX : baseVertex + index);
+            }
+        } else {
+            for (int i = 0; i < INDICES_PER_CUBOID; i++)
+                index(baseVertex + CUBOID_STRIP_INDICES[i]);
+        }
+    }
+
+    // Fast path for the common case: stages the cuboid in arrays and copies it in bulk
+    private void putStandardCuboid(float[] corners, float[] color, int baseVertex) {
+        for (int c = 0; c < 8 * 3; c += 3)
+            bounds.extend(corners[c], corners[c + 1], corners[c + 2]);
+        float[] v = cuboidVertices;
+        for (int i = 0, pos = 0; i < VERTICES_PER_CUBOID; i++, pos += 11) {
+            int c = CUBOID_CORNERS[i] * 3;
+            int n = (i >> 2) * 3;
+            v[pos] = corners[c];
+            v[pos + 1] = corners[c + 1];
+            v[pos + 2] = corners[c + 2];
+            v[pos + 3] = color[0];
+            v[pos + 4] = color[1];
+            v[pos + 5] = color[2];
+            v[pos + 6] = CUBOID_NORMALS[n];
+            v[pos + 7] = CUBOID_NORMALS[n + 1];
+            v[pos + 8] = CUBOID_NORMALS[n + 2];
+            v[pos + 9] = CUBOID_UVS[2 * i];
+            v[pos + 10] = CUBOID_UVS[2 * i + 1];
+        }
+        vertexFloats.position(baseVertex * 11);
+        vertexFloats.put(v, 0, VERTICES_PER_CUBOID * 11);
+        vertexCount += VERTICES_PER_CUBOID;
+
+        int[] indices = cuboidIndices;
+        for (int i = 0; i < INDICES_PER_CUBOID; i++)
+            indices[i] = baseVertex + CUBOID_STRIP_INDICES[i];
+        indexInts.position(indexCount);
+        indexInts.put(indices, 0, INDICES_PER_CUBOID);
+        indexCount += INDICES_PER_CUBOID;
+    }
+
+    /**
+     * Appends a box centered at the origin (see DrawTable.makeBoxVertices).
+     * @param width     Half extent in x direction
+     * @param height    Half extent in y direction
+     * @param depth     Half extent in z direction
+     * @param color     RGB color of all vertices
+     */
+    public void putBox(float width, float height, float depth, float[] color) {
+        for (int i = 0; i < boxCorners.length; i += 3) {
+            boxCorners[i] = BOX_CORNER_SIGNS[i] * width;
+            boxCorners[i + 1] = BOX_CORNER_SIGNS[i + 1] * height;
+            boxCorners[i + 2] = BOX_CORNER_SIGNS[i + 2] * depth;
+        }
+        putCuboid(boxCorners, color);
+    }
+
+    /**
+     * Returns the bounding box of all vertices written since the last reset() or
+     * resetBounds(). The box is updated by further vertices.
+     */
+    public BoundingBox getBounds() {
+        return bounds;
+    }
+
+    /**
+     * Empties the bounds, eg. at the start of another mesh in the same buffers.
+     */
+    public void resetBounds() {
+        bounds.setEmpty();
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public int getIndexCount() {
+        return indexCount;
+    }
+
+    public VertexFormat getFormat() {
+        return format;
+    }
+
+    public int getVertexByteCount() {
+        return vertexCount * stride;
+    }
+
+    /**
+     * Returns the OpenGL type of the data returned by getIndexData()
+     * (GL_UNSIGNED_BYTE, GL_UNSIGNED_SHORT or GL_UNSIGNED_INT).
+     */
+    public int getIndexType() {
+        return VertexFormat.indexTypeFor(vertexCount);
+    }
+
+    public int getIndexByteCount() {
+        return indexCount * VertexFormat.indexTypeSize(getIndexType());
+    }
+
+    /**
+     * Returns the number of triangles of all triangle strips, without the
+     * degenerate triangles joining strips.
+     */
+    public int getTriangleCount() {
+        return getTriangleCount(0, indexCount);
+    }
+
+    /**
+     * Returns the number of triangles of the triangle strips of an index range,
+     * without degenerate triangles.
+     * @param firstIndex    Position of the first index
+     * @param count         Number of indices
+     */
+    public int getTriangleCount(int firstIndex, int count) {
+        int triangles = 0;
+        int a = RESTART_INDEX;
+        int b = RESTART_INDEX;
+        for (int i = firstIndex; i < firstIndex + count; i++) {
+            int c = getIndex(i);
+            if (c == RESTART_INDEX) {
+                a = RESTART_INDEX;
+                b = RESTART_INDEX;
+                continue;
+            }
+            if (a != RESTART_INDEX && a != b && b != c && a != c)
+                triangles++;
+            a = b;
+            b = c;
+        }
+        return triangles;
+    }
+
+    /**
+     * Returns the index at the given position (RESTART_INDEX for a strip end).
+     */
+    public int getIndex(int i) {
+        return indexData.getInt(i * 4);
+    }
+
+    /**
+     * Returns the vertex data, positioned at 0 and limited to the written vertices.
+     * The buffer stays owned by the builder and is overwritten after reset().
+     */
+    public ByteBuffer getVertexData() {
+        vertexData.limit(getVertexByteCount()).position(0);
+        return vertexData;
+    }
+
+    /**
+     * Returns the index data in the type given by getIndexType(),
+     * positioned at 0 and limited to the written indices.
+     * RESTART_INDEX becomes the maximum value of the index type.
+     * The buffer stays owned by the builder and is overwritten after reset().
+     */
+    public ByteBuffer getIndexData() {
+        int indexType = getIndexType();
+        if (indexType == GL_UNSIGNED_INT) {
+            indexData.limit(getIndexByteCount()).position(0);
+            return indexData;
+        }
+        int byteCount = getIndexByteCount();
+        if (byteCount > packedIndexData.capacity()) {
+            pool.release(packedIndexData);
+            packedIndexData = pool.acquire(byteCount);
+        }
+        if (indexType == GL_UNSIGNED_SHORT) {
+            for (int i = 0; i < indexCount; i++)
+                packedIndexData.putShort(i * 2, (short) indexData.getInt(i * 4));
+        } else {
+            for (int i = 0; i < indexCount; i++)
+                packedIndexData.put(i, (byte) indexData.getInt(i * 4));
+        }
+        packedIndexData.limit(byteCount).position(0);
+        return packedIndexData;
+    }
+
+    private void ensureVertexCapacity(int vertices) {
+        if (vertices * stride > vertexData.capacity()) {
+            vertexData = grow(vertexData, vertices * stride, getVertexByteCount());
+            vertexFloats = vertexData.asFloatBuffer();
+        }
+    }
+
+    private void ensureIndexCapacity(int indices) {
+        if (indices * 4 > indexData.capacity()) {
+            indexData = grow(indexData, indices * 4, indexCount * 4);
+            indexInts = indexData.asIntBuffer();
+        }
+    }
+
+    private ByteBuffer grow(ByteBuffer oldBuffer, int minCapacity, int usedBytes) {
+        ByteBuffer newBuffer = pool.acquire(Math.max(minCapacity, oldBuffer.capacity() * 2));
+        oldBuffer.limit(usedBytes).position(0);
+        newBuffer.put(oldBuffer);
+        newBuffer.clear();
+        pool.release(oldBuffer);
+        return newBuffer;
+    }
+}
@@ -0,0 +1,228 @@
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL3;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+
+/**
+ * Skips objects hidden behind other objects. After the scene has been drawn,
+ * the bounding box of every drawn object is rendered as a proxy (no color and
+ * depth writes) inside a GL_ANY_SAMPLES_PASSED query. In the next frame the
+ * object is drawn with glBeginConditionalRender on this query, so the GPU
+ * drops it if no sample of its box was visible in the previous frame.
+ *
+ * The CPU never waits for a query: conditional rendering uses GL_QUERY_NO_WAIT
+ * (the object is drawn if the result is not known yet) and the results for the
+ * statistics are only read when they are available. An object that becomes
+ * visible appears one frame late.
+ *
+ * Usage per frame: beginFrame(), queryFor() for every submitted object,
+ * draw the scene, testProxies().
+ */
+public class OcclusionCuller {
+
+    // Unit cube 0..1, 8 corners, 12 triangles
+    private static final float[] CUBE_CORNERS = {
+            0, 0, 0,  1, 0, 0,  0, 1, 0,  1, 1, 0,
+            0, 0, 1,  1, 0, 1,  0, 1, 1,  1, 1, 1 };
+    private static final byte[] CUBE_INDICES = {
+            0, 2, 1,  1, 2, 3,   4, 5, 6,  5, 7, 6,
+            0, 1, 4,  1, 5, 4,   2, 6, 3,  3, 6, 7,
+            0, 4, 2,  2, 4, 6,   1, 3, 5,  3, 7, 5 };
+    // Uniform locations of OcclusionProxy.vert
+    private static final int BOX_MIN_LOCATION = 0;
+    private static final int BOX_MAX_LOCATION = 1;
+
+    private final float nearDistance;
+    private final BoundingBox[] bounds;
+    private final int[] queryNames;
+    // Query issued in the last frame, it decides about drawing the object
+    private final boolean[] queryIssued;
+    // Object submitted in the current frame, its proxy is tested
+    private final boolean[] submitted;
+    // Object drawn conditionally in the current frame
+    private final boolean[] conditional;
+    private int objectCount;
+
+    private final int[] vaoName = new int[1];
+    private final int[] bufferNames = new int[2]; // VBO, IBO
+    private final int[] queryResult = new int[1];
+    private ShaderProgram proxyProgram;
+    private float cameraX, cameraY, cameraZ;
+
+    private int testedObjects;
+    private int culledObjects;
+
+    /**
+     * Creates a culler without objects.
+     * @param maxObjects    Maximum number of objects
+     * @param nearDistance  Distance of the near plane, objects are never culled
+     *                      while the camera is nearer to their box
+     */
+    public OcclusionCuller(int maxObjects, float nearDistance) {
+        this.nearDistance = nearDistance;
+        bounds = new BoundingBox[maxObjects];
+        queryNames = new int[maxObjects];
+        queryIssued = new boolean[maxObjects];
+        submitted = new boolean[maxObjects];
+        conditional = new boolean[maxObjects];
+    }
+
+    /**
+     * Creates the query objects and the proxy geometry.
+     * @param gl            OpenGL context
+     * @param proxyProgram  Program of OcclusionProxy.vert and OcclusionProxy.frag
+     */
+    public void upload(GL3 gl, ShaderProgram proxyProgram) {
+        this.proxyProgram = proxyProgram;
+        gl.glGenQueries(queryNames.length, queryNames, 0);
+
+        gl.glGenVertexArrays(1, vaoName, 0);
+        if (vaoName[0] < 1)
+            System.err.println("Error allocating vertex array object (VAO).");
+        gl.glBindVertexArray(vaoName[0]);
+
+        gl.glGenBuffers(2, bufferNames, 0);
+        if (bufferNames[0] < 1 || bufferNames[1] < 1)
+            System.err.println("Error allocating buffer objects.");
+
+        ByteBuffer data = DirectBufferPool.SHARED.acquire(CUBE_CORNERS.length * 4);
+        data.asFloatBuffer().put(CUBE_CORNERS);
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, bufferNames[0]);
+        gl.glBufferData(GL.GL_ARRAY_BUFFER, CUBE_CORNERS.length * 4, data, GL.GL_STATIC_DRAW);
+        data.clear();
+        data.put(CUBE_INDICES).flip();
+        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, bufferNames[1]);
+        gl.glBufferData(GL.GL_ELEMENT_ARRAY_BUFFER, CUBE_INDICES.length, data, GL.GL_STATIC_DRAW);
+        DirectBufferPool.SHARED.release(data);
+
+        gl.glEnableVertexAttribArray(0);
+        gl.glVertexAttribPointer(0, 3, GL.GL_FLOAT, false, 3 * 4, 0);
+        gl.glBindVertexArray(0);
+    }
+
+    /**
+     * Adds an object.
+     * @param objectBounds  Bounding box of the object in model coordinates,
+     *                      read every frame (may change)
+     * @return              ID of the object
+     */
+    public int add(BoundingBox objectBounds) {
+        if (objectCount == bounds.length)
+            throw new IllegalStateException("Maximum number of objects reached: " + bounds.length);
+        bounds[objectCount] = objectBounds;
+        return objectCount++;
+    }
+
+    /**
+     * Starts a frame.
+     * @param mvMatrix  Column major model-view matrix (rotation and translation only)
+     */
+    public void beginFrame(FloatBuffer mvMatrix) {
+        int p = mvMatrix.position();
+        float tx = mvMatrix.get(p + 12), ty = mvMatrix.get(p + 13), tz = mvMatrix.get(p + 14);
+        // Camera position in model coordinates: -transpose(R) * t
+        cameraX = -(mvMatrix.get(p) * tx + mvMatrix.get(p + 1) * ty + mvMatrix.get(p + 2) * tz);
+        cameraY = -(mvMatrix.get(p + 4) * tx + mvMatrix.get(p + 5) * ty + mvMatrix.get(p + 6) * tz);
+        cameraZ = -(mvMatrix.get(p + 8) * tx + mvMatrix.get(p + 9) * ty + mvMatrix.get(p + 10) * tz);
+        for (int i = 0; i < objectCount; i++) {
+            submitted[i] = false;
+            conditional[i] = false;
+        }
+    }
+
+    /**
+     * Marks an object as drawn in this frame and returns the query its draw
+     * depends on.
+     * @param object    ID of the object
+     * @return          Query for glBeginConditionalRender, 0 if the object
+     *                  has to be drawn in any case
+     */
+    public int queryFor(int object) {
+        submitted[object] = true;
+        // Without a query of the last frame or with the camera inside the box
+        // (the proxy would be clipped away) nothing is known about the object
+        conditional[object] = queryIssued[object] && !containsCamera(bounds[object]);
+        return conditional[object] ? queryNames[object] : 0;
+    }
+
+    /**
+     * Draws the proxies of all objects submitted in this frame with occlusion
+     * queries, after the scene has been drawn. Counts the objects culled in
+     * this frame from the query results that are already available.
+     * @param gl    OpenGL context
+     */
+    public void testProxies(GL3 gl) {
+        testedObjects = 0;
+        culledObjects = 0;
+        gl.glUseProgram(proxyProgram.getShaderProgramID());
+        gl.glBindVertexArray(vaoName[0]);
+        gl.glColorMask(false, false, false, false);
+        gl.glDepthMask(false);
+        // Faces of a proxy lie on the depth of flat objects (cards, the table top),
+        // with GL_LESS their own depth would hide them
+        gl.glDepthFunc(GL.GL_LEQUAL);
+        for (int i = 0; i < objectCount; i++) {
+            if (!submitted[i]) {
+                // The query would be out of date when the object is drawn again
+                queryIssued[i] = false;
+                continue;
+            }
+            if (conditional[i]) {
+                // The result of the last frame decided about this frame's draw
+                gl.glGetQueryObjectuiv(queryNames[i], GL2ES2.GL_QUERY_RESULT_AVAILABLE, queryResult, 0);
+                if (queryResult[0] != 0) {
+                    gl.glGetQueryObjectuiv(queryNames[i], GL2ES2.GL_QUERY_RESULT, queryResult, 0);
+                    if (queryResult[0] == 0)
+                        culledObjects++;
+                }
+            }
+            BoundingBox box = bounds[i];
+            gl.glUniform3f(BOX_MIN_LOCATION, box.getMinX(), box.getMinY(), box.getMinZ());
+            gl.glUniform3f(BOX_MAX_LOCATION, box.getMaxX(), box.getMaxY(), box.getMaxZ());
+            gl.glBeginQuery(GL2ES2.GL_ANY_SAMPLES_PASSED, queryNames[i]);
+            gl.glDrawElements(GL.GL_TRIANGLES, CUBE_INDICES.length, GL.GL_UNSIGNED_BYTE, 0);
+            gl.glEndQuery(GL2ES2.GL_ANY_SAMPLES_PASSED);
+            queryIssued[i] = true;
+            testedObjects++;
+        }
+        gl.glDepthFunc(GL.GL_LESS);
+        gl.glDepthMask(true);
+        gl.glColorMask(true, true, true, true);
+    }
+
+    private boolean containsCamera(BoundingBox box) {
+        return cameraX >= box.getMinX() - nearDistance && cameraX <= box.getMaxX() + nearDistance
+                && cameraY >= box.getMinY() - nearDistance && cameraY <= box.getMaxY() + nearDistance
+                && cameraZ >= box.getMinZ() - nearDistance && cameraZ <= box.getMaxZ() + nearDistance;
+    }
+
+    /**
+     * Returns the number of objects whose proxies were tested in the last testProxies()
+     */
+    public int getTestedObjects() {
+        return testedObjects;
+    }
+
+    /**
+     * Returns the number of objects not drawn in the frame of the last testProxies()
+     */
+    public int getCulledObjects() {
+        return culledObjects;
+    }
+
+    public int getObjectCount() {
+        return objectCount;
+    }
+
+    /**
+     * Deletes the queries and the proxy geometry.
+     * @param gl    OpenGL context
+     */
+    public void dispose(GL3 gl) {
+        gl.glDeleteQueries(queryNames.length, queryNames, 0);
+        gl.glDeleteVertexArrays(1, vaoName, 0);
+        gl.glDeleteBuffers(2, bufferNames, 0);
+    }
+}
@@ -0,0 +1,166 @@
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Stores linked shader programs on disk (glGetProgramBinary) and loads them
+ * with glProgramBinary on the next start, so that the shaders do not have to
+ * be compiled again. A binary is only valid for the driver that created it,
+ * therefore the file name is a hash of the program sources and of GL_VENDOR,
+ * GL_RENDERER and GL_VERSION. A binary rejected by the driver (eg. after a
+ * driver update) is deleted and the caller compiles the program from source.
+ *
+ * The directory is set with -DshaderCacheDir=<dir> (default "shadercache"),
+ * -DshaderCacheDir= (empty) disables the cache.
+ */
+public class ProgramBinaryCache {
+
+    private static final int FILE_MAGIC = 0x47504243; // "GPBC"
+    private static final String FILE_SUFFIX = ".bin";
+    // Magic, binary format and binary length
+    private static final int HEADER_SIZE = 3 * 4;
+
+    private final GL2ES2 gl;
+    private final File directory;
+    private final String driver;
+    private final boolean supported;
+
+    /**
+     * Creates a cache for the driver of the current OpenGL context.
+     * @param gl        OpenGL profile
+     * @param directory Directory of the binary files, null disables the cache
+     */
+    public ProgramBinaryCache(GL2ES2 gl, File directory) {
+        this.gl = gl;
+        this.directory = directory;
+        driver = gl.glGetString(GL.GL_VENDOR) + '\n' + gl.glGetString(GL.GL_RENDERER) + '\n'
+                + gl.glGetString(GL.GL_VERSION);
+        // Some drivers support the functions but no binary format
+        int[] formats = new int[1];
+        gl.glGetIntegerv(GL2ES2.GL_NUM_PROGRAM_BINARY_FORMATS, formats, 0);
+        supported = directory != null && formats[0] > 0;
+    }
+
+    /**
+     * Creates a cache in the directory given by the system property shaderCacheDir.
+     * @param gl    OpenGL profile
+     */
+    public static ProgramBinaryCache fromSystemProperties(GL2ES2 gl) {
+        String directory = System.getProperty("shaderCacheDir", "shadercache");
+        return new ProgramBinaryCache(gl, directory.isEmpty() ? null : new File(directory));
+    }
+
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * Must be called before a program is linked, so that the driver keeps its binary.
+     * @param programID OpenGL-ID of the (not yet linked) program
+     */
+    public void prepareForStore(int programID) {
+        if (supported)
+            gl.glProgramParameteri(programID, GL2ES3.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GL.GL_TRUE);
+    }
+
+    /**
+     * Loads the binary of a program into a new OpenGL program.
+     * @param sourceKey Hash of the program sources (see ShaderProgramCache.hash())
+     * @return          OpenGL-ID of the linked program, 0 if there is no valid binary
+     */
+    public int load(String sourceKey) {
+        if (!supported)
+            return 0;
+        File file = fileFor(sourceKey);
+        if (!file.isFile())
+            return 0;
+
+        int format;
+        byte[] binary;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            if (in.readInt() != FILE_MAGIC)
+                throw new IOException("Unknown file format");
+            format = in.readInt();
+            // The length must match the file, a damaged length would allocate up to 2 GB
+            int length = in.readInt();
+            if (length != file.length() - HEADER_SIZE)
+                throw new IOException("Binary length " + length + " does not match the file length " + file.length());
+            binary = new byte[length];
+            in.readFully(binary);
+        } catch (IOException e) {
+            System.err.println("Error reading program binary \"" + file + "\": " + e.getMessage());
+            file.delete();
+            return 0;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(binary.length).order(ByteOrder.nativeOrder());
+        buffer.put(binary).flip();
+        int programID = gl.glCreateProgram();
+        gl.glProgramBinary(programID, format, buffer, binary.length);
+        int[] linked = new int[1];
+        gl.glGetProgramiv(programID, GL2ES2.GL_LINK_STATUS, linked, 0);
+        if (linked[0] == 0) {
+            System.out.println("Program binary \"" + file + "\" rejected by the driver, compiling from source");
+            gl.glDeleteProgram(programID);
+            file.delete();
+            return 0;
+        }
+        System.out.println("Loaded program binary: " + file);
+        return programID;
+    }
+
+    /**
+     * Stores the binary of a linked program. Errors are reported but not fatal,
+     * the program is compiled from source again on the next start.
+     * @param sourceKey Hash of the program sources (see ShaderProgramCache.hash())
+     * @param programID OpenGL-ID of the linked program
+     */
+    public void store(String sourceKey, int programID) {
+        if (!supported)
+            return;
+        int[] length = new int[1];
+        gl.glGetProgramiv(programID, GL2ES2.GL_PROGRAM_BINARY_LENGTH, length, 0);
+        if (length[0] <= 0)
+            return;
+        ByteBuffer buffer = ByteBuffer.allocateDirect(length[0]).order(ByteOrder.nativeOrder());
+        int[] writtenLength = new int[1];
+        int[] format = new int[1];
+        gl.glGetProgramBinary(programID, length[0], writtenLength, 0, format, 0, buffer);
+        byte[] binary = new byte[writtenLength[0]];
+        buffer.get(binary);
+
+        File file = fileFor(sourceKey);
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            System.err.println("Error creating program binary directory \"" + directory + "\"");
+            return;
+        }
+        // Written to a temporary file first, so that an aborted start leaves no half written binary
+        File tmpFile = new File(directory, file.getName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(tmpFile))) {
+            out.writeInt(FILE_MAGIC);
+            out.writeInt(format[0]);
+            out.writeInt(binary.length);
+            out.write(binary);
+        } catch (IOException e) {
+            System.err.println("Error writing program binary \"" + file + "\": " + e.getMessage());
+            tmpFile.delete();
+            return;
+        }
+        file.delete();
+        if (!tmpFile.renameTo(file))
+            tmpFile.delete();
+    }
+
+    private File fileFor(String sourceKey) {
+        return new File(directory, ShaderProgramCache.hash(sourceKey, driver) + FILE_SUFFIX);
+    }
+}
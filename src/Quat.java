@@ -0,0 +1,138 @@
+/**
+ * Unit quaternions (x, y, z, w) for rotations, stored in float arrays at an
+ * offset like Vec3 and Mat4. Interpolating rotations (eg. of an animated card)
+ * with slerp() avoids the distortion of interpolating matrices.
+ * No method allocates, out may be the same as an input.
+ */
+public final class Quat {
+
+    private Quat() {
+    }
+
+    public static void setIdentity(float[] q, int qo) {
+        q[qo] = 0f;
+        q[qo + 1] = 0f;
+        q[qo + 2] = 0f;
+        q[qo + 3] = 1f;
+    }
+
+    /**
+     * Sets q to a rotation around an axis.
+     * @param angle Angle in degrees (as glRotatef)
+     * @param x     Rotation axis, does not need to be normalized
+     */
+    public static void setAxisAngle(float[] q, int qo, float angle, float x, float y, float z) {
+        float length = (float) Math.sqrt(x * x + y * y + z * z);
+        if (length == 0f) {
+            setIdentity(q, qo);
+            return;
+        }
+        double half = Math.toRadians(angle) / 2.0;
+        float s = (float) Math.sin(half) / length;
+        q[qo] = x * s;
+        q[qo + 1] = y * s;
+        q[qo + 2] = z * s;
+        q[qo + 3] = (float) Math.cos(half);
+    }
+
+    /**
+     * out = a * b, the rotation b followed by a.
+     */
+    public static void multiply(float[] a, int ao, float[] b, int bo, float[] out, int oo) {
+        float ax = a[ao], ay = a[ao + 1], az = a[ao + 2], aw = a[ao + 3];
+        float bx = b[bo], by = b[bo + 1], bz = b[bo + 2], bw = b[bo + 3];
+        out[oo] = aw * bx + ax * bw + ay * bz - az * by;
+        out[oo + 1] = aw * by - ax * bz + ay * bw + az * bx;
+        out[oo + 2] = aw * bz + ax * by - ay * bx + az * bw;
+        out[oo + 3] = aw * bw - ax * bx - ay * by - az * bz;
+    }
+
+    /**
+     * Scales q to length 1 against accumulated rounding errors.
+     */
+    public static void normalize(float[] q, int qo) {
+        float lengthSquared = q[qo] * q[qo] + q[qo + 1] * q[qo + 1] + q[qo + 2] * q[qo + 2] + q[qo + 3] * q[qo + 3];
+        if (lengthSquared == 0f) {
+            setIdentity(q, qo);
+            return;
+        }
+        float s = 1f / (float) Math.sqrt(lengthSquared);
+        for (int i = 0; i < 4; i++)
+            q[qo + i] *= s;
+    }
+
+    /**
+     * Rotates a vector by a unit quaternion.
+     */
+    public static void rotate(float[] q, int qo, float[] v, int vo, float[] out, int oo) {
+        float qx = q[qo], qy = q[qo + 1], qz = q[qo + 2], qw = q[qo + 3];
+        float vx = v[vo], vy = v[vo + 1], vz = v[vo + 2];
+        // t = 2 * (q.xyz x v), v' = v + w * t + q.xyz x t
+        float tx = 2f * (qy * vz - qz * vy);
+        float ty = 2f * (qz * vx - qx * vz);
+        float tz = 2f * (qx * vy - qy * vx);
+        out[oo] = vx + qw * tx + qy * tz - qz * ty;
+        out[oo + 1] = vy + qw * ty + qz * tx - qx * tz;
+        out[oo + 2] = vz + qw * tz + qx * ty - qy * tx;
+    }
+
+    /**
+     * Sets m to the rotation matrix of a unit quaternion with a translation,
+     * eg. the model matrix of an object.
+     */
+    public static void toMat4(float[] q, int qo, float tx, float ty, float tz, float[] m, int mo) {
+        float x = q[qo], y = q[qo + 1], z = q[qo + 2], w = q[qo + 3];
+        float xx = x * x, yy = y * y, zz = z * z;
+        float xy = x * y, xz = x * z, yz = y * z;
+        float wx = w * x, wy = w * y, wz = w * z;
+        m[mo] = 1f - 2f * (yy + zz);
+        m[mo + 1] = 2f * (xy + wz);
+        m[mo + 2] = 2f * (xz - wy);
+        m[mo + 3] = 0f;
+        m[mo + 4] = 2f * (xy - wz);
+        m[mo + 5] = 1f - 2f * (xx + zz);
+        m[mo + 6] = 2f * (yz + wx);
+        m[mo + 7] = 0f;
+        m[mo + 8] = 2f * (xz + wy);
+        m[mo + 9] = 2f * (yz - wx);
+        m[mo + 10] = 1f - 2f * (xx + yy);
+        m[mo + 11] = 0f;
+        m[mo + 12] = tx;
+        m[mo + 13] = ty;
+        m[mo + 14] = tz;
+        m[mo + 15] = 1f;
+    }
+
+    /**
+     * Spherical linear interpolation along the shorter arc between two unit quaternions.
+     * @param t 0: a, 1: b
+     */
+    public static void slerp(float[] a, int ao, float[] b, int bo, float t, float[] out, int oo) {
+        float ax = a[ao], ay = a[ao + 1], az = a[ao + 2], aw = a[ao + 3];
+        float bx = b[bo], by = b[bo + 1], bz = b[bo + 2], bw = b[bo + 3];
+        float cos = ax * bx + ay * by + az * bz + aw * bw;
+        if (cos < 0f) {
+            cos = -cos;
+            bx = -bx;
+            by = -by;
+            bz = -bz;
+            bw = -bw;
+        }
+        float wa, wb;
+        if (cos > 0.9995f) {
+            // Nearly the same rotation: linear interpolation, normalized below
+            wa = 1f - t;
+            wb = t;
+        } else {
+            double angle = Math.acos(cos);
+            double sin = Math.sin(angle);
+            wa = (float) (Math.sin((1.0 - t) * angle) / sin);
+            wb = (float) (Math.sin(t * angle) / sin);
+        }
+        out[oo] = wa * ax + wb * bx;
+        out[oo + 1] = wa * ay + wb * by;
+        out[oo + 2] = wa * az + wb * bz;
+        out[oo + 3] = wa * aw + wb * bw;
+        normalize(out, oo);
+    }
+}
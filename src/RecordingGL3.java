@@ -0,0 +1,10301 @@
+import com.jogamp.common.nio.PointerBuffer;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2;
+import com.jogamp.opengl.GL2ES1;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL2ES3;
+import com.jogamp.opengl.GL2GL3;
+import com.jogamp.opengl.GL3;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GL3bc;
+import com.jogamp.opengl.GL4;
+import com.jogamp.opengl.GL4ES3;
+import com.jogamp.opengl.GL4bc;
+import com.jogamp.opengl.GLArrayData;
+import com.jogamp.opengl.GLBufferStorage;
+import com.jogamp.opengl.GLContext;
+import com.jogamp.opengl.GLES1;
+import com.jogamp.opengl.GLES2;
+import com.jogamp.opengl.GLES3;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.GLUniformData;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * GL3 without OpenGL: passes every call with its arguments to the methods
+ * call() and record() of a subclass (see GLRecorder) instead of calling a
+ * driver. Every method has a function ID, the index of its signature in
+ * FUNCTIONS, and costs one direct method call per argument, nothing is boxed.
+ *
+ * Calls are answered like by a driver that supports everything: new object
+ * names for glGen* and glCreate*, signaled fences, complete framebuffers,
+ * true for glIs*, is*Available and the GL3 profile checks. Names, glGet*
+ * values, mapped buffers and strings are supplied by the subclass, all other
+ * calls return 0, false or null.
+ *
+ * The methods were generated from the GL3 interface of JOGL 2.3.2 by
+ * tools/GL3WrapperGenerator.java, which describes how to generate them again.
+ */
+public abstract class RecordingGL3 implements GL3 {
+
+    /** Name and JNI descriptor of every function by function ID, eg. "glEnable(I)V" */
+    protected static final String[] FUNCTIONS = {
+            "getBoundBuffer(I)I",
+            "getBoundFramebuffer(I)I",
+            "getBufferStorage(I)Lcom/jogamp/opengl/GLBufferStorage;",
+            "getContext()Lcom/jogamp/opengl/GLContext;",
+            "getDefaultDrawFramebuffer()I",
+            "getDefaultReadBuffer()I",
+            "getDefaultReadFramebuffer()I",
+            "getDownstreamGL()Lcom/jogamp/opengl/GL;",
+            "getExtension(Ljava/lang/String;)Ljava/lang/Object;",
+            "getGL2ES1()Lcom/jogamp/opengl/GL2ES1;",
+            "getGL2ES2()Lcom/jogamp/opengl/GL2ES2;",
+            "getGL2ES3()Lcom/jogamp/opengl/GL2ES3;",
+            "getGL2GL3()Lcom/jogamp/opengl/GL2GL3;",
+            "getGL2()Lcom/jogamp/opengl/GL2;",
+            "getGL3ES3()Lcom/jogamp/opengl/GL3ES3;",
+            "getGL3()Lcom/jogamp/opengl/GL3;",
+            "getGL3bc()Lcom/jogamp/opengl/GL3bc;",
+            "getGL4ES3()Lcom/jogamp/opengl/GL4ES3;",
+            "getGL4()Lcom/jogamp/opengl/GL4;",
+            "getGL4bc()Lcom/jogamp/opengl/GL4bc;",
+            "getGLES1()Lcom/jogamp/opengl/GLES1;",
+            "getGLES2()Lcom/jogamp/opengl/GLES2;",
+            "getGLES3()Lcom/jogamp/opengl/GLES3;",
+            "getGLProfile()Lcom/jogamp/opengl/GLProfile;",
+            "getGL()Lcom/jogamp/opengl/GL;",
+            "getMaxRenderbufferSamples()I",
+            "getPlatformGLExtensions()Ljava/lang/Object;",
+            "getRootGL()Lcom/jogamp/opengl/GL;",
+            "getSwapInterval()I",
+            "glActiveShaderProgram(II)V",
+            "glActiveTexture(I)V",
+            "glApplyFramebufferAttachmentCMAAINTEL()V",
+            "glAttachShader(II)V",
+            "glBeginConditionalRender(II)V",
+            "glBeginQueryIndexed(III)V",
+            "glBeginQuery(II)V",
+            "glBeginTransformFeedback(I)V",
+            "glBindAttribLocation(IILjava/lang/String;)V",
+            "glBindBufferBase(III)V",
+            "glBindBufferRange(IIIJJ)V",
+            "glBindBuffer(II)V",
+            "glBindFragDataLocationIndexed(IIILjava/lang/String;)V",
+            "glBindFragDataLocation(IILjava/lang/String;)V",
+            "glBindFramebuffer(II)V",
+            "glBindImageTexture(IIIZIII)V",
+            "glBindProgramPipeline(I)V",
+            "glBindRenderbuffer(II)V",
+            "glBindSampler(II)V",
+            "glBindTexture(II)V",
+            "glBindTransformFeedback(II)V",
+            "glBindVertexArray(I)V",
+            "glBindVertexBuffer(IIJI)V",
+            "glBlendBarrier()V",
+            "glBlendColor(FFFF)V",
+            "glBlendEquationSeparate(II)V",
+            "glBlendEquationSeparatei(III)V",
+            "glBlendEquation(I)V",
+            "glBlendEquationi(II)V",
+            "glBlendFuncSeparate(IIII)V",
+            "glBlendFuncSeparatei(IIIII)V",
+            "glBlendFunc(II)V",
+            "glBlendFunci(III)V",
+            "glBlitFramebuffer(IIIIIIIIII)V",
+            "glBufferAddressRangeNV(IIJJ)V",
+            "glBufferData(IJLjava/nio/Buffer;I)V",
+            "glBufferPageCommitmentARB(IJJZ)V",
+            "glBufferSubData(IJJLjava/nio/Buffer;)V",
+            "glCheckFramebufferStatus(I)I",
+            "glClampColor(II)V",
+            "glClearBufferData(IIIILjava/nio/Buffer;)V",
+            "glClearBufferSubData(IIJJIILjava/nio/Buffer;)V",
+            "glClearBufferfi(IIFI)V",
+            "glClearBufferfv(II[FI)V",
+            "glClearBufferfv(IILjava/nio/FloatBuffer;)V",
+            "glClearBufferiv(II[II)V",
+            "glClearBufferiv(IILjava/nio/IntBuffer;)V",
+            "glClearBufferuiv(II[II)V",
+            "glClearBufferuiv(IILjava/nio/IntBuffer;)V",
+            "glClearColor(FFFF)V",
+            "glClearDepth(D)V",
+            "glClearDepthf(F)V",
+            "glClearStencil(I)V",
+            "glClear(I)V",
+            "glClientWaitSync(JIJ)I",
+            "glColorFormatNV(III)V",
+            "glColorMask(ZZZZ)V",
+            "glColorMaski(IZZZZ)V",
+            "glCompileShaderIncludeARB(II[Ljava/lang/String;[II)V",
+            "glCompileShaderIncludeARB(II[Ljava/lang/String;Ljava/nio/IntBuffer;)V",
+            "glCompileShader(I)V",
+            "glCompressedTexImage1D(IIIIIILjava/nio/Buffer;)V",
+            "glCompressedTexImage1D(IIIIIIJ)V",
+            "glCompressedTexImage2D(IIIIIIILjava/nio/Buffer;)V",
+            "glCompressedTexImage2D(IIIIIIIJ)V",
+            "glCompressedTexImage3D(IIIIIIIILjava/nio/Buffer;)V",
+            "glCompressedTexImage3D(IIIIIIIIJ)V",
+            "glCompressedTexSubImage1D(IIIIIILjava/nio/Buffer;)V",
+            "glCompressedTexSubImage1D(IIIIIIJ)V",
+            "glCompressedTexSubImage2D(IIIIIIIILjava/nio/Buffer;)V",
+            "glCompressedTexSubImage2D(IIIIIIIIJ)V",
+            "glCompressedTexSubImage3D(IIIIIIIIIILjava/nio/Buffer;)V",
+            "glCompressedTexSubImage3D(IIIIIIIIIIJ)V",
+            "glCopyBufferSubData(IIJJJ)V",
+            "glCopyImageSubData(IIIIIIIIIIIIIII)V",
+            "glCopyTexImage1D(IIIIIII)V",
+            "glCopyTexImage2D(IIIIIIII)V",
+            "glCopyTexSubImage1D(IIIIII)V",
+            "glCopyTexSubImage2D(IIIIIIII)V",
+            "glCopyTexSubImage3D(IIIIIIIII)V",
+            "glCreateProgram()I",
+            "glCreateShaderProgramv(II[Ljava/lang/String;)I",
+            "glCreateShader(I)I",
+            "glCreateSyncFromCLeventARB(JJI)J",
+            "glCullFace(I)V",
+            "glDebugMessageControl(IIII[IIZ)V",
+            "glDebugMessageControl(IIIILjava/nio/IntBuffer;Z)V",
+            "glDebugMessageEnableAMD(III[IIZ)V",
+            "glDebugMessageEnableAMD(IIILjava/nio/IntBuffer;Z)V",
+            "glDebugMessageInsertAMD(IIIILjava/lang/String;)V",
+            "glDebugMessageInsert(IIIIILjava/lang/String;)V",
+            "glDeleteBuffers(I[II)V",
+            "glDeleteBuffers(ILjava/nio/IntBuffer;)V",
+            "glDeleteFramebuffers(I[II)V",
+            "glDeleteFramebuffers(ILjava/nio/IntBuffer;)V",
+            "glDeleteNamedStringARB(ILjava/lang/String;)V",
+            "glDeleteProgramPipelines(I[II)V",
+            "glDeleteProgramPipelines(ILjava/nio/IntBuffer;)V",
+            "glDeleteProgram(I)V",
+            "glDeleteQueries(I[II)V",
+            "glDeleteQueries(ILjava/nio/IntBuffer;)V",
+            "glDeleteRenderbuffers(I[II)V",
+            "glDeleteRenderbuffers(ILjava/nio/IntBuffer;)V",
+            "glDeleteSamplers(I[II)V",
+            "glDeleteSamplers(ILjava/nio/IntBuffer;)V",
+            "glDeleteShader(I)V",
+            "glDeleteSync(J)V",
+            "glDeleteTextures(I[II)V",
+            "glDeleteTextures(ILjava/nio/IntBuffer;)V",
+            "glDeleteTransformFeedbacks(I[II)V",
+            "glDeleteTransformFeedbacks(ILjava/nio/IntBuffer;)V",
+            "glDeleteVertexArrays(I[II)V",
+            "glDeleteVertexArrays(ILjava/nio/IntBuffer;)V",
+            "glDepthFunc(I)V",
+            "glDepthMask(Z)V",
+            "glDepthRangeArrayv(II[DI)V",
+            "glDepthRangeArrayv(IILjava/nio/DoubleBuffer;)V",
+            "glDepthRangeIndexed(IDD)V",
+            "glDepthRange(DD)V",
+            "glDepthRangef(FF)V",
+            "glDetachShader(II)V",
+            "glDisableClientState(I)V",
+            "glDisableVertexAttribArray(I)V",
+            "glDisable(I)V",
+            "glDisablei(II)V",
+            "glDispatchComputeIndirect(J)V",
+            "glDispatchCompute(III)V",
+            "glDrawArraysIndirect(ILjava/nio/Buffer;)V",
+            "glDrawArraysIndirect(IJ)V",
+            "glDrawArraysInstancedBaseInstance(IIIII)V",
+            "glDrawArraysInstanced(IIII)V",
+            "glDrawArrays(III)V",
+            "glDrawBuffer(I)V",
+            "glDrawBuffers(I[II)V",
+            "glDrawBuffers(ILjava/nio/IntBuffer;)V",
+            "glDrawElementsBaseVertex(IIILjava/nio/Buffer;I)V",
+            "glDrawElementsBaseVertex(IIIJI)V",
+            "glDrawElementsIndirect(IILjava/nio/Buffer;)V",
+            "glDrawElementsIndirect(IIJ)V",
+            "glDrawElementsInstancedBaseInstance(IIIJII)V",
+            "glDrawElementsInstancedBaseVertexBaseInstance(IIIJIII)V",
+            "glDrawElementsInstancedBaseVertex(IIILjava/nio/Buffer;II)V",
+            "glDrawElementsInstancedBaseVertex(IIIJII)V",
+            "glDrawElementsInstanced(IIIJI)V",
+            "glDrawElements(IIIJ)V",
+            "glDrawRangeElementsBaseVertex(IIIIILjava/nio/Buffer;I)V",
+            "glDrawRangeElementsBaseVertex(IIIIIJI)V",
+            "glDrawRangeElements(IIIIIJ)V",
+            "glDrawTransformFeedbackInstanced(III)V",
+            "glDrawTransformFeedbackStreamInstanced(IIII)V",
+            "glDrawTransformFeedbackStream(III)V",
+            "glDrawTransformFeedback(II)V",
+            "glEdgeFlagFormatNV(I)V",
+            "glEnableClientState(I)V",
+            "glEnableVertexAttribArray(I)V",
+            "glEnable(I)V",
+            "glEnablei(II)V",
+            "glEndConditionalRender()V",
+            "glEndQueryIndexed(II)V",
+            "glEndQuery(I)V",
+            "glEndTransformFeedback()V",
+            "glFenceSync(II)J",
+            "glFinish()V",
+            "glFlushMappedBufferRange(IJJ)V",
+            "glFlush()V",
+            "glFogCoordFormatNV(II)V",
+            "glFramebufferParameteri(III)V",
+            "glFramebufferRenderbuffer(IIII)V",
+            "glFramebufferTexture1D(IIIII)V",
+            "glFramebufferTexture2D(IIIII)V",
+            "glFramebufferTexture3D(IIIIII)V",
+            "glFramebufferTextureARB(IIII)V",
+            "glFramebufferTextureEXT(IIII)V",
+            "glFramebufferTextureFaceARB(IIIII)V",
+            "glFramebufferTextureLayerARB(IIIII)V",
+            "glFramebufferTextureLayer(IIIII)V",
+            "glFramebufferTexture(IIII)V",
+            "glFrontFace(I)V",
+            "glGenBuffers(I[II)V",
+            "glGenBuffers(ILjava/nio/IntBuffer;)V",
+            "glGenFramebuffers(I[II)V",
+            "glGenFramebuffers(ILjava/nio/IntBuffer;)V",
+            "glGenProgramPipelines(I[II)V",
+            "glGenProgramPipelines(ILjava/nio/IntBuffer;)V",
+            "glGenQueries(I[II)V",
+            "glGenQueries(ILjava/nio/IntBuffer;)V",
+            "glGenRenderbuffers(I[II)V",
+            "glGenRenderbuffers(ILjava/nio/IntBuffer;)V",
+            "glGenSamplers(I[II)V",
+            "glGenSamplers(ILjava/nio/IntBuffer;)V",
+            "glGenTextures(I[II)V",
+            "glGenTextures(ILjava/nio/IntBuffer;)V",
+            "glGenTransformFeedbacks(I[II)V",
+            "glGenTransformFeedbacks(ILjava/nio/IntBuffer;)V",
+            "glGenVertexArrays(I[II)V",
+            "glGenVertexArrays(ILjava/nio/IntBuffer;)V",
+            "glGenerateMipmap(I)V",
+            "glGetActiveAtomicCounterBufferiv(III[II)V",
+            "glGetActiveAtomicCounterBufferiv(IIILjava/nio/IntBuffer;)V",
+            "glGetActiveAttrib(III[II[II[II[BI)V",
+            "glGetActiveAttrib(IIILjava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetActiveSubroutineName(IIII[II[BI)V",
+            "glGetActiveSubroutineName(IIIILjava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetActiveSubroutineUniformName(IIII[II[BI)V",
+            "glGetActiveSubroutineUniformName(IIIILjava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetActiveSubroutineUniformiv(IIII[II)V",
+            "glGetActiveSubroutineUniformiv(IIIILjava/nio/IntBuffer;)V",
+            "glGetActiveUniformBlockName(III[II[BI)V",
+            "glGetActiveUniformBlockName(IIILjava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetActiveUniformBlockiv(III[II)V",
+            "glGetActiveUniformBlockiv(IIILjava/nio/IntBuffer;)V",
+            "glGetActiveUniformName(III[II[BI)V",
+            "glGetActiveUniformName(IIILjava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetActiveUniform(III[II[II[II[BI)V",
+            "glGetActiveUniform(IIILjava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetActiveUniformsiv(II[III[II)V",
+            "glGetActiveUniformsiv(IILjava/nio/IntBuffer;ILjava/nio/IntBuffer;)V",
+            "glGetAttachedShaders(II[II[II)V",
+            "glGetAttachedShaders(IILjava/nio/IntBuffer;Ljava/nio/IntBuffer;)V",
+            "glGetAttribLocation(ILjava/lang/String;)I",
+            "glGetBooleani_v(II[BI)V",
+            "glGetBooleani_v(IILjava/nio/ByteBuffer;)V",
+            "glGetBooleanv(I[BI)V",
+            "glGetBooleanv(ILjava/nio/ByteBuffer;)V",
+            "glGetBufferParameteri64v(II[JI)V",
+            "glGetBufferParameteri64v(IILjava/nio/LongBuffer;)V",
+            "glGetBufferParameteriv(II[II)V",
+            "glGetBufferParameteriv(IILjava/nio/IntBuffer;)V",
+            "glGetBufferParameterui64vNV(II[JI)V",
+            "glGetBufferParameterui64vNV(IILjava/nio/LongBuffer;)V",
+            "glGetBufferSubData(IJJLjava/nio/Buffer;)V",
+            "glGetCompressedTexImage(IILjava/nio/Buffer;)V",
+            "glGetCompressedTexImage(IIJ)V",
+            "glGetDebugMessageLogAMD(II[II[II[II[II[BI)I",
+            "glGetDebugMessageLogAMD(IILjava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/ByteBuffer;)I",
+            "glGetDebugMessageLog(II[II[II[II[II[II[BI)I",
+            "glGetDebugMessageLog(IILjava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/ByteBuffer;)I",
+            "glGetDoublei_v(II[DI)V",
+            "glGetDoublei_v(IILjava/nio/DoubleBuffer;)V",
+            "glGetDoublev(I[DI)V",
+            "glGetDoublev(ILjava/nio/DoubleBuffer;)V",
+            "glGetError()I",
+            "glGetFloati_v(II[FI)V",
+            "glGetFloati_v(IILjava/nio/FloatBuffer;)V",
+            "glGetFloatv(I[FI)V",
+            "glGetFloatv(ILjava/nio/FloatBuffer;)V",
+            "glGetFragDataIndex(ILjava/lang/String;)I",
+            "glGetFragDataLocation(ILjava/lang/String;)I",
+            "glGetFramebufferAttachmentParameteriv(III[II)V",
+            "glGetFramebufferAttachmentParameteriv(IIILjava/nio/IntBuffer;)V",
+            "glGetFramebufferParameteriv(II[II)V",
+            "glGetFramebufferParameteriv(IILjava/nio/IntBuffer;)V",
+            "glGetGraphicsResetStatus()I",
+            "glGetInteger64i_v(II[JI)V",
+            "glGetInteger64i_v(IILjava/nio/LongBuffer;)V",
+            "glGetInteger64v(I[JI)V",
+            "glGetInteger64v(ILjava/nio/LongBuffer;)V",
+            "glGetIntegeri_v(II[II)V",
+            "glGetIntegeri_v(IILjava/nio/IntBuffer;)V",
+            "glGetIntegerui64i_vNV(II[JI)V",
+            "glGetIntegerui64i_vNV(IILjava/nio/LongBuffer;)V",
+            "glGetIntegerui64vNV(I[JI)V",
+            "glGetIntegerui64vNV(ILjava/nio/LongBuffer;)V",
+            "glGetIntegerv(I[II)V",
+            "glGetIntegerv(ILjava/nio/IntBuffer;)V",
+            "glGetInternalformati64v(IIII[JI)V",
+            "glGetInternalformati64v(IIIILjava/nio/LongBuffer;)V",
+            "glGetInternalformativ(IIII[II)V",
+            "glGetInternalformativ(IIIILjava/nio/IntBuffer;)V",
+            "glGetMultisamplefv(II[FI)V",
+            "glGetMultisamplefv(IILjava/nio/FloatBuffer;)V",
+            "glGetNamedBufferParameterui64vNV(II[JI)V",
+            "glGetNamedBufferParameterui64vNV(IILjava/nio/LongBuffer;)V",
+            "glGetNamedStringARB(ILjava/lang/String;I[II[BI)V",
+            "glGetNamedStringARB(ILjava/lang/String;ILjava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetNamedStringivARB(ILjava/lang/String;I[II)V",
+            "glGetNamedStringivARB(ILjava/lang/String;ILjava/nio/IntBuffer;)V",
+            "glGetObjectLabel(III[II[BI)V",
+            "glGetObjectLabel(IIILjava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetObjectPtrLabel(Ljava/nio/Buffer;I[II[BI)V",
+            "glGetObjectPtrLabel(Ljava/nio/Buffer;ILjava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetProgramBinary(II[II[IILjava/nio/Buffer;)V",
+            "glGetProgramBinary(IILjava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/Buffer;)V",
+            "glGetProgramInfoLog(II[II[BI)V",
+            "glGetProgramInfoLog(IILjava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetProgramInterfaceiv(III[II)V",
+            "glGetProgramInterfaceiv(IIILjava/nio/IntBuffer;)V",
+            "glGetProgramPipelineInfoLog(II[II[BI)V",
+            "glGetProgramPipelineInfoLog(IILjava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetProgramPipelineiv(II[II)V",
+            "glGetProgramPipelineiv(IILjava/nio/IntBuffer;)V",
+            "glGetProgramResourceIndex(II[BI)I",
+            "glGetProgramResourceIndex(IILjava/nio/ByteBuffer;)I",
+            "glGetProgramResourceLocation(II[BI)I",
+            "glGetProgramResourceLocation(IILjava/nio/ByteBuffer;)I",
+            "glGetProgramResourceName(IIII[II[BI)V",
+            "glGetProgramResourceName(IIIILjava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetProgramResourceiv(IIII[III[II[II)V",
+            "glGetProgramResourceiv(IIIILjava/nio/IntBuffer;ILjava/nio/IntBuffer;Ljava/nio/IntBuffer;)V",
+            "glGetProgramStageiv(III[II)V",
+            "glGetProgramStageiv(IIILjava/nio/IntBuffer;)V",
+            "glGetProgramiv(II[II)V",
+            "glGetProgramiv(IILjava/nio/IntBuffer;)V",
+            "glGetQueryIndexediv(III[II)V",
+            "glGetQueryIndexediv(IIILjava/nio/IntBuffer;)V",
+            "glGetQueryObjecti64v(II[JI)V",
+            "glGetQueryObjecti64v(IILjava/nio/LongBuffer;)V",
+            "glGetQueryObjectiv(II[II)V",
+            "glGetQueryObjectiv(IILjava/nio/IntBuffer;)V",
+            "glGetQueryObjectui64v(II[JI)V",
+            "glGetQueryObjectui64v(IILjava/nio/LongBuffer;)V",
+            "glGetQueryObjectuiv(II[II)V",
+            "glGetQueryObjectuiv(IILjava/nio/IntBuffer;)V",
+            "glGetQueryiv(II[II)V",
+            "glGetQueryiv(IILjava/nio/IntBuffer;)V",
+            "glGetRenderbufferParameteriv(II[II)V",
+            "glGetRenderbufferParameteriv(IILjava/nio/IntBuffer;)V",
+            "glGetSamplerParameterIiv(II[II)V",
+            "glGetSamplerParameterIiv(IILjava/nio/IntBuffer;)V",
+            "glGetSamplerParameterIuiv(II[II)V",
+            "glGetSamplerParameterIuiv(IILjava/nio/IntBuffer;)V",
+            "glGetSamplerParameterfv(II[FI)V",
+            "glGetSamplerParameterfv(IILjava/nio/FloatBuffer;)V",
+            "glGetSamplerParameteriv(II[II)V",
+            "glGetSamplerParameteriv(IILjava/nio/IntBuffer;)V",
+            "glGetShaderInfoLog(II[II[BI)V",
+            "glGetShaderInfoLog(IILjava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetShaderPrecisionFormat(II[II[II)V",
+            "glGetShaderPrecisionFormat(IILjava/nio/IntBuffer;Ljava/nio/IntBuffer;)V",
+            "glGetShaderSource(II[II[BI)V",
+            "glGetShaderSource(IILjava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetShaderiv(II[II)V",
+            "glGetShaderiv(IILjava/nio/IntBuffer;)V",
+            "glGetString(I)Ljava/lang/String;",
+            "glGetStringi(II)Ljava/lang/String;",
+            "glGetSubroutineIndex(IILjava/lang/String;)I",
+            "glGetSubroutineUniformLocation(IILjava/lang/String;)I",
+            "glGetSynciv(JII[II[II)V",
+            "glGetSynciv(JIILjava/nio/IntBuffer;Ljava/nio/IntBuffer;)V",
+            "glGetTexImage(IIIILjava/nio/Buffer;)V",
+            "glGetTexImage(IIIIJ)V",
+            "glGetTexLevelParameterfv(III[FI)V",
+            "glGetTexLevelParameterfv(IIILjava/nio/FloatBuffer;)V",
+            "glGetTexLevelParameteriv(III[II)V",
+            "glGetTexLevelParameteriv(IIILjava/nio/IntBuffer;)V",
+            "glGetTexParameterIiv(II[II)V",
+            "glGetTexParameterIiv(IILjava/nio/IntBuffer;)V",
+            "glGetTexParameterIuiv(II[II)V",
+            "glGetTexParameterIuiv(IILjava/nio/IntBuffer;)V",
+            "glGetTexParameterfv(II[FI)V",
+            "glGetTexParameterfv(IILjava/nio/FloatBuffer;)V",
+            "glGetTexParameteriv(II[II)V",
+            "glGetTexParameteriv(IILjava/nio/IntBuffer;)V",
+            "glGetTransformFeedbackVarying(III[II[II[II[BI)V",
+            "glGetTransformFeedbackVarying(IIILjava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/IntBuffer;Ljava/nio/ByteBuffer;)V",
+            "glGetUniformBlockIndex(ILjava/lang/String;)I",
+            "glGetUniformIndices(II[Ljava/lang/String;[II)V",
+            "glGetUniformIndices(II[Ljava/lang/String;Ljava/nio/IntBuffer;)V",
+            "glGetUniformLocation(ILjava/lang/String;)I",
+            "glGetUniformSubroutineuiv(II[II)V",
+            "glGetUniformSubroutineuiv(IILjava/nio/IntBuffer;)V",
+            "glGetUniformdv(II[DI)V",
+            "glGetUniformdv(IILjava/nio/DoubleBuffer;)V",
+            "glGetUniformfv(II[FI)V",
+            "glGetUniformfv(IILjava/nio/FloatBuffer;)V",
+            "glGetUniformiv(II[II)V",
+            "glGetUniformiv(IILjava/nio/IntBuffer;)V",
+            "glGetUniformui64vNV(II[JI)V",
+            "glGetUniformui64vNV(IILjava/nio/LongBuffer;)V",
+            "glGetUniformuiv(II[II)V",
+            "glGetUniformuiv(IILjava/nio/IntBuffer;)V",
+            "glGetVertexAttribIiv(II[II)V",
+            "glGetVertexAttribIiv(IILjava/nio/IntBuffer;)V",
+            "glGetVertexAttribIuiv(II[II)V",
+            "glGetVertexAttribIuiv(IILjava/nio/IntBuffer;)V",
+            "glGetVertexAttribLdv(II[DI)V",
+            "glGetVertexAttribLdv(IILjava/nio/DoubleBuffer;)V",
+            "glGetVertexAttribdv(II[DI)V",
+            "glGetVertexAttribdv(IILjava/nio/DoubleBuffer;)V",
+            "glGetVertexAttribfv(II[FI)V",
+            "glGetVertexAttribfv(IILjava/nio/FloatBuffer;)V",
+            "glGetVertexAttribiv(II[II)V",
+            "glGetVertexAttribiv(IILjava/nio/IntBuffer;)V",
+            "glGetnCompressedTexImage(IIILjava/nio/Buffer;)V",
+            "glGetnTexImage(IIIIILjava/nio/Buffer;)V",
+            "glGetnUniformdv(III[DI)V",
+            "glGetnUniformdv(IIILjava/nio/DoubleBuffer;)V",
+            "glGetnUniformfv(III[FI)V",
+            "glGetnUniformfv(IIILjava/nio/FloatBuffer;)V",
+            "glGetnUniformiv(III[II)V",
+            "glGetnUniformiv(IIILjava/nio/IntBuffer;)V",
+            "glGetnUniformuiv(III[II)V",
+            "glGetnUniformuiv(IIILjava/nio/IntBuffer;)V",
+            "glHint(II)V",
+            "glImportSyncEXT(IJI)J",
+            "glIndexFormatNV(II)V",
+            "glInvalidateBufferData(I)V",
+            "glInvalidateBufferSubData(IJJ)V",
+            "glInvalidateFramebuffer(II[II)V",
+            "glInvalidateFramebuffer(IILjava/nio/IntBuffer;)V",
+            "glInvalidateSubFramebuffer(II[IIIIII)V",
+            "glInvalidateSubFramebuffer(IILjava/nio/IntBuffer;IIII)V",
+            "glInvalidateTexImage(II)V",
+            "glInvalidateTexSubImage(IIIIIIII)V",
+            "glIsBufferResidentNV(I)Z",
+            "glIsBuffer(I)Z",
+            "glIsEnabled(I)Z",
+            "glIsEnabledi(II)Z",
+            "glIsFramebuffer(I)Z",
+            "glIsNamedBufferResidentNV(I)Z",
+            "glIsNamedStringARB(ILjava/lang/String;)Z",
+            "glIsProgramPipeline(I)Z",
+            "glIsProgram(I)Z",
+            "glIsQuery(I)Z",
+            "glIsRenderbuffer(I)Z",
+            "glIsSampler(I)Z",
+            "glIsShader(I)Z",
+            "glIsSync(J)Z",
+            "glIsTexture(I)Z",
+            "glIsTransformFeedback(I)Z",
+            "glIsVertexArray(I)Z",
+            "glLineWidth(F)V",
+            "glLinkProgram(I)V",
+            "glLogicOp(I)V",
+            "glMakeBufferNonResidentNV(I)V",
+            "glMakeBufferResidentNV(II)V",
+            "glMakeNamedBufferNonResidentNV(I)V",
+            "glMakeNamedBufferResidentNV(II)V",
+            "glMapBufferRange(IJJI)Ljava/nio/ByteBuffer;",
+            "glMapBuffer(II)Ljava/nio/ByteBuffer;",
+            "glMemoryBarrierByRegion(I)V",
+            "glMemoryBarrier(I)V",
+            "glMinSampleShading(F)V",
+            "glMultiDrawArraysIndirectAMD(ILjava/nio/Buffer;II)V",
+            "glMultiDrawArraysIndirect(IJII)V",
+            "glMultiDrawArrays(I[II[III)V",
+            "glMultiDrawArrays(ILjava/nio/IntBuffer;Ljava/nio/IntBuffer;I)V",
+            "glMultiDrawElementsBaseVertex(ILjava/nio/IntBuffer;ILcom/jogamp/common/nio/PointerBuffer;ILjava/nio/IntBuffer;)V",
+            "glMultiDrawElementsIndirectAMD(IILjava/nio/Buffer;II)V",
+            "glMultiDrawElementsIndirect(IILjava/nio/Buffer;II)V",
+            "glMultiDrawElements(ILjava/nio/IntBuffer;ILcom/jogamp/common/nio/PointerBuffer;I)V",
+            "glNamedBufferPageCommitmentARB(IJJZ)V",
+            "glNamedBufferPageCommitmentEXT(IJJZ)V",
+            "glNamedStringARB(IILjava/lang/String;ILjava/lang/String;)V",
+            "glNormalFormatNV(II)V",
+            "glObjectLabel(III[BI)V",
+            "glObjectLabel(IIILjava/nio/ByteBuffer;)V",
+            "glObjectPtrLabel(Ljava/nio/Buffer;I[BI)V",
+            "glObjectPtrLabel(Ljava/nio/Buffer;ILjava/nio/ByteBuffer;)V",
+            "glPatchParameterfv(I[FI)V",
+            "glPatchParameterfv(ILjava/nio/FloatBuffer;)V",
+            "glPatchParameteri(II)V",
+            "glPauseTransformFeedback()V",
+            "glPixelStoref(IF)V",
+            "glPixelStorei(II)V",
+            "glPointParameterf(IF)V",
+            "glPointParameterfv(I[FI)V",
+            "glPointParameterfv(ILjava/nio/FloatBuffer;)V",
+            "glPointParameteri(II)V",
+            "glPointParameteriv(I[II)V",
+            "glPointParameteriv(ILjava/nio/IntBuffer;)V",
+            "glPointSize(F)V",
+            "glPolygonMode(II)V",
+            "glPolygonOffset(FF)V",
+            "glPopDebugGroup()V",
+            "glPrimitiveBoundingBox(FFFFFFFF)V",
+            "glPrimitiveRestartIndex(I)V",
+            "glProgramBinary(IILjava/nio/Buffer;I)V",
+            "glProgramParameteriARB(III)V",
+            "glProgramParameteri(III)V",
+            "glProgramUniform1d(IID)V",
+            "glProgramUniform1dv(III[DI)V",
+            "glProgramUniform1dv(IIILjava/nio/DoubleBuffer;)V",
+            "glProgramUniform1f(IIF)V",
+            "glProgramUniform1fv(III[FI)V",
+            "glProgramUniform1fv(IIILjava/nio/FloatBuffer;)V",
+            "glProgramUniform1i(III)V",
+            "glProgramUniform1iv(III[II)V",
+            "glProgramUniform1iv(IIILjava/nio/IntBuffer;)V",
+            "glProgramUniform1ui(III)V",
+            "glProgramUniform1uiv(III[II)V",
+            "glProgramUniform1uiv(IIILjava/nio/IntBuffer;)V",
+            "glProgramUniform2d(IIDD)V",
+            "glProgramUniform2dv(III[DI)V",
+            "glProgramUniform2dv(IIILjava/nio/DoubleBuffer;)V",
+            "glProgramUniform2f(IIFF)V",
+            "glProgramUniform2fv(III[FI)V",
+            "glProgramUniform2fv(IIILjava/nio/FloatBuffer;)V",
+            "glProgramUniform2i(IIII)V",
+            "glProgramUniform2iv(III[II)V",
+            "glProgramUniform2iv(IIILjava/nio/IntBuffer;)V",
+            "glProgramUniform2ui(IIII)V",
+            "glProgramUniform2uiv(III[II)V",
+            "glProgramUniform2uiv(IIILjava/nio/IntBuffer;)V",
+            "glProgramUniform3d(IIDDD)V",
+            "glProgramUniform3dv(III[DI)V",
+            "glProgramUniform3dv(IIILjava/nio/DoubleBuffer;)V",
+            "glProgramUniform3f(IIFFF)V",
+            "glProgramUniform3fv(III[FI)V",
+            "glProgramUniform3fv(IIILjava/nio/FloatBuffer;)V",
+            "glProgramUniform3i(IIIII)V",
+            "glProgramUniform3iv(III[II)V",
+            "glProgramUniform3iv(IIILjava/nio/IntBuffer;)V",
+            "glProgramUniform3ui(IIIII)V",
+            "glProgramUniform3uiv(III[II)V",
+            "glProgramUniform3uiv(IIILjava/nio/IntBuffer;)V",
+            "glProgramUniform4d(IIDDDD)V",
+            "glProgramUniform4dv(III[DI)V",
+            "glProgramUniform4dv(IIILjava/nio/DoubleBuffer;)V",
+            "glProgramUniform4f(IIFFFF)V",
+            "glProgramUniform4fv(III[FI)V",
+            "glProgramUniform4fv(IIILjava/nio/FloatBuffer;)V",
+            "glProgramUniform4i(IIIIII)V",
+            "glProgramUniform4iv(III[II)V",
+            "glProgramUniform4iv(IIILjava/nio/IntBuffer;)V",
+            "glProgramUniform4ui(IIIIII)V",
+            "glProgramUniform4uiv(III[II)V",
+            "glProgramUniform4uiv(IIILjava/nio/IntBuffer;)V",
+            "glProgramUniformMatrix2dv(IIIZ[DI)V",
+            "glProgramUniformMatrix2dv(IIIZLjava/nio/DoubleBuffer;)V",
+            "glProgramUniformMatrix2fv(IIIZ[FI)V",
+            "glProgramUniformMatrix2fv(IIIZLjava/nio/FloatBuffer;)V",
+            "glProgramUniformMatrix2x3dv(IIIZ[DI)V",
+            "glProgramUniformMatrix2x3dv(IIIZLjava/nio/DoubleBuffer;)V",
+            "glProgramUniformMatrix2x3fv(IIIZ[FI)V",
+            "glProgramUniformMatrix2x3fv(IIIZLjava/nio/FloatBuffer;)V",
+            "glProgramUniformMatrix2x4dv(IIIZ[DI)V",
+            "glProgramUniformMatrix2x4dv(IIIZLjava/nio/DoubleBuffer;)V",
+            "glProgramUniformMatrix2x4fv(IIIZ[FI)V",
+            "glProgramUniformMatrix2x4fv(IIIZLjava/nio/FloatBuffer;)V",
+            "glProgramUniformMatrix3dv(IIIZ[DI)V",
+            "glProgramUniformMatrix3dv(IIIZLjava/nio/DoubleBuffer;)V",
+            "glProgramUniformMatrix3fv(IIIZ[FI)V",
+            "glProgramUniformMatrix3fv(IIIZLjava/nio/FloatBuffer;)V",
+            "glProgramUniformMatrix3x2dv(IIIZ[DI)V",
+            "glProgramUniformMatrix3x2dv(IIIZLjava/nio/DoubleBuffer;)V",
+            "glProgramUniformMatrix3x2fv(IIIZ[FI)V",
+            "glProgramUniformMatrix3x2fv(IIIZLjava/nio/FloatBuffer;)V",
+            "glProgramUniformMatrix3x4dv(IIIZ[DI)V",
+            "glProgramUniformMatrix3x4dv(IIIZLjava/nio/DoubleBuffer;)V",
+            "glProgramUniformMatrix3x4fv(IIIZ[FI)V",
+            "glProgramUniformMatrix3x4fv(IIIZLjava/nio/FloatBuffer;)V",
+            "glProgramUniformMatrix4dv(IIIZ[DI)V",
+            "glProgramUniformMatrix4dv(IIIZLjava/nio/DoubleBuffer;)V",
+            "glProgramUniformMatrix4fv(IIIZ[FI)V",
+            "glProgramUniformMatrix4fv(IIIZLjava/nio/FloatBuffer;)V",
+            "glProgramUniformMatrix4x2dv(IIIZ[DI)V",
+            "glProgramUniformMatrix4x2dv(IIIZLjava/nio/DoubleBuffer;)V",
+            "glProgramUniformMatrix4x2fv(IIIZ[FI)V",
+            "glProgramUniformMatrix4x2fv(IIIZLjava/nio/FloatBuffer;)V",
+            "glProgramUniformMatrix4x3dv(IIIZ[DI)V",
+            "glProgramUniformMatrix4x3dv(IIIZLjava/nio/DoubleBuffer;)V",
+            "glProgramUniformMatrix4x3fv(IIIZ[FI)V",
+            "glProgramUniformMatrix4x3fv(IIIZLjava/nio/FloatBuffer;)V",
+            "glProgramUniformui64NV(IIJ)V",
+            "glProgramUniformui64vNV(III[JI)V",
+            "glProgramUniformui64vNV(IIILjava/nio/LongBuffer;)V",
+            "glProvokingVertex(I)V",
+            "glPushDebugGroup(III[BI)V",
+            "glPushDebugGroup(IIILjava/nio/ByteBuffer;)V",
+            "glQueryCounter(II)V",
+            "glReadBuffer(I)V",
+            "glReadPixels(IIIIIILjava/nio/Buffer;)V",
+            "glReadPixels(IIIIIIJ)V",
+            "glReadnPixels(IIIIIIILjava/nio/Buffer;)V",
+            "glReleaseShaderCompiler()V",
+            "glRenderbufferStorageMultisample(IIIII)V",
+            "glRenderbufferStorage(IIII)V",
+            "glResumeTransformFeedback()V",
+            "glSampleCoverage(FZ)V",
+            "glSampleMaski(II)V",
+            "glSamplerParameterIiv(II[II)V",
+            "glSamplerParameterIiv(IILjava/nio/IntBuffer;)V",
+            "glSamplerParameterIuiv(II[II)V",
+            "glSamplerParameterIuiv(IILjava/nio/IntBuffer;)V",
+            "glSamplerParameterf(IIF)V",
+            "glSamplerParameterfv(II[FI)V",
+            "glSamplerParameterfv(IILjava/nio/FloatBuffer;)V",
+            "glSamplerParameteri(III)V",
+            "glSamplerParameteriv(II[II)V",
+            "glSamplerParameteriv(IILjava/nio/IntBuffer;)V",
+            "glScissorArrayv(II[II)V",
+            "glScissorArrayv(IILjava/nio/IntBuffer;)V",
+            "glScissorIndexed(IIIII)V",
+            "glScissorIndexedv(I[II)V",
+            "glScissorIndexedv(ILjava/nio/IntBuffer;)V",
+            "glScissor(IIII)V",
+            "glSecondaryColorFormatNV(III)V",
+            "glSetMultisamplefvAMD(II[FI)V",
+            "glSetMultisamplefvAMD(IILjava/nio/FloatBuffer;)V",
+            "glShaderBinary(I[IIILjava/nio/Buffer;I)V",
+            "glShaderBinary(ILjava/nio/IntBuffer;ILjava/nio/Buffer;I)V",
+            "glShaderSource(II[Ljava/lang/String;[II)V",
+            "glShaderSource(II[Ljava/lang/String;Ljava/nio/IntBuffer;)V",
+            "glStencilFuncSeparate(IIII)V",
+            "glStencilFunc(III)V",
+            "glStencilMaskSeparate(II)V",
+            "glStencilMask(I)V",
+            "glStencilOpSeparate(IIII)V",
+            "glStencilOpValueAMD(II)V",
+            "glStencilOp(III)V",
+            "glTessellationFactorAMD(F)V",
+            "glTessellationModeAMD(I)V",
+            "glTexBufferRange(IIIJJ)V",
+            "glTexBuffer(III)V",
+            "glTexCoordFormatNV(III)V",
+            "glTexImage1D(IIIIIIILjava/nio/Buffer;)V",
+            "glTexImage1D(IIIIIIIJ)V",
+            "glTexImage2DMultisampleCoverageNV(IIIIIIZ)V",
+            "glTexImage2DMultisample(IIIIIZ)V",
+            "glTexImage2D(IIIIIIIILjava/nio/Buffer;)V",
+            "glTexImage2D(IIIIIIIIJ)V",
+            "glTexImage3DMultisampleCoverageNV(IIIIIIIZ)V",
+            "glTexImage3DMultisample(IIIIIIZ)V",
+            "glTexImage3D(IIIIIIIIILjava/nio/Buffer;)V",
+            "glTexImage3D(IIIIIIIIIJ)V",
+            "glTexPageCommitmentARB(IIIIIIIIZ)V",
+            "glTexParameterIiv(II[II)V",
+            "glTexParameterIiv(IILjava/nio/IntBuffer;)V",
+            "glTexParameterIuiv(II[II)V",
+            "glTexParameterIuiv(IILjava/nio/IntBuffer;)V",
+            "glTexParameterf(IIF)V",
+            "glTexParameterfv(II[FI)V",
+            "glTexParameterfv(IILjava/nio/FloatBuffer;)V",
+            "glTexParameteri(III)V",
+            "glTexParameteriv(II[II)V",
+            "glTexParameteriv(IILjava/nio/IntBuffer;)V",
+            "glTexStorage1D(IIII)V",
+            "glTexStorage2DMultisample(IIIIIZ)V",
+            "glTexStorage2D(IIIII)V",
+            "glTexStorage3DMultisample(IIIIIIZ)V",
+            "glTexStorage3D(IIIIII)V",
+            "glTexSubImage1D(IIIIIILjava/nio/Buffer;)V",
+            "glTexSubImage1D(IIIIIIJ)V",
+            "glTexSubImage2D(IIIIIIIILjava/nio/Buffer;)V",
+            "glTexSubImage2D(IIIIIIIIJ)V",
+            "glTexSubImage3D(IIIIIIIIIILjava/nio/Buffer;)V",
+            "glTexSubImage3D(IIIIIIIIIIJ)V",
+            "glTextureImage2DMultisampleCoverageNV(IIIIIIIZ)V",
+            "glTextureImage2DMultisampleNV(IIIIIIZ)V",
+            "glTextureImage3DMultisampleCoverageNV(IIIIIIIIZ)V",
+            "glTextureImage3DMultisampleNV(IIIIIIIZ)V",
+            "glTextureStorage1DEXT(IIIII)V",
+            "glTextureStorage2DEXT(IIIIII)V",
+            "glTextureStorage3DEXT(IIIIIII)V",
+            "glTransformFeedbackVaryings(II[Ljava/lang/String;I)V",
+            "glUniform1d(ID)V",
+            "glUniform1dv(II[DI)V",
+            "glUniform1dv(IILjava/nio/DoubleBuffer;)V",
+            "glUniform1f(IF)V",
+            "glUniform1fv(II[FI)V",
+            "glUniform1fv(IILjava/nio/FloatBuffer;)V",
+            "glUniform1i(II)V",
+            "glUniform1iv(II[II)V",
+            "glUniform1iv(IILjava/nio/IntBuffer;)V",
+            "glUniform1ui(II)V",
+            "glUniform1uiv(II[II)V",
+            "glUniform1uiv(IILjava/nio/IntBuffer;)V",
+            "glUniform2d(IDD)V",
+            "glUniform2dv(II[DI)V",
+            "glUniform2dv(IILjava/nio/DoubleBuffer;)V",
+            "glUniform2f(IFF)V",
+            "glUniform2fv(II[FI)V",
+            "glUniform2fv(IILjava/nio/FloatBuffer;)V",
+            "glUniform2i(III)V",
+            "glUniform2iv(II[II)V",
+            "glUniform2iv(IILjava/nio/IntBuffer;)V",
+            "glUniform2ui(III)V",
+            "glUniform2uiv(II[II)V",
+            "glUniform2uiv(IILjava/nio/IntBuffer;)V",
+            "glUniform3d(IDDD)V",
+            "glUniform3dv(II[DI)V",
+            "glUniform3dv(IILjava/nio/DoubleBuffer;)V",
+            "glUniform3f(IFFF)V",
+            "glUniform3fv(II[FI)V",
+            "glUniform3fv(IILjava/nio/FloatBuffer;)V",
+            "glUniform3i(IIII)V",
+            "glUniform3iv(II[II)V",
+            "glUniform3iv(IILjava/nio/IntBuffer;)V",
+            "glUniform3ui(IIII)V",
+            "glUniform3uiv(II[II)V",
+            "glUniform3uiv(IILjava/nio/IntBuffer;)V",
+            "glUniform4d(IDDDD)V",
+            "glUniform4dv(II[DI)V",
+            "glUniform4dv(IILjava/nio/DoubleBuffer;)V",
+            "glUniform4f(IFFFF)V",
+            "glUniform4fv(II[FI)V",
+            "glUniform4fv(IILjava/nio/FloatBuffer;)V",
+            "glUniform4i(IIIII)V",
+            "glUniform4iv(II[II)V",
+            "glUniform4iv(IILjava/nio/IntBuffer;)V",
+            "glUniform4ui(IIIII)V",
+            "glUniform4uiv(II[II)V",
+            "glUniform4uiv(IILjava/nio/IntBuffer;)V",
+            "glUniformBlockBinding(III)V",
+            "glUniformMatrix2dv(IIZ[DI)V",
+            "glUniformMatrix2dv(IIZLjava/nio/DoubleBuffer;)V",
+            "glUniformMatrix2fv(IIZ[FI)V",
+            "glUniformMatrix2fv(IIZLjava/nio/FloatBuffer;)V",
+            "glUniformMatrix2x3dv(IIZ[DI)V",
+            "glUniformMatrix2x3dv(IIZLjava/nio/DoubleBuffer;)V",
+            "glUniformMatrix2x3fv(IIZ[FI)V",
+            "glUniformMatrix2x3fv(IIZLjava/nio/FloatBuffer;)V",
+            "glUniformMatrix2x4dv(IIZ[DI)V",
+            "glUniformMatrix2x4dv(IIZLjava/nio/DoubleBuffer;)V",
+            "glUniformMatrix2x4fv(IIZ[FI)V",
+            "glUniformMatrix2x4fv(IIZLjava/nio/FloatBuffer;)V",
+            "glUniformMatrix3dv(IIZ[DI)V",
+            "glUniformMatrix3dv(IIZLjava/nio/DoubleBuffer;)V",
+            "glUniformMatrix3fv(IIZ[FI)V",
+            "glUniformMatrix3fv(IIZLjava/nio/FloatBuffer;)V",
+            "glUniformMatrix3x2dv(IIZ[DI)V",
+            "glUniformMatrix3x2dv(IIZLjava/nio/DoubleBuffer;)V",
+            "glUniformMatrix3x2fv(IIZ[FI)V",
+            "glUniformMatrix3x2fv(IIZLjava/nio/FloatBuffer;)V",
+            "glUniformMatrix3x4dv(IIZ[DI)V",
+            "glUniformMatrix3x4dv(IIZLjava/nio/DoubleBuffer;)V",
+            "glUniformMatrix3x4fv(IIZ[FI)V",
+            "glUniformMatrix3x4fv(IIZLjava/nio/FloatBuffer;)V",
+            "glUniformMatrix4dv(IIZ[DI)V",
+            "glUniformMatrix4dv(IIZLjava/nio/DoubleBuffer;)V",
+            "glUniformMatrix4fv(IIZ[FI)V",
+            "glUniformMatrix4fv(IIZLjava/nio/FloatBuffer;)V",
+            "glUniformMatrix4x2dv(IIZ[DI)V",
+            "glUniformMatrix4x2dv(IIZLjava/nio/DoubleBuffer;)V",
+            "glUniformMatrix4x2fv(IIZ[FI)V",
+            "glUniformMatrix4x2fv(IIZLjava/nio/FloatBuffer;)V",
+            "glUniformMatrix4x3dv(IIZ[DI)V",
+            "glUniformMatrix4x3dv(IIZLjava/nio/DoubleBuffer;)V",
+            "glUniformMatrix4x3fv(IIZ[FI)V",
+            "glUniformMatrix4x3fv(IIZLjava/nio/FloatBuffer;)V",
+            "glUniformSubroutinesuiv(II[II)V",
+            "glUniformSubroutinesuiv(IILjava/nio/IntBuffer;)V",
+            "glUniform(Lcom/jogamp/opengl/GLUniformData;)V",
+            "glUniformui64NV(IJ)V",
+            "glUniformui64vNV(II[JI)V",
+            "glUniformui64vNV(IILjava/nio/LongBuffer;)V",
+            "glUnmapBuffer(I)Z",
+            "glUseProgramStages(III)V",
+            "glUseProgram(I)V",
+            "glValidateProgramPipeline(I)V",
+            "glValidateProgram(I)V",
+            "glVertexAttrib1d(ID)V",
+            "glVertexAttrib1dv(I[DI)V",
+            "glVertexAttrib1dv(ILjava/nio/DoubleBuffer;)V",
+            "glVertexAttrib1f(IF)V",
+            "glVertexAttrib1fv(I[FI)V",
+            "glVertexAttrib1fv(ILjava/nio/FloatBuffer;)V",
+            "glVertexAttrib1s(IS)V",
+            "glVertexAttrib1sv(I[SI)V",
+            "glVertexAttrib1sv(ILjava/nio/ShortBuffer;)V",
+            "glVertexAttrib2d(IDD)V",
+            "glVertexAttrib2dv(I[DI)V",
+            "glVertexAttrib2dv(ILjava/nio/DoubleBuffer;)V",
+            "glVertexAttrib2f(IFF)V",
+            "glVertexAttrib2fv(I[FI)V",
+            "glVertexAttrib2fv(ILjava/nio/FloatBuffer;)V",
+            "glVertexAttrib2s(ISS)V",
+            "glVertexAttrib2sv(I[SI)V",
+            "glVertexAttrib2sv(ILjava/nio/ShortBuffer;)V",
+            "glVertexAttrib3d(IDDD)V",
+            "glVertexAttrib3dv(I[DI)V",
+            "glVertexAttrib3dv(ILjava/nio/DoubleBuffer;)V",
+            "glVertexAttrib3f(IFFF)V",
+            "glVertexAttrib3fv(I[FI)V",
+            "glVertexAttrib3fv(ILjava/nio/FloatBuffer;)V",
+            "glVertexAttrib3s(ISSS)V",
+            "glVertexAttrib3sv(I[SI)V",
+            "glVertexAttrib3sv(ILjava/nio/ShortBuffer;)V",
+            "glVertexAttrib4Nbv(I[BI)V",
+            "glVertexAttrib4Nbv(ILjava/nio/ByteBuffer;)V",
+            "glVertexAttrib4Niv(I[II)V",
+            "glVertexAttrib4Niv(ILjava/nio/IntBuffer;)V",
+            "glVertexAttrib4Nsv(I[SI)V",
+            "glVertexAttrib4Nsv(ILjava/nio/ShortBuffer;)V",
+            "glVertexAttrib4Nub(IBBBB)V",
+            "glVertexAttrib4Nubv(I[BI)V",
+            "glVertexAttrib4Nubv(ILjava/nio/ByteBuffer;)V",
+            "glVertexAttrib4Nuiv(I[II)V",
+            "glVertexAttrib4Nuiv(ILjava/nio/IntBuffer;)V",
+            "glVertexAttrib4Nusv(I[SI)V",
+            "glVertexAttrib4Nusv(ILjava/nio/ShortBuffer;)V",
+            "glVertexAttrib4bv(I[BI)V",
+            "glVertexAttrib4bv(ILjava/nio/ByteBuffer;)V",
+            "glVertexAttrib4d(IDDDD)V",
+            "glVertexAttrib4dv(I[DI)V",
+            "glVertexAttrib4dv(ILjava/nio/DoubleBuffer;)V",
+            "glVertexAttrib4f(IFFFF)V",
+            "glVertexAttrib4fv(I[FI)V",
+            "glVertexAttrib4fv(ILjava/nio/FloatBuffer;)V",
+            "glVertexAttrib4iv(I[II)V",
+            "glVertexAttrib4iv(ILjava/nio/IntBuffer;)V",
+            "glVertexAttrib4s(ISSSS)V",
+            "glVertexAttrib4sv(I[SI)V",
+            "glVertexAttrib4sv(ILjava/nio/ShortBuffer;)V",
+            "glVertexAttrib4ubv(I[BI)V",
+            "glVertexAttrib4ubv(ILjava/nio/ByteBuffer;)V",
+            "glVertexAttrib4uiv(I[II)V",
+            "glVertexAttrib4uiv(ILjava/nio/IntBuffer;)V",
+            "glVertexAttrib4usv(I[SI)V",
+            "glVertexAttrib4usv(ILjava/nio/ShortBuffer;)V",
+            "glVertexAttribBinding(II)V",
+            "glVertexAttribDivisor(II)V",
+            "glVertexAttribFormatNV(IIIZI)V",
+            "glVertexAttribFormat(IIIZI)V",
+            "glVertexAttribI1i(II)V",
+            "glVertexAttribI1iv(I[II)V",
+            "glVertexAttribI1iv(ILjava/nio/IntBuffer;)V",
+            "glVertexAttribI1ui(II)V",
+            "glVertexAttribI1uiv(I[II)V",
+            "glVertexAttribI1uiv(ILjava/nio/IntBuffer;)V",
+            "glVertexAttribI2i(III)V",
+            "glVertexAttribI2iv(I[II)V",
+            "glVertexAttribI2iv(ILjava/nio/IntBuffer;)V",
+            "glVertexAttribI2ui(III)V",
+            "glVertexAttribI2uiv(I[II)V",
+            "glVertexAttribI2uiv(ILjava/nio/IntBuffer;)V",
+            "glVertexAttribI3i(IIII)V",
+            "glVertexAttribI3iv(I[II)V",
+            "glVertexAttribI3iv(ILjava/nio/IntBuffer;)V",
+            "glVertexAttribI3ui(IIII)V",
+            "glVertexAttribI3uiv(I[II)V",
+            "glVertexAttribI3uiv(ILjava/nio/IntBuffer;)V",
+            "glVertexAttribI4bv(I[BI)V",
+            "glVertexAttribI4bv(ILjava/nio/ByteBuffer;)V",
+            "glVertexAttribI4i(IIIII)V",
+            "glVertexAttribI4iv(I[II)V",
+            "glVertexAttribI4iv(ILjava/nio/IntBuffer;)V",
+            "glVertexAttribI4sv(I[SI)V",
+            "glVertexAttribI4sv(ILjava/nio/ShortBuffer;)V",
+            "glVertexAttribI4ubv(I[BI)V",
+            "glVertexAttribI4ubv(ILjava/nio/ByteBuffer;)V",
+            "glVertexAttribI4ui(IIIII)V",
+            "glVertexAttribI4uiv(I[II)V",
+            "glVertexAttribI4uiv(ILjava/nio/IntBuffer;)V",
+            "glVertexAttribI4usv(I[SI)V",
+            "glVertexAttribI4usv(ILjava/nio/ShortBuffer;)V",
+            "glVertexAttribIFormatNV(IIII)V",
+            "glVertexAttribIFormat(IIII)V",
+            "glVertexAttribIPointer(IIIIJ)V",
+            "glVertexAttribL1d(ID)V",
+            "glVertexAttribL1dv(I[DI)V",
+            "glVertexAttribL1dv(ILjava/nio/DoubleBuffer;)V",
+            "glVertexAttribL2d(IDD)V",
+            "glVertexAttribL2dv(I[DI)V",
+            "glVertexAttribL2dv(ILjava/nio/DoubleBuffer;)V",
+            "glVertexAttribL3d(IDDD)V",
+            "glVertexAttribL3dv(I[DI)V",
+            "glVertexAttribL3dv(ILjava/nio/DoubleBuffer;)V",
+            "glVertexAttribL4d(IDDDD)V",
+            "glVertexAttribL4dv(I[DI)V",
+            "glVertexAttribL4dv(ILjava/nio/DoubleBuffer;)V",
+            "glVertexAttribLPointer(IIIIJ)V",
+            "glVertexAttribP1ui(IIZI)V",
+            "glVertexAttribP1uiv(IIZ[II)V",
+            "glVertexAttribP1uiv(IIZLjava/nio/IntBuffer;)V",
+            "glVertexAttribP2ui(IIZI)V",
+            "glVertexAttribP2uiv(IIZ[II)V",
+            "glVertexAttribP2uiv(IIZLjava/nio/IntBuffer;)V",
+            "glVertexAttribP3ui(IIZI)V",
+            "glVertexAttribP3uiv(IIZ[II)V",
+            "glVertexAttribP3uiv(IIZLjava/nio/IntBuffer;)V",
+            "glVertexAttribP4ui(IIZI)V",
+            "glVertexAttribP4uiv(IIZ[II)V",
+            "glVertexAttribP4uiv(IIZLjava/nio/IntBuffer;)V",
+            "glVertexAttribPointer(IIIZIJ)V",
+            "glVertexAttribPointer(Lcom/jogamp/opengl/GLArrayData;)V",
+            "glVertexBindingDivisor(II)V",
+            "glVertexFormatNV(III)V",
+            "glViewportArrayv(II[FI)V",
+            "glViewportArrayv(IILjava/nio/FloatBuffer;)V",
+            "glViewportIndexedf(IFFFF)V",
+            "glViewportIndexedfv(I[FI)V",
+            "glViewportIndexedfv(ILjava/nio/FloatBuffer;)V",
+            "glViewport(IIII)V",
+            "glWaitSync(JIJ)V",
+            "hasBasicFBOSupport()Z",
+            "hasFullFBOSupport()Z",
+            "hasGLSL()Z",
+            "isExtensionAvailable(Ljava/lang/String;)Z",
+            "isFunctionAvailable(Ljava/lang/String;)Z",
+            "isGL2ES1()Z",
+            "isGL2ES2()Z",
+            "isGL2ES3()Z",
+            "isGL2GL3()Z",
+            "isGL2()Z",
+            "isGL3ES3()Z",
+            "isGL3()Z",
+            "isGL3bc()Z",
+            "isGL3core()Z",
+            "isGL4ES3()Z",
+            "isGL4()Z",
+            "isGL4bc()Z",
+            "isGL4core()Z",
+            "isGLES1()Z",
+            "isGLES2Compatible()Z",
+            "isGLES2()Z",
+            "isGLES31Compatible()Z",
+            "isGLES32Compatible()Z",
+            "isGLES3Compatible()Z",
+            "isGLES3()Z",
+            "isGLES()Z",
+            "isGL()Z",
+            "isGLcore()Z",
+            "isNPOTTextureAvailable()Z",
+            "isPBOPackBound()Z",
+            "isPBOUnpackBound()Z",
+            "isTextureFormatBGRA8888Available()Z",
+            "isVBOArrayBound()Z",
+            "isVBOElementArrayBound()Z",
+            "mapBufferRange(IJJI)Lcom/jogamp/opengl/GLBufferStorage;",
+            "mapBuffer(II)Lcom/jogamp/opengl/GLBufferStorage;",
+            "setSwapInterval(I)V",
+    };
+
+    /**
+     * Counts a call, followed by record() of each argument if true is returned.
+     * @param function    Function ID
+     * @return            true if the arguments are recorded
+     */
+    protected abstract boolean call(int function);
+
+    /** Records an argument of the last call() */
+    protected abstract void record(int value);
+
+    protected abstract void record(long value);
+
+    protected abstract void record(float value);
+
+    protected abstract void record(double value);
+
+    protected abstract void record(boolean value);
+
+    protected abstract void record(byte value);
+
+    protected abstract void record(short value);
+
+    protected abstract void record(String value);
+
+    protected abstract void record(int[] value);
+
+    protected abstract void record(long[] value);
+
+    protected abstract void record(float[] value);
+
+    protected abstract void record(double[] value);
+
+    protected abstract void record(byte[] value);
+
+    protected abstract void record(short[] value);
+
+    protected abstract void record(String[] value);
+
+    protected abstract void record(Buffer value);
+
+    protected abstract void record(Object value);
+
+    /** Writes count new object names to names, starting at offset */
+    protected abstract void genNames(int count, int[] names, int offset);
+
+    /** Writes count new object names to names, starting at its position */
+    protected abstract void genNames(int count, IntBuffer names);
+
+    /** Returns a new object name */
+    protected abstract int createName();
+
+    /**
+     * Writes the value of a glGet* pname, nothing if values is null.
+     * @return    true if the value was written
+     */
+    protected abstract boolean getValues(int pname, int[] values, int offset);
+
+    protected abstract boolean getValues(int pname, long[] values, int offset);
+
+    protected abstract boolean getValues(int pname, float[] values, int offset);
+
+    protected abstract boolean getValues(int pname, IntBuffer values);
+
+    protected abstract boolean getValues(int pname, LongBuffer values);
+
+    /** Returns scratch memory of the given size for glMapBuffer* */
+    protected abstract ByteBuffer mapBuffer(long length);
+
+    /** Returns the string of glGetString and glGetStringi */
+    protected abstract String getString(int name);
+
+    @Override
+    public int getBoundBuffer(int arg0) {
+        if (call(0)) {
+            record(arg0);
+        }
+        return 0;
+    }
+
+    @Override
+    public int getBoundFramebuffer(int arg0) {
+        if (call(1)) {
+            record(arg0);
+        }
+        return 0;
+    }
+
+    @Override
+    public GLBufferStorage getBufferStorage(int arg0) {
+        if (call(2)) {
+            record(arg0);
+        }
+        return null;
+    }
+
+    @Override
+    public GLContext getContext() {
+        call(3);
+        return null;
+    }
+
+    @Override
+    public int getDefaultDrawFramebuffer() {
+        call(4);
+        return 0;
+    }
+
+    @Override
+    public int getDefaultReadBuffer() {
+        call(5);
+        return 0;
+    }
+
+    @Override
+    public int getDefaultReadFramebuffer() {
+        call(6);
+        return 0;
+    }
+
+    @Override
+    public GL getDownstreamGL() {
+        call(7);
+        return null;
+    }
+
+    @Override
+    public Object getExtension(String arg0) {
+        if (call(8)) {
+            record(arg0);
+        }
+        return null;
+    }
+
+    @Override
+    public GL2ES1 getGL2ES1() {
+        call(9);
+        return null;
+    }
+
+    @Override
+    public GL2ES2 getGL2ES2() {
+        call(10);
+        return this;
+    }
+
+    @Override
+    public GL2ES3 getGL2ES3() {
+        call(11);
+        return this;
+    }
+
+    @Override
+    public GL2GL3 getGL2GL3() {
+        call(12);
+        return this;
+    }
+
+    @Override
+    public GL2 getGL2() {
+        call(13);
+        return null;
+    }
+
+    @Override
+    public GL3ES3 getGL3ES3() {
+        call(14);
+        return this;
+    }
+
+    @Override
+    public GL3 getGL3() {
+        call(15);
+        return this;
+    }
+
+    @Override
+    public GL3bc getGL3bc() {
+        call(16);
+        return null;
+    }
+
+    @Override
+    public GL4ES3 getGL4ES3() {
+        call(17);
+        return null;
+    }
+
+    @Override
+    public GL4 getGL4() {
+        call(18);
+        return null;
+    }
+
+    @Override
+    public GL4bc getGL4bc() {
+        call(19);
+        return null;
+    }
+
+    @Override
+    public GLES1 getGLES1() {
+        call(20);
+        return null;
+    }
+
+    @Override
+    public GLES2 getGLES2() {
+        call(21);
+        return null;
+    }
+
+    @Override
+    public GLES3 getGLES3() {
+        call(22);
+        return null;
+    }
+
+    @Override
+    public GLProfile getGLProfile() {
+        call(23);
+        return null;
+    }
+
+    @Override
+    public GL getGL() {
+        call(24);
+        return this;
+    }
+
+    @Override
+    public int getMaxRenderbufferSamples() {
+        call(25);
+        return 0;
+    }
+
+    @Override
+    public Object getPlatformGLExtensions() {
+        call(26);
+        return null;
+    }
+
+    @Override
+    public GL getRootGL() {
+        call(27);
+        return null;
+    }
+
+    @Override
+    public int getSwapInterval() {
+        call(28);
+        return 0;
+    }
+
+    @Override
+    public void glActiveShaderProgram(int arg0, int arg1) {
+        if (call(29)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glActiveTexture(int arg0) {
+        if (call(30)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glApplyFramebufferAttachmentCMAAINTEL() {
+        call(31);
+    }
+
+    @Override
+    public void glAttachShader(int arg0, int arg1) {
+        if (call(32)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glBeginConditionalRender(int arg0, int arg1) {
+        if (call(33)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glBeginQueryIndexed(int arg0, int arg1, int arg2) {
+        if (call(34)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glBeginQuery(int arg0, int arg1) {
+        if (call(35)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glBeginTransformFeedback(int arg0) {
+        if (call(36)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glBindAttribLocation(int arg0, int arg1, String arg2) {
+        if (call(37)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glBindBufferBase(int arg0, int arg1, int arg2) {
+        if (call(38)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glBindBufferRange(int arg0, int arg1, int arg2, long arg3, long arg4) {
+        if (call(39)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glBindBuffer(int arg0, int arg1) {
+        if (call(40)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glBindFragDataLocationIndexed(int arg0, int arg1, int arg2, String arg3) {
+        if (call(41)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glBindFragDataLocation(int arg0, int arg1, String arg2) {
+        if (call(42)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glBindFramebuffer(int arg0, int arg1) {
+        if (call(43)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glBindImageTexture(int arg0, int arg1, int arg2, boolean arg3, int arg4, int arg5, int arg6) {
+        if (call(44)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glBindProgramPipeline(int arg0) {
+        if (call(45)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glBindRenderbuffer(int arg0, int arg1) {
+        if (call(46)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glBindSampler(int arg0, int arg1) {
+        if (call(47)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glBindTexture(int arg0, int arg1) {
+        if (call(48)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glBindTransformFeedback(int arg0, int arg1) {
+        if (call(49)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glBindVertexArray(int arg0) {
+        if (call(50)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glBindVertexBuffer(int arg0, int arg1, long arg2, int arg3) {
+        if (call(51)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glBlendBarrier() {
+        call(52);
+    }
+
+    @Override
+    public void glBlendColor(float arg0, float arg1, float arg2, float arg3) {
+        if (call(53)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glBlendEquationSeparate(int arg0, int arg1) {
+        if (call(54)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glBlendEquationSeparatei(int arg0, int arg1, int arg2) {
+        if (call(55)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glBlendEquation(int arg0) {
+        if (call(56)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glBlendEquationi(int arg0, int arg1) {
+        if (call(57)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glBlendFuncSeparate(int arg0, int arg1, int arg2, int arg3) {
+        if (call(58)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glBlendFuncSeparatei(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(59)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glBlendFunc(int arg0, int arg1) {
+        if (call(60)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glBlendFunci(int arg0, int arg1, int arg2) {
+        if (call(61)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glBlitFramebuffer(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9) {
+        if (call(62)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+        }
+    }
+
+    @Override
+    public void glBufferAddressRangeNV(int arg0, int arg1, long arg2, long arg3) {
+        if (call(63)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glBufferData(int arg0, long arg1, Buffer arg2, int arg3) {
+        if (call(64)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glBufferPageCommitmentARB(int arg0, long arg1, long arg2, boolean arg3) {
+        if (call(65)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glBufferSubData(int arg0, long arg1, long arg2, Buffer arg3) {
+        if (call(66)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public int glCheckFramebufferStatus(int arg0) {
+        if (call(67)) {
+            record(arg0);
+        }
+        return GL_FRAMEBUFFER_COMPLETE;
+    }
+
+    @Override
+    public void glClampColor(int arg0, int arg1) {
+        if (call(68)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glClearBufferData(int arg0, int arg1, int arg2, int arg3, Buffer arg4) {
+        if (call(69)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glClearBufferSubData(int arg0, int arg1, long arg2, long arg3, int arg4, int arg5, Buffer arg6) {
+        if (call(70)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glClearBufferfi(int arg0, int arg1, float arg2, int arg3) {
+        if (call(71)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glClearBufferfv(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(72)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glClearBufferfv(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(73)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glClearBufferiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(74)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glClearBufferiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(75)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glClearBufferuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(76)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glClearBufferuiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(77)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glClearColor(float arg0, float arg1, float arg2, float arg3) {
+        if (call(78)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glClearDepth(double arg0) {
+        if (call(79)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glClearDepthf(float arg0) {
+        if (call(80)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glClearStencil(int arg0) {
+        if (call(81)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glClear(int arg0) {
+        if (call(82)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public int glClientWaitSync(long arg0, int arg1, long arg2) {
+        if (call(83)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        return GL_ALREADY_SIGNALED;
+    }
+
+    @Override
+    public void glColorFormatNV(int arg0, int arg1, int arg2) {
+        if (call(84)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glColorMask(boolean arg0, boolean arg1, boolean arg2, boolean arg3) {
+        if (call(85)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glColorMaski(int arg0, boolean arg1, boolean arg2, boolean arg3, boolean arg4) {
+        if (call(86)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glCompileShaderIncludeARB(int arg0, int arg1, String[] arg2, int[] arg3, int arg4) {
+        if (call(87)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glCompileShaderIncludeARB(int arg0, int arg1, String[] arg2, IntBuffer arg3) {
+        if (call(88)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glCompileShader(int arg0) {
+        if (call(89)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glCompressedTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        if (call(90)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glCompressedTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, long arg6) {
+        if (call(91)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glCompressedTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, Buffer arg7) {
+        if (call(92)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+    }
+
+    @Override
+    public void glCompressedTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, long arg7) {
+        if (call(93)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+    }
+
+    @Override
+    public void glCompressedTexImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        if (call(94)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+        }
+    }
+
+    @Override
+    public void glCompressedTexImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, long arg8) {
+        if (call(95)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+        }
+    }
+
+    @Override
+    public void glCompressedTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        if (call(96)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glCompressedTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, long arg6) {
+        if (call(97)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glCompressedTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        if (call(98)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+        }
+    }
+
+    @Override
+    public void glCompressedTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, long arg8) {
+        if (call(99)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+        }
+    }
+
+    @Override
+    public void glCompressedTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, Buffer arg10) {
+        if (call(100)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+            record(arg10);
+        }
+    }
+
+    @Override
+    public void glCompressedTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, long arg10) {
+        if (call(101)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+            record(arg10);
+        }
+    }
+
+    @Override
+    public void glCopyBufferSubData(int arg0, int arg1, long arg2, long arg3, long arg4) {
+        if (call(102)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glCopyImageSubData(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, int arg10, int arg11, int arg12, int arg13, int arg14) {
+        if (call(103)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+            record(arg10);
+            record(arg11);
+            record(arg12);
+            record(arg13);
+            record(arg14);
+        }
+    }
+
+    @Override
+    public void glCopyTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6) {
+        if (call(104)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glCopyTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        if (call(105)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+    }
+
+    @Override
+    public void glCopyTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        if (call(106)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glCopyTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        if (call(107)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+    }
+
+    @Override
+    public void glCopyTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8) {
+        if (call(108)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+        }
+    }
+
+    @Override
+    public int glCreateProgram() {
+        call(109);
+        return createName();
+    }
+
+    @Override
+    public int glCreateShaderProgramv(int arg0, int arg1, String[] arg2) {
+        if (call(110)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        return createName();
+    }
+
+    @Override
+    public int glCreateShader(int arg0) {
+        if (call(111)) {
+            record(arg0);
+        }
+        return createName();
+    }
+
+    @Override
+    public long glCreateSyncFromCLeventARB(long arg0, long arg1, int arg2) {
+        if (call(112)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        return 0;
+    }
+
+    @Override
+    public void glCullFace(int arg0) {
+        if (call(113)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glDebugMessageControl(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, boolean arg6) {
+        if (call(114)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glDebugMessageControl(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, boolean arg5) {
+        if (call(115)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glDebugMessageEnableAMD(int arg0, int arg1, int arg2, int[] arg3, int arg4, boolean arg5) {
+        if (call(116)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glDebugMessageEnableAMD(int arg0, int arg1, int arg2, IntBuffer arg3, boolean arg4) {
+        if (call(117)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glDebugMessageInsertAMD(int arg0, int arg1, int arg2, int arg3, String arg4) {
+        if (call(118)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glDebugMessageInsert(int arg0, int arg1, int arg2, int arg3, int arg4, String arg5) {
+        if (call(119)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glDeleteBuffers(int arg0, int[] arg1, int arg2) {
+        if (call(120)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDeleteBuffers(int arg0, IntBuffer arg1) {
+        if (call(121)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDeleteFramebuffers(int arg0, int[] arg1, int arg2) {
+        if (call(122)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDeleteFramebuffers(int arg0, IntBuffer arg1) {
+        if (call(123)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDeleteNamedStringARB(int arg0, String arg1) {
+        if (call(124)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDeleteProgramPipelines(int arg0, int[] arg1, int arg2) {
+        if (call(125)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDeleteProgramPipelines(int arg0, IntBuffer arg1) {
+        if (call(126)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDeleteProgram(int arg0) {
+        if (call(127)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glDeleteQueries(int arg0, int[] arg1, int arg2) {
+        if (call(128)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDeleteQueries(int arg0, IntBuffer arg1) {
+        if (call(129)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDeleteRenderbuffers(int arg0, int[] arg1, int arg2) {
+        if (call(130)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDeleteRenderbuffers(int arg0, IntBuffer arg1) {
+        if (call(131)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDeleteSamplers(int arg0, int[] arg1, int arg2) {
+        if (call(132)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDeleteSamplers(int arg0, IntBuffer arg1) {
+        if (call(133)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDeleteShader(int arg0) {
+        if (call(134)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glDeleteSync(long arg0) {
+        if (call(135)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glDeleteTextures(int arg0, int[] arg1, int arg2) {
+        if (call(136)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDeleteTextures(int arg0, IntBuffer arg1) {
+        if (call(137)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDeleteTransformFeedbacks(int arg0, int[] arg1, int arg2) {
+        if (call(138)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDeleteTransformFeedbacks(int arg0, IntBuffer arg1) {
+        if (call(139)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDeleteVertexArrays(int arg0, int[] arg1, int arg2) {
+        if (call(140)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDeleteVertexArrays(int arg0, IntBuffer arg1) {
+        if (call(141)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDepthFunc(int arg0) {
+        if (call(142)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glDepthMask(boolean arg0) {
+        if (call(143)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glDepthRangeArrayv(int arg0, int arg1, double[] arg2, int arg3) {
+        if (call(144)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glDepthRangeArrayv(int arg0, int arg1, DoubleBuffer arg2) {
+        if (call(145)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDepthRangeIndexed(int arg0, double arg1, double arg2) {
+        if (call(146)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDepthRange(double arg0, double arg1) {
+        if (call(147)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDepthRangef(float arg0, float arg1) {
+        if (call(148)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDetachShader(int arg0, int arg1) {
+        if (call(149)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDisableClientState(int arg0) {
+        if (call(150)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glDisableVertexAttribArray(int arg0) {
+        if (call(151)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glDisable(int arg0) {
+        if (call(152)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glDisablei(int arg0, int arg1) {
+        if (call(153)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDispatchComputeIndirect(long arg0) {
+        if (call(154)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glDispatchCompute(int arg0, int arg1, int arg2) {
+        if (call(155)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDrawArraysIndirect(int arg0, Buffer arg1) {
+        if (call(156)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDrawArraysIndirect(int arg0, long arg1) {
+        if (call(157)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDrawArraysInstancedBaseInstance(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(158)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glDrawArraysInstanced(int arg0, int arg1, int arg2, int arg3) {
+        if (call(159)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glDrawArrays(int arg0, int arg1, int arg2) {
+        if (call(160)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDrawBuffer(int arg0) {
+        if (call(161)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glDrawBuffers(int arg0, int[] arg1, int arg2) {
+        if (call(162)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDrawBuffers(int arg0, IntBuffer arg1) {
+        if (call(163)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glDrawElementsBaseVertex(int arg0, int arg1, int arg2, Buffer arg3, int arg4) {
+        if (call(164)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glDrawElementsBaseVertex(int arg0, int arg1, int arg2, long arg3, int arg4) {
+        if (call(165)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glDrawElementsIndirect(int arg0, int arg1, Buffer arg2) {
+        if (call(166)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDrawElementsIndirect(int arg0, int arg1, long arg2) {
+        if (call(167)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseInstance(int arg0, int arg1, int arg2, long arg3, int arg4, int arg5) {
+        if (call(168)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseVertexBaseInstance(int arg0, int arg1, int arg2, long arg3, int arg4, int arg5, int arg6) {
+        if (call(169)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseVertex(int arg0, int arg1, int arg2, Buffer arg3, int arg4, int arg5) {
+        if (call(170)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glDrawElementsInstancedBaseVertex(int arg0, int arg1, int arg2, long arg3, int arg4, int arg5) {
+        if (call(171)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glDrawElementsInstanced(int arg0, int arg1, int arg2, long arg3, int arg4) {
+        if (call(172)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glDrawElements(int arg0, int arg1, int arg2, long arg3) {
+        if (call(173)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glDrawRangeElementsBaseVertex(int arg0, int arg1, int arg2, int arg3, int arg4, Buffer arg5, int arg6) {
+        if (call(174)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glDrawRangeElementsBaseVertex(int arg0, int arg1, int arg2, int arg3, int arg4, long arg5, int arg6) {
+        if (call(175)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glDrawRangeElements(int arg0, int arg1, int arg2, int arg3, int arg4, long arg5) {
+        if (call(176)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glDrawTransformFeedbackInstanced(int arg0, int arg1, int arg2) {
+        if (call(177)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDrawTransformFeedbackStreamInstanced(int arg0, int arg1, int arg2, int arg3) {
+        if (call(178)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glDrawTransformFeedbackStream(int arg0, int arg1, int arg2) {
+        if (call(179)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glDrawTransformFeedback(int arg0, int arg1) {
+        if (call(180)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glEdgeFlagFormatNV(int arg0) {
+        if (call(181)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glEnableClientState(int arg0) {
+        if (call(182)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glEnableVertexAttribArray(int arg0) {
+        if (call(183)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glEnable(int arg0) {
+        if (call(184)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glEnablei(int arg0, int arg1) {
+        if (call(185)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glEndConditionalRender() {
+        call(186);
+    }
+
+    @Override
+    public void glEndQueryIndexed(int arg0, int arg1) {
+        if (call(187)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glEndQuery(int arg0) {
+        if (call(188)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glEndTransformFeedback() {
+        call(189);
+    }
+
+    @Override
+    public long glFenceSync(int arg0, int arg1) {
+        if (call(190)) {
+            record(arg0);
+            record(arg1);
+        }
+        return createName();
+    }
+
+    @Override
+    public void glFinish() {
+        call(191);
+    }
+
+    @Override
+    public void glFlushMappedBufferRange(int arg0, long arg1, long arg2) {
+        if (call(192)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glFlush() {
+        call(193);
+    }
+
+    @Override
+    public void glFogCoordFormatNV(int arg0, int arg1) {
+        if (call(194)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glFramebufferParameteri(int arg0, int arg1, int arg2) {
+        if (call(195)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glFramebufferRenderbuffer(int arg0, int arg1, int arg2, int arg3) {
+        if (call(196)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glFramebufferTexture1D(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(197)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glFramebufferTexture2D(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(198)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glFramebufferTexture3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        if (call(199)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glFramebufferTextureARB(int arg0, int arg1, int arg2, int arg3) {
+        if (call(200)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glFramebufferTextureEXT(int arg0, int arg1, int arg2, int arg3) {
+        if (call(201)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glFramebufferTextureFaceARB(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(202)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glFramebufferTextureLayerARB(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(203)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glFramebufferTextureLayer(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(204)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glFramebufferTexture(int arg0, int arg1, int arg2, int arg3) {
+        if (call(205)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glFrontFace(int arg0) {
+        if (call(206)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glGenBuffers(int arg0, int[] arg1, int arg2) {
+        if (call(207)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        genNames(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenBuffers(int arg0, IntBuffer arg1) {
+        if (call(208)) {
+            record(arg0);
+            record(arg1);
+        }
+        genNames(arg0, arg1);
+    }
+
+    @Override
+    public void glGenFramebuffers(int arg0, int[] arg1, int arg2) {
+        if (call(209)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        genNames(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenFramebuffers(int arg0, IntBuffer arg1) {
+        if (call(210)) {
+            record(arg0);
+            record(arg1);
+        }
+        genNames(arg0, arg1);
+    }
+
+    @Override
+    public void glGenProgramPipelines(int arg0, int[] arg1, int arg2) {
+        if (call(211)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        genNames(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenProgramPipelines(int arg0, IntBuffer arg1) {
+        if (call(212)) {
+            record(arg0);
+            record(arg1);
+        }
+        genNames(arg0, arg1);
+    }
+
+    @Override
+    public void glGenQueries(int arg0, int[] arg1, int arg2) {
+        if (call(213)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        genNames(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenQueries(int arg0, IntBuffer arg1) {
+        if (call(214)) {
+            record(arg0);
+            record(arg1);
+        }
+        genNames(arg0, arg1);
+    }
+
+    @Override
+    public void glGenRenderbuffers(int arg0, int[] arg1, int arg2) {
+        if (call(215)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        genNames(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenRenderbuffers(int arg0, IntBuffer arg1) {
+        if (call(216)) {
+            record(arg0);
+            record(arg1);
+        }
+        genNames(arg0, arg1);
+    }
+
+    @Override
+    public void glGenSamplers(int arg0, int[] arg1, int arg2) {
+        if (call(217)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        genNames(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenSamplers(int arg0, IntBuffer arg1) {
+        if (call(218)) {
+            record(arg0);
+            record(arg1);
+        }
+        genNames(arg0, arg1);
+    }
+
+    @Override
+    public void glGenTextures(int arg0, int[] arg1, int arg2) {
+        if (call(219)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        genNames(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenTextures(int arg0, IntBuffer arg1) {
+        if (call(220)) {
+            record(arg0);
+            record(arg1);
+        }
+        genNames(arg0, arg1);
+    }
+
+    @Override
+    public void glGenTransformFeedbacks(int arg0, int[] arg1, int arg2) {
+        if (call(221)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        genNames(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenTransformFeedbacks(int arg0, IntBuffer arg1) {
+        if (call(222)) {
+            record(arg0);
+            record(arg1);
+        }
+        genNames(arg0, arg1);
+    }
+
+    @Override
+    public void glGenVertexArrays(int arg0, int[] arg1, int arg2) {
+        if (call(223)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        genNames(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGenVertexArrays(int arg0, IntBuffer arg1) {
+        if (call(224)) {
+            record(arg0);
+            record(arg1);
+        }
+        genNames(arg0, arg1);
+    }
+
+    @Override
+    public void glGenerateMipmap(int arg0) {
+        if (call(225)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glGetActiveAtomicCounterBufferiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(226)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetActiveAtomicCounterBufferiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(227)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetActiveAttrib(int arg0, int arg1, int arg2, int[] arg3, int arg4, int[] arg5, int arg6, int[] arg7, int arg8, byte[] arg9, int arg10) {
+        if (call(228)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+            record(arg10);
+        }
+        if (getValues(arg2, arg3, arg4))
+            return;
+        if (getValues(arg4, arg5, arg6))
+            return;
+        getValues(arg6, arg7, arg8);
+    }
+
+    @Override
+    public void glGetActiveAttrib(int arg0, int arg1, int arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, ByteBuffer arg6) {
+        if (call(229)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetActiveSubroutineName(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, byte[] arg6, int arg7) {
+        if (call(230)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+        getValues(arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetActiveSubroutineName(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, ByteBuffer arg5) {
+        if (call(231)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+        getValues(arg3, arg4);
+    }
+
+    @Override
+    public void glGetActiveSubroutineUniformName(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, byte[] arg6, int arg7) {
+        if (call(232)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+        getValues(arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetActiveSubroutineUniformName(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, ByteBuffer arg5) {
+        if (call(233)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+        getValues(arg3, arg4);
+    }
+
+    @Override
+    public void glGetActiveSubroutineUniformiv(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5) {
+        if (call(234)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+        getValues(arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetActiveSubroutineUniformiv(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4) {
+        if (call(235)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg3, arg4);
+    }
+
+    @Override
+    public void glGetActiveUniformBlockName(int arg0, int arg1, int arg2, int[] arg3, int arg4, byte[] arg5, int arg6) {
+        if (call(236)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetActiveUniformBlockName(int arg0, int arg1, int arg2, IntBuffer arg3, ByteBuffer arg4) {
+        if (call(237)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetActiveUniformBlockiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(238)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetActiveUniformBlockiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(239)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetActiveUniformName(int arg0, int arg1, int arg2, int[] arg3, int arg4, byte[] arg5, int arg6) {
+        if (call(240)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetActiveUniformName(int arg0, int arg1, int arg2, IntBuffer arg3, ByteBuffer arg4) {
+        if (call(241)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetActiveUniform(int arg0, int arg1, int arg2, int[] arg3, int arg4, int[] arg5, int arg6, int[] arg7, int arg8, byte[] arg9, int arg10) {
+        if (call(242)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+            record(arg10);
+        }
+        if (getValues(arg2, arg3, arg4))
+            return;
+        if (getValues(arg4, arg5, arg6))
+            return;
+        getValues(arg6, arg7, arg8);
+    }
+
+    @Override
+    public void glGetActiveUniform(int arg0, int arg1, int arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, ByteBuffer arg6) {
+        if (call(243)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetActiveUniformsiv(int arg0, int arg1, int[] arg2, int arg3, int arg4, int[] arg5, int arg6) {
+        if (call(244)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+        if (getValues(arg1, arg2, arg3))
+            return;
+        getValues(arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glGetActiveUniformsiv(int arg0, int arg1, IntBuffer arg2, int arg3, IntBuffer arg4) {
+        if (call(245)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        if (getValues(arg1, arg2))
+            return;
+        getValues(arg3, arg4);
+    }
+
+    @Override
+    public void glGetAttachedShaders(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5) {
+        if (call(246)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+        if (getValues(arg1, arg2, arg3))
+            return;
+        getValues(arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetAttachedShaders(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3) {
+        if (call(247)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public int glGetAttribLocation(int arg0, String arg1) {
+        if (call(248)) {
+            record(arg0);
+            record(arg1);
+        }
+        return 0;
+    }
+
+    @Override
+    public void glGetBooleani_v(int arg0, int arg1, byte[] arg2, int arg3) {
+        if (call(249)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glGetBooleani_v(int arg0, int arg1, ByteBuffer arg2) {
+        if (call(250)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetBooleanv(int arg0, byte[] arg1, int arg2) {
+        if (call(251)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetBooleanv(int arg0, ByteBuffer arg1) {
+        if (call(252)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glGetBufferParameteri64v(int arg0, int arg1, long[] arg2, int arg3) {
+        if (call(253)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetBufferParameteri64v(int arg0, int arg1, LongBuffer arg2) {
+        if (call(254)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetBufferParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(255)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetBufferParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(256)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetBufferParameterui64vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        if (call(257)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetBufferParameterui64vNV(int arg0, int arg1, LongBuffer arg2) {
+        if (call(258)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetBufferSubData(int arg0, long arg1, long arg2, Buffer arg3) {
+        if (call(259)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glGetCompressedTexImage(int arg0, int arg1, Buffer arg2) {
+        if (call(260)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetCompressedTexImage(int arg0, int arg1, long arg2) {
+        if (call(261)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public int glGetDebugMessageLogAMD(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5, int[] arg6, int arg7, int[] arg8, int arg9, byte[] arg10, int arg11) {
+        if (call(262)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+            record(arg10);
+            record(arg11);
+        }
+        return 0;
+    }
+
+    @Override
+    public int glGetDebugMessageLogAMD(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, ByteBuffer arg6) {
+        if (call(263)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+        return 0;
+    }
+
+    @Override
+    public int glGetDebugMessageLog(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5, int[] arg6, int arg7, int[] arg8, int arg9, int[] arg10, int arg11, byte[] arg12, int arg13) {
+        if (call(264)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+            record(arg10);
+            record(arg11);
+            record(arg12);
+            record(arg13);
+        }
+        return 0;
+    }
+
+    @Override
+    public int glGetDebugMessageLog(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, IntBuffer arg6, ByteBuffer arg7) {
+        if (call(265)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+        return 0;
+    }
+
+    @Override
+    public void glGetDoublei_v(int arg0, int arg1, double[] arg2, int arg3) {
+        if (call(266)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glGetDoublei_v(int arg0, int arg1, DoubleBuffer arg2) {
+        if (call(267)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetDoublev(int arg0, double[] arg1, int arg2) {
+        if (call(268)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetDoublev(int arg0, DoubleBuffer arg1) {
+        if (call(269)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public int glGetError() {
+        call(270);
+        return 0;
+    }
+
+    @Override
+    public void glGetFloati_v(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(271)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetFloati_v(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(272)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetFloatv(int arg0, float[] arg1, int arg2) {
+        if (call(273)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetFloatv(int arg0, FloatBuffer arg1) {
+        if (call(274)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public int glGetFragDataIndex(int arg0, String arg1) {
+        if (call(275)) {
+            record(arg0);
+            record(arg1);
+        }
+        return 0;
+    }
+
+    @Override
+    public int glGetFragDataLocation(int arg0, String arg1) {
+        if (call(276)) {
+            record(arg0);
+            record(arg1);
+        }
+        return 0;
+    }
+
+    @Override
+    public void glGetFramebufferAttachmentParameteriv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(277)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetFramebufferAttachmentParameteriv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(278)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetFramebufferParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(279)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetFramebufferParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(280)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public int glGetGraphicsResetStatus() {
+        call(281);
+        return 0;
+    }
+
+    @Override
+    public void glGetInteger64i_v(int arg0, int arg1, long[] arg2, int arg3) {
+        if (call(282)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetInteger64i_v(int arg0, int arg1, LongBuffer arg2) {
+        if (call(283)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetInteger64v(int arg0, long[] arg1, int arg2) {
+        if (call(284)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetInteger64v(int arg0, LongBuffer arg1) {
+        if (call(285)) {
+            record(arg0);
+            record(arg1);
+        }
+        getValues(arg0, arg1);
+    }
+
+    @Override
+    public void glGetIntegeri_v(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(286)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetIntegeri_v(int arg0, int arg1, IntBuffer arg2) {
+        if (call(287)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetIntegerui64i_vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        if (call(288)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetIntegerui64i_vNV(int arg0, int arg1, LongBuffer arg2) {
+        if (call(289)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetIntegerui64vNV(int arg0, long[] arg1, int arg2) {
+        if (call(290)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetIntegerui64vNV(int arg0, LongBuffer arg1) {
+        if (call(291)) {
+            record(arg0);
+            record(arg1);
+        }
+        getValues(arg0, arg1);
+    }
+
+    @Override
+    public void glGetIntegerv(int arg0, int[] arg1, int arg2) {
+        if (call(292)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg0, arg1, arg2);
+    }
+
+    @Override
+    public void glGetIntegerv(int arg0, IntBuffer arg1) {
+        if (call(293)) {
+            record(arg0);
+            record(arg1);
+        }
+        getValues(arg0, arg1);
+    }
+
+    @Override
+    public void glGetInternalformati64v(int arg0, int arg1, int arg2, int arg3, long[] arg4, int arg5) {
+        if (call(294)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+        getValues(arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetInternalformati64v(int arg0, int arg1, int arg2, int arg3, LongBuffer arg4) {
+        if (call(295)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg3, arg4);
+    }
+
+    @Override
+    public void glGetInternalformativ(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5) {
+        if (call(296)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+        getValues(arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetInternalformativ(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4) {
+        if (call(297)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg3, arg4);
+    }
+
+    @Override
+    public void glGetMultisamplefv(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(298)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetMultisamplefv(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(299)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetNamedBufferParameterui64vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        if (call(300)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetNamedBufferParameterui64vNV(int arg0, int arg1, LongBuffer arg2) {
+        if (call(301)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetNamedStringARB(int arg0, String arg1, int arg2, int[] arg3, int arg4, byte[] arg5, int arg6) {
+        if (call(302)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetNamedStringARB(int arg0, String arg1, int arg2, IntBuffer arg3, ByteBuffer arg4) {
+        if (call(303)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetNamedStringivARB(int arg0, String arg1, int arg2, int[] arg3, int arg4) {
+        if (call(304)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetNamedStringivARB(int arg0, String arg1, int arg2, IntBuffer arg3) {
+        if (call(305)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetObjectLabel(int arg0, int arg1, int arg2, int[] arg3, int arg4, byte[] arg5, int arg6) {
+        if (call(306)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetObjectLabel(int arg0, int arg1, int arg2, IntBuffer arg3, ByteBuffer arg4) {
+        if (call(307)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetObjectPtrLabel(Buffer arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        if (call(308)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetObjectPtrLabel(Buffer arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        if (call(309)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetProgramBinary(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5, Buffer arg6) {
+        if (call(310)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+        if (getValues(arg1, arg2, arg3))
+            return;
+        getValues(arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetProgramBinary(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3, Buffer arg4) {
+        if (call(311)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetProgramInfoLog(int arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        if (call(312)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetProgramInfoLog(int arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        if (call(313)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetProgramInterfaceiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(314)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetProgramInterfaceiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(315)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetProgramPipelineInfoLog(int arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        if (call(316)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetProgramPipelineInfoLog(int arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        if (call(317)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetProgramPipelineiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(318)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetProgramPipelineiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(319)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public int glGetProgramResourceIndex(int arg0, int arg1, byte[] arg2, int arg3) {
+        if (call(320)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        return 0;
+    }
+
+    @Override
+    public int glGetProgramResourceIndex(int arg0, int arg1, ByteBuffer arg2) {
+        if (call(321)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        return 0;
+    }
+
+    @Override
+    public int glGetProgramResourceLocation(int arg0, int arg1, byte[] arg2, int arg3) {
+        if (call(322)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        return 0;
+    }
+
+    @Override
+    public int glGetProgramResourceLocation(int arg0, int arg1, ByteBuffer arg2) {
+        if (call(323)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        return 0;
+    }
+
+    @Override
+    public void glGetProgramResourceName(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, byte[] arg6, int arg7) {
+        if (call(324)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+        getValues(arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetProgramResourceName(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, ByteBuffer arg5) {
+        if (call(325)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+        getValues(arg3, arg4);
+    }
+
+    @Override
+    public void glGetProgramResourceiv(int arg0, int arg1, int arg2, int arg3, int[] arg4, int arg5, int arg6, int[] arg7, int arg8, int[] arg9, int arg10) {
+        if (call(326)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+            record(arg10);
+        }
+        if (getValues(arg3, arg4, arg5))
+            return;
+        if (getValues(arg6, arg7, arg8))
+            return;
+        getValues(arg8, arg9, arg10);
+    }
+
+    @Override
+    public void glGetProgramResourceiv(int arg0, int arg1, int arg2, int arg3, IntBuffer arg4, int arg5, IntBuffer arg6, IntBuffer arg7) {
+        if (call(327)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+        if (getValues(arg3, arg4))
+            return;
+        getValues(arg5, arg6);
+    }
+
+    @Override
+    public void glGetProgramStageiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(328)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetProgramStageiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(329)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetProgramiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(330)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetProgramiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(331)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetQueryIndexediv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(332)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetQueryIndexediv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(333)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetQueryObjecti64v(int arg0, int arg1, long[] arg2, int arg3) {
+        if (call(334)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetQueryObjecti64v(int arg0, int arg1, LongBuffer arg2) {
+        if (call(335)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetQueryObjectiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(336)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetQueryObjectiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(337)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetQueryObjectui64v(int arg0, int arg1, long[] arg2, int arg3) {
+        if (call(338)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetQueryObjectui64v(int arg0, int arg1, LongBuffer arg2) {
+        if (call(339)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetQueryObjectuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(340)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetQueryObjectuiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(341)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetQueryiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(342)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetQueryiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(343)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetRenderbufferParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(344)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetRenderbufferParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(345)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetSamplerParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(346)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetSamplerParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(347)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetSamplerParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(348)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetSamplerParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(349)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetSamplerParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(350)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetSamplerParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(351)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetSamplerParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(352)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetSamplerParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(353)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetShaderInfoLog(int arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        if (call(354)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetShaderInfoLog(int arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        if (call(355)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetShaderPrecisionFormat(int arg0, int arg1, int[] arg2, int arg3, int[] arg4, int arg5) {
+        if (call(356)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+        if (getValues(arg1, arg2, arg3))
+            return;
+        getValues(arg3, arg4, arg5);
+    }
+
+    @Override
+    public void glGetShaderPrecisionFormat(int arg0, int arg1, IntBuffer arg2, IntBuffer arg3) {
+        if (call(357)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetShaderSource(int arg0, int arg1, int[] arg2, int arg3, byte[] arg4, int arg5) {
+        if (call(358)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetShaderSource(int arg0, int arg1, IntBuffer arg2, ByteBuffer arg3) {
+        if (call(359)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetShaderiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(360)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetShaderiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(361)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public String glGetString(int arg0) {
+        if (call(362)) {
+            record(arg0);
+        }
+        return getString(arg0);
+    }
+
+    @Override
+    public String glGetStringi(int arg0, int arg1) {
+        if (call(363)) {
+            record(arg0);
+            record(arg1);
+        }
+        return getString(arg0);
+    }
+
+    @Override
+    public int glGetSubroutineIndex(int arg0, int arg1, String arg2) {
+        if (call(364)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        return 0;
+    }
+
+    @Override
+    public int glGetSubroutineUniformLocation(int arg0, int arg1, String arg2) {
+        if (call(365)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        return 0;
+    }
+
+    @Override
+    public void glGetSynciv(long arg0, int arg1, int arg2, int[] arg3, int arg4, int[] arg5, int arg6) {
+        if (call(366)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+        if (getValues(arg2, arg3, arg4))
+            return;
+        getValues(arg4, arg5, arg6);
+    }
+
+    @Override
+    public void glGetSynciv(long arg0, int arg1, int arg2, IntBuffer arg3, IntBuffer arg4) {
+        if (call(367)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetTexImage(int arg0, int arg1, int arg2, int arg3, Buffer arg4) {
+        if (call(368)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glGetTexImage(int arg0, int arg1, int arg2, int arg3, long arg4) {
+        if (call(369)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glGetTexLevelParameterfv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        if (call(370)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetTexLevelParameterfv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        if (call(371)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glGetTexLevelParameteriv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(372)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetTexLevelParameteriv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(373)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetTexParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(374)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetTexParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(375)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetTexParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(376)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetTexParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(377)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetTexParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(378)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetTexParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(379)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetTexParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(380)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetTexParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(381)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetTransformFeedbackVarying(int arg0, int arg1, int arg2, int[] arg3, int arg4, int[] arg5, int arg6, int[] arg7, int arg8, byte[] arg9, int arg10) {
+        if (call(382)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+            record(arg10);
+        }
+        if (getValues(arg2, arg3, arg4))
+            return;
+        if (getValues(arg4, arg5, arg6))
+            return;
+        getValues(arg6, arg7, arg8);
+    }
+
+    @Override
+    public void glGetTransformFeedbackVarying(int arg0, int arg1, int arg2, IntBuffer arg3, IntBuffer arg4, IntBuffer arg5, ByteBuffer arg6) {
+        if (call(383)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public int glGetUniformBlockIndex(int arg0, String arg1) {
+        if (call(384)) {
+            record(arg0);
+            record(arg1);
+        }
+        return 0;
+    }
+
+    @Override
+    public void glGetUniformIndices(int arg0, int arg1, String[] arg2, int[] arg3, int arg4) {
+        if (call(385)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glGetUniformIndices(int arg0, int arg1, String[] arg2, IntBuffer arg3) {
+        if (call(386)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public int glGetUniformLocation(int arg0, String arg1) {
+        if (call(387)) {
+            record(arg0);
+            record(arg1);
+        }
+        return 0;
+    }
+
+    @Override
+    public void glGetUniformSubroutineuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(388)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetUniformSubroutineuiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(389)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetUniformdv(int arg0, int arg1, double[] arg2, int arg3) {
+        if (call(390)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glGetUniformdv(int arg0, int arg1, DoubleBuffer arg2) {
+        if (call(391)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetUniformfv(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(392)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetUniformfv(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(393)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetUniformiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(394)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetUniformiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(395)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetUniformui64vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        if (call(396)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetUniformui64vNV(int arg0, int arg1, LongBuffer arg2) {
+        if (call(397)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetUniformuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(398)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetUniformuiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(399)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetVertexAttribIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(400)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetVertexAttribIiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(401)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetVertexAttribIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(402)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetVertexAttribIuiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(403)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetVertexAttribLdv(int arg0, int arg1, double[] arg2, int arg3) {
+        if (call(404)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glGetVertexAttribLdv(int arg0, int arg1, DoubleBuffer arg2) {
+        if (call(405)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetVertexAttribdv(int arg0, int arg1, double[] arg2, int arg3) {
+        if (call(406)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glGetVertexAttribdv(int arg0, int arg1, DoubleBuffer arg2) {
+        if (call(407)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetVertexAttribfv(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(408)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetVertexAttribfv(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(409)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glGetVertexAttribiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(410)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg1, arg2, arg3);
+    }
+
+    @Override
+    public void glGetVertexAttribiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(411)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        getValues(arg1, arg2);
+    }
+
+    @Override
+    public void glGetnCompressedTexImage(int arg0, int arg1, int arg2, Buffer arg3) {
+        if (call(412)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glGetnTexImage(int arg0, int arg1, int arg2, int arg3, int arg4, Buffer arg5) {
+        if (call(413)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glGetnUniformdv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        if (call(414)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glGetnUniformdv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        if (call(415)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glGetnUniformfv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        if (call(416)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetnUniformfv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        if (call(417)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glGetnUniformiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(418)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetnUniformiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(419)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glGetnUniformuiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(420)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+        getValues(arg2, arg3, arg4);
+    }
+
+    @Override
+    public void glGetnUniformuiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(421)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        getValues(arg2, arg3);
+    }
+
+    @Override
+    public void glHint(int arg0, int arg1) {
+        if (call(422)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public long glImportSyncEXT(int arg0, long arg1, int arg2) {
+        if (call(423)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+        return 0;
+    }
+
+    @Override
+    public void glIndexFormatNV(int arg0, int arg1) {
+        if (call(424)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glInvalidateBufferData(int arg0) {
+        if (call(425)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glInvalidateBufferSubData(int arg0, long arg1, long arg2) {
+        if (call(426)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glInvalidateFramebuffer(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(427)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glInvalidateFramebuffer(int arg0, int arg1, IntBuffer arg2) {
+        if (call(428)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glInvalidateSubFramebuffer(int arg0, int arg1, int[] arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        if (call(429)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+    }
+
+    @Override
+    public void glInvalidateSubFramebuffer(int arg0, int arg1, IntBuffer arg2, int arg3, int arg4, int arg5, int arg6) {
+        if (call(430)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glInvalidateTexImage(int arg0, int arg1) {
+        if (call(431)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glInvalidateTexSubImage(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7) {
+        if (call(432)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+    }
+
+    @Override
+    public boolean glIsBufferResidentNV(int arg0) {
+        if (call(433)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsBuffer(int arg0) {
+        if (call(434)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsEnabled(int arg0) {
+        if (call(435)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsEnabledi(int arg0, int arg1) {
+        if (call(436)) {
+            record(arg0);
+            record(arg1);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsFramebuffer(int arg0) {
+        if (call(437)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsNamedBufferResidentNV(int arg0) {
+        if (call(438)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsNamedStringARB(int arg0, String arg1) {
+        if (call(439)) {
+            record(arg0);
+            record(arg1);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsProgramPipeline(int arg0) {
+        if (call(440)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsProgram(int arg0) {
+        if (call(441)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsQuery(int arg0) {
+        if (call(442)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsRenderbuffer(int arg0) {
+        if (call(443)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsSampler(int arg0) {
+        if (call(444)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsShader(int arg0) {
+        if (call(445)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsSync(long arg0) {
+        if (call(446)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsTexture(int arg0) {
+        if (call(447)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsTransformFeedback(int arg0) {
+        if (call(448)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean glIsVertexArray(int arg0) {
+        if (call(449)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public void glLineWidth(float arg0) {
+        if (call(450)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glLinkProgram(int arg0) {
+        if (call(451)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glLogicOp(int arg0) {
+        if (call(452)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glMakeBufferNonResidentNV(int arg0) {
+        if (call(453)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glMakeBufferResidentNV(int arg0, int arg1) {
+        if (call(454)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glMakeNamedBufferNonResidentNV(int arg0) {
+        if (call(455)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glMakeNamedBufferResidentNV(int arg0, int arg1) {
+        if (call(456)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public ByteBuffer glMapBufferRange(int arg0, long arg1, long arg2, int arg3) {
+        if (call(457)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        return mapBuffer(arg2);
+    }
+
+    @Override
+    public ByteBuffer glMapBuffer(int arg0, int arg1) {
+        if (call(458)) {
+            record(arg0);
+            record(arg1);
+        }
+        return mapBuffer(1 << 16);
+    }
+
+    @Override
+    public void glMemoryBarrierByRegion(int arg0) {
+        if (call(459)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glMemoryBarrier(int arg0) {
+        if (call(460)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glMinSampleShading(float arg0) {
+        if (call(461)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glMultiDrawArraysIndirectAMD(int arg0, Buffer arg1, int arg2, int arg3) {
+        if (call(462)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glMultiDrawArraysIndirect(int arg0, long arg1, int arg2, int arg3) {
+        if (call(463)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glMultiDrawArrays(int arg0, int[] arg1, int arg2, int[] arg3, int arg4, int arg5) {
+        if (call(464)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glMultiDrawArrays(int arg0, IntBuffer arg1, IntBuffer arg2, int arg3) {
+        if (call(465)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glMultiDrawElementsBaseVertex(int arg0, IntBuffer arg1, int arg2, PointerBuffer arg3, int arg4, IntBuffer arg5) {
+        if (call(466)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glMultiDrawElementsIndirectAMD(int arg0, int arg1, Buffer arg2, int arg3, int arg4) {
+        if (call(467)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glMultiDrawElementsIndirect(int arg0, int arg1, Buffer arg2, int arg3, int arg4) {
+        if (call(468)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glMultiDrawElements(int arg0, IntBuffer arg1, int arg2, PointerBuffer arg3, int arg4) {
+        if (call(469)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glNamedBufferPageCommitmentARB(int arg0, long arg1, long arg2, boolean arg3) {
+        if (call(470)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glNamedBufferPageCommitmentEXT(int arg0, long arg1, long arg2, boolean arg3) {
+        if (call(471)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glNamedStringARB(int arg0, int arg1, String arg2, int arg3, String arg4) {
+        if (call(472)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glNormalFormatNV(int arg0, int arg1) {
+        if (call(473)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glObjectLabel(int arg0, int arg1, int arg2, byte[] arg3, int arg4) {
+        if (call(474)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glObjectLabel(int arg0, int arg1, int arg2, ByteBuffer arg3) {
+        if (call(475)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glObjectPtrLabel(Buffer arg0, int arg1, byte[] arg2, int arg3) {
+        if (call(476)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glObjectPtrLabel(Buffer arg0, int arg1, ByteBuffer arg2) {
+        if (call(477)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glPatchParameterfv(int arg0, float[] arg1, int arg2) {
+        if (call(478)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glPatchParameterfv(int arg0, FloatBuffer arg1) {
+        if (call(479)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glPatchParameteri(int arg0, int arg1) {
+        if (call(480)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glPauseTransformFeedback() {
+        call(481);
+    }
+
+    @Override
+    public void glPixelStoref(int arg0, float arg1) {
+        if (call(482)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glPixelStorei(int arg0, int arg1) {
+        if (call(483)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glPointParameterf(int arg0, float arg1) {
+        if (call(484)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glPointParameterfv(int arg0, float[] arg1, int arg2) {
+        if (call(485)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glPointParameterfv(int arg0, FloatBuffer arg1) {
+        if (call(486)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glPointParameteri(int arg0, int arg1) {
+        if (call(487)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glPointParameteriv(int arg0, int[] arg1, int arg2) {
+        if (call(488)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glPointParameteriv(int arg0, IntBuffer arg1) {
+        if (call(489)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glPointSize(float arg0) {
+        if (call(490)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glPolygonMode(int arg0, int arg1) {
+        if (call(491)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glPolygonOffset(float arg0, float arg1) {
+        if (call(492)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glPopDebugGroup() {
+        call(493);
+    }
+
+    @Override
+    public void glPrimitiveBoundingBox(float arg0, float arg1, float arg2, float arg3, float arg4, float arg5, float arg6, float arg7) {
+        if (call(494)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+    }
+
+    @Override
+    public void glPrimitiveRestartIndex(int arg0) {
+        if (call(495)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glProgramBinary(int arg0, int arg1, Buffer arg2, int arg3) {
+        if (call(496)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramParameteriARB(int arg0, int arg1, int arg2) {
+        if (call(497)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glProgramParameteri(int arg0, int arg1, int arg2) {
+        if (call(498)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glProgramUniform1d(int arg0, int arg1, double arg2) {
+        if (call(499)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glProgramUniform1dv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        if (call(500)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform1dv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        if (call(501)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform1f(int arg0, int arg1, float arg2) {
+        if (call(502)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glProgramUniform1fv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        if (call(503)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform1fv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        if (call(504)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform1i(int arg0, int arg1, int arg2) {
+        if (call(505)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glProgramUniform1iv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(506)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform1iv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(507)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform1ui(int arg0, int arg1, int arg2) {
+        if (call(508)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glProgramUniform1uiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(509)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform1uiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(510)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform2d(int arg0, int arg1, double arg2, double arg3) {
+        if (call(511)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform2dv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        if (call(512)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform2dv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        if (call(513)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform2f(int arg0, int arg1, float arg2, float arg3) {
+        if (call(514)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform2fv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        if (call(515)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform2fv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        if (call(516)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform2i(int arg0, int arg1, int arg2, int arg3) {
+        if (call(517)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform2iv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(518)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform2iv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(519)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform2ui(int arg0, int arg1, int arg2, int arg3) {
+        if (call(520)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform2uiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(521)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform2uiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(522)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform3d(int arg0, int arg1, double arg2, double arg3, double arg4) {
+        if (call(523)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform3dv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        if (call(524)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform3dv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        if (call(525)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform3f(int arg0, int arg1, float arg2, float arg3, float arg4) {
+        if (call(526)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform3fv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        if (call(527)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform3fv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        if (call(528)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform3i(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(529)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform3iv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(530)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform3iv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(531)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform3ui(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(532)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform3uiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(533)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform3uiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(534)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform4d(int arg0, int arg1, double arg2, double arg3, double arg4, double arg5) {
+        if (call(535)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniform4dv(int arg0, int arg1, int arg2, double[] arg3, int arg4) {
+        if (call(536)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform4dv(int arg0, int arg1, int arg2, DoubleBuffer arg3) {
+        if (call(537)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform4f(int arg0, int arg1, float arg2, float arg3, float arg4, float arg5) {
+        if (call(538)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniform4fv(int arg0, int arg1, int arg2, float[] arg3, int arg4) {
+        if (call(539)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform4fv(int arg0, int arg1, int arg2, FloatBuffer arg3) {
+        if (call(540)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform4i(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        if (call(541)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniform4iv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(542)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform4iv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(543)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniform4ui(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        if (call(544)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniform4uiv(int arg0, int arg1, int arg2, int[] arg3, int arg4) {
+        if (call(545)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniform4uiv(int arg0, int arg1, int arg2, IntBuffer arg3) {
+        if (call(546)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix2dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        if (call(547)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix2dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        if (call(548)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix2fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        if (call(549)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix2fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        if (call(550)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x3dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        if (call(551)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x3dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        if (call(552)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x3fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        if (call(553)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x3fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        if (call(554)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x4dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        if (call(555)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x4dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        if (call(556)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x4fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        if (call(557)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix2x4fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        if (call(558)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix3dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        if (call(559)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix3dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        if (call(560)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix3fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        if (call(561)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix3fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        if (call(562)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x2dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        if (call(563)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x2dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        if (call(564)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x2fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        if (call(565)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x2fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        if (call(566)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x4dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        if (call(567)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x4dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        if (call(568)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x4fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        if (call(569)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix3x4fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        if (call(570)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix4dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        if (call(571)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix4dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        if (call(572)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix4fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        if (call(573)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix4fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        if (call(574)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x2dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        if (call(575)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x2dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        if (call(576)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x2fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        if (call(577)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x2fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        if (call(578)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x3dv(int arg0, int arg1, int arg2, boolean arg3, double[] arg4, int arg5) {
+        if (call(579)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x3dv(int arg0, int arg1, int arg2, boolean arg3, DoubleBuffer arg4) {
+        if (call(580)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x3fv(int arg0, int arg1, int arg2, boolean arg3, float[] arg4, int arg5) {
+        if (call(581)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glProgramUniformMatrix4x3fv(int arg0, int arg1, int arg2, boolean arg3, FloatBuffer arg4) {
+        if (call(582)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformui64NV(int arg0, int arg1, long arg2) {
+        if (call(583)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glProgramUniformui64vNV(int arg0, int arg1, int arg2, long[] arg3, int arg4) {
+        if (call(584)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glProgramUniformui64vNV(int arg0, int arg1, int arg2, LongBuffer arg3) {
+        if (call(585)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glProvokingVertex(int arg0) {
+        if (call(586)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glPushDebugGroup(int arg0, int arg1, int arg2, byte[] arg3, int arg4) {
+        if (call(587)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glPushDebugGroup(int arg0, int arg1, int arg2, ByteBuffer arg3) {
+        if (call(588)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glQueryCounter(int arg0, int arg1) {
+        if (call(589)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glReadBuffer(int arg0) {
+        if (call(590)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glReadPixels(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        if (call(591)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glReadPixels(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, long arg6) {
+        if (call(592)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glReadnPixels(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, Buffer arg7) {
+        if (call(593)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+    }
+
+    @Override
+    public void glReleaseShaderCompiler() {
+        call(594);
+    }
+
+    @Override
+    public void glRenderbufferStorageMultisample(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(595)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glRenderbufferStorage(int arg0, int arg1, int arg2, int arg3) {
+        if (call(596)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glResumeTransformFeedback() {
+        call(597);
+    }
+
+    @Override
+    public void glSampleCoverage(float arg0, boolean arg1) {
+        if (call(598)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glSampleMaski(int arg0, int arg1) {
+        if (call(599)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glSamplerParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(600)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glSamplerParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(601)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glSamplerParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(602)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glSamplerParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(603)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glSamplerParameterf(int arg0, int arg1, float arg2) {
+        if (call(604)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glSamplerParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(605)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glSamplerParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(606)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glSamplerParameteri(int arg0, int arg1, int arg2) {
+        if (call(607)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glSamplerParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(608)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glSamplerParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(609)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glScissorArrayv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(610)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glScissorArrayv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(611)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glScissorIndexed(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(612)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glScissorIndexedv(int arg0, int[] arg1, int arg2) {
+        if (call(613)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glScissorIndexedv(int arg0, IntBuffer arg1) {
+        if (call(614)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glScissor(int arg0, int arg1, int arg2, int arg3) {
+        if (call(615)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glSecondaryColorFormatNV(int arg0, int arg1, int arg2) {
+        if (call(616)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glSetMultisamplefvAMD(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(617)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glSetMultisamplefvAMD(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(618)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glShaderBinary(int arg0, int[] arg1, int arg2, int arg3, Buffer arg4, int arg5) {
+        if (call(619)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glShaderBinary(int arg0, IntBuffer arg1, int arg2, Buffer arg3, int arg4) {
+        if (call(620)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glShaderSource(int arg0, int arg1, String[] arg2, int[] arg3, int arg4) {
+        if (call(621)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glShaderSource(int arg0, int arg1, String[] arg2, IntBuffer arg3) {
+        if (call(622)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glStencilFuncSeparate(int arg0, int arg1, int arg2, int arg3) {
+        if (call(623)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glStencilFunc(int arg0, int arg1, int arg2) {
+        if (call(624)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glStencilMaskSeparate(int arg0, int arg1) {
+        if (call(625)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glStencilMask(int arg0) {
+        if (call(626)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glStencilOpSeparate(int arg0, int arg1, int arg2, int arg3) {
+        if (call(627)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glStencilOpValueAMD(int arg0, int arg1) {
+        if (call(628)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glStencilOp(int arg0, int arg1, int arg2) {
+        if (call(629)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glTessellationFactorAMD(float arg0) {
+        if (call(630)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glTessellationModeAMD(int arg0) {
+        if (call(631)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glTexBufferRange(int arg0, int arg1, int arg2, long arg3, long arg4) {
+        if (call(632)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glTexBuffer(int arg0, int arg1, int arg2) {
+        if (call(633)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glTexCoordFormatNV(int arg0, int arg1, int arg2) {
+        if (call(634)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, Buffer arg7) {
+        if (call(635)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+    }
+
+    @Override
+    public void glTexImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, long arg7) {
+        if (call(636)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+    }
+
+    @Override
+    public void glTexImage2DMultisampleCoverageNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, boolean arg6) {
+        if (call(637)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glTexImage2DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, boolean arg5) {
+        if (call(638)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        if (call(639)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+        }
+    }
+
+    @Override
+    public void glTexImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, long arg8) {
+        if (call(640)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+        }
+    }
+
+    @Override
+    public void glTexImage3DMultisampleCoverageNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, boolean arg7) {
+        if (call(641)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+    }
+
+    @Override
+    public void glTexImage3DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, boolean arg6) {
+        if (call(642)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glTexImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, Buffer arg9) {
+        if (call(643)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+        }
+    }
+
+    @Override
+    public void glTexImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, long arg9) {
+        if (call(644)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+        }
+    }
+
+    @Override
+    public void glTexPageCommitmentARB(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, boolean arg8) {
+        if (call(645)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+        }
+    }
+
+    @Override
+    public void glTexParameterIiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(646)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glTexParameterIiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(647)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glTexParameterIuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(648)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glTexParameterIuiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(649)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glTexParameterf(int arg0, int arg1, float arg2) {
+        if (call(650)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glTexParameterfv(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(651)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glTexParameterfv(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(652)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glTexParameteri(int arg0, int arg1, int arg2) {
+        if (call(653)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glTexParameteriv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(654)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glTexParameteriv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(655)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glTexStorage1D(int arg0, int arg1, int arg2, int arg3) {
+        if (call(656)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glTexStorage2DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, boolean arg5) {
+        if (call(657)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glTexStorage2D(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(658)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glTexStorage3DMultisample(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, boolean arg6) {
+        if (call(659)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glTexStorage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        if (call(660)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, Buffer arg6) {
+        if (call(661)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glTexSubImage1D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, long arg6) {
+        if (call(662)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, Buffer arg8) {
+        if (call(663)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+        }
+    }
+
+    @Override
+    public void glTexSubImage2D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, long arg8) {
+        if (call(664)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+        }
+    }
+
+    @Override
+    public void glTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, Buffer arg10) {
+        if (call(665)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+            record(arg10);
+        }
+    }
+
+    @Override
+    public void glTexSubImage3D(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, int arg8, int arg9, long arg10) {
+        if (call(666)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+            record(arg9);
+            record(arg10);
+        }
+    }
+
+    @Override
+    public void glTextureImage2DMultisampleCoverageNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, boolean arg7) {
+        if (call(667)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+    }
+
+    @Override
+    public void glTextureImage2DMultisampleNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, boolean arg6) {
+        if (call(668)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glTextureImage3DMultisampleCoverageNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, int arg7, boolean arg8) {
+        if (call(669)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+            record(arg8);
+        }
+    }
+
+    @Override
+    public void glTextureImage3DMultisampleNV(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6, boolean arg7) {
+        if (call(670)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+            record(arg7);
+        }
+    }
+
+    @Override
+    public void glTextureStorage1DEXT(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(671)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glTextureStorage2DEXT(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5) {
+        if (call(672)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glTextureStorage3DEXT(int arg0, int arg1, int arg2, int arg3, int arg4, int arg5, int arg6) {
+        if (call(673)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+            record(arg6);
+        }
+    }
+
+    @Override
+    public void glTransformFeedbackVaryings(int arg0, int arg1, String[] arg2, int arg3) {
+        if (call(674)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform1d(int arg0, double arg1) {
+        if (call(675)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glUniform1dv(int arg0, int arg1, double[] arg2, int arg3) {
+        if (call(676)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform1dv(int arg0, int arg1, DoubleBuffer arg2) {
+        if (call(677)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform1f(int arg0, float arg1) {
+        if (call(678)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glUniform1fv(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(679)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform1fv(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(680)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform1i(int arg0, int arg1) {
+        if (call(681)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glUniform1iv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(682)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform1iv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(683)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform1ui(int arg0, int arg1) {
+        if (call(684)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glUniform1uiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(685)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform1uiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(686)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform2d(int arg0, double arg1, double arg2) {
+        if (call(687)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform2dv(int arg0, int arg1, double[] arg2, int arg3) {
+        if (call(688)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform2dv(int arg0, int arg1, DoubleBuffer arg2) {
+        if (call(689)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform2f(int arg0, float arg1, float arg2) {
+        if (call(690)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform2fv(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(691)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform2fv(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(692)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform2i(int arg0, int arg1, int arg2) {
+        if (call(693)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform2iv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(694)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform2iv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(695)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform2ui(int arg0, int arg1, int arg2) {
+        if (call(696)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform2uiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(697)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform2uiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(698)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform3d(int arg0, double arg1, double arg2, double arg3) {
+        if (call(699)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform3dv(int arg0, int arg1, double[] arg2, int arg3) {
+        if (call(700)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform3dv(int arg0, int arg1, DoubleBuffer arg2) {
+        if (call(701)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform3f(int arg0, float arg1, float arg2, float arg3) {
+        if (call(702)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform3fv(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(703)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform3fv(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(704)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform3i(int arg0, int arg1, int arg2, int arg3) {
+        if (call(705)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform3iv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(706)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform3iv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(707)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform3ui(int arg0, int arg1, int arg2, int arg3) {
+        if (call(708)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform3uiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(709)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform3uiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(710)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform4d(int arg0, double arg1, double arg2, double arg3, double arg4) {
+        if (call(711)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniform4dv(int arg0, int arg1, double[] arg2, int arg3) {
+        if (call(712)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform4dv(int arg0, int arg1, DoubleBuffer arg2) {
+        if (call(713)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform4f(int arg0, float arg1, float arg2, float arg3, float arg4) {
+        if (call(714)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniform4fv(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(715)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform4fv(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(716)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform4i(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(717)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniform4iv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(718)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform4iv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(719)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform4ui(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(720)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniform4uiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(721)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniform4uiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(722)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniformBlockBinding(int arg0, int arg1, int arg2) {
+        if (call(723)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix2dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        if (call(724)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix2dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        if (call(725)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix2fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        if (call(726)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix2fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        if (call(727)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix2x3dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        if (call(728)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix2x3dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        if (call(729)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix2x3fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        if (call(730)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix2x3fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        if (call(731)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix2x4dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        if (call(732)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix2x4dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        if (call(733)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix2x4fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        if (call(734)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix2x4fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        if (call(735)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix3dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        if (call(736)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix3dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        if (call(737)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix3fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        if (call(738)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix3fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        if (call(739)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix3x2dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        if (call(740)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix3x2dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        if (call(741)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix3x2fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        if (call(742)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix3x2fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        if (call(743)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix3x4dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        if (call(744)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix3x4dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        if (call(745)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix3x4fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        if (call(746)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix3x4fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        if (call(747)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix4dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        if (call(748)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix4dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        if (call(749)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix4fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        if (call(750)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix4fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        if (call(751)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix4x2dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        if (call(752)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix4x2dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        if (call(753)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix4x2fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        if (call(754)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix4x2fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        if (call(755)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix4x3dv(int arg0, int arg1, boolean arg2, double[] arg3, int arg4) {
+        if (call(756)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix4x3dv(int arg0, int arg1, boolean arg2, DoubleBuffer arg3) {
+        if (call(757)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix4x3fv(int arg0, int arg1, boolean arg2, float[] arg3, int arg4) {
+        if (call(758)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glUniformMatrix4x3fv(int arg0, int arg1, boolean arg2, FloatBuffer arg3) {
+        if (call(759)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformSubroutinesuiv(int arg0, int arg1, int[] arg2, int arg3) {
+        if (call(760)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformSubroutinesuiv(int arg0, int arg1, IntBuffer arg2) {
+        if (call(761)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUniform(GLUniformData arg0) {
+        if (call(762)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glUniformui64NV(int arg0, long arg1) {
+        if (call(763)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glUniformui64vNV(int arg0, int arg1, long[] arg2, int arg3) {
+        if (call(764)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glUniformui64vNV(int arg0, int arg1, LongBuffer arg2) {
+        if (call(765)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public boolean glUnmapBuffer(int arg0) {
+        if (call(766)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public void glUseProgramStages(int arg0, int arg1, int arg2) {
+        if (call(767)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glUseProgram(int arg0) {
+        if (call(768)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glValidateProgramPipeline(int arg0) {
+        if (call(769)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glValidateProgram(int arg0) {
+        if (call(770)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib1d(int arg0, double arg1) {
+        if (call(771)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib1dv(int arg0, double[] arg1, int arg2) {
+        if (call(772)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib1dv(int arg0, DoubleBuffer arg1) {
+        if (call(773)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib1f(int arg0, float arg1) {
+        if (call(774)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib1fv(int arg0, float[] arg1, int arg2) {
+        if (call(775)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib1fv(int arg0, FloatBuffer arg1) {
+        if (call(776)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib1s(int arg0, short arg1) {
+        if (call(777)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib1sv(int arg0, short[] arg1, int arg2) {
+        if (call(778)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib1sv(int arg0, ShortBuffer arg1) {
+        if (call(779)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib2d(int arg0, double arg1, double arg2) {
+        if (call(780)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib2dv(int arg0, double[] arg1, int arg2) {
+        if (call(781)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib2dv(int arg0, DoubleBuffer arg1) {
+        if (call(782)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib2f(int arg0, float arg1, float arg2) {
+        if (call(783)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib2fv(int arg0, float[] arg1, int arg2) {
+        if (call(784)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib2fv(int arg0, FloatBuffer arg1) {
+        if (call(785)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib2s(int arg0, short arg1, short arg2) {
+        if (call(786)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib2sv(int arg0, short[] arg1, int arg2) {
+        if (call(787)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib2sv(int arg0, ShortBuffer arg1) {
+        if (call(788)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib3d(int arg0, double arg1, double arg2, double arg3) {
+        if (call(789)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib3dv(int arg0, double[] arg1, int arg2) {
+        if (call(790)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib3dv(int arg0, DoubleBuffer arg1) {
+        if (call(791)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib3f(int arg0, float arg1, float arg2, float arg3) {
+        if (call(792)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib3fv(int arg0, float[] arg1, int arg2) {
+        if (call(793)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib3fv(int arg0, FloatBuffer arg1) {
+        if (call(794)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib3s(int arg0, short arg1, short arg2, short arg3) {
+        if (call(795)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib3sv(int arg0, short[] arg1, int arg2) {
+        if (call(796)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib3sv(int arg0, ShortBuffer arg1) {
+        if (call(797)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4Nbv(int arg0, byte[] arg1, int arg2) {
+        if (call(798)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4Nbv(int arg0, ByteBuffer arg1) {
+        if (call(799)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4Niv(int arg0, int[] arg1, int arg2) {
+        if (call(800)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4Niv(int arg0, IntBuffer arg1) {
+        if (call(801)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4Nsv(int arg0, short[] arg1, int arg2) {
+        if (call(802)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4Nsv(int arg0, ShortBuffer arg1) {
+        if (call(803)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4Nub(int arg0, byte arg1, byte arg2, byte arg3, byte arg4) {
+        if (call(804)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4Nubv(int arg0, byte[] arg1, int arg2) {
+        if (call(805)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4Nubv(int arg0, ByteBuffer arg1) {
+        if (call(806)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4Nuiv(int arg0, int[] arg1, int arg2) {
+        if (call(807)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4Nuiv(int arg0, IntBuffer arg1) {
+        if (call(808)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4Nusv(int arg0, short[] arg1, int arg2) {
+        if (call(809)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4Nusv(int arg0, ShortBuffer arg1) {
+        if (call(810)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4bv(int arg0, byte[] arg1, int arg2) {
+        if (call(811)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4bv(int arg0, ByteBuffer arg1) {
+        if (call(812)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4d(int arg0, double arg1, double arg2, double arg3, double arg4) {
+        if (call(813)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4dv(int arg0, double[] arg1, int arg2) {
+        if (call(814)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4dv(int arg0, DoubleBuffer arg1) {
+        if (call(815)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4f(int arg0, float arg1, float arg2, float arg3, float arg4) {
+        if (call(816)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4fv(int arg0, float[] arg1, int arg2) {
+        if (call(817)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4fv(int arg0, FloatBuffer arg1) {
+        if (call(818)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4iv(int arg0, int[] arg1, int arg2) {
+        if (call(819)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4iv(int arg0, IntBuffer arg1) {
+        if (call(820)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4s(int arg0, short arg1, short arg2, short arg3, short arg4) {
+        if (call(821)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4sv(int arg0, short[] arg1, int arg2) {
+        if (call(822)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4sv(int arg0, ShortBuffer arg1) {
+        if (call(823)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4ubv(int arg0, byte[] arg1, int arg2) {
+        if (call(824)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4ubv(int arg0, ByteBuffer arg1) {
+        if (call(825)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4uiv(int arg0, int[] arg1, int arg2) {
+        if (call(826)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4uiv(int arg0, IntBuffer arg1) {
+        if (call(827)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4usv(int arg0, short[] arg1, int arg2) {
+        if (call(828)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttrib4usv(int arg0, ShortBuffer arg1) {
+        if (call(829)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribBinding(int arg0, int arg1) {
+        if (call(830)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribDivisor(int arg0, int arg1) {
+        if (call(831)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribFormatNV(int arg0, int arg1, int arg2, boolean arg3, int arg4) {
+        if (call(832)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttribFormat(int arg0, int arg1, int arg2, boolean arg3, int arg4) {
+        if (call(833)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI1i(int arg0, int arg1) {
+        if (call(834)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI1iv(int arg0, int[] arg1, int arg2) {
+        if (call(835)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI1iv(int arg0, IntBuffer arg1) {
+        if (call(836)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI1ui(int arg0, int arg1) {
+        if (call(837)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI1uiv(int arg0, int[] arg1, int arg2) {
+        if (call(838)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI1uiv(int arg0, IntBuffer arg1) {
+        if (call(839)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI2i(int arg0, int arg1, int arg2) {
+        if (call(840)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI2iv(int arg0, int[] arg1, int arg2) {
+        if (call(841)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI2iv(int arg0, IntBuffer arg1) {
+        if (call(842)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI2ui(int arg0, int arg1, int arg2) {
+        if (call(843)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI2uiv(int arg0, int[] arg1, int arg2) {
+        if (call(844)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI2uiv(int arg0, IntBuffer arg1) {
+        if (call(845)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI3i(int arg0, int arg1, int arg2, int arg3) {
+        if (call(846)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI3iv(int arg0, int[] arg1, int arg2) {
+        if (call(847)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI3iv(int arg0, IntBuffer arg1) {
+        if (call(848)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI3ui(int arg0, int arg1, int arg2, int arg3) {
+        if (call(849)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI3uiv(int arg0, int[] arg1, int arg2) {
+        if (call(850)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI3uiv(int arg0, IntBuffer arg1) {
+        if (call(851)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4bv(int arg0, byte[] arg1, int arg2) {
+        if (call(852)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4bv(int arg0, ByteBuffer arg1) {
+        if (call(853)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4i(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(854)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4iv(int arg0, int[] arg1, int arg2) {
+        if (call(855)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4iv(int arg0, IntBuffer arg1) {
+        if (call(856)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4sv(int arg0, short[] arg1, int arg2) {
+        if (call(857)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4sv(int arg0, ShortBuffer arg1) {
+        if (call(858)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4ubv(int arg0, byte[] arg1, int arg2) {
+        if (call(859)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4ubv(int arg0, ByteBuffer arg1) {
+        if (call(860)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4ui(int arg0, int arg1, int arg2, int arg3, int arg4) {
+        if (call(861)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4uiv(int arg0, int[] arg1, int arg2) {
+        if (call(862)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4uiv(int arg0, IntBuffer arg1) {
+        if (call(863)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4usv(int arg0, short[] arg1, int arg2) {
+        if (call(864)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribI4usv(int arg0, ShortBuffer arg1) {
+        if (call(865)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribIFormatNV(int arg0, int arg1, int arg2, int arg3) {
+        if (call(866)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttribIFormat(int arg0, int arg1, int arg2, int arg3) {
+        if (call(867)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttribIPointer(int arg0, int arg1, int arg2, int arg3, long arg4) {
+        if (call(868)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttribL1d(int arg0, double arg1) {
+        if (call(869)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribL1dv(int arg0, double[] arg1, int arg2) {
+        if (call(870)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribL1dv(int arg0, DoubleBuffer arg1) {
+        if (call(871)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribL2d(int arg0, double arg1, double arg2) {
+        if (call(872)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribL2dv(int arg0, double[] arg1, int arg2) {
+        if (call(873)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribL2dv(int arg0, DoubleBuffer arg1) {
+        if (call(874)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribL3d(int arg0, double arg1, double arg2, double arg3) {
+        if (call(875)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttribL3dv(int arg0, double[] arg1, int arg2) {
+        if (call(876)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribL3dv(int arg0, DoubleBuffer arg1) {
+        if (call(877)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribL4d(int arg0, double arg1, double arg2, double arg3, double arg4) {
+        if (call(878)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttribL4dv(int arg0, double[] arg1, int arg2) {
+        if (call(879)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glVertexAttribL4dv(int arg0, DoubleBuffer arg1) {
+        if (call(880)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexAttribLPointer(int arg0, int arg1, int arg2, int arg3, long arg4) {
+        if (call(881)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttribP1ui(int arg0, int arg1, boolean arg2, int arg3) {
+        if (call(882)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttribP1uiv(int arg0, int arg1, boolean arg2, int[] arg3, int arg4) {
+        if (call(883)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttribP1uiv(int arg0, int arg1, boolean arg2, IntBuffer arg3) {
+        if (call(884)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttribP2ui(int arg0, int arg1, boolean arg2, int arg3) {
+        if (call(885)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttribP2uiv(int arg0, int arg1, boolean arg2, int[] arg3, int arg4) {
+        if (call(886)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttribP2uiv(int arg0, int arg1, boolean arg2, IntBuffer arg3) {
+        if (call(887)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttribP3ui(int arg0, int arg1, boolean arg2, int arg3) {
+        if (call(888)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttribP3uiv(int arg0, int arg1, boolean arg2, int[] arg3, int arg4) {
+        if (call(889)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttribP3uiv(int arg0, int arg1, boolean arg2, IntBuffer arg3) {
+        if (call(890)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttribP4ui(int arg0, int arg1, boolean arg2, int arg3) {
+        if (call(891)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttribP4uiv(int arg0, int arg1, boolean arg2, int[] arg3, int arg4) {
+        if (call(892)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glVertexAttribP4uiv(int arg0, int arg1, boolean arg2, IntBuffer arg3) {
+        if (call(893)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glVertexAttribPointer(int arg0, int arg1, int arg2, boolean arg3, int arg4, long arg5) {
+        if (call(894)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+            record(arg5);
+        }
+    }
+
+    @Override
+    public void glVertexAttribPointer(GLArrayData arg0) {
+        if (call(895)) {
+            record(arg0);
+        }
+    }
+
+    @Override
+    public void glVertexBindingDivisor(int arg0, int arg1) {
+        if (call(896)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glVertexFormatNV(int arg0, int arg1, int arg2) {
+        if (call(897)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glViewportArrayv(int arg0, int arg1, float[] arg2, int arg3) {
+        if (call(898)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glViewportArrayv(int arg0, int arg1, FloatBuffer arg2) {
+        if (call(899)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glViewportIndexedf(int arg0, float arg1, float arg2, float arg3, float arg4) {
+        if (call(900)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+            record(arg4);
+        }
+    }
+
+    @Override
+    public void glViewportIndexedfv(int arg0, float[] arg1, int arg2) {
+        if (call(901)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public void glViewportIndexedfv(int arg0, FloatBuffer arg1) {
+        if (call(902)) {
+            record(arg0);
+            record(arg1);
+        }
+    }
+
+    @Override
+    public void glViewport(int arg0, int arg1, int arg2, int arg3) {
+        if (call(903)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+    }
+
+    @Override
+    public void glWaitSync(long arg0, int arg1, long arg2) {
+        if (call(904)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+        }
+    }
+
+    @Override
+    public boolean hasBasicFBOSupport() {
+        call(905);
+        return false;
+    }
+
+    @Override
+    public boolean hasFullFBOSupport() {
+        call(906);
+        return false;
+    }
+
+    @Override
+    public boolean hasGLSL() {
+        call(907);
+        return true;
+    }
+
+    @Override
+    public boolean isExtensionAvailable(String arg0) {
+        if (call(908)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isFunctionAvailable(String arg0) {
+        if (call(909)) {
+            record(arg0);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isGL2ES1() {
+        call(910);
+        return false;
+    }
+
+    @Override
+    public boolean isGL2ES2() {
+        call(911);
+        return true;
+    }
+
+    @Override
+    public boolean isGL2ES3() {
+        call(912);
+        return true;
+    }
+
+    @Override
+    public boolean isGL2GL3() {
+        call(913);
+        return true;
+    }
+
+    @Override
+    public boolean isGL2() {
+        call(914);
+        return false;
+    }
+
+    @Override
+    public boolean isGL3ES3() {
+        call(915);
+        return false;
+    }
+
+    @Override
+    public boolean isGL3() {
+        call(916);
+        return true;
+    }
+
+    @Override
+    public boolean isGL3bc() {
+        call(917);
+        return false;
+    }
+
+    @Override
+    public boolean isGL3core() {
+        call(918);
+        return true;
+    }
+
+    @Override
+    public boolean isGL4ES3() {
+        call(919);
+        return false;
+    }
+
+    @Override
+    public boolean isGL4() {
+        call(920);
+        return false;
+    }
+
+    @Override
+    public boolean isGL4bc() {
+        call(921);
+        return false;
+    }
+
+    @Override
+    public boolean isGL4core() {
+        call(922);
+        return false;
+    }
+
+    @Override
+    public boolean isGLES1() {
+        call(923);
+        return false;
+    }
+
+    @Override
+    public boolean isGLES2Compatible() {
+        call(924);
+        return true;
+    }
+
+    @Override
+    public boolean isGLES2() {
+        call(925);
+        return false;
+    }
+
+    @Override
+    public boolean isGLES31Compatible() {
+        call(926);
+        return false;
+    }
+
+    @Override
+    public boolean isGLES32Compatible() {
+        call(927);
+        return false;
+    }
+
+    @Override
+    public boolean isGLES3Compatible() {
+        call(928);
+        return true;
+    }
+
+    @Override
+    public boolean isGLES3() {
+        call(929);
+        return false;
+    }
+
+    @Override
+    public boolean isGLES() {
+        call(930);
+        return false;
+    }
+
+    @Override
+    public boolean isGL() {
+        call(931);
+        return true;
+    }
+
+    @Override
+    public boolean isGLcore() {
+        call(932);
+        return true;
+    }
+
+    @Override
+    public boolean isNPOTTextureAvailable() {
+        call(933);
+        return true;
+    }
+
+    @Override
+    public boolean isPBOPackBound() {
+        call(934);
+        return false;
+    }
+
+    @Override
+    public boolean isPBOUnpackBound() {
+        call(935);
+        return false;
+    }
+
+    @Override
+    public boolean isTextureFormatBGRA8888Available() {
+        call(936);
+        return true;
+    }
+
+    @Override
+    public boolean isVBOArrayBound() {
+        call(937);
+        return false;
+    }
+
+    @Override
+    public boolean isVBOElementArrayBound() {
+        call(938);
+        return false;
+    }
+
+    @Override
+    public GLBufferStorage mapBufferRange(int arg0, long arg1, long arg2, int arg3) {
+        if (call(939)) {
+            record(arg0);
+            record(arg1);
+            record(arg2);
+            record(arg3);
+        }
+        return null;
+    }
+
+    @Override
+    public GLBufferStorage mapBuffer(int arg0, int arg1) {
+        if (call(940)) {
+            record(arg0);
+            record(arg1);
+        }
+        return null;
+    }
+
+    @Override
+    public void setSwapInterval(int arg0) {
+        if (call(941)) {
+            record(arg0);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+import com.jogamp.opengl.GLAutoDrawable;
+
+/**
+ * Calls display() of a drawable only when the scene has changed, instead of
+ * at a fixed frame rate like FPSAnimator. Input, animations and finished loads
+ * call requestRedraw(), the frames are drawn on the thread of the scheduler at
+ * most at the maximum frame rate. Requests arriving during a frame are
+ * combined into one further frame. requestRedraw() never blocks, so input
+ * stays responsive while a heavy frame is drawn.
+ *
+ * With JOGL single-threading disabled (jogl.1thread=false) the thread of the
+ * scheduler is the render thread: it is the only thread using the GL context.
+ *
+ * Without requests the thread waits, optionally an idle frame rate draws a
+ * frame now and then anyway. In continuous mode every frame is drawn at the
+ * maximum frame rate, like FPSAnimator.
+ */
+public class RedrawScheduler {
+
+    private final GLAutoDrawable drawable;
+    private final long minFramePeriod; // nanoseconds
+    private final long idleFramePeriod; // nanoseconds, 0: no idle frames
+    private final Object lock = new Object();
+    private volatile boolean redrawRequested;
+    private volatile boolean continuous;
+    private volatile boolean running;
+    private Thread thread;
+    private volatile long frameCount;
+
+    /**
+     * Creates a scheduler, drawing starts with start().
+     * @param drawable  Drawable to display
+     * @param maxFps    Maximum frame rate, the frame rate in continuous mode
+     * @param idleFps   Frame rate without redraw requests, 0 to draw nothing
+     */
+    public RedrawScheduler(GLAutoDrawable drawable, int maxFps, float idleFps) {
+        this.drawable = drawable;
+        minFramePeriod = 1000000000L / Math.max(1, maxFps);
+        idleFramePeriod = idleFps > 0 ? Math.max(minFramePeriod, (long) (1e9 / idleFps)) : 0;
+    }
+
+    /**
+     * Starts the drawing thread, the first frame is drawn immediately.
+     */
+    public synchronized void start() {
+        if (running)
+            return;
+        running = true;
+        redrawRequested = true;
+        thread = new Thread(this::run, "Redraw scheduler");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Stops the drawing thread after the current frame.
+     */
+    public synchronized void stop() {
+        if (!running)
+            return;
+        running = false;
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public boolean isStarted() {
+        return running;
+    }
+
+    /**
+     * Marks the scene as changed, a frame is drawn as soon as the maximum frame rate allows.
+     * Can be called from any thread.
+     */
+    public void requestRedraw() {
+        // Requests of the same frame, eg. many mouse events, do not need the lock
+        if (redrawRequested)
+            return;
+        synchronized (lock) {
+            if (!redrawRequested) {
+                redrawRequested = true;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Switches between drawing every frame and drawing on request.
+     * @param continuous    true: every frame at the maximum frame rate
+     */
+    public void setContinuous(boolean continuous) {
+        this.continuous = continuous;
+        requestRedraw();
+    }
+
+    public boolean isContinuous() {
+        return continuous;
+    }
+
+    /**
+     * Returns the number of frames drawn since start()
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    private void run() {
+        long lastFrame = System.nanoTime() - minFramePeriod;
+        while (running) {
+            synchronized (lock) {
+                try {
+                    // Waits for a request or the next idle frame
+                    while (running && !redrawRequested && !continuous) {
+                        if (idleFramePeriod == 0) {
+                            lock.wait();
+                        } else {
+                            long remaining = lastFrame + idleFramePeriod - System.nanoTime();
+                            if (remaining <= 0)
+                                break;
+                            lock.wait(remaining / 1000000L, (int) (remaining % 1000000L));
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+                if (!running)
+                    return;
+                // Requests arriving from now on need a further frame
+                redrawRequested = false;
+            }
+            long wait = lastFrame + minFramePeriod - System.nanoTime();
+            if (wait > 0) {
+                try {
+                    Thread.sleep(wait / 1000000L, (int) (wait % 1000000L));
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+            lastFrame = System.nanoTime();
+            drawable.display();
+            frameCount++;
+        }
+    }
+}
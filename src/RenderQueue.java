@@ -0,0 +1,273 @@
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3;
+
+import java.util.Arrays;
+
+/**
+ * Collects the draws of a frame and executes them in an order that minimizes
+ * state changes. Every draw gets a 64 bit sort key, the keys are sorted with a
+ * radix sort and the draws are executed in key order, switching program,
+ * texture and material only when they change.
+ *
+ * Key layout (most significant bits first):
+ * pass (2) | program (8) | texture (8) | material (8) | vertex array (8) | depth (14) | draw (16)
+ * Opaque draws are sorted by state and front-to-back within the same state,
+ * transparent draws back-to-front: pass (2) | inverted depth (14) | state (32) | draw (16).
+ * Only the lowest 8 bits of the OpenGL-IDs are used for sorting, equal bits of
+ * different objects only cost an additional state change.
+ *
+ * A draw can depend on an occlusion query (see OcclusionCuller), it is then
+ * executed with glBeginConditionalRender and dropped by the GPU if the query
+ * found its object hidden.
+ *
+ * All storage is preallocated, submitting, sorting and executing the draws of
+ * a frame does not allocate once the queue has grown to the number of draws.
+ */
+public class RenderQueue {
+
+    /** Opaque geometry, drawn first */
+    public static final int PASS_OPAQUE = 0;
+    /** Transparent geometry, drawn after the opaque geometry */
+    public static final int PASS_TRANSPARENT = 1;
+
+    private static final int MAX_DRAWS = 1 << 16;
+    private static final int DEPTH_BITS = 14;
+    private static final int MAX_DEPTH = (1 << DEPTH_BITS) - 1;
+    // Below this number of draws insertion sort is faster than the radix sort
+    private static final int INSERTION_SORT_THRESHOLD = 32;
+
+    private final float farDepth;
+    private long[] keys;
+    private long[] sortBuffer;
+    private final int[] digitCounts = new int[8 * 256];
+    private Renderable[] renderables;
+    private int[] programIDs;
+    private int[] textureIDs;
+    private int[] materialSlots;
+    private int[] occlusionQueries;
+    private int drawCount;
+
+    private int programSwitches;
+    private int textureSwitches;
+    private int materialSwitches;
+    private long triangleCount;
+
+    /**
+     * Creates an empty queue.
+     * @param initialCapacity   Expected number of draws per frame
+     * @param farDepth          Distance of the far plane, depths are quantized between 0 and farDepth
+     */
+    public RenderQueue(int initialCapacity, float farDepth) {
+        this.farDepth = farDepth;
+        allocate(Math.max(1, Math.min(initialCapacity, MAX_DRAWS)));
+    }
+
+    /**
+     * Removes all draws, at the start of a frame.
+     */
+    public void clear() {
+        drawCount = 0;
+    }
+
+    /**
+     * Adds a draw.
+     * @param pass          PASS_OPAQUE or PASS_TRANSPARENT
+     * @param renderable    Geometry to draw
+     * @param program       Shader program
+     * @param textureID     OpenGL-ID of the texture bound to GL_TEXTURE_2D of unit 0
+     * @param materialSlot  Slot in the MaterialUniformBuffer, -1 for none
+     * @param depth         Distance of the object from the camera (view space)
+     */
+    public void submit(int pass, Renderable renderable, ShaderProgram program,
+                       int textureID, int materialSlot, float depth) {
+        submit(pass, renderable, program, textureID, materialSlot, depth, 0);
+    }
+
+    /**
+     * Adds a draw that is only executed if an occlusion query passed.
+     * @param pass              PASS_OPAQUE or PASS_TRANSPARENT
+     * @param renderable        Geometry to draw
+     * @param program           Shader program
+     * @param textureID         OpenGL-ID of the texture bound to GL_TEXTURE_2D of unit 0
+     * @param materialSlot      Slot in the MaterialUniformBuffer, -1 for none
+     * @param depth             Distance of the object from the camera (view space)
+     * @param occlusionQuery    Query for glBeginConditionalRender, 0 to draw in any case
+     */
+    public void submit(int pass, Renderable renderable, ShaderProgram program,
+                       int textureID, int materialSlot, float depth, int occlusionQuery) {
+        if (drawCount == keys.length) {
+            if (drawCount == MAX_DRAWS)
+                throw new IllegalStateException("Maximum number of draws reached: " + MAX_DRAWS);
+            allocate(keys.length * 2);
+        }
+        int draw = drawCount++;
+        renderables[draw] = renderable;
+        programIDs[draw] = program.getShaderProgramID();
+        textureIDs[draw] = textureID;
+        materialSlots[draw] = materialSlot;
+        occlusionQueries[draw] = occlusionQuery;
+
+        long state = (long) (programIDs[draw] & 0xFF) << 24
+                | (textureID & 0xFF) << 16
+                | (materialSlot & 0xFF) << 8
+                | (renderable.getVertexArrayID() & 0xFF);
+        long quantizedDepth = quantizeDepth(depth);
+        if (pass == PASS_OPAQUE)
+            keys[draw] = (long) pass << 62 | state << 30 | quantizedDepth << 16 | draw;
+        else
+            keys[draw] = (long) pass << 62 | (MAX_DEPTH - quantizedDepth) << 48 | state << 16 | draw;
+    }
+
+    /**
+     * Sorts the draws by their keys.
+     */
+    public void sort() {
+        if (drawCount < INSERTION_SORT_THRESHOLD)
+            insertionSort();
+        else
+            radixSort();
+    }
+
+    /**
+     * Executes the draws in sorted order.
+     * @param gl        OpenGL context
+     * @param materials Materials of the draws
+     */
+    public void execute(GL3 gl, MaterialUniformBuffer materials) {
+        programSwitches = 0;
+        textureSwitches = 0;
+        materialSwitches = 0;
+        triangleCount = 0;
+        int program = -1;
+        int texture = -1;
+        int material = -1;
+        gl.glActiveTexture(GL.GL_TEXTURE0);
+        for (int i = 0; i < drawCount; i++) {
+            int draw = (int) (keys[i] & 0xFFFF);
+            if (programIDs[draw] != program) {
+                program = programIDs[draw];
+                gl.glUseProgram(program);
+                programSwitches++;
+            }
+            if (textureIDs[draw] != texture) {
+                texture = textureIDs[draw];
+                gl.glBindTexture(GL.GL_TEXTURE_2D, texture);
+                textureSwitches++;
+            }
+            if (materialSlots[draw] != material && materialSlots[draw] >= 0) {
+                material = materialSlots[draw];
+                materials.bind(gl, material);
+                materialSwitches++;
+            }
+            triangleCount += renderables[draw].getTriangleCount();
+            if (occlusionQueries[draw] != 0) {
+                // Drawn if the result is not available yet, the CPU never waits
+                gl.glBeginConditionalRender(occlusionQueries[draw], GL3.GL_QUERY_NO_WAIT);
+                renderables[draw].draw(gl);
+                gl.glEndConditionalRender();
+            } else {
+                renderables[draw].draw(gl);
+            }
+        }
+    }
+
+    public int getDrawCount() {
+        return drawCount;
+    }
+
+    /**
+     * Returns the number of program changes of the last execute()
+     */
+    public int getProgramSwitches() {
+        return programSwitches;
+    }
+
+    /**
+     * Returns the number of texture changes of the last execute()
+     */
+    public int getTextureSwitches() {
+        return textureSwitches;
+    }
+
+    /**
+     * Returns the number of material changes of the last execute()
+     */
+    public int getMaterialSwitches() {
+        return materialSwitches;
+    }
+
+    /**
+     * Returns the number of triangles submitted by the last execute(),
+     * including draws dropped by conditional rendering
+     */
+    public long getTriangleCount() {
+        return triangleCount;
+    }
+
+    private long quantizeDepth(float depth) {
+        float normalized = depth / farDepth;
+        if (!(normalized > 0f))
+            return 0;
+        if (normalized >= 1f)
+            return MAX_DEPTH;
+        return (long) (normalized * MAX_DEPTH);
+    }
+
+    private void insertionSort() {
+        for (int i = 1; i < drawCount; i++) {
+            long key = keys[i];
+            int j = i - 1;
+            while (j >= 0 && Long.compareUnsigned(keys[j], key) > 0) {
+                keys[j + 1] = keys[j];
+                j--;
+            }
+            keys[j + 1] = key;
+        }
+    }
+
+    // LSD radix sort with 8 bit digits, digits equal in all keys are skipped
+    private void radixSort() {
+        Arrays.fill(digitCounts, 0);
+        for (int i = 0; i < drawCount; i++) {
+            long key = keys[i];
+            for (int digit = 0; digit < 8; digit++)
+                digitCounts[digit << 8 | (int) (key >>> (digit * 8)) & 0xFF]++;
+        }
+        long[] from = keys;
+        long[] to = sortBuffer;
+        for (int digit = 0; digit < 8; digit++) {
+            int countsOffset = digit << 8;
+            int shift = digit * 8;
+            if (digitCounts[countsOffset | (int) (from[0] >>> shift) & 0xFF] == drawCount)
+                continue;
+            // counts to start positions
+            int position = 0;
+            for (int value = 0; value < 256; value++) {
+                int count = digitCounts[countsOffset | value];
+                digitCounts[countsOffset | value] = position;
+                position += count;
+            }
+            for (int i = 0; i < drawCount; i++) {
+                long key = from[i];
+                to[digitCounts[countsOffset | (int) (key >>> shift) & 0xFF]++] = key;
+            }
+            long[] swap = from;
+            from = to;
+            to = swap;
+        }
+        if (from != keys) {
+            sortBuffer = keys;
+            keys = from;
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = keys == null ? new long[capacity] : Arrays.copyOf(keys, capacity);
+        sortBuffer = new long[capacity];
+        renderables = renderables == null ? new Renderable[capacity] : Arrays.copyOf(renderables, capacity);
+        programIDs = programIDs == null ? new int[capacity] : Arrays.copyOf(programIDs, capacity);
+        textureIDs = textureIDs == null ? new int[capacity] : Arrays.copyOf(textureIDs, capacity);
+        materialSlots = materialSlots == null ? new int[capacity] : Arrays.copyOf(materialSlots, capacity);
+        occlusionQueries = occlusionQueries == null ? new int[capacity] : Arrays.copyOf(occlusionQueries, capacity);
+    }
+}
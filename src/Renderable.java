@@ -0,0 +1,25 @@
+import com.jogamp.opengl.GL3;
+
+/**
+ * Geometry that draws itself with its own vertex array object
+ * (InstancedMesh and its ranges, IndirectScene).
+ * Shader program, uniforms and textures are set by the caller.
+ */
+public interface Renderable {
+
+    /**
+     * Issues the draw call(s).
+     * @param gl    OpenGL context
+     */
+    void draw(GL3 gl);
+
+    /**
+     * Returns the OpenGL-ID of the vertex array object bound by draw()
+     */
+    int getVertexArrayID();
+
+    /**
+     * Returns the number of triangles drawn by draw()
+     */
+    long getTriangleCount();
+}
@@ -0,0 +1,200 @@
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Hierarchy of the objects of a scene. Every node has a transform relative to
+ * its parent and optionally a mesh with material and texture. Nodes without a
+ * mesh only group their children, eg. a table and the cards lying on it.
+ *
+ * Nodes are identified by their index. All data is stored in flat arrays, the
+ * local and world matrices of all nodes in two contiguous float arrays
+ * (16 floats per node, column major). A node is always added after its parent,
+ * so one pass in node order computes all world matrices.
+ *
+ * update() recomputes the world matrices of the nodes whose local transform
+ * changed since the last update and of their descendants only. Without changes
+ * it returns at once, so a static scene costs nothing per frame.
+ */
+public class SceneGraph {
+
+    /** Parent of root nodes */
+    public static final int NO_PARENT = -1;
+    /** Mesh of nodes that are not drawn */
+    public static final int NO_MESH = -1;
+
+    private int nodeCount;
+    private int[] parents;
+    private int[] firstChildren;
+    private int[] nextSiblings;
+    private int[] meshes;
+    private int[] materialSlots;
+    private int[] textureIDs;
+    private float[] localMatrices;
+    private float[] worldMatrices;
+    // Local transform changed since the last update()
+    private boolean[] dirty;
+    // World matrix recomputed by the running update()
+    private boolean[] changed;
+    // Lowest dirty node, no node before it is affected by an update
+    private int firstDirty = Integer.MAX_VALUE;
+
+    /**
+     * Creates an empty scene graph.
+     * @param initialCapacity   Expected number of nodes
+     */
+    public SceneGraph(int initialCapacity) {
+        allocate(Math.max(1, initialCapacity));
+    }
+
+    /**
+     * Adds a node without mesh.
+     * @param parent            Parent node, NO_PARENT for a root node
+     * @param localTransform    Column major 4x4 matrix relative to the parent, null for identity
+     * @return                  ID of the node
+     */
+    public int addNode(int parent, float[] localTransform) {
+        if (parent < NO_PARENT || parent >= nodeCount)
+            throw new IllegalArgumentException("Invalid parent node: " + parent);
+        if (nodeCount == parents.length)
+            allocate(nodeCount * 2);
+        int node = nodeCount++;
+        parents[node] = parent;
+        firstChildren[node] = -1;
+        nextSiblings[node] = -1;
+        if (parent != NO_PARENT) {
+            nextSiblings[node] = firstChildren[parent];
+            firstChildren[parent] = node;
+        }
+        meshes[node] = NO_MESH;
+        materialSlots[node] = -1;
+        textureIDs[node] = 0;
+        setLocalTransform(node, localTransform);
+        return node;
+    }
+
+    /**
+     * Adds a node with a mesh.
+     * @param parent            Parent node, NO_PARENT for a root node
+     * @param localTransform    Column major 4x4 matrix relative to the parent, null for identity
+     * @param mesh              ID of the mesh (defined by the renderer)
+     * @param materialSlot      Slot of the material in the MaterialUniformBuffer
+     * @param textureID         OpenGL-ID of the texture
+     * @return                  ID of the node
+     */
+    public int addNode(int parent, float[] localTransform, int mesh, int materialSlot, int textureID) {
+        int node = addNode(parent, localTransform);
+        meshes[node] = mesh;
+        materialSlots[node] = materialSlot;
+        textureIDs[node] = textureID;
+        return node;
+    }
+
+    /**
+     * Sets the transform of a node relative to its parent. The world matrices of
+     * the node and its descendants are recomputed by the next update().
+     * @param node              ID of the node
+     * @param localTransform    Column major 4x4 matrix, null for identity
+     */
+    public void setLocalTransform(int node, float[] localTransform) {
+        int offset = node * 16;
+        if (localTransform == null) {
+            Mat4.setIdentity(localMatrices, offset);
+        } else {
+            System.arraycopy(localTransform, 0, localMatrices, offset, 16);
+        }
+        dirty[node] = true;
+        firstDirty = Math.min(firstDirty, node);
+    }
+
+    /**
+     * Recomputes the world matrices of changed nodes and their descendants.
+     * @param changedNodes  Called for every node with a new world matrix, may be null
+     * @return              Number of nodes with a new world matrix
+     */
+    public int update(IntConsumer changedNodes) {
+        if (firstDirty == Integer.MAX_VALUE)
+            return 0;
+        int changedCount = 0;
+        for (int node = firstDirty; node < nodeCount; node++) {
+            int parent = parents[node];
+            boolean parentChanged = parent != NO_PARENT && parent >= firstDirty && changed[parent];
+            changed[node] = dirty[node] || parentChanged;
+            if (!changed[node])
+                continue;
+            dirty[node] = false;
+            if (parent == NO_PARENT)
+                System.arraycopy(localMatrices, node * 16, worldMatrices, node * 16, 16);
+            else
+                Mat4.multiply(worldMatrices, parent * 16, localMatrices, node * 16, worldMatrices, node * 16);
+            changedCount++;
+            if (changedNodes != null)
+                changedNodes.accept(node);
+        }
+        firstDirty = Integer.MAX_VALUE;
+        return changedCount;
+    }
+
+    /**
+     * Copies the world matrix of a node (valid after update()).
+     * @param node      ID of the node
+     * @param matrix    Receives the column major 4x4 matrix
+     */
+    public void getWorldMatrix(int node, float[] matrix) {
+        System.arraycopy(worldMatrices, node * 16, matrix, 0, 16);
+    }
+
+    /**
+     * Returns the world matrices of all nodes, 16 floats per node in node order.
+     * The array is replaced when nodes are added.
+     */
+    public float[] getWorldMatrices() {
+        return worldMatrices;
+    }
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public int getParent(int node) {
+        return parents[node];
+    }
+
+    /**
+     * Returns the most recently added child of a node, -1 for none
+     */
+    public int getFirstChild(int node) {
+        return firstChildren[node];
+    }
+
+    /**
+     * Returns the next child of the parent of a node, -1 for none
+     */
+    public int getNextSibling(int node) {
+        return nextSiblings[node];
+    }
+
+    public int getMesh(int node) {
+        return meshes[node];
+    }
+
+    public int getMaterialSlot(int node) {
+        return materialSlots[node];
+    }
+
+    public int getTextureID(int node) {
+        return textureIDs[node];
+    }
+
+    private void allocate(int capacity) {
+        parents = parents == null ? new int[capacity] : Arrays.copyOf(parents, capacity);
+        firstChildren = firstChildren == null ? new int[capacity] : Arrays.copyOf(firstChildren, capacity);
+        nextSiblings = nextSiblings == null ? new int[capacity] : Arrays.copyOf(nextSiblings, capacity);
+        meshes = meshes == null ? new int[capacity] : Arrays.copyOf(meshes, capacity);
+        materialSlots = materialSlots == null ? new int[capacity] : Arrays.copyOf(materialSlots, capacity);
+        textureIDs = textureIDs == null ? new int[capacity] : Arrays.copyOf(textureIDs, capacity);
+        localMatrices = localMatrices == null ? new float[capacity * 16] : Arrays.copyOf(localMatrices, capacity * 16);
+        worldMatrices = worldMatrices == null ? new float[capacity * 16] : Arrays.copyOf(worldMatrices, capacity * 16);
+        dirty = dirty == null ? new boolean[capacity] : Arrays.copyOf(dirty, capacity);
+        changed = changed == null ? new boolean[capacity] : Arrays.copyOf(changed, capacity);
+    }
+}
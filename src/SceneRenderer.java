@@ -0,0 +1,272 @@
+import java.nio.FloatBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Submits the nodes of a SceneGraph to a RenderQueue. Every mesh of the scene
+ * is an InstancedMesh and every node with a mesh is one of its instances.
+ * Nodes with the same mesh, material and texture form a group that is drawn
+ * with one instanced draw call (a range of the instances of the mesh).
+ *
+ * The world bounds of the nodes are kept in a bounding volume hierarchy, only
+ * the nodes inside the view frustum become instances. The instance buffers are
+ * only rewritten when the visible nodes or their world matrices change.
+ *
+ * Usage: build the scene graph, call build() once, then update() and submit()
+ * every frame. Nodes added after build() are not drawn.
+ */
+public class SceneRenderer {
+
+    private final SceneGraph scene;
+    private final InstancedMesh[] meshes;
+    private final BoundingVolumeHierarchy index = new BoundingVolumeHierarchy();
+
+    // Objects are the nodes with a mesh, object IDs are the IDs in index
+    private int objectCount;
+    private int[] nodeOfObject;
+    private int[] objectOfNode;
+    private int[] groupOfObject;
+
+    private int groupCount;
+    private InstancedMesh.Range[] groupRanges;
+    // Range of every group or the range measured by a GpuProfiler
+    private Renderable[] groupRenderables;
+    private BoundingBox[] groupBounds;
+    private int[] groupMaterialSlots;
+    private int[] groupTextureIDs;
+    private int[] groupOcclusionIDs;
+    // Start of every group in sortedObjects, groupCount + 1 entries
+    private int[] groupStarts;
+    private OcclusionCuller occlusionCuller;
+
+    private int[] visibleObjects;
+    private int[] lastVisibleObjects;
+    private int[] sortedObjects;
+    private int visibleObjectCount;
+    private int lastVisibleObjectCount = -1;
+    // World matrices changed since the instances were written
+    private boolean instancesChanged;
+
+    private final float[] matrix = new float[16];
+    private final BoundingBox worldBounds = new BoundingBox();
+    private final IntConsumer collectVisibleObject = object -> visibleObjects[visibleObjectCount++] = object;
+    private final IntConsumer updateObjectBounds = this::updateObjectBounds;
+
+    /**
+     * Creates a renderer for a scene.
+     * @param scene     Scene graph, the mesh IDs of its nodes are indices into meshes
+     * @param meshes    Uploaded meshes with enough instances for all nodes using them
+     */
+    public SceneRenderer(SceneGraph scene, InstancedMesh[] meshes) {
+        this.scene = scene;
+        this.meshes = meshes;
+    }
+
+    /**
+     * Computes the world matrices, creates the groups and builds the bounding
+     * volume hierarchy of all nodes with a mesh.
+     */
+    public void build() {
+        scene.update(null);
+        int nodeCount = scene.getNodeCount();
+        objectOfNode = new int[nodeCount];
+        nodeOfObject = new int[nodeCount];
+        groupOfObject = new int[nodeCount];
+        Map<Long, Integer> groups = new HashMap<Long, Integer>();
+        index.clear();
+        objectCount = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            int mesh = scene.getMesh(node);
+            if (mesh == SceneGraph.NO_MESH) {
+                objectOfNode[node] = -1;
+                continue;
+            }
+            long key = (long) mesh << 48 | (long) (scene.getMaterialSlot(node) & 0xFFFF) << 32
+                    | scene.getTextureID(node) & 0xFFFFFFFFL;
+            Integer group = groups.get(key);
+            if (group == null) {
+                group = groups.size();
+                groups.put(key, group);
+            }
+            computeWorldBounds(node);
+            int object = index.add(worldBounds);
+            objectOfNode[node] = object;
+            nodeOfObject[object] = node;
+            groupOfObject[object] = group;
+            objectCount++;
+        }
+        index.build();
+
+        groupCount = groups.size();
+        groupRanges = new InstancedMesh.Range[groupCount];
+        groupBounds = new BoundingBox[groupCount];
+        groupMaterialSlots = new int[groupCount];
+        groupTextureIDs = new int[groupCount];
+        groupOcclusionIDs = new int[groupCount];
+        groupStarts = new int[groupCount + 1];
+        for (int object = objectCount - 1; object >= 0; object--) {
+            int group = groupOfObject[object];
+            int node = nodeOfObject[object];
+            groupRanges[group] = new InstancedMesh.Range(meshes[scene.getMesh(node)]);
+            groupMaterialSlots[group] = scene.getMaterialSlot(node);
+            groupTextureIDs[group] = scene.getTextureID(node);
+        }
+        groupRenderables = new Renderable[groupCount];
+        for (int group = 0; group < groupCount; group++) {
+            groupBounds[group] = new BoundingBox();
+            groupRenderables[group] = groupRanges[group];
+        }
+
+        visibleObjects = new int[objectCount];
+        lastVisibleObjects = new int[objectCount];
+        sortedObjects = new int[objectCount];
+        lastVisibleObjectCount = -1;
+    }
+
+    /**
+     * Draws every group depending on an occlusion query of the culler.
+     * @param culler    Occlusion culler with room for getGroupCount() objects
+     */
+    public void setOcclusionCuller(OcclusionCuller culler) {
+        occlusionCuller = culler;
+        for (int group = 0; group < groupCount; group++)
+            groupOcclusionIDs[group] = culler.add(groupBounds[group]);
+    }
+
+    /**
+     * Measures the draw of every group as a pass of a profiler.
+     * @param profiler  GPU profiler, before its first frame
+     * @param meshNames Name of every mesh, the names of the passes
+     */
+    public void setProfiler(GpuProfiler profiler, String[] meshNames) {
+        int[] groupsPerMesh = new int[meshes.length];
+        for (int group = 0; group < groupCount; group++)
+            groupsPerMesh[meshOf(group)]++;
+        for (int group = 0; group < groupCount; group++) {
+            int mesh = meshOf(group);
+            String name = groupsPerMesh[mesh] > 1 ? meshNames[mesh] + " (group " + group + ")" : meshNames[mesh];
+            groupRenderables[group] = profiler.wrap(groupRanges[group], profiler.addPass(name));
+        }
+    }
+
+    private int meshOf(int group) {
+        return Arrays.asList(meshes).indexOf(groupRanges[group].getMesh());
+    }
+
+    /**
+     * Takes over changed transforms of the scene graph, at the start of a frame.
+     */
+    public void update() {
+        if (scene.update(updateObjectBounds) > 0) {
+            index.refit();
+            instancesChanged = true;
+        }
+    }
+
+    /**
+     * Adds one draw per group with visible nodes to a render queue.
+     * @param queue     Render queue of the frame
+     * @param frustum   View frustum of the frame
+     * @param mvMatrix  Column major model-view matrix
+     * @param program   Shader program built with the define INSTANCED
+     */
+    public void submit(RenderQueue queue, Frustum frustum, FloatBuffer mvMatrix, ShaderProgram program) {
+        visibleObjectCount = 0;
+        index.queryFrustum(frustum, collectVisibleObject);
+        if (instancesChanged || !sameObjects()) {
+            writeInstances();
+            int[] swap = lastVisibleObjects;
+            lastVisibleObjects = visibleObjects;
+            visibleObjects = swap;
+            lastVisibleObjectCount = visibleObjectCount;
+            instancesChanged = false;
+        }
+        for (int group = 0; group < groupCount; group++) {
+            if (groupRanges[group].getCount() == 0)
+                continue;
+            BoundingBox bounds = groupBounds[group];
+            int occlusionQuery = occlusionCuller != null ? occlusionCuller.queryFor(groupOcclusionIDs[group]) : 0;
+            queue.submit(RenderQueue.PASS_OPAQUE, groupRenderables[group], program,
+                    groupTextureIDs[group], groupMaterialSlots[group],
+                    viewDepth(mvMatrix, bounds.getCenterX(), bounds.getCenterY(), bounds.getCenterZ()),
+                    occlusionQuery);
+        }
+    }
+
+    public int getGroupCount() {
+        return groupCount;
+    }
+
+    public int getObjectCount() {
+        return objectCount;
+    }
+
+    /**
+     * Returns the number of nodes inside the view frustum of the last submit()
+     */
+    public int getVisibleObjectCount() {
+        return lastVisibleObjectCount;
+    }
+
+    // Writes the visible objects as instances, sorted by group
+    private void writeInstances() {
+        Arrays.fill(groupStarts, 0);
+        for (int i = 0; i < visibleObjectCount; i++)
+            groupStarts[groupOfObject[visibleObjects[i]] + 1]++;
+        for (int group = 0; group < groupCount; group++)
+            groupStarts[group + 1] += groupStarts[group];
+        for (int i = 0; i < visibleObjectCount; i++) {
+            int object = visibleObjects[i];
+            // Advances the start, afterwards groupStarts[g] is the end of group g
+            sortedObjects[groupStarts[groupOfObject[object]]++] = object;
+        }
+
+        for (InstancedMesh mesh : meshes)
+            mesh.clear();
+        int start = 0;
+        for (int group = 0; group < groupCount; group++) {
+            int end = groupStarts[group];
+            InstancedMesh mesh = groupRanges[group].getMesh();
+            groupRanges[group].set(mesh.getInstanceCount(), end - start);
+            groupBounds[group].setEmpty();
+            for (int i = start; i < end; i++) {
+                int node = nodeOfObject[sortedObjects[i]];
+                scene.getWorldMatrix(node, matrix);
+                mesh.addInstance(matrix, 0);
+                worldBounds.setTransformed(mesh.getMeshBounds(), matrix);
+                groupBounds[group].extend(worldBounds);
+            }
+            start = end;
+        }
+    }
+
+    private boolean sameObjects() {
+        if (visibleObjectCount != lastVisibleObjectCount)
+            return false;
+        for (int i = 0; i < visibleObjectCount; i++) {
+            if (visibleObjects[i] != lastVisibleObjects[i])
+                return false;
+        }
+        return true;
+    }
+
+    private void updateObjectBounds(int node) {
+        if (node >= objectOfNode.length || objectOfNode[node] < 0)
+            return;
+        computeWorldBounds(node);
+        index.setBounds(objectOfNode[node], worldBounds);
+    }
+
+    private void computeWorldBounds(int node) {
+        scene.getWorldMatrix(node, matrix);
+        worldBounds.setTransformed(meshes[scene.getMesh(node)].getMeshBounds(), matrix);
+    }
+
+    // Distance of a point in model coordinates from the camera along the view direction
+    private static float viewDepth(FloatBuffer mvMatrix, float x, float y, float z) {
+        int p = mvMatrix.position();
+        return -(mvMatrix.get(p + 2) * x + mvMatrix.get(p + 6) * y + mvMatrix.get(p + 10) * z + mvMatrix.get(p + 14));
+    }
+}
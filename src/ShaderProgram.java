@@ -49,8 +49,16 @@ import java.io.IOException;
  */
 
 public class ShaderProgram {
+    // GL_COMPLETION_STATUS_KHR (GL_KHR_parallel_shader_compile), not defined by JOGL 2.3
+    static final int GL_COMPLETION_STATUS = 0x91B1;
+
     int shaderProgramID;
     GL2ES2 gl;
+    // Shaders of a program whose compilation was started with beginCreateProgram()
+    private int pendingVertexShader;
+    private int pendingFragmentShader;
+    // Result of isLinkCompleted(), polled every frame
+    private final int[] completionStatus = new int[1];
 
     /** Construct shader program object for a defined OpenGL profile
      *
@@ -80,32 +88,56 @@ public class ShaderProgram {
      * @param path						Directory path where the shaders are located
      * @param vertexShaderFileName		File name of the vertex shader
      * @param fragmentShaderFileName	File name of the fragment shader
+     * @param defines					Preprocessor symbols defined in both shaders (eg. "INSTANCED")
      */
     public void loadShaderAndCreateProgram(String path,
                                            String vertexShaderFileName,
-                                           String fragmentShaderFileName) {
+                                           String fragmentShaderFileName,
+                                           String... defines) {
         // In the core profile each shader program must have a
         // vertex and a fragment shader
 
-        // Load and compile vertex shader
+        // Load vertex shader
         String vertexShaderString;
-        int vertexShader;
         String vertexPathAndFileName = path + vertexShaderFileName;
         System.out.println("Loading vertex shader from file: " + vertexPathAndFileName);
-        vertexShaderString = loadFileToString(vertexPathAndFileName);
-        vertexShader = compileShader(GL2ES2.GL_VERTEX_SHADER, vertexShaderString);
+        vertexShaderString = insertDefines(loadFileToString(vertexPathAndFileName), defines);
 
-        // Load and compile fragment shader
+        // Load fragment shader
         String fragmentShaderString;
-        int fragmentShader;
         String fragmentPathAndFileName = path + fragmentShaderFileName;
         System.out.println("Loading fragment shader from file: " + fragmentPathAndFileName);
-        fragmentShaderString = loadFileToString(fragmentPathAndFileName);
-        fragmentShader = compileShader(GL2ES2.GL_FRAGMENT_SHADER, fragmentShaderString);
+        fragmentShaderString = insertDefines(loadFileToString(fragmentPathAndFileName), defines);
+
+        createProgram(vertexShaderString, fragmentShaderString);
+    }
+
+    /**
+     * Compiles a vertex and a fragment shader and links them to a shader program
+     * @param vertexShaderString		Source code of the vertex shader
+     * @param fragmentShaderString		Source code of the fragment shader
+     */
+    public void createProgram(String vertexShaderString, String fragmentShaderString) {
+        createProgram(vertexShaderString, fragmentShaderString, null);
+    }
+
+    /**
+     * Compiles a vertex and a fragment shader and links them to a shader program
+     * whose binary can be stored in a program binary cache
+     * @param vertexShaderString		Source code of the vertex shader
+     * @param fragmentShaderString		Source code of the fragment shader
+     * @param binaryCache				Cache the binary is stored in afterwards (may be null)
+     */
+    public void createProgram(String vertexShaderString, String fragmentShaderString,
+                              ProgramBinaryCache binaryCache) {
+        int vertexShader = compileShader(GL2ES2.GL_VERTEX_SHADER, vertexShaderString);
+        int fragmentShader = compileShader(GL2ES2.GL_FRAGMENT_SHADER, fragmentShaderString);
 
         shaderProgramID = gl.glCreateProgram();
         gl.glAttachShader(shaderProgramID, vertexShader);
         gl.glAttachShader(shaderProgramID, fragmentShader);
+        if (binaryCache != null)
+            binaryCache.prepareForStore(shaderProgramID);
 
         gl.glLinkProgram(shaderProgramID);
 
@@ -116,6 +148,109 @@ public class ShaderProgram {
         gl.glDeleteShader(fragmentShader);
     }
 
+    /**
+     * Starts compiling and linking a shader program without waiting for the driver,
+     * the compile and link status is not queried until finishCreateProgram().
+     * With GL_KHR_parallel_shader_compile the driver compiles in background threads.
+     * @param vertexShaderString		Source code of the vertex shader
+     * @param fragmentShaderString		Source code of the fragment shader
+     * @param binaryCache				Cache the binary is stored in afterwards (may be null)
+     */
+    void beginCreateProgram(String vertexShaderString, String fragmentShaderString,
+                            ProgramBinaryCache binaryCache) {
+        pendingVertexShader = createShader(GL2ES2.GL_VERTEX_SHADER, vertexShaderString);
+        pendingFragmentShader = createShader(GL2ES2.GL_FRAGMENT_SHADER, fragmentShaderString);
+
+        shaderProgramID = gl.glCreateProgram();
+        gl.glAttachShader(shaderProgramID, pendingVertexShader);
+        gl.glAttachShader(shaderProgramID, pendingFragmentShader);
+        if (binaryCache != null)
+            binaryCache.prepareForStore(shaderProgramID);
+        gl.glLinkProgram(shaderProgramID);
+    }
+
+    /**
+     * Returns true if the driver has finished compiling and linking the program,
+     * i.e. finishCreateProgram() does not block.
+     * Without GL_KHR_parallel_shader_compile the driver cannot be asked, true is returned.
+     * @param parallelCompile	true if GL_KHR_parallel_shader_compile is available
+     */
+    boolean isLinkCompleted(boolean parallelCompile) {
+        if (!parallelCompile)
+            return true;
+        gl.glGetProgramiv(shaderProgramID, GL_COMPLETION_STATUS, completionStatus, 0);
+        return completionStatus[0] != 0;
+    }
+
+    /**
+     * Checks the compile and link status of a program started with beginCreateProgram()
+     * and deletes its shaders. Errors are written to the console, the program is deleted.
+     * @return	true if the program can be used
+     */
+    boolean finishCreateProgram() {
+        boolean compiled = checkCompileStatus(pendingVertexShader);
+        compiled &= checkCompileStatus(pendingFragmentShader);
+        gl.glDetachShader(shaderProgramID, pendingVertexShader);
+        gl.glDeleteShader(pendingVertexShader);
+        gl.glDetachShader(shaderProgramID, pendingFragmentShader);
+        gl.glDeleteShader(pendingFragmentShader);
+        pendingVertexShader = 0;
+        pendingFragmentShader = 0;
+
+        int[] linked = new int[1];
+        gl.glGetProgramiv(shaderProgramID, GL2ES2.GL_LINK_STATUS, linked, 0);
+        if (compiled && linked[0] == 0) {
+            int[] logLength = new int[1];
+            gl.glGetProgramiv(shaderProgramID, GL2ES2.GL_INFO_LOG_LENGTH, logLength, 0);
+            byte[] log = new byte[Math.max(1, logLength[0])];
+            gl.glGetProgramInfoLog(shaderProgramID, log.length, (int[]) null, 0, log, 0);
+            System.err.println("Error linking shader program: " + new String(log));
+        }
+        if (!compiled || linked[0] == 0) {
+            gl.glDeleteProgram(shaderProgramID);
+            shaderProgramID = 0;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Creates the shader program from a binary stored by a program binary cache
+     * @param binaryCache	Cache containing the binary
+     * @param sourceKey		Hash of the shader sources
+     * @return				true if the binary was accepted by the driver
+     */
+    boolean loadProgramBinary(ProgramBinaryCache binaryCache, String sourceKey) {
+        shaderProgramID = binaryCache.load(sourceKey);
+        return shaderProgramID != 0;
+    }
+
+    /**
+     * Inserts a #define line for each symbol directly after the #version line
+     * (which must be the first statement of a shader).
+     * @param shaderString	Shader source code
+     * @param defines		Preprocessor symbols, may contain a value (eg. "MAX_LIGHTS 4")
+     * @return				Shader source code including the defines
+     */
+    static String insertDefines(String shaderString, String[] defines) {
+        if (defines == null || defines.length == 0)
+            return shaderString;
+        int insertPosition = 0;
+        if (shaderString.startsWith("#version")) {
+            insertPosition = shaderString.indexOf('\n') + 1;
+            if (insertPosition == 0)
+                insertPosition = shaderString.length();
+        }
+        StringBuilder builder = new StringBuilder(shaderString.length() + 32 * defines.length);
+        builder.append(shaderString, 0, insertPosition);
+        if (insertPosition > 0 && shaderString.charAt(insertPosition - 1) != '\n')
+            builder.append('\n');
+        for (String define : defines)
+            builder.append("#define ").append(define).append('\n');
+        builder.append(shaderString, insertPosition, shaderString.length());
+        return builder.toString();
+    }
+
     /**
      * Compiles a shader of a given shader type from a character string array.
      * Checks compile status and outputs the error log.
@@ -125,6 +260,20 @@ public class ShaderProgram {
      * @return 				OpenGL shader ID
      */
     private int compileShader(int shaderType, String shaderString) {
+        int shader = createShader(shaderType, shaderString);
+        if (!checkCompileStatus(shader))
+            System.exit(1);
+        return shader;
+    }
+
+    /**
+     * Creates a shader and starts its compilation without waiting for the result.
+     *
+     * @param shaderType	OpenGL-Shader type (eg. GL3.GL_VERTEX_SHADER)
+     * @param shaderString	Character string containing the shader source code
+     * @return 				OpenGL shader ID
+     */
+    private int createShader(int shaderType, String shaderString) {
         int shader;
 
         //Compile shader String into a program.
@@ -133,7 +282,17 @@ public class ShaderProgram {
         int[] shaderLengths = new int[] { shaderLines[0].length() };
         gl.glShaderSource(shader, shaderLines.length, shaderLines, shaderLengths, 0);
         gl.glCompileShader(shader);
+        return shader;
+    }
 
+    /**
+     * Checks the compile status of a shader and outputs the error log.
+     * Waits for the driver if the shader is still being compiled.
+     *
+     * @param shader	OpenGL shader ID
+     * @return			true if the shader compiled successfully
+     */
+    private boolean checkCompileStatus(int shader) {
         //Check compile status.
         int[] compiled = new int[1];
         gl.glGetShaderiv(shader, GL2ES2.GL_COMPILE_STATUS, compiled,0);
@@ -148,10 +307,8 @@ public class ShaderProgram {
             gl.glGetShaderInfoLog(shader, logLength[0], (int[])null, 0, log, 0);
 
             System.err.println("Error compiling shader: " + new String(log));
-            System.exit(1);
         }
-
-        return shader;
+        return compiled[0] != 0;
     }
 
     /**
@@ -160,22 +317,12 @@ public class ShaderProgram {
      * @return contents of the (text) file
      *
      */
-    private String loadFileToString(String fileName) {
+    String loadFileToString(String fileName) {
         String fileContent = "";
 
         try
         {
-            StringBuffer buffer = new StringBuffer();
-            FileReader charStream = new FileReader(fileName);
-
-            int bufferItem;
-            bufferItem = charStream.read();
-            while (bufferItem != -1) {
-                buffer.append((char) bufferItem);
-                bufferItem = charStream.read();
-            }
-            charStream.close();
-            fileContent = buffer.toString();
+            fileContent = readFileToString(fileName);
         }
         catch(FileNotFoundException e)
         {
@@ -189,4 +336,25 @@ public class ShaderProgram {
         }
         return fileContent;
     }
+
+    /**
+     * Reads the contents of a (text) file into a string variable.
+     * Does not use OpenGL, can be called from any thread.
+     * @param fileName: name of the file including the (relative) path
+     * @return contents of the (text) file
+     * @throws IOException if the file cannot be read
+     */
+    static String readFileToString(String fileName) throws IOException {
+        StringBuffer buffer = new StringBuffer();
+        FileReader charStream = new FileReader(fileName);
+        try {
+            char[] chars = new char[4096];
+            int count;
+            while ((count = charStream.read(chars)) != -1)
+                buffer.append(chars, 0, count);
+        } finally {
+            charStream.close();
+        }
+        return buffer.toString();
+    }
 }
@@ -0,0 +1,427 @@
+import com.jogamp.opengl.GL2ES2;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Registry of shader programs keyed by a SHA-256 hash of the preprocessed
+ * vertex and fragment shader sources (including the defines).
+ * Identical programs are compiled and linked only once and shared between
+ * their users, the program is deleted when the last user releases it.
+ * Shader files are read only once per path.
+ * With a ProgramBinaryCache programs compiled on a previous start are loaded
+ * from disk instead of being compiled again.
+ *
+ * acquireAsync() does not block the GL thread: the shader files are read by a
+ * background thread, compiling and linking is started by update() without
+ * querying the result, and the result is queried in a later update() once the
+ * driver reports completion (GL_KHR_parallel_shader_compile) or, without the
+ * extension, one frame later. Until then the caller draws with a fallback program.
+ */
+public class ShaderProgramCache {
+
+    /**
+     * Shader program requested with acquireAsync(), ready after one or more calls of update().
+     */
+    public static class Request {
+        private final String vertexPathAndFileName;
+        private final String fragmentPathAndFileName;
+        private final String[] defines;
+        private Future<String[]> sources;
+        private Entry entry;
+        private boolean failed;
+
+        private Request(String vertexPathAndFileName, String fragmentPathAndFileName, String[] defines) {
+            this.vertexPathAndFileName = vertexPathAndFileName;
+            this.fragmentPathAndFileName = fragmentPathAndFileName;
+            this.defines = defines;
+        }
+
+        /**
+         * Returns true if the program is compiled and linked and can be used
+         */
+        public boolean isReady() {
+            return entry != null && !entry.linking;
+        }
+
+        /**
+         * Returns true if the shader files could not be read or the program
+         * could not be compiled or linked (see console), it will never be ready
+         */
+        public boolean isFailed() {
+            return failed;
+        }
+
+        /**
+         * Returns the linked program, null if it is not ready yet
+         */
+        public ShaderProgram getProgram() {
+            return isReady() ? entry.program : null;
+        }
+    }
+
+    private static class Entry {
+        final String key;
+        final ShaderProgram program;
+        int referenceCount;
+        // Compiling and linking started, result not queried yet
+        boolean linking;
+        // Requests waiting for the result
+        final List<Request> requests = new ArrayList<Request>();
+
+        Entry(String key, ShaderProgram program) {
+            this.key = key;
+            this.program = program;
+        }
+    }
+
+    private final GL2ES2 gl;
+    private final ProgramBinaryCache binaryCache;
+    private final boolean parallelCompile;
+    private final Map<String, Entry> programsByKey = new HashMap<String, Entry>();
+    private final Map<ShaderProgram, Entry> entriesByProgram = new HashMap<ShaderProgram, Entry>();
+    // Also filled by the loader thread
+    private final Map<String, String> sourcesByPath = new ConcurrentHashMap<String, String>();
+    private final List<Request> loadingRequests = new ArrayList<Request>();
+    private final List<Entry> linkingEntries = new ArrayList<Entry>();
+    private ExecutorService sourceLoader;
+    private int compiledPrograms;
+    private int cacheHits;
+    private int loadedBinaries;
+
+    /**
+     * Creates an empty cache for an OpenGL context.
+     * @param gl    OpenGL profile
+     */
+    public ShaderProgramCache(GL2ES2 gl) {
+        this(gl, null);
+    }
+
+    /**
+     * Creates an empty cache for an OpenGL context backed by program binaries on disk.
+     * @param gl            OpenGL profile
+     * @param binaryCache   Program binaries of previous starts (may be null)
+     */
+    public ShaderProgramCache(GL2ES2 gl, ProgramBinaryCache binaryCache) {
+        this.gl = gl;
+        this.binaryCache = binaryCache;
+        parallelCompile = gl.isExtensionAvailable("GL_KHR_parallel_shader_compile")
+                || gl.isExtensionAvailable("GL_ARB_parallel_shader_compile");
+    }
+
+    /**
+     * Returns a linked shader program for the given shaders and defines.
+     * The program is compiled only if no identical program is in the cache.
+     * Every call must be paired with a call of release().
+     * @param path						Directory path where the shaders are located
+     * @param vertexShaderFileName		File name of the vertex shader
+     * @param fragmentShaderFileName	File name of the fragment shader
+     * @param defines					Preprocessor symbols defined in both shaders
+     * @return							Shared shader program
+     */
+    public ShaderProgram acquire(String path, String vertexShaderFileName,
+                                 String fragmentShaderFileName, String... defines) {
+        ShaderProgram loader = new ShaderProgram(gl);
+        String vertexShaderString = ShaderProgram.insertDefines(
+                loadSource(loader, path + vertexShaderFileName), defines);
+        String fragmentShaderString = ShaderProgram.insertDefines(
+                loadSource(loader, path + fragmentShaderFileName), defines);
+        String key = hash(vertexShaderString, fragmentShaderString);
+
+        Entry entry = programsByKey.get(key);
+        if (entry != null && entry.linking) {
+            finishLinking(entry);
+            // A failed link removed the entry, compiling again reports the errors to this caller
+            entry = programsByKey.get(key);
+        }
+        if (entry == null) {
+            if (binaryCache != null && loader.loadProgramBinary(binaryCache, key)) {
+                loadedBinaries++;
+            } else {
+                loader.createProgram(vertexShaderString, fragmentShaderString, binaryCache);
+                if (binaryCache != null)
+                    binaryCache.store(key, loader.getShaderProgramID());
+                compiledPrograms++;
+            }
+            entry = new Entry(key, loader);
+            programsByKey.put(key, entry);
+            entriesByProgram.put(loader, entry);
+        } else {
+            cacheHits++;
+        }
+        entry.referenceCount++;
+        return entry.program;
+    }
+
+    /**
+     * Requests a shader program without blocking, see update().
+     * Every call must be paired with a call of release(Request).
+     * @param path						Directory path where the shaders are located
+     * @param vertexShaderFileName		File name of the vertex shader
+     * @param fragmentShaderFileName	File name of the fragment shader
+     * @param defines					Preprocessor symbols defined in both shaders
+     * @return							Request that becomes ready after some calls of update()
+     */
+    public Request acquireAsync(String path, String vertexShaderFileName,
+                                String fragmentShaderFileName, String... defines) {
+        final Request request = new Request(path + vertexShaderFileName,
+                path + fragmentShaderFileName, defines);
+        if (sourceLoader == null) {
+            sourceLoader = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, "Shader source loader");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        request.sources = sourceLoader.submit(new Callable<String[]>() {
+            @Override
+            public String[] call() throws Exception {
+                return new String[] { readSource(request.vertexPathAndFileName),
+                        readSource(request.fragmentPathAndFileName) };
+            }
+        });
+        loadingRequests.add(request);
+        return request;
+    }
+
+    /**
+     * Advances the requests of acquireAsync(), to be called on the GL thread once per frame.
+     * Completes programs the driver has finished linking and starts compiling programs
+     * whose sources have been loaded. Never waits for the loader thread.
+     * Programs started by this call are queried in the next call at the earliest,
+     * without GL_KHR_parallel_shader_compile the driver has one frame to link them.
+     */
+    public void update() {
+        for (Iterator<Entry> it = linkingEntries.iterator(); it.hasNext(); ) {
+            Entry entry = it.next();
+            if (entry.program.isLinkCompleted(parallelCompile)) {
+                it.remove();
+                completeLinking(entry);
+            }
+        }
+        for (Iterator<Request> it = loadingRequests.iterator(); it.hasNext(); ) {
+            Request request = it.next();
+            if (request.sources.isDone()) {
+                it.remove();
+                startProgram(request);
+            }
+        }
+    }
+
+    /**
+     * Waits until all requests of acquireAsync() are ready or failed.
+     * All programs are submitted to the driver before the first result is queried.
+     */
+    public void finishAll() {
+        for (Request request : loadingRequests)
+            startProgram(request);
+        loadingRequests.clear();
+        for (Entry entry : linkingEntries)
+            completeLinking(entry);
+        linkingEntries.clear();
+    }
+
+    /**
+     * Releases a program returned by acquire() and deletes it when it is no longer used.
+     * @param program   Shader program returned by acquire()
+     */
+    public void release(ShaderProgram program) {
+        Entry entry = entriesByProgram.get(program);
+        if (entry == null)
+            throw new IllegalArgumentException("Shader program is not managed by this cache.");
+        releaseEntry(entry);
+    }
+
+    /**
+     * Releases a program requested with acquireAsync(), whether or not it is ready.
+     * @param request   Request returned by acquireAsync()
+     */
+    public void release(Request request) {
+        if (loadingRequests.remove(request)) {
+            request.sources.cancel(false);
+        } else if (request.entry != null) {
+            Entry entry = request.entry;
+            entry.requests.remove(request);
+            request.entry = null;
+            releaseEntry(entry);
+        }
+    }
+
+    /**
+     * Deletes all programs regardless of their users and forgets the loaded shader files.
+     */
+    public void deleteAll() {
+        for (Entry entry : programsByKey.values())
+            entry.program.deleteShaderProgram();
+        programsByKey.clear();
+        entriesByProgram.clear();
+        sourcesByPath.clear();
+        loadingRequests.clear();
+        linkingEntries.clear();
+        if (sourceLoader != null) {
+            sourceLoader.shutdownNow();
+            sourceLoader = null;
+        }
+    }
+
+    /**
+     * Returns true while programs of acquireAsync() are loaded or linked,
+     * update() has to be called until they are ready
+     */
+    public boolean hasPendingRequests() {
+        return !loadingRequests.isEmpty() || !linkingEntries.isEmpty();
+    }
+
+    /**
+     * Returns the number of programs compiled and linked by this cache
+     */
+    public int getCompiledPrograms() {
+        return compiledPrograms;
+    }
+
+    /**
+     * Returns the number of programs loaded from program binaries
+     */
+    public int getLoadedBinaries() {
+        return loadedBinaries;
+    }
+
+    /**
+     * Returns the number of acquire() calls served without compiling
+     */
+    public int getCacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * Returns true if the driver compiles shaders in background threads (GL_KHR_parallel_shader_compile)
+     */
+    public boolean isParallelCompile() {
+        return parallelCompile;
+    }
+
+    // Shares an identical program or starts compiling a new one with the loaded sources
+    private void startProgram(Request request) {
+        String[] sources;
+        try {
+            sources = request.sources.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            request.failed = true;
+            return;
+        } catch (ExecutionException e) {
+            System.err.println("Error loading shader: " + e.getCause());
+            request.failed = true;
+            return;
+        }
+        String vertexShaderString = ShaderProgram.insertDefines(sources[0], request.defines);
+        String fragmentShaderString = ShaderProgram.insertDefines(sources[1], request.defines);
+        String key = hash(vertexShaderString, fragmentShaderString);
+
+        Entry entry = programsByKey.get(key);
+        if (entry == null) {
+            ShaderProgram program = new ShaderProgram(gl);
+            entry = new Entry(key, program);
+            if (binaryCache != null && program.loadProgramBinary(binaryCache, key)) {
+                loadedBinaries++;
+            } else {
+                program.beginCreateProgram(vertexShaderString, fragmentShaderString, binaryCache);
+                entry.linking = true;
+                linkingEntries.add(entry);
+                compiledPrograms++;
+            }
+            programsByKey.put(key, entry);
+            entriesByProgram.put(program, entry);
+        } else {
+            cacheHits++;
+        }
+        entry.referenceCount++;
+        entry.requests.add(request);
+        request.entry = entry;
+    }
+
+    private void finishLinking(Entry entry) {
+        linkingEntries.remove(entry);
+        completeLinking(entry);
+    }
+
+    // Queries the result of a program started with beginCreateProgram()
+    private void completeLinking(Entry entry) {
+        entry.linking = false;
+        if (entry.program.finishCreateProgram()) {
+            if (binaryCache != null)
+                binaryCache.store(entry.key, entry.program.getShaderProgramID());
+            return;
+        }
+        // The requests fail, their users keep drawing with the fallback program
+        for (Request request : entry.requests) {
+            request.failed = true;
+            request.entry = null;
+        }
+        programsByKey.remove(entry.key);
+        entriesByProgram.remove(entry.program);
+    }
+
+    private void releaseEntry(Entry entry) {
+        if (--entry.referenceCount == 0) {
+            if (entry.linking)
+                finishLinking(entry);
+            entry.program.deleteShaderProgram();
+            programsByKey.remove(entry.key);
+            entriesByProgram.remove(entry.program);
+        }
+    }
+
+    private String loadSource(ShaderProgram loader, String pathAndFileName) {
+        String source = sourcesByPath.get(pathAndFileName);
+        if (source == null) {
+            System.out.println("Loading shader from file: " + pathAndFileName);
+            source = loader.loadFileToString(pathAndFileName);
+            sourcesByPath.put(pathAndFileName, source);
+        }
+        return source;
+    }
+
+    // Called by the loader thread
+    private String readSource(String pathAndFileName) throws Exception {
+        String source = sourcesByPath.get(pathAndFileName);
+        if (source == null) {
+            System.out.println("Loading shader from file: " + pathAndFileName);
+            source = ShaderProgram.readFileToString(pathAndFileName);
+            sourcesByPath.put(pathAndFileName, source);
+        }
+        return source;
+    }
+
+    static String hash(String vertexShaderString, String fragmentShaderString) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(vertexShaderString.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(fragmentShaderString.getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder(64);
+            for (byte b : digest.digest())
+                key.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            return key.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform has to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,7 +1,6 @@
 import com.jogamp.opengl.GLCapabilities;
 import com.jogamp.opengl.GLProfile;
 import com.jogamp.opengl.awt.GLCanvas;
-import com.jogamp.opengl.util.FPSAnimator;
 
 import javax.swing.*;
 import java.awt.*;
@@ -16,16 +15,38 @@ public class StartCodeMainWindowPP extends JFrame {
     private static final int CANVAS_WIDTH = 800;  // width of the drawable
     private static final int CANVAS_HEIGHT = 650; // height of the drawable
     private static final int FPS = 60; // animator's target frames per second
+    // Frames are drawn when the scene changes, -DcontinuousRendering=true draws FPS frames per
+    // second all the time, -DidleFps=<n> draws n frames per second without changes
+    private static final boolean CONTINUOUS_RENDERING = Boolean.getBoolean("continuousRendering");
+    private static final float IDLE_FPS = Float.parseFloat(System.getProperty("idleFps", "0"));
+
+    // Draws all frames on its own thread, the render thread
+    private RedrawScheduler scheduler;
 
     public StartCodeMainWindowPP() {
 
         GLProfile profile = GLProfile.get(GLProfile.GL3);
         GLCapabilities capabilities = new GLCapabilities(profile);
 
-        GLCanvas canvas = new StartRendererPP(capabilities);
+        GLCanvas canvas = new GLCanvas(capabilities) {
+            private static final long serialVersionUID = 1L;
+
+            // Repaints of the window are drawn by the render thread, not on the event thread
+            @Override
+            public void paint(Graphics g) {
+                if (scheduler != null)
+                    scheduler.requestRedraw();
+            }
+        };
+        StartRendererPP renderer = new StartRendererPP();
+        canvas.addGLEventListener(renderer);
+        renderer.registerInteractionHandler(canvas);
         canvas.setPreferredSize(new Dimension(CANVAS_WIDTH, CANVAS_HEIGHT));
 
-        final FPSAnimator animator = new FPSAnimator(canvas, FPS, true);
+        scheduler = new RedrawScheduler(canvas, FPS, IDLE_FPS);
+        scheduler.setContinuous(CONTINUOUS_RENDERING);
+        if (!CONTINUOUS_RENDERING)
+            renderer.setRedrawRequest(scheduler::requestRedraw);
 
         this.getContentPane().add(canvas);
         this.addWindowListener(new WindowAdapter() {
@@ -34,7 +55,7 @@ public class StartCodeMainWindowPP extends JFrame {
                 new Thread() {
                     @Override
                     public void run() {
-                        if (animator.isStarted()) animator.stop();
+                        if (scheduler.isStarted()) scheduler.stop();
                         System.exit(0);
                     }
                 }.start();
@@ -44,12 +65,18 @@ public class StartCodeMainWindowPP extends JFrame {
         this.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         this.pack();
         this.setVisible(true);
-        animator.start();
+        scheduler.start();
 
         canvas.requestFocusInWindow();
     }
 
     public static void main(String[] args) {
+        // By default JOGL executes display() of an AWT GLCanvas on the event thread, which
+        // then blocks the input while a frame is drawn. Without single-threading the
+        // thread of the RedrawScheduler owns the GL context and the event thread only
+        // publishes camera snapshots. Has to be set before JOGL is used.
+        if (System.getProperty("jogl.1thread") == null)
+            System.setProperty("jogl.1thread", "false");
         new StartCodeMainWindowPP();
     }
 
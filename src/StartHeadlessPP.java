@@ -0,0 +1,84 @@
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Renders the scene of StartRendererPP without a window into an offscreen
+ * framebuffer (FBO), for batch renders and performance runs on servers without
+ * a display. The camera is moved by a CameraScript, the frames can be written
+ * to disk by a FrameCapture.
+ *
+ * System properties:
+ *   frames        Number of frames to render (default 600)
+ *   width, height Size of the framebuffer (default 800 x 650, the window size)
+ *   cameraScript  Key frame file of a CameraScript, default: one circle around the table
+ *   outputDir     Directory of the frames frame00000.png, ..., no frames are written if not set
+ *   captureFormat png (default) or raw
+ *
+ * JOGL still needs a native display connection for the context. On a Linux
+ * server without a display start a virtual one, software rendering with Mesa
+ * llvmpipe is sufficient:
+ *   xvfb-run -s "-screen 0 800x650x24" java -Dframes=300 -DoutputDir=frames StartHeadlessPP
+ */
+public class StartHeadlessPP {
+
+    private static final int DEFAULT_WIDTH = 800;
+    private static final int DEFAULT_HEIGHT = 650;
+
+    public static void main(String[] args) {
+        int frames = Integer.getInteger("frames", 600);
+        int width = Integer.getInteger("width", DEFAULT_WIDTH);
+        int height = Integer.getInteger("height", DEFAULT_HEIGHT);
+        String outputDir = System.getProperty("outputDir", "");
+        String scriptFile = System.getProperty("cameraScript", "");
+
+        CameraScript script = CameraScript.orbit(frames);
+        if (!scriptFile.isEmpty()) {
+            try {
+                script = CameraScript.load(scriptFile);
+            } catch (IOException e) {
+                System.err.println("Error loading camera script: " + e.getMessage());
+                System.exit(1);
+            }
+        }
+        File directory = null;
+        if (!outputDir.isEmpty()) {
+            directory = new File(outputDir);
+            if (!directory.isDirectory() && !directory.mkdirs()) {
+                System.err.println("Error creating output directory: " + outputDir);
+                System.exit(1);
+            }
+        }
+
+        GLProfile profile = GLProfile.get(GLProfile.GL3);
+        GLCapabilities capabilities = new GLCapabilities(profile);
+        capabilities.setOnscreen(false);
+        capabilities.setFBO(true);
+        GLOffscreenAutoDrawable drawable = GLDrawableFactory.getFactory(profile)
+                .createOffscreenAutoDrawable(null, capabilities, null, width, height);
+
+        StartRendererPP renderer = new StartRendererPP();
+        if (directory != null) {
+            FrameCapture.Format format = System.getProperty("captureFormat", "png").equalsIgnoreCase("raw")
+                    ? FrameCapture.Format.RAW : FrameCapture.Format.PNG;
+            renderer.setFrameCapture(new FrameCapture(directory, format, FrameCapture.defaultThreads()), true);
+        }
+        drawable.addGLEventListener(renderer);
+
+        long start = System.nanoTime();
+        for (int frame = 0; frame < frames; frame++) {
+            script.apply(frame, renderer.getInteractionHandler());
+            drawable.display();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d frames (%d x %d) in %.2f s, %.1f FPS%n", frames, width, height,
+                seconds, frames / seconds);
+
+        // Disposes the renderer, which writes the outstanding frames and ends the program
+        drawable.destroy();
+    }
+}
@@ -0,0 +1,118 @@
+import com.jogamp.opengl.GLAutoDrawable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Runs init() and display() of StartRendererPP against a GLRecorder instead
+ * of OpenGL, for build servers without GPU and display: prints the GL calls
+ * of init() and of a frame by function and the CPU time per frame. The
+ * counts do not depend on the machine, a changed count shows a changed
+ * submission. The CPU time includes the recording, a few direct method
+ * calls per GL call.
+ *
+ * System properties:
+ *   frames        Number of frames (default 60)
+ *   width, height Size of the drawable (default 800 x 650, the window size)
+ *   cameraScript  Key frame file of a CameraScript, default: one circle around the table
+ *   glLog         File receiving the binary log of all calls of init() and the frames
+ *   printLog      Prints an existing binary log as text instead of running the renderer
+ *
+ * The renderer options (-Dcards, -DindirectDraw, -DocclusionCulling, ...) work
+ * as with the window, except -DgpuProfiler (needs a real context).
+ *   java -Djava.awt.headless=true -Dcards=500 StartRecordingPP
+ */
+public class StartRecordingPP {
+
+    private static final int DEFAULT_WIDTH = 800;
+    private static final int DEFAULT_HEIGHT = 650;
+
+    public static void main(String[] args) {
+        String printLog = System.getProperty("printLog", "");
+        if (!printLog.isEmpty()) {
+            try (InputStream in = new BufferedInputStream(new FileInputStream(printLog))) {
+                GLRecorder.printLog(in, System.out);
+            } catch (IOException e) {
+                System.err.println("Error reading GL log: " + e.getMessage());
+                System.exit(1);
+            }
+            return;
+        }
+
+        int frames = Integer.getInteger("frames", 60);
+        int width = Integer.getInteger("width", DEFAULT_WIDTH);
+        int height = Integer.getInteger("height", DEFAULT_HEIGHT);
+        String scriptFile = System.getProperty("cameraScript", "");
+        String logFile = System.getProperty("glLog", "");
+
+        CameraScript script = CameraScript.orbit(frames);
+        if (!scriptFile.isEmpty()) {
+            try {
+                script = CameraScript.load(scriptFile);
+            } catch (IOException e) {
+                System.err.println("Error loading camera script: " + e.getMessage());
+                System.exit(1);
+            }
+        }
+        OutputStream logStream = null;
+        if (!logFile.isEmpty()) {
+            try {
+                logStream = new BufferedOutputStream(new FileOutputStream(logFile));
+            } catch (IOException e) {
+                System.err.println("Error creating GL log: " + e.getMessage());
+                System.exit(1);
+            }
+        }
+
+        GLRecorder recorder = new GLRecorder(logStream);
+        GLAutoDrawable drawable = recorder.createDrawable(width, height);
+        StartRendererPP renderer = new StartRendererPP();
+
+        recorder.beginFrame();
+        long start = System.nanoTime();
+        renderer.init(drawable);
+        renderer.reshape(drawable, 0, 0, width, height);
+        long initTime = System.nanoTime() - start;
+        recorder.endFrame();
+        System.out.printf("init: %d GL calls, %.2f ms%n", recorder.getFrameCalls(), initTime / 1e6);
+        printCounts(recorder.getFrameCallCounts());
+
+        long frameCalls = 0;
+        start = System.nanoTime();
+        for (int frame = 0; frame < frames; frame++) {
+            script.apply(frame, renderer.getInteractionHandler());
+            recorder.beginFrame();
+            renderer.display(drawable);
+            recorder.endFrame();
+            frameCalls += recorder.getFrameCalls();
+        }
+        long frameTime = System.nanoTime() - start;
+        System.out.printf("%d frames (%d x %d): %.1f GL calls, %.3f ms CPU per frame%n", frames, width, height,
+                (double) frameCalls / Math.max(1, frames), frameTime / 1e6 / Math.max(1, frames));
+        System.out.println("Last frame: " + recorder.getFrameCalls() + " GL calls");
+        printCounts(recorder.getFrameCallCounts());
+
+        if (logStream != null) {
+            try {
+                recorder.flush();
+                logStream.close();
+            } catch (IOException e) {
+                System.err.println("Error writing GL log: " + e.getMessage());
+                System.exit(1);
+            }
+        }
+        // Releases the GL objects and ends the program
+        renderer.dispose(drawable);
+    }
+
+    private static void printCounts(Map<String, Long> counts) {
+        for (Map.Entry<String, Long> count : counts.entrySet())
+            System.out.printf("  %-40s %8d%n", count.getKey(), count.getValue());
+    }
+}
@@ -1,50 +1,176 @@
 import com.jogamp.opengl.*;
-import com.jogamp.opengl.awt.GLCanvas;
-import com.jogamp.opengl.util.PMVMatrix;
 
+import java.awt.Component;
+import java.io.File;
 import java.nio.FloatBuffer;
-import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
 
 import static com.jogamp.opengl.GL.*;
 
-public class StartRendererPP extends GLCanvas implements GLEventListener {
+/**
+ * Renders the scene into any GLAutoDrawable: the GLCanvas of the main window
+ * (StartCodeMainWindowPP) or an offscreen drawable (StartHeadlessPP).
+ */
+public class StartRendererPP implements GLEventListener {
 
-    private static final long serialVersionUID = 1L;
-
-    final String shaderPath = ".\\resources\\";
+    final String shaderPath = "./resources/";
     final String vertexShaderFileName = "BlinnPhongPointTex.vert";
     final String fragmentShaderFileName = "BlinnPhongPointTex.frag";
-    private ShaderProgram shaderProgram;
+    final String fallbackVertexShaderFileName = "Fallback.vert";
+    final String fallbackFragmentShaderFileName = "Fallback.frag";
+    final String occlusionProxyVertexShaderFileName = "OcclusionProxy.vert";
+    final String occlusionProxyFragmentShaderFileName = "OcclusionProxy.frag";
+    // Compiles every distinct shader program only once, programs of previous
+    // starts are loaded from the program binary cache (-DshaderCacheDir=<dir>)
+    private ShaderProgramCache shaderProgramCache;
+    // With -DasyncShaders=true the programs are compiled while the first frames are
+    // drawn with the fallback programs, otherwise init() waits for them
+    final boolean asyncShaders = Boolean.getBoolean("asyncShaders");
+    private ShaderProgramCache.Request shaderProgram; // program built with the define INSTANCED
+    private ShaderProgramCache.Request indirectShaderProgram; // program built with the define INDIRECT
+    private ShaderProgram fallbackShaderProgram;
+    private ShaderProgram indirectFallbackShaderProgram;
 
     private LightSource light0;
     private Material material0;
+    private int material0Slot; // slot of material0 in materialUniforms
+    private final Material[] materials = new Material[1]; // materials by slot
+    // Camera and light (uniform block FrameBlock), written once per frame
+    private FrameUniformBuffer frameUniforms;
+    // All materials (uniform block MaterialBlock), written once in init()
+    private MaterialUniformBuffer materialUniforms;
     private LoadTexture texture;
 
-    // Pointers for data transfer and handling on GPU
-    private int[] vaoName;  // Name of vertex array object
-    private int[] vboName;	// Name of vertex buffer object
-    private int[] iboName;	// Name of index buffer object
-
+    // Builds vertex and index data in direct buffers for the upload to the GPU
+    private MeshBuilder meshBuilder;
+    // Meshes of the scene, the IDs are used by the nodes of the scene graph
+    private static final int TABLE_MESH = 0; // table top and legs
+    private static final int CARD_MESH = 1;  // unit card
+    private static final int MESH_COUNT = 2;
+    private static final String[] MESH_NAMES = {"table", "cards"};
+    // Tables with cards lying on them, one node per table and card
+    private SceneGraph scene;
+    // Position of every table (x, y, z), a row more is a table more
+    private static final float[][] TABLE_POSITIONS = {{0f, 0f, 0f}};
+    // Number of cards on every table, set with -Dcards=<n>
+    final int noOfCards = Math.max(1, Integer.getInteger("cards", 1));
+    // Every mesh drawn once per node using it
+    private InstancedMesh[] sceneMeshes;
+    private SceneRenderer sceneRenderer;
+    // Whole scene with one glMultiDrawElementsIndirect call, enabled with -DindirectDraw=true
+    final boolean indirectDraw = Boolean.getBoolean("indirectDraw");
+    private IndirectScene indirectScene;
+    // World bounds of the nodes with a mesh, the object IDs ascend with the node IDs
+    private final BoundingVolumeHierarchy indirectIndex = new BoundingVolumeHierarchy();
+    private int[] indirectNodeOfObject;
+    private int[] indirectObjectOfNode; // -1 for nodes without mesh
+    private boolean[] indirectVisible;  // objects inside the frustum, by object ID
+    private int[] indirectDrawnObjects; // objects of the current draws, ascending
+    private int indirectDrawnCount = -1;
+    private boolean indirectTransformsChanged;
+    private final float[] worldMatrix = new float[16];
+    private final BoundingBox worldBounds = new BoundingBox();
+    private final IntConsumer updateIndirectBounds = this::updateIndirectBounds;
+    private final IntConsumer markIndirectVisible = object -> indirectVisible[object] = true;
+    // Draws of the frame sorted by program, texture, material and depth (up to the far plane 100)
+    private final RenderQueue renderQueue = new RenderQueue(16, 100f);
+    // Objects outside the view are not submitted to the render queue
+    private final Frustum frustum = new Frustum();
+    // Objects hidden in the last frame are dropped by the GPU, enabled with -DocclusionCulling=true
+    final boolean occlusionCulling = Boolean.getBoolean("occlusionCulling");
+    private OcclusionCuller occlusionCuller;
+    private ShaderProgram occlusionProxyProgram;
+    // Vertex layout of all objects, the compact format is enabled with -DcompactVertices=true
+    final VertexFormat vertexFormat =
+            Boolean.getBoolean("compactVertices") ? VertexFormat.COMPACT : VertexFormat.STANDARD;
+    private long vertexBytes; // Size of all vertex buffers
+    private long indexBytes;  // Size of all index buffers
+
+    // Drops redundant state changes, its wrapped GL object is used everywhere
+    private GLStateCache glState;
+    // Frame time, draw calls, triangles, state changes, uploaded bytes and GL calls of the last
+    // 1024 frames, available via JMX. -DtelemetrySummary=<seconds> prints a summary periodically.
+    private final FrameTelemetry telemetry = new FrameTelemetry(1024);
+    final int telemetrySummarySeconds = Integer.getInteger("telemetrySummary", 0);
+    // GPU and CPU time per mesh group and frame in the telemetry, enabled with -DgpuProfiler=true
+    final boolean gpuProfiling = Boolean.getBoolean("gpuProfiler");
+    private GpuProfiler gpuProfiler;
+    private int occlusionPass;
+    private int indirectPass;
+    // Prints the camera state every n-th frame, enabled with -DcameraTrace=<n>
+    final int cameraTraceInterval = Integer.getInteger("cameraTrace", 0);
+    private long frameNumber;
+    // Frames read back asynchronously and written by worker threads: every frame with
+    // -DcaptureDir=<dir> (-DcaptureFormat=png|raw), single screenshots with the key F12
+    final String captureDir = System.getProperty("captureDir", "");
+    final String captureFormat = System.getProperty("captureFormat", "png");
+    private FrameCapture frameCapture;
+    private boolean captureEveryFrame;
+    private int screenshotNumber;
+    // Requests a further frame when drawing on demand, null if frames are drawn continuously
+    private Runnable redrawRequest;
+    private final float[] lastMvMatrix = new float[16];
+
+    // The camera follows the input with this time constant, set with -DcameraSmoothing=<ms>
+    final int cameraSmoothingMillis = Integer.getInteger("cameraSmoothing", 0);
     InteractionHandler interactionHandler; //Object for handling keyboard and mouse interaction
-    PMVMatrix pmvMatrix; // Projection model view matrix tool
+    // Camera matrices (column major), computed with Mat4 without allocations. The
+    // buffers wrap the arrays for the classes taking FloatBuffers (as from PMVMatrix).
+    private final float[] projectionMatrix = new float[16];
+    private final float[] modelViewMatrix = new float[16];
+    private final FloatBuffer pMatrix = FloatBuffer.wrap(projectionMatrix);
+    private final FloatBuffer mvMatrix = FloatBuffer.wrap(modelViewMatrix);
+
+    public StartRendererPP() {
+        interactionHandler = new InteractionHandler();
+        interactionHandler.setEyeZ(0.5f);
+        interactionHandler.setSmoothingTime(cameraSmoothingMillis / 1000f);
+    }
 
-    public StartRendererPP(GLCapabilities capabilities) {
-        super(capabilities);
-        this.addGLEventListener(this);
-        createAndRegisterInteractionHandler();
+    /**
+     * Lets the keyboard and mouse of a component control the camera.
+     * @param component Component showing the scene, eg. the GLCanvas
+     */
+    public void registerInteractionHandler(Component component) {
+        component.addKeyListener(interactionHandler);
+        component.addMouseListener(interactionHandler);
+        component.addMouseMotionListener(interactionHandler);
+        component.addMouseWheelListener(interactionHandler);
     }
 
-    private void createAndRegisterInteractionHandler() {
-        interactionHandler = new InteractionHandler();
-        this.addKeyListener(interactionHandler);
-        this.addMouseListener(interactionHandler);
-        this.addMouseMotionListener(interactionHandler);
-        this.addMouseWheelListener(interactionHandler);
+    /**
+     * Sets the capture of the frames, replaces the capture of the system properties.
+     * @param capture       Frame capture, disposed with the renderer
+     * @param everyFrame    Captures every frame, otherwise only screenshots (key F12)
+     */
+    public void setFrameCapture(FrameCapture capture, boolean everyFrame) {
+        frameCapture = capture;
+        captureEveryFrame = everyFrame;
+    }
+
+    /**
+     * Draws frames on demand: camera changes and unfinished work of the renderer
+     * (shader programs compiled in the background, pending frame captures,
+     * occlusion queries of a moved camera) request further frames.
+     * @param redrawRequest Requests a call of display(), eg. RedrawScheduler.requestRedraw()
+     */
+    public void setRedrawRequest(Runnable redrawRequest) {
+        this.redrawRequest = redrawRequest;
+        interactionHandler.setChangeListener(redrawRequest);
+    }
+
+    /**
+     * Returns the camera state, changed by keyboard, mouse or a CameraScript
+     */
+    public InteractionHandler getInteractionHandler() {
+        return interactionHandler;
     }
 
     @Override
     public void init(GLAutoDrawable drawable) {
-        GL3 gl = drawable.getGL().getGL3();
+        glState = new GLStateCache(drawable.getGL().getGL3());
+        GL3 gl = glState.getGL();
 
         System.err.println("Chosen GLCapabilities: " + drawable.getChosenGLCapabilities());
         System.err.println("INIT GL IS: " + gl.getClass().getName());
@@ -58,33 +184,7 @@ public class StartRendererPP extends GLCanvas implements GLEventListener {
         else
             System.out.println("VBO support is available");
 
-        shaderProgram = new ShaderProgram(gl);
-        shaderProgram.loadShaderAndCreateProgram(shaderPath,
-                vertexShaderFileName, fragmentShaderFileName);
-
-        int noOfObjects = 6;
-        vaoName = new int[noOfObjects];
-        for (int i = 0; i < vaoName.length; i++) {
-            gl.glGenVertexArrays(noOfObjects, vaoName, 0);
-            if (vaoName[i] < 1)
-                System.err.println("Error allocating vertex array object (VAO).");
-            gl.glBindVertexArray(vaoName[i]);
-        }
-
-        vboName = new int[noOfObjects];
-        for (int i = 0; i < vboName.length; i++) {
-            gl.glGenBuffers(noOfObjects, vboName, 0);
-            if (vboName[i] < 1)
-                System.err.println("Error allocating vertex buffer object (VBO).");
-            gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vboName[i]);
-        }
-
-        iboName = new int[noOfObjects];
-        for (int i = 0; i < iboName.length; i++) {
-            gl.glGenBuffers(noOfObjects, iboName, 0);
-            if (iboName[i] < 1)
-                System.err.println("Error allocating index buffer object.");
-        }
+        shaderProgramCache = new ShaderProgramCache(gl, ProgramBinaryCache.fromSystemProperties(gl));
 
         //lightparameters
         float[] lightPosition = {0.0f, 3.0f, 3.0f, 1.0f};
@@ -94,49 +194,75 @@ public class StartRendererPP extends GLCanvas implements GLEventListener {
         light0 = new LightSource(lightPosition, lightAmbientColor,
                 lightDiffuseColor, lightSpecularColor);
 
-        pmvMatrix = new PMVMatrix();
-        interactionHandler.setEyeZ(0.5f);
-
-        initMainTable(gl);
-        initTableLegVR(gl);
-        initTableLegVL(gl);
-        initTableLegHL(gl);
-        initTableLegHR(gl);
-        initCard(gl);
-
+        frameUniforms = new FrameUniformBuffer();
+        frameUniforms.upload(gl);
+        frameUniforms.setLight(light0);
+        materialUniforms = new MaterialUniformBuffer(1);
+        materialUniforms.upload(gl);
+
+        // Does nothing without timer query support
+        if (gpuProfiling)
+            gpuProfiler = new GpuProfiler(gl, telemetry);
+
+        initMaterials(gl);
+        initScene();
+        if (indirectDraw) {
+            initIndirectScene(gl);
+            if (gpuProfiling)
+                indirectPass = gpuProfiler.addPass("indirect scene");
+        } else {
+            initInstancedScene(gl);
+            if (gpuProfiling)
+                sceneRenderer.setProfiler(gpuProfiler, MESH_NAMES);
+            if (occlusionCulling)
+                initOcclusionCulling(gl);
+        }
+        if (!asyncShaders) {
+            // All programs have been submitted to the driver, now wait for them
+            shaderProgramCache.finishAll();
+            checkShaderPrograms();
+        }
+        System.out.println("Vertex format " + vertexFormat + ": " + vertexFormat.getStride()
+                + " bytes per vertex (standard: " + VertexFormat.STANDARD.getStride() + "), "
+                + vertexBytes + " bytes of vertex data, " + indexBytes + " bytes of index data");
+        String shaderNotes = asyncShaders ? "more in the background" : "";
+        if (shaderProgramCache.isParallelCompile())
+            shaderNotes += (shaderNotes.isEmpty() ? "" : ", ") + "parallel compile";
+        System.out.println("Shader programs compiled: " + shaderProgramCache.getCompiledPrograms()
+                + ", loaded from binary: " + shaderProgramCache.getLoadedBinaries()
+                + ", reused: " + shaderProgramCache.getCacheHits()
+                + (shaderNotes.isEmpty() ? "" : " (" + shaderNotes + ")"));
+
+        // Index value 0xFF/0xFFFF/0xFFFFFFFF (depending on the index type) ends a triangle strip
+        gl.glEnable(GL3.GL_PRIMITIVE_RESTART_FIXED_INDEX);
         //gl.glEnable(GL.GL_CULL_FACE);
         gl.glCullFace(GL.GL_BACK);
         gl.glEnable(GL.GL_DEPTH_TEST);
-    }
-
-    private void initMainTable(GL3 gl) {
-        gl.glBindVertexArray(vaoName[0]);
-        shaderProgram = new ShaderProgram(gl);
-        shaderProgram.loadShaderAndCreateProgram(shaderPath, vertexShaderFileName, fragmentShaderFileName);
-
-        float[] color0 = {0.5f, 0.5f, 0.5f};
-        float[] cubeVertices = DrawTable.makeBoxVertices(0.8f,0.05f,0.6f, color0);
-        int[] tableIndices = DrawTable.makeBoxIndicesForTriangleStrip();
-
-        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vboName[0]);
-
-        gl.glBufferData(GL.GL_ARRAY_BUFFER, cubeVertices.length * 4,
-                FloatBuffer.wrap(cubeVertices), GL.GL_STATIC_DRAW);
-
-        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, iboName[0]);
 
-        gl.glBufferData(GL.GL_ELEMENT_ARRAY_BUFFER, tableIndices.length * 4,
-                IntBuffer.wrap(tableIndices), GL.GL_STATIC_DRAW);
+        telemetry.registerMBean();
+        if (telemetrySummarySeconds > 0)
+            telemetry.startSummary(telemetrySummarySeconds);
+        if (frameCapture == null)
+            initFrameCapture();
+    }
 
-        gl.glEnableVertexAttribArray(0);
-        gl.glVertexAttribPointer(0, 3, GL.GL_FLOAT, false, 11*4, 0);
-        gl.glEnableVertexAttribArray(1);
-        gl.glVertexAttribPointer(1, 3, GL.GL_FLOAT, false, 11*4, 3*4);
-        gl.glEnableVertexAttribArray(2);
-        gl.glVertexAttribPointer(2, 3, GL.GL_FLOAT, false, 11*4, 6*4);
-        gl.glEnableVertexAttribArray(3);
-        gl.glVertexAttribPointer(3, 2, GL.GL_FLOAT, false, 11*4, 9*4);
+    private void initFrameCapture() {
+        FrameCapture.Format format = FrameCapture.Format.PNG;
+        if (captureFormat.equalsIgnoreCase("raw"))
+            format = FrameCapture.Format.RAW;
+        else if (!captureFormat.equalsIgnoreCase("png"))
+            System.err.println("Unknown capture format " + captureFormat + ", using png.");
+        captureEveryFrame = !captureDir.isEmpty();
+        File directory = new File(captureEveryFrame ? captureDir : ".");
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            System.err.println("Error creating capture directory: " + directory);
+            System.exit(1);
+        }
+        // Screenshots only need one encoder
+        frameCapture = new FrameCapture(directory, format, captureEveryFrame ? FrameCapture.defaultThreads() : 1);
+    }
 
+    private void initMaterials(GL3 gl) {
         float[] matEmission = {0.0f, 0.0f, 0.0f, 1.0f};
         float[] matAmbient =  {0.2f, 0.2f, 0.2f, 1.0f};
         float[] matDiffuse =  {0.5f, 0.5f, 0.5f, 1.0f};
@@ -144,294 +270,361 @@ public class StartRendererPP extends GLCanvas implements GLEventListener {
         float matShininess = 200.0f;
 
         material0 = new Material(matEmission, matAmbient, matDiffuse, matSpecular, matShininess);
+        material0Slot = materialUniforms.add(gl, material0);
+        materials[material0Slot] = material0;
 
         //texture
 
         texture = new LoadTexture();
         texture.loadTexture(gl, "resources/holz-struktur.jpg");
-
-
-
     }
 
-    private void displayMainTable(GL3 gl) {
-        gl.glUseProgram(shaderProgram.getShaderProgramID());
-
-        gl.glUniformMatrix4fv(0, 1, false, pmvMatrix.glGetPMatrixf());
-        gl.glUniformMatrix4fv(1, 1, false, pmvMatrix.glGetMvMatrixf());
-
-        gl.glUniform4fv(2, 1, light0.getPosition(), 0);
-        gl.glUniform4fv(3, 1, light0.getAmbient(), 0);
-        gl.glUniform4fv(4, 1, light0.getDiffuse(), 0);
-        gl.glUniform4fv(5, 1, light0.getSpecular(), 0);
-
-        gl.glUniform4fv(6, 1, material0.getEmission(), 0);
-        gl.glUniform4fv(7, 1, material0.getAmbient(), 0);
-        gl.glUniform4fv(8, 1, material0.getDiffuse(), 0);
-        gl.glUniform4fv(9, 1, material0.getSpecular(), 0);
-        gl.glUniform1f(10, material0.getShininess());
-
-        gl.glBindVertexArray(vaoName[0]);
-        gl.glDrawElements(GL.GL_TRIANGLE_STRIP, DrawTable.noOfIndicesForBox(), GL.GL_UNSIGNED_INT, 0);
+    // The scene as data: a node per table and per card, the cards are children of their table
+    private void initScene() {
+        scene = new SceneGraph(TABLE_POSITIONS.length * (1 + noOfCards));
+        float[] transform = new float[16];
+        for (float[] position : TABLE_POSITIONS) {
+            Mat4.setTranslation(transform, 0, position[0], position[1], position[2]);
+            int table = scene.addNode(SceneGraph.NO_PARENT, transform,
+                    TABLE_MESH, material0Slot, texture.getTextureID());
+            for (int i = 0; i < noOfCards; i++) {
+                setCardModelMatrix(i, transform);
+                scene.addNode(table, transform, CARD_MESH, material0Slot, texture.getTextureID());
+            }
+        }
     }
 
-    private void initTableLegVR(GL3 gl) {
-        gl.glBindVertexArray(vaoName[1]);
-        shaderProgram = new ShaderProgram(gl);
-        shaderProgram.loadShaderAndCreateProgram(shaderPath, vertexShaderFileName, fragmentShaderFileName);
-
-        float[] color0 = {0.5f, 0.5f, 0.5f};
-        float[] cubeVertices = DrawTable.tableLegVRVerticices(color0);
-        int[] tableIndices = DrawTable.makeVRLegIndicesForTriangleStrip();
-
-        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vboName[1]);
-
-        gl.glBufferData(GL.GL_ARRAY_BUFFER, cubeVertices.length * 4,
-                FloatBuffer.wrap(cubeVertices), GL.GL_STATIC_DRAW);
-
-        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, iboName[1]);
-
-        gl.glBufferData(GL.GL_ELEMENT_ARRAY_BUFFER, tableIndices.length * 4,
-                IntBuffer.wrap(tableIndices), GL.GL_STATIC_DRAW);
-
-        gl.glEnableVertexAttribArray(0);
-        gl.glVertexAttribPointer(0, 3, GL.GL_FLOAT, false, 11*4, 0);
-        gl.glEnableVertexAttribArray(1);
-        gl.glVertexAttribPointer(1, 3, GL.GL_FLOAT, false, 11*4, 3*4);
-        gl.glEnableVertexAttribArray(2);
-        gl.glVertexAttribPointer(2, 3, GL.GL_FLOAT, false, 11*4, 6*4);
-        gl.glEnableVertexAttribArray(3);
-        gl.glVertexAttribPointer(3, 2, GL.GL_FLOAT, false, 11*4, 9*4);
+    // Writes a mesh in model coordinates
+    private static void putMesh(MeshBuilder builder, int mesh) {
+        switch (mesh) {
+            case TABLE_MESH:
+                float[] tableColor = {0.5f, 0.5f, 0.5f};
+                DrawTable.putBox(builder, 0.8f, 0.05f, 0.6f, tableColor);
+                DrawTable.putTableLegVR(builder, tableColor);
+                DrawTable.putTableLegVL(builder, tableColor);
+                DrawTable.putTableLegHL(builder, tableColor);
+                DrawTable.putTableLegHR(builder, tableColor);
+                break;
+            case CARD_MESH:
+                float[] cardColor = {0.0f, 0.0f, 0.0f};
+                DrawCard.putUnitCard(builder, cardColor);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown mesh: " + mesh);
+        }
     }
 
-    private void displayTableLegVR(GL3 gl) {
-        gl.glUseProgram(shaderProgram.getShaderProgramID());
-
-        gl.glUniformMatrix4fv(0, 1, false, pmvMatrix.glGetPMatrixf());
-        gl.glUniformMatrix4fv(1, 1, false, pmvMatrix.glGetMvMatrixf());
+    private void initInstancedScene(GL3 gl) {
+        shaderProgram = shaderProgramCache.acquireAsync(shaderPath, vertexShaderFileName, fragmentShaderFileName,
+                "INSTANCED");
+        if (asyncShaders)
+            fallbackShaderProgram = shaderProgramCache.acquire(shaderPath,
+                    fallbackVertexShaderFileName, fallbackFragmentShaderFileName, "INSTANCED");
+
+        int[] nodesPerMesh = new int[MESH_COUNT];
+        for (int node = 0; node < scene.getNodeCount(); node++) {
+            if (scene.getMesh(node) != SceneGraph.NO_MESH)
+                nodesPerMesh[scene.getMesh(node)]++;
+        }
+        // Table top and legs are separate strips, joined by primitive restart
+        meshBuilder = new MeshBuilder(vertexFormat);
+        meshBuilder.setPrimitiveRestart(true);
+        sceneMeshes = new InstancedMesh[MESH_COUNT];
+        for (int mesh = 0; mesh < MESH_COUNT; mesh++) {
+            meshBuilder.reset();
+            putMesh(meshBuilder, mesh);
+            sceneMeshes[mesh] = new InstancedMesh(Math.max(1, nodesPerMesh[mesh]));
+            sceneMeshes[mesh].upload(gl, meshBuilder);
+            vertexBytes += meshBuilder.getVertexByteCount();
+            indexBytes += meshBuilder.getIndexByteCount();
+        }
+        meshBuilder.release();
+        meshBuilder = null;
 
-        gl.glBindVertexArray(vaoName[1]);
-        gl.glDrawElements(GL.GL_TRIANGLE_STRIP, DrawTable.noOfIndicesForVRLeg(), GL.GL_UNSIGNED_INT, 0);
+        // The instances are written by sceneRenderer.submit()
+        sceneRenderer = new SceneRenderer(scene, sceneMeshes);
+        sceneRenderer.build();
     }
 
-    private void initTableLegVL(GL3 gl) {
-        gl.glBindVertexArray(vaoName[2]);
-        shaderProgram = new ShaderProgram(gl);
-        shaderProgram.loadShaderAndCreateProgram(shaderPath, vertexShaderFileName, fragmentShaderFileName);
-
-        float[] color0 = {0.5f, 0.5f, 0.5f};
-        float[] cubeVertices = DrawTable.tableLegVLVerticices(color0);
-        int[] tableIndices = DrawTable.makeVLLegIndicesForTriangleStrip();
-
-        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vboName[2]);
-
-        gl.glBufferData(GL.GL_ARRAY_BUFFER, cubeVertices.length * 4,
-                FloatBuffer.wrap(cubeVertices), GL.GL_STATIC_DRAW);
-
-        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, iboName[2]);
-
-        gl.glBufferData(GL.GL_ELEMENT_ARRAY_BUFFER, tableIndices.length * 4,
-                IntBuffer.wrap(tableIndices), GL.GL_STATIC_DRAW);
-
-        gl.glEnableVertexAttribArray(0);
-        gl.glVertexAttribPointer(0, 3, GL.GL_FLOAT, false, 11*4, 0);
-        gl.glEnableVertexAttribArray(1);
-        gl.glVertexAttribPointer(1, 3, GL.GL_FLOAT, false, 11*4, 3*4);
-        gl.glEnableVertexAttribArray(2);
-        gl.glVertexAttribPointer(2, 3, GL.GL_FLOAT, false, 11*4, 6*4);
-        gl.glEnableVertexAttribArray(3);
-        gl.glVertexAttribPointer(3, 2, GL.GL_FLOAT, false, 11*4, 9*4);
+    // The first card lies at its old place on the table, further cards
+    // are laid out in rows and stacked in layers next to it
+    private static void setCardModelMatrix(int card, float[] modelMatrix) {
+        int cardsPerRow = 14;
+        int rowsPerLayer = 5;
+        int column = card % cardsPerRow;
+        int row = (card / cardsPerRow) % rowsPerLayer;
+        int layer = card / (cardsPerRow * rowsPerLayer);
+        Mat4.setTranslation(modelMatrix, 0,
+                DrawCard.CARD_CENTER_X - column * 0.11f,
+                DrawCard.CARD_CENTER_Y + layer * 0.006f,
+                DrawCard.CARD_CENTER_Z - row * 0.21f);
     }
 
-    private void displayTableLegVL(GL3 gl) {
-        gl.glUseProgram(shaderProgram.getShaderProgramID());
-
-        gl.glUniformMatrix4fv(0, 1, false, pmvMatrix.glGetPMatrixf());
-        gl.glUniformMatrix4fv(1, 1, false, pmvMatrix.glGetMvMatrixf());
-
-        gl.glBindVertexArray(vaoName[2]);
-        gl.glDrawElements(GL.GL_TRIANGLE_STRIP, DrawTable.noOfIndicesForVLLeg(), GL.GL_UNSIGNED_INT, 0);
+    private void initOcclusionCulling(GL3 gl) {
+        occlusionProxyProgram = shaderProgramCache.acquire(shaderPath,
+                occlusionProxyVertexShaderFileName, occlusionProxyFragmentShaderFileName);
+        // One object per draw of the scene renderer, near plane distance as in reshape()
+        occlusionCuller = new OcclusionCuller(sceneRenderer.getGroupCount(), 0.1f);
+        sceneRenderer.setOcclusionCuller(occlusionCuller);
+        occlusionCuller.upload(gl, occlusionProxyProgram);
+        if (gpuProfiling)
+            occlusionPass = gpuProfiler.addPass("occlusion proxies");
     }
 
-    private void initTableLegHL(GL3 gl) {
-        gl.glBindVertexArray(vaoName[3]);
-        shaderProgram = new ShaderProgram(gl);
-        shaderProgram.loadShaderAndCreateProgram(shaderPath, vertexShaderFileName, fragmentShaderFileName);
-
-        float[] color0 = {0.5f, 0.5f, 0.5f};
-        float[] cubeVertices = DrawTable.tableLegHLVerticices(color0);
-        int[] tableIndices = DrawTable.makeHLLegIndicesForTriangleStrip();
-
-        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vboName[3]);
-
-        gl.glBufferData(GL.GL_ARRAY_BUFFER, cubeVertices.length * 4,
-                FloatBuffer.wrap(cubeVertices), GL.GL_STATIC_DRAW);
-
-        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, iboName[3]);
-
-        gl.glBufferData(GL.GL_ELEMENT_ARRAY_BUFFER, tableIndices.length * 4,
-                IntBuffer.wrap(tableIndices), GL.GL_STATIC_DRAW);
-
-        gl.glEnableVertexAttribArray(0);
-        gl.glVertexAttribPointer(0, 3, GL.GL_FLOAT, false, 11*4, 0);
-        gl.glEnableVertexAttribArray(1);
-        gl.glVertexAttribPointer(1, 3, GL.GL_FLOAT, false, 11*4, 3*4);
-        gl.glEnableVertexAttribArray(2);
-        gl.glVertexAttribPointer(2, 3, GL.GL_FLOAT, false, 11*4, 6*4);
-        gl.glEnableVertexAttribArray(3);
-        gl.glVertexAttribPointer(3, 2, GL.GL_FLOAT, false, 11*4, 9*4);
+    private void initIndirectScene(GL3 gl) {
+        indirectShaderProgram = shaderProgramCache.acquireAsync(shaderPath, vertexShaderFileName,
+                fragmentShaderFileName, "INDIRECT");
+        if (asyncShaders)
+            indirectFallbackShaderProgram = shaderProgramCache.acquire(shaderPath,
+                    fallbackVertexShaderFileName, fallbackFragmentShaderFileName, "INDIRECT");
+
+        // All meshes share one vertex and index buffer, the mesh IDs are the same
+        indirectScene = new IndirectScene(vertexFormat, scene.getNodeCount());
+        for (int mesh = 0; mesh < MESH_COUNT; mesh++) {
+            putMesh(indirectScene.beginMesh(), mesh);
+            indirectScene.endMesh();
+        }
+        indirectScene.upload(gl);
+
+        // The draws of the visible nodes are written by updateIndirectDraws()
+        scene.update(null);
+        int nodeCount = scene.getNodeCount();
+        indirectObjectOfNode = new int[nodeCount];
+        indirectNodeOfObject = new int[nodeCount];
+        indirectIndex.clear();
+        for (int node = 0; node < nodeCount; node++) {
+            if (scene.getMesh(node) == SceneGraph.NO_MESH) {
+                indirectObjectOfNode[node] = -1;
+                continue;
+            }
+            computeIndirectBounds(node);
+            int object = indirectIndex.add(worldBounds);
+            indirectObjectOfNode[node] = object;
+            indirectNodeOfObject[object] = node;
+        }
+        indirectIndex.build();
+        indirectVisible = new boolean[indirectIndex.getObjectCount()];
+        indirectDrawnObjects = new int[indirectIndex.getObjectCount()];
     }
 
-    private void displayTableLegHL(GL3 gl) {
-        gl.glUseProgram(shaderProgram.getShaderProgramID());
-
-        gl.glUniformMatrix4fv(0, 1, false, pmvMatrix.glGetPMatrixf());
-        gl.glUniformMatrix4fv(1, 1, false, pmvMatrix.glGetMvMatrixf());
-
-        gl.glBindVertexArray(vaoName[3]);
-        gl.glDrawElements(GL.GL_TRIANGLE_STRIP, DrawTable.noOfIndicesForHLLeg(), GL.GL_UNSIGNED_INT, 0);
+    // One draw data entry per node inside the frustum, consecutive nodes with the same
+    // mesh share a draw command. Rewritten only if the visible nodes or their transforms change.
+    private void updateIndirectDraws() {
+        if (scene.update(updateIndirectBounds) > 0) {
+            indirectIndex.refit();
+            indirectTransformsChanged = true;
+        }
+        indirectIndex.queryFrustum(frustum, markIndirectVisible);
+        boolean changed = indirectTransformsChanged;
+        int count = 0;
+        for (int object = 0; object < indirectVisible.length; object++) {
+            if (!indirectVisible[object])
+                continue;
+            indirectVisible[object] = false;
+            if (count >= indirectDrawnCount || indirectDrawnObjects[count] != object)
+                changed = true;
+            indirectDrawnObjects[count++] = object;
+        }
+        if (!changed && count == indirectDrawnCount)
+            return;
+        indirectDrawnCount = count;
+        indirectTransformsChanged = false;
+
+        indirectScene.clearDraws();
+        int i = 0;
+        while (i < count) {
+            int mesh = scene.getMesh(indirectNodeOfObject[indirectDrawnObjects[i]]);
+            int end = i + 1;
+            while (end < count && scene.getMesh(indirectNodeOfObject[indirectDrawnObjects[end]]) == mesh)
+                end++;
+            int entry = indirectScene.addDraw(mesh, end - i);
+            for (; i < end; i++, entry++) {
+                int node = indirectNodeOfObject[indirectDrawnObjects[i]];
+                scene.getWorldMatrix(node, worldMatrix);
+                indirectScene.setTransform(entry, worldMatrix);
+                indirectScene.setMaterial(entry, materials[scene.getMaterialSlot(node)]);
+            }
+        }
     }
 
-    private void initTableLegHR(GL3 gl) {
-        gl.glBindVertexArray(vaoName[4]);
-        shaderProgram = new ShaderProgram(gl);
-        shaderProgram.loadShaderAndCreateProgram(shaderPath, vertexShaderFileName, fragmentShaderFileName);
-
-        float[] color0 = {0.5f, 0.5f, 0.5f};
-        float[] cubeVertices = DrawTable.tableLegHRVerticices(color0);
-        int[] tableIndices = DrawTable.makeHRLegIndicesForTriangleStrip();
-
-        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vboName[4]);
-
-        gl.glBufferData(GL.GL_ARRAY_BUFFER, cubeVertices.length * 4,
-                FloatBuffer.wrap(cubeVertices), GL.GL_STATIC_DRAW);
-
-        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, iboName[4]);
-
-        gl.glBufferData(GL.GL_ELEMENT_ARRAY_BUFFER, tableIndices.length * 4,
-                IntBuffer.wrap(tableIndices), GL.GL_STATIC_DRAW);
-
-        gl.glEnableVertexAttribArray(0);
-        gl.glVertexAttribPointer(0, 3, GL.GL_FLOAT, false, 11*4, 0);
-        gl.glEnableVertexAttribArray(1);
-        gl.glVertexAttribPointer(1, 3, GL.GL_FLOAT, false, 11*4, 3*4);
-        gl.glEnableVertexAttribArray(2);
-        gl.glVertexAttribPointer(2, 3, GL.GL_FLOAT, false, 11*4, 6*4);
-        gl.glEnableVertexAttribArray(3);
-        gl.glVertexAttribPointer(3, 2, GL.GL_FLOAT, false, 11*4, 9*4);
+    // Takes over a changed world matrix of a node
+    private void updateIndirectBounds(int node) {
+        int object = indirectObjectOfNode[node];
+        if (object < 0)
+            return;
+        computeIndirectBounds(node);
+        indirectIndex.setBounds(object, worldBounds);
     }
 
-    private void displayTableLegHR(GL3 gl) {
-        gl.glUseProgram(shaderProgram.getShaderProgramID());
-
-        gl.glUniformMatrix4fv(0, 1, false, pmvMatrix.glGetPMatrixf());
-        gl.glUniformMatrix4fv(1, 1, false, pmvMatrix.glGetMvMatrixf());
-
-        gl.glBindVertexArray(vaoName[4]);
-        gl.glDrawElements(GL.GL_TRIANGLE_STRIP, DrawTable.noOfIndicesForHRLeg(), GL.GL_UNSIGNED_INT, 0);
+    private void computeIndirectBounds(int node) {
+        scene.getWorldMatrix(node, worldMatrix);
+        worldBounds.setTransformed(indirectScene.getMeshBounds(scene.getMesh(node)), worldMatrix);
     }
 
-    private void initCard(GL3 gl) {
-        gl.glBindVertexArray(vaoName[5]);
-        shaderProgram = new ShaderProgram(gl);
-        shaderProgram.loadShaderAndCreateProgram(shaderPath, vertexShaderFileName, fragmentShaderFileName);
-
-        float[] color0 = {0.0f, 0.0f, 0.0f};
-        float[] cubeVertices = DrawCard.makeCardVertices(color0);
-        int[] tableIndices = DrawCard.makeCardIndicesForTriangleStrip();
-
-        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, vboName[5]);
-
-        gl.glBufferData(GL.GL_ARRAY_BUFFER, cubeVertices.length * 4,
-                FloatBuffer.wrap(cubeVertices), GL.GL_STATIC_DRAW);
-
-        gl.glBindBuffer(GL.GL_ELEMENT_ARRAY_BUFFER, iboName[5]);
-
-        gl.glBufferData(GL.GL_ELEMENT_ARRAY_BUFFER, tableIndices.length * 4,
-                IntBuffer.wrap(tableIndices), GL.GL_STATIC_DRAW);
-
-        gl.glEnableVertexAttribArray(0);
-        gl.glVertexAttribPointer(0, 3, GL.GL_FLOAT, false, 11*4, 0);
-        gl.glEnableVertexAttribArray(1);
-        gl.glVertexAttribPointer(1, 3, GL.GL_FLOAT, false, 11*4, 3*4);
-        gl.glEnableVertexAttribArray(2);
-        gl.glVertexAttribPointer(2, 3, GL.GL_FLOAT, false, 11*4, 6*4);
-        gl.glEnableVertexAttribArray(3);
-        gl.glVertexAttribPointer(3, 2, GL.GL_FLOAT, false, 11*4, 9*4);
-
-        //texture
-        //texture = new LoadTexture();
-        //texture.loadTexture(gl, "resources/Karte.JPG");
-
-
+    // The requested program once it is compiled and linked, the fallback program
+    // (no light, no material) until then
+    private static ShaderProgram programOf(ShaderProgramCache.Request request, ShaderProgram fallbackProgram) {
+        return request.isReady() ? request.getProgram() : fallbackProgram;
     }
 
-    private void displayCard(GL3 gl) {
-        gl.glUseProgram(shaderProgram.getShaderProgramID());
-
-        gl.glUniformMatrix4fv(0, 1, false, pmvMatrix.glGetPMatrixf());
-        gl.glUniformMatrix4fv(1, 1, false, pmvMatrix.glGetMvMatrixf());
-
-        gl.glBindVertexArray(vaoName[5]);
-        gl.glDrawElements(GL.GL_TRIANGLE_STRIP, DrawCard.noOfIndicesForCard(), GL.GL_UNSIGNED_INT, 0);
+    // Without fallback programs a failed shader program cannot be replaced
+    private void checkShaderPrograms() {
+        ShaderProgramCache.Request[] requests = {shaderProgram, indirectShaderProgram};
+        for (ShaderProgramCache.Request request : requests) {
+            if (request != null && request.isFailed()) {
+                System.err.println("Error creating shader program, see above.");
+                System.exit(1);
+            }
+        }
     }
 
     @Override
     public void display(GLAutoDrawable drawable) {
-        GL3 gl = drawable.getGL().getGL3();
+        telemetry.beginFrame();
+        glState.beginFrame();
+        GL3 gl = glState.getGL();
+        if (gpuProfiling)
+            gpuProfiler.beginFrame(gl);
+
+        drawFrame(gl);
+
+        // Reads the back buffer before it is swapped
+        String captureName = null;
+        if (interactionHandler.takeScreenshotRequest())
+            captureName = String.format("screenshot%03d", screenshotNumber++);
+        if (captureEveryFrame)
+            frameCapture.captureFrame(gl, drawable.getSurfaceWidth(), drawable.getSurfaceHeight());
+        else
+            frameCapture.endFrame(gl, drawable.getSurfaceWidth(), drawable.getSurfaceHeight(), captureName);
+
+        if (gpuProfiling)
+            gpuProfiler.endFrame(gl);
+        glState.endFrame();
+        telemetry.recordGLCalls(glState.getIssuedCalls(), glState.getSkippedCalls());
+        telemetry.endFrame(glState.getDrawCalls(),
+                indirectDraw ? indirectScene.getTriangleCount() : renderQueue.getTriangleCount(),
+                glState.getStateCalls() - glState.getSkippedCalls(), glState.getUploadedBytes());
+        frameNumber++;
+        if (redrawRequest != null && needsNextFrame())
+            redrawRequest.run();
+    }
+
+    // Whether the scene is still changing without input
+    private boolean needsNextFrame() {
+        if (shaderProgramCache.hasPendingRequests() || frameCapture.hasPendingReads()
+                || !interactionHandler.isSettled())
+            return true;
+        if (occlusionCulling && !indirectDraw) {
+            // The queries of a moved camera decide about the visibility in the next frame
+            boolean moved = !Arrays.equals(modelViewMatrix, lastMvMatrix);
+            System.arraycopy(modelViewMatrix, 0, lastMvMatrix, 0, 16);
+            return moved;
+        }
+        return false;
+    }
+
+    private void drawFrame(GL3 gl) {
         gl.glClear(GL3.GL_COLOR_BUFFER_BIT | GL3.GL_DEPTH_BUFFER_BIT);
 
         gl.glClearColor(0.2f, 0.2f, 0.2f, 1.0f);
 
-        gl.glUseProgram(shaderProgram.getShaderProgramID());
-
-        System.out.println("Camera: z = " + interactionHandler.getEyeZ() + ", " +
-                "x-Rot: " + interactionHandler.getAngleXaxis() +
-                ", y-Rot: " + interactionHandler.getAngleYaxis() +
-                ", x-Translation: " + interactionHandler.getxPosition()+
-                ", y-Translation: " + interactionHandler.getyPosition());// definition of translation of model (Model/Object Coordinates --> World Coordinates)
-
-        pmvMatrix.glMatrixMode(PMVMatrix.GL_MODELVIEW);
-        pmvMatrix.glLoadIdentity();
-        pmvMatrix.gluLookAt(0f, 2f, interactionHandler.getEyeZ(),
-                            0f, 0f, 0f,
-                            0f, 1.0f, 0f);
-        pmvMatrix.glTranslatef(interactionHandler.getxPosition(), interactionHandler.getyPosition(), 0f);
-        pmvMatrix.glRotatef(interactionHandler.getAngleXaxis(), 1f, 0f, 0f);
-        pmvMatrix.glRotatef(interactionHandler.getAngleYaxis(), 0f, 1f, 0f);
-
-        //display Table
-        pmvMatrix.glPushMatrix();
-        displayMainTable(gl);
-        displayTableLegVR(gl);
-        displayTableLegVL(gl);
-        displayTableLegHL(gl);
-        displayTableLegHR(gl);
-        pmvMatrix.glPopMatrix();
-
-        pmvMatrix.glPushMatrix();
-        displayCard(gl);
-        pmvMatrix.glPopMatrix();
+        // Switches to shader programs compiled in the background
+        shaderProgramCache.update();
+
+        // The input since the last frame, one snapshot for the whole frame
+        CameraState camera = interactionHandler.update();
+        if (cameraTraceInterval > 0 && frameNumber % cameraTraceInterval == 0)
+            System.out.println("Camera: " + camera);
+
+        // definition of translation of model (Model/Object Coordinates --> World Coordinates)
+        Mat4.setLookAt(modelViewMatrix, 0, 0f, 2f, camera.getEyeZ(),
+                       0f, 0f, 0f,
+                       0f, 1.0f, 0f);
+        Mat4.translate(modelViewMatrix, 0, camera.getxPosition(), camera.getyPosition(), 0f);
+        Mat4.rotate(modelViewMatrix, 0, camera.getAngleXaxis(), 1f, 0f, 0f);
+        Mat4.rotate(modelViewMatrix, 0, camera.getAngleYaxis(), 0f, 1f, 0f);
+
+        // Camera and light for all shader programs with one buffer update
+        frameUniforms.setMatrices(pMatrix, mvMatrix);
+        frameUniforms.update(gl);
+
+        frustum.update(pMatrix, mvMatrix);
+        if (indirectDraw) {
+            updateIndirectDraws();
+            gl.glUseProgram(programOf(indirectShaderProgram, indirectFallbackShaderProgram).getShaderProgramID());
+            // The draw data has no texture, all nodes use the wood texture
+            gl.glActiveTexture(GL3.GL_TEXTURE0);
+            gl.glBindTexture(GL3.GL_TEXTURE_2D, texture.getTextureID());
+            // all visible nodes with one draw call, materials are read from the draw data
+            if (gpuProfiling)
+                gpuProfiler.beginPass(gl, indirectPass);
+            indirectScene.draw(gl);
+            if (gpuProfiling)
+                gpuProfiler.endPass(gl);
+            return;
+        }
+
+        // All visible nodes are drawn in the order of their sort keys
+        if (occlusionCulling)
+            occlusionCuller.beginFrame(mvMatrix);
+        sceneRenderer.update();
+        renderQueue.clear();
+        sceneRenderer.submit(renderQueue, frustum, mvMatrix, programOf(shaderProgram, fallbackShaderProgram));
+        renderQueue.sort();
+        renderQueue.execute(gl, materialUniforms);
+
+        if (occlusionCulling) {
+            // Bounding boxes against the finished depth buffer, decides about the next frame
+            if (gpuProfiling)
+                gpuProfiler.beginPass(gl, occlusionPass);
+            occlusionCuller.testProxies(gl);
+            if (gpuProfiling)
+                gpuProfiler.endPass(gl);
+            telemetry.recordOcclusion(occlusionCuller.getTestedObjects(), occlusionCuller.getCulledObjects());
+        }
     }
 
     @Override
     public void reshape(GLAutoDrawable drawable, int x, int y, int width, int height) {
-        GL3 gl = drawable.getGL().getGL3();
-
-        pmvMatrix.glMatrixMode(PMVMatrix.GL_PROJECTION);
-        pmvMatrix.glLoadIdentity();
-        pmvMatrix.gluPerspective(45f, (float) width/ (float) height, 0.1f, 100f);
+        Mat4.setPerspective(projectionMatrix, 0, 45f, (float) width/ (float) height, 0.1f, 100f);
     }
 
 
     @Override
     public void dispose(GLAutoDrawable drawable) {
         System.out.println("Deleting allocated objects, incl. shader program.");
-        GL3 gl = drawable.getGL().getGL3();
+        GL3 gl = glState.getGL();
+        telemetry.stop();
+        if (gpuProfiling)
+            gpuProfiler.dispose(gl);
+        if (telemetrySummarySeconds > 0)
+            System.out.println(telemetry.getSummary());
+        frameCapture.dispose(gl);
+        if (frameCapture.getWrittenFrames() > 0 || frameCapture.getDroppedFrames() > 0)
+            System.out.println("Frame capture: " + frameCapture.getWrittenFrames() + " frames written, "
+                    + frameCapture.getDroppedFrames() + " dropped");
 
         // Detach and delete shader program
         gl.glUseProgram(0);
-        shaderProgram.deleteShaderProgram();
+        if (indirectDraw) {
+            shaderProgramCache.release(indirectShaderProgram);
+            if (indirectFallbackShaderProgram != null)
+                shaderProgramCache.release(indirectFallbackShaderProgram);
+            indirectScene.dispose(gl);
+        } else {
+            shaderProgramCache.release(shaderProgram);
+            if (asyncShaders)
+                shaderProgramCache.release(fallbackShaderProgram);
+            for (InstancedMesh mesh : sceneMeshes)
+                mesh.dispose(gl);
+            if (occlusionCulling) {
+                shaderProgramCache.release(occlusionProxyProgram);
+                occlusionCuller.dispose(gl);
+            }
+        }
+
+        frameUniforms.dispose(gl);
+        materialUniforms.dispose(gl);
 
         // deactivate VAO and VBO
         gl.glBindVertexArray(0);
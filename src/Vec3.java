@@ -0,0 +1,87 @@
+/**
+ * Vectors (x, y, z) stored in float arrays at an offset, so the points and
+ * normals of a mesh can be kept in one array instead of a float[3] each.
+ * No method allocates, out may be the same as an input.
+ */
+public final class Vec3 {
+
+    private Vec3() {
+    }
+
+    public static void set(float[] v, int vo, float x, float y, float z) {
+        v[vo] = x;
+        v[vo + 1] = y;
+        v[vo + 2] = z;
+    }
+
+    /**
+     * out = a + b
+     */
+    public static void add(float[] a, int ao, float[] b, int bo, float[] out, int oo) {
+        out[oo] = a[ao] + b[bo];
+        out[oo + 1] = a[ao + 1] + b[bo + 1];
+        out[oo + 2] = a[ao + 2] + b[bo + 2];
+    }
+
+    /**
+     * out = a - b
+     */
+    public static void subtract(float[] a, int ao, float[] b, int bo, float[] out, int oo) {
+        out[oo] = a[ao] - b[bo];
+        out[oo + 1] = a[ao + 1] - b[bo + 1];
+        out[oo + 2] = a[ao + 2] - b[bo + 2];
+    }
+
+    /**
+     * out = v * s
+     */
+    public static void scale(float[] v, int vo, float s, float[] out, int oo) {
+        out[oo] = v[vo] * s;
+        out[oo + 1] = v[vo + 1] * s;
+        out[oo + 2] = v[vo + 2] * s;
+    }
+
+    public static float dot(float[] a, int ao, float[] b, int bo) {
+        return a[ao] * b[bo] + a[ao + 1] * b[bo + 1] + a[ao + 2] * b[bo + 2];
+    }
+
+    /**
+     * out = a x b
+     */
+    public static void cross(float[] a, int ao, float[] b, int bo, float[] out, int oo) {
+        float x = a[ao + 1] * b[bo + 2] - a[ao + 2] * b[bo + 1];
+        float y = a[ao + 2] * b[bo] - a[ao] * b[bo + 2];
+        float z = a[ao] * b[bo + 1] - a[ao + 1] * b[bo];
+        out[oo] = x;
+        out[oo + 1] = y;
+        out[oo + 2] = z;
+    }
+
+    public static float length(float[] v, int vo) {
+        return (float) Math.sqrt(dot(v, vo, v, vo));
+    }
+
+    /**
+     * Scales v to length 1, a zero vector stays zero.
+     */
+    public static void normalize(float[] v, int vo, float[] out, int oo) {
+        float length = length(v, vo);
+        scale(v, vo, length > 0f ? 1f / length : 0f, out, oo);
+    }
+
+    /**
+     * Normalizes count consecutive vectors in place, eg. the normals of a mesh.
+     */
+    public static void normalizeAll(float[] v, int vo, int count) {
+        for (int i = vo; i < vo + count * 3; i += 3) {
+            float x = v[i];
+            float y = v[i + 1];
+            float z = v[i + 2];
+            float lengthSquared = x * x + y * y + z * z;
+            float s = lengthSquared > 0f ? 1f / (float) Math.sqrt(lengthSquared) : 0f;
+            v[i] = x * s;
+            v[i + 1] = y * s;
+            v[i + 2] = z * s;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL3;
+
+/**
+ * Vertex layouts the MeshBuilder can write.
+ * Attribute locations match BlinnPhongPointTex.vert:
+ * 0 = position, 1 = color, 2 = normal, 3 = texture coordinates.
+ */
+public enum VertexFormat {
+
+    /**
+     * 11 floats (44 bytes): position (3), color (3), normal (3), texture coordinates (2)
+     */
+    STANDARD(11 * 4) {
+        @Override
+        public void setupAttributes(GL3 gl) {
+            gl.glEnableVertexAttribArray(0);
+            gl.glVertexAttribPointer(0, 3, GL.GL_FLOAT, false, getStride(), 0);
+            gl.glEnableVertexAttribArray(1);
+            gl.glVertexAttribPointer(1, 3, GL.GL_FLOAT, false, getStride(), 3*4);
+            gl.glEnableVertexAttribArray(2);
+            gl.glVertexAttribPointer(2, 3, GL.GL_FLOAT, false, getStride(), 6*4);
+            gl.glEnableVertexAttribArray(3);
+            gl.glVertexAttribPointer(3, 2, GL.GL_FLOAT, false, getStride(), 9*4);
+        }
+    },
+
+    /**
+     * 16 bytes: half float position (3 + 1 padding),
+     * normal as GL_INT_2_10_10_10_REV and texture coordinates as normalized unsigned shorts.
+     * The color is dropped because the shaders do not read it.
+     * Texture coordinates are clamped to [0, 1].
+     */
+    COMPACT(16) {
+        @Override
+        public void setupAttributes(GL3 gl) {
+            gl.glEnableVertexAttribArray(0);
+            gl.glVertexAttribPointer(0, 3, GL.GL_HALF_FLOAT, false, getStride(), 0);
+            gl.glDisableVertexAttribArray(1);
+            gl.glEnableVertexAttribArray(2);
+            gl.glVertexAttribPointer(2, 4, GL3.GL_INT_2_10_10_10_REV, true, getStride(), 8);
+            gl.glEnableVertexAttribArray(3);
+            gl.glVertexAttribPointer(3, 2, GL.GL_UNSIGNED_SHORT, true, getStride(), 12);
+        }
+    };
+
+    private final int stride;
+
+    VertexFormat(int stride) {
+        this.stride = stride;
+    }
+
+    /**
+     * Returns the number of bytes per vertex
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Enables and describes the vertex attributes for the currently bound VAO and VBO.
+     * @param gl    OpenGL context
+     */
+    public abstract void setupAttributes(GL3 gl);
+
+    /**
+     * Returns the smallest OpenGL index type able to address the given number of vertices.
+     * The maximum value of the type stays free for use as primitive restart index.
+     * @param vertexCount   Number of vertices of the mesh
+     * @return              GL_UNSIGNED_BYTE, GL_UNSIGNED_SHORT or GL_UNSIGNED_INT
+     */
+    public static int indexTypeFor(int vertexCount) {
+        if (vertexCount <= 0xFF)
+            return GL.GL_UNSIGNED_BYTE;
+        if (vertexCount <= 0xFFFF)
+            return GL.GL_UNSIGNED_SHORT;
+        return GL.GL_UNSIGNED_INT;
+    }
+
+    /**
+     * Returns the size in bytes of an OpenGL index type.
+     */
+    public static int indexTypeSize(int indexType) {
+        switch (indexType) {
+            case GL.GL_UNSIGNED_BYTE:
+                return 1;
+            case GL.GL_UNSIGNED_SHORT:
+                return 2;
+            case GL.GL_UNSIGNED_INT:
+                return 4;
+            default:
+                throw new IllegalArgumentException("Unknown index type: " + indexType);
+        }
+    }
+
+    /**
+     * Converts a float to an IEEE 754 half float (round to nearest even).
+     */
+    public static short floatToHalf(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = (bits >>> 23) & 0xFF;
+        int mantissa = bits & 0x7FFFFF;
+
+        if (exponent == 0xFF)       // infinity or NaN
+            return (short) (sign | 0x7C00 | (mantissa != 0 ? 0x200 : 0));
+        int halfExponent = exponent - 127 + 15;
+        if (halfExponent >= 0x1F)   // overflow
+            return (short) (sign | 0x7C00);
+        if (halfExponent <= 0) {    // subnormal half float or zero
+            if (halfExponent < -10)
+                return (short) sign;
+            mantissa |= 0x800000;
+            int shift = 14 - halfExponent;
+            int halfMantissa = mantissa >> shift;
+            int remainder = mantissa & ((1 << shift) - 1);
+            int halfway = 1 << (shift - 1);
+            if (remainder > halfway || (remainder == halfway && (halfMantissa & 1) != 0))
+                halfMantissa++;
+            return (short) (sign | halfMantissa);
+        }
+        int half = sign | (halfExponent << 10) | (mantissa >> 13);
+        int remainder = mantissa & 0x1FFF;
+        // a carry into the exponent is the correctly rounded result
+        if (remainder > 0x1000 || (remainder == 0x1000 && (half & 1) != 0))
+            half++;
+        return (short) half;
+    }
+
+    /**
+     * Packs a normal into GL_INT_2_10_10_10_REV (signed normalized, w = 0).
+     */
+    public static int packNormal(float nx, float ny, float nz) {
+        return (packSnorm10(nx)) | (packSnorm10(ny) << 10) | (packSnorm10(nz) << 20);
+    }
+
+    private static int packSnorm10(float value) {
+        float clamped = Math.max(-1f, Math.min(1f, value));
+        return Math.round(clamped * 511f) & 0x3FF;
+    }
+
+    /**
+     * Converts a texture coordinate in [0, 1] to a normalized unsigned short.
+     */
+    public static short packUnorm16(float value) {
+        float clamped = Math.max(0f, Math.min(1f, value));
+        return (short) Math.round(clamped * 65535f);
+    }
+}
@@ -0,0 +1,202 @@
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Compares the queries of BoundingVolumeHierarchy with testing every object,
+ * for small trees and for trees large enough to be built and refitted in parallel.
+ */
+public class BoundingVolumeHierarchyTest {
+
+    private final Random random = new Random(3);
+    // Objects of the last randomHierarchy(), by ID
+    private BoundingBox[] boxes;
+
+    @Test
+    public void emptyHierarchyHasNoNodes() {
+        BoundingVolumeHierarchy bvh = new BoundingVolumeHierarchy();
+        bvh.build();
+        assertEquals(0, bvh.getNodeCount());
+        checkEmpty(bvh);
+        // Also after all objects have been removed
+        bvh = randomHierarchy(100);
+        bvh.clear();
+        bvh.build();
+        assertEquals(0, bvh.getNodeCount());
+        checkEmpty(bvh);
+    }
+
+    @Test
+    public void boxQueriesMatchBruteForce() {
+        checkBoxQueries(randomHierarchy(37));
+        checkBoxQueries(randomHierarchy(5000));
+    }
+
+    @Test
+    public void frustumQueriesMatchBruteForce() {
+        checkFrustumQueries(randomHierarchy(37));
+        checkFrustumQueries(randomHierarchy(5000));
+    }
+
+    @Test
+    public void raycastFindsNearestObject() {
+        BoundingVolumeHierarchy bvh = randomHierarchy(3000);
+        for (int i = 0; i < 200; i++) {
+            float ox = coordinate(), oy = coordinate(), oz = coordinate();
+            float dx = random.nextFloat() - 0.5f, dy = random.nextFloat() - 0.5f, dz = random.nextFloat() - 0.5f;
+            int hit = bvh.raycast(ox, oy, oz, dx, dy, dz, 1000f);
+            float nearest = Float.POSITIVE_INFINITY;
+            for (int object = 0; object < boxes.length; object++) {
+                float distance = rayDistance(boxes[object], ox, oy, oz, dx, dy, dz);
+                if (distance <= 1000f)
+                    nearest = Math.min(nearest, distance);
+            }
+            if (nearest == Float.POSITIVE_INFINITY)
+                assertEquals(-1, hit);
+            else
+                assertEquals(nearest, rayDistance(boxes[hit], ox, oy, oz, dx, dy, dz), 0f);
+        }
+    }
+
+    @Test
+    public void queriesFollowMovedObjects() {
+        BoundingVolumeHierarchy bvh = randomHierarchy(5000);
+        // A few objects moved one by one, then many moved at once
+        for (int i = 0; i < 50; i++) {
+            int object = random.nextInt(boxes.length);
+            boxes[object] = randomBox();
+            bvh.update(object, boxes[object]);
+        }
+        checkBoxQueries(bvh);
+        for (int object = 0; object < boxes.length; object += 2) {
+            boxes[object] = randomBox();
+            bvh.setBounds(object, boxes[object]);
+        }
+        bvh.refit();
+        checkBoxQueries(bvh);
+        checkFrustumQueries(bvh);
+    }
+
+    private BoundingVolumeHierarchy randomHierarchy(int objectCount) {
+        BoundingVolumeHierarchy bvh = new BoundingVolumeHierarchy();
+        boxes = new BoundingBox[objectCount];
+        for (int object = 0; object < objectCount; object++) {
+            boxes[object] = randomBox();
+            assertEquals(object, bvh.add(boxes[object]));
+        }
+        bvh.build();
+        return bvh;
+    }
+
+    private void checkBoxQueries(BoundingVolumeHierarchy bvh) {
+        for (int i = 0; i < 100; i++) {
+            BoundingBox query = randomBox(20f);
+            TreeSet<Integer> expected = new TreeSet<Integer>();
+            for (int object = 0; object < boxes.length; object++) {
+                BoundingBox box = boxes[object];
+                if (box.getMinX() <= query.getMaxX() && box.getMaxX() >= query.getMinX()
+                        && box.getMinY() <= query.getMaxY() && box.getMaxY() >= query.getMinY()
+                        && box.getMinZ() <= query.getMaxZ() && box.getMaxZ() >= query.getMinZ())
+                    expected.add(object);
+            }
+            assertEquals(expected, collect(bvh, query));
+        }
+    }
+
+    private void checkFrustumQueries(BoundingVolumeHierarchy bvh) {
+        float[] projection = new float[16];
+        float[] view = new float[16];
+        Mat4.setPerspective(projection, 0, 45f, 1.3f, 0.5f, 60f);
+        Frustum frustum = new Frustum();
+        for (int i = 0; i < 50; i++) {
+            Mat4.setLookAt(view, 0, coordinate(), coordinate(), coordinate(),
+                    coordinate(), coordinate(), coordinate(), 0f, 1f, 0f);
+            frustum.update(FloatBuffer.wrap(projection), FloatBuffer.wrap(view));
+            TreeSet<Integer> expected = new TreeSet<Integer>();
+            for (int object = 0; object < boxes.length; object++) {
+                if (frustum.intersects(boxes[object]))
+                    expected.add(object);
+            }
+            final TreeSet<Integer> visited = new TreeSet<Integer>();
+            bvh.queryFrustum(frustum, new IntConsumer() {
+                @Override
+                public void accept(int object) {
+                    // Every object is visited once
+                    assertTrue(visited.add(object));
+                }
+            });
+            assertEquals(expected, visited);
+        }
+    }
+
+    private void checkEmpty(BoundingVolumeHierarchy bvh) {
+        Frustum frustum = new Frustum();
+        float[] projection = new float[16];
+        float[] view = new float[16];
+        Mat4.setPerspective(projection, 0, 45f, 1.3f, 0.5f, 60f);
+        Mat4.setLookAt(view, 0, 0f, 0f, 10f, 0f, 0f, 0f, 0f, 1f, 0f);
+        frustum.update(FloatBuffer.wrap(projection), FloatBuffer.wrap(view));
+        bvh.queryFrustum(frustum, new IntConsumer() {
+            @Override
+            public void accept(int object) {
+                fail("Object " + object + " visited");
+            }
+        });
+        assertEquals(new TreeSet<Integer>(), collect(bvh, new BoundingBox(-1e6f, -1e6f, -1e6f, 1e6f, 1e6f, 1e6f)));
+        assertEquals(-1, bvh.raycast(0f, 0f, 10f, 0f, 0f, -1f, 1000f));
+        BoundingBox bounds = new BoundingBox(0f, 0f, 0f, 1f, 1f, 1f);
+        bvh.getBounds(bounds);
+        assertTrue(bounds.isEmpty());
+        bvh.refit();
+    }
+
+    private static TreeSet<Integer> collect(BoundingVolumeHierarchy bvh, BoundingBox query) {
+        final TreeSet<Integer> visited = new TreeSet<Integer>();
+        bvh.queryBox(query, new IntConsumer() {
+            @Override
+            public void accept(int object) {
+                assertTrue(visited.add(object));
+            }
+        });
+        return visited;
+    }
+
+    private BoundingBox randomBox() {
+        return randomBox(3f);
+    }
+
+    private BoundingBox randomBox(float maxSize) {
+        float x = coordinate(), y = coordinate(), z = coordinate();
+        return new BoundingBox(x, y, z, x + random.nextFloat() * maxSize,
+                y + random.nextFloat() * maxSize, z + random.nextFloat() * maxSize);
+    }
+
+    private float coordinate() {
+        return (random.nextFloat() - 0.5f) * 100f;
+    }
+
+    // Slab test as in BoundingVolumeHierarchy, infinity if the ray misses the box
+    private static float rayDistance(BoundingBox box, float ox, float oy, float oz, float dx, float dy, float dz) {
+        float invX = 1f / dx, invY = 1f / dy, invZ = 1f / dz;
+        float t1 = (box.getMinX() - ox) * invX, t2 = (box.getMaxX() - ox) * invX;
+        float near = Math.min(t1, t2), far = Math.max(t1, t2);
+        t1 = (box.getMinY() - oy) * invY;
+        t2 = (box.getMaxY() - oy) * invY;
+        near = Math.max(near, Math.min(t1, t2));
+        far = Math.min(far, Math.max(t1, t2));
+        t1 = (box.getMinZ() - oz) * invZ;
+        t2 = (box.getMaxZ() - oz) * invZ;
+        near = Math.max(near, Math.min(t1, t2));
+        far = Math.min(far, Math.max(t1, t2));
+        if (far < Math.max(near, 0f))
+            return Float.POSITIVE_INFINITY;
+        return Math.max(near, 0f);
+    }
+}
@@ -0,0 +1,143 @@
+import com.jogamp.opengl.GL3;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the execution order of RenderQueue against the key layout: opaque
+ * draws before transparent ones, opaque draws by program, texture and vertex
+ * array and then front-to-back, transparent draws back-to-front, equal keys in
+ * submission order. Small queues are sorted by insertion sort, large ones by
+ * the radix sort.
+ */
+public class RenderQueueTest {
+
+    private static final float FAR = 100f;
+    // Depths are multiples of a step, different steps have different quantized depths
+    private static final int DEPTH_STEPS = 200;
+
+    private final GL3 gl = new GLRecorder().getGL();
+    private final List<Draw> executed = new ArrayList<Draw>();
+
+    @Test
+    public void sortsFewDrawsByKey() {
+        checkOrder(10, 1);
+    }
+
+    @Test
+    public void sortsManyDrawsByKey() {
+        checkOrder(2000, 2);
+    }
+
+    @Test
+    public void keepsSubmissionOrderOfEqualKeys() {
+        RenderQueue queue = new RenderQueue(4, FAR);
+        List<Draw> draws = new ArrayList<Draw>();
+        for (int i = 0; i < 100; i++)
+            draws.add(submit(queue, new Draw(i, RenderQueue.PASS_OPAQUE, 1, 2, 3, 10)));
+        queue.sort();
+        queue.execute(gl, null);
+        assertArrayEquals(draws.toArray(), executed.toArray());
+    }
+
+    @Test
+    public void switchesStateOnlyWhenItChanges() {
+        RenderQueue queue = new RenderQueue(4, FAR);
+        // Submitted with alternating programs, executed grouped by program
+        for (int i = 0; i < 64; i++)
+            submit(queue, new Draw(i, RenderQueue.PASS_OPAQUE, 1 + (i & 1), 7, 3, i));
+        queue.sort();
+        queue.execute(gl, null);
+        assertEquals(64, queue.getDrawCount());
+        assertEquals(2, queue.getProgramSwitches());
+        assertEquals(1, queue.getTextureSwitches());
+        assertEquals(0, queue.getMaterialSwitches());
+        assertEquals(64 * 12, queue.getTriangleCount());
+    }
+
+    private void checkOrder(int drawCount, long seed) {
+        Random random = new Random(seed);
+        RenderQueue queue = new RenderQueue(4, FAR);
+        List<Draw> draws = new ArrayList<Draw>();
+        for (int i = 0; i < drawCount; i++) {
+            // Few different values, so keys share digits and depths decide
+            int pass = random.nextInt(4) == 0 ? RenderQueue.PASS_TRANSPARENT : RenderQueue.PASS_OPAQUE;
+            draws.add(submit(queue, new Draw(i, pass, 1 + random.nextInt(3), 1 + random.nextInt(4),
+                    1 + random.nextInt(3), random.nextInt(DEPTH_STEPS))));
+        }
+        queue.sort();
+        queue.execute(gl, null);
+
+        List<Draw> expected = new ArrayList<Draw>(draws);
+        expected.sort(new Comparator<Draw>() {
+            @Override
+            public int compare(Draw a, Draw b) {
+                if (a.pass != b.pass)
+                    return Integer.compare(a.pass, b.pass);
+                if (a.pass == RenderQueue.PASS_TRANSPARENT && a.depthStep != b.depthStep)
+                    return Integer.compare(b.depthStep, a.depthStep);
+                if (a.program != b.program)
+                    return Integer.compare(a.program, b.program);
+                if (a.texture != b.texture)
+                    return Integer.compare(a.texture, b.texture);
+                if (a.vertexArray != b.vertexArray)
+                    return Integer.compare(a.vertexArray, b.vertexArray);
+                if (a.depthStep != b.depthStep)
+                    return Integer.compare(a.depthStep, b.depthStep);
+                return Integer.compare(a.index, b.index);
+            }
+        });
+        assertArrayEquals(expected.toArray(), executed.toArray());
+    }
+
+    private Draw submit(RenderQueue queue, Draw draw) {
+        ShaderProgram program = new ShaderProgram(gl);
+        program.shaderProgramID = draw.program;
+        queue.submit(draw.pass, draw, program, draw.texture, -1, draw.depthStep * FAR / DEPTH_STEPS);
+        return draw;
+    }
+
+    private class Draw implements Renderable {
+        final int index;
+        final int pass;
+        final int program;
+        final int texture;
+        final int vertexArray;
+        final int depthStep;
+
+        Draw(int index, int pass, int program, int texture, int vertexArray, int depthStep) {
+            this.index = index;
+            this.pass = pass;
+            this.program = program;
+            this.texture = texture;
+            this.vertexArray = vertexArray;
+            this.depthStep = depthStep;
+        }
+
+        @Override
+        public void draw(GL3 gl) {
+            executed.add(this);
+        }
+
+        @Override
+        public int getVertexArrayID() {
+            return vertexArray;
+        }
+
+        @Override
+        public long getTriangleCount() {
+            return 12;
+        }
+
+        @Override
+        public String toString() {
+            return "draw " + index;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+import org.junit.Test;
+
+import java.util.TreeSet;
+import java.util.function.IntConsumer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks that SceneGraph.update() recomputes exactly the changed nodes and
+ * their descendants, and that their world matrices are the products of the
+ * local matrices along the path from the root.
+ *
+ * Tree of the tests:
+ * table (0) - card (1) - marker (2)
+ *           - card (3)
+ * lamp (4)
+ */
+public class SceneGraphTest {
+
+    private final SceneGraph graph = new SceneGraph(2);
+    private final int table = graph.addNode(SceneGraph.NO_PARENT, translation(1, 0, 0));
+    private final int card = graph.addNode(table, translation(0, 2, 0));
+    private final int marker = graph.addNode(card, translation(0, 0, 3));
+    private final int otherCard = graph.addNode(table, null);
+    private final int lamp = graph.addNode(SceneGraph.NO_PARENT, translation(5, 5, 5));
+
+    @Test
+    public void firstUpdateComputesAllNodes() {
+        assertEquals(nodes(table, card, marker, otherCard, lamp), update());
+        assertWorldTranslation(marker, 1, 2, 3);
+        assertWorldTranslation(otherCard, 1, 0, 0);
+        assertWorldTranslation(lamp, 5, 5, 5);
+    }
+
+    @Test
+    public void updateWithoutChangesDoesNothing() {
+        update();
+        assertEquals(nodes(), update());
+        assertEquals(0, graph.update(null));
+    }
+
+    @Test
+    public void changedNodeUpdatesItsSubtreeOnly() {
+        update();
+        graph.setLocalTransform(card, translation(0, 4, 0));
+        assertEquals(nodes(card, marker), update());
+        assertWorldTranslation(card, 1, 4, 0);
+        assertWorldTranslation(marker, 1, 4, 3);
+        assertWorldTranslation(otherCard, 1, 0, 0);
+    }
+
+    @Test
+    public void changedRootPropagatesToAllDescendants() {
+        update();
+        graph.setLocalTransform(table, translation(-1, 0, 0));
+        assertEquals(nodes(table, card, marker, otherCard), update());
+        assertWorldTranslation(marker, -1, 2, 3);
+        assertWorldTranslation(lamp, 5, 5, 5);
+    }
+
+    @Test
+    public void changesOfSeveralNodesAreCombined() {
+        update();
+        graph.setLocalTransform(marker, translation(0, 0, -3));
+        graph.setLocalTransform(lamp, null);
+        graph.setLocalTransform(card, translation(0, 1, 0));
+        assertEquals(nodes(card, marker, lamp), update());
+        assertWorldTranslation(marker, 1, 1, -3);
+        assertWorldTranslation(lamp, 0, 0, 0);
+    }
+
+    @Test
+    public void nodeAddedLaterIsComputedWithItsParent() {
+        update();
+        int chip = graph.addNode(otherCard, translation(0, 0, 1));
+        assertEquals(nodes(chip), update());
+        assertWorldTranslation(chip, 1, 0, 1);
+    }
+
+    private TreeSet<Integer> update() {
+        final TreeSet<Integer> changed = new TreeSet<Integer>();
+        int count = graph.update(new IntConsumer() {
+            @Override
+            public void accept(int node) {
+                changed.add(node);
+            }
+        });
+        assertEquals(changed.size(), count);
+        return changed;
+    }
+
+    private static TreeSet<Integer> nodes(int... nodes) {
+        TreeSet<Integer> set = new TreeSet<Integer>();
+        for (int node : nodes)
+            set.add(node);
+        return set;
+    }
+
+    private void assertWorldTranslation(int node, float x, float y, float z) {
+        float[] matrix = new float[16];
+        graph.getWorldMatrix(node, matrix);
+        assertArrayEquals(translation(x, y, z), matrix, 0f);
+    }
+
+    private static float[] translation(float x, float y, float z) {
+        float[] m = new float[16];
+        Mat4.setTranslation(m, 0, x, y, z);
+        return m;
+    }
+}
@@ -0,0 +1,97 @@
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks VertexFormat.floatToHalf against the definition of IEEE 754 half
+ * floats: every half float converts back to itself, and floats between two
+ * neighbouring half floats round to the nearer one, ties to the one with an
+ * even mantissa. This covers subnormal half floats, the carry into the
+ * exponent and the overflow to infinity.
+ */
+public class VertexFormatTest {
+
+    @Test
+    public void halfFloatsConvertExactly() {
+        for (int half = 0; half < 0x10000; half++) {
+            if (isNaN(half))
+                continue;
+            assertHalf(half, halfToFloat(half));
+        }
+    }
+
+    @Test
+    public void roundsToNearestEven() {
+        // Neighbouring finite half floats of the same sign, infinity is checked by subnormalsAndLimits()
+        for (int half = 0; half < 0x7BFF; half++) {
+            for (int sign = 0; sign <= 0x8000; sign += 0x8000) {
+                int lower = sign | half;
+                int upper = sign | (half + 1);
+                // Exact in float: half floats have 11 significant bits
+                float midpoint = (float) ((halfToFloat(lower) + (double) halfToFloat(upper)) / 2.0);
+                float towardsUpper = sign == 0 ? Math.nextUp(midpoint) : Math.nextDown(midpoint);
+                float towardsLower = sign == 0 ? Math.nextDown(midpoint) : Math.nextUp(midpoint);
+                assertHalf((lower & 1) == 0 ? lower : upper, midpoint);
+                assertHalf(upper, towardsUpper);
+                assertHalf(lower, towardsLower);
+            }
+        }
+    }
+
+    @Test
+    public void subnormalsAndLimits() {
+        assertHalf(0x0000, 0f);
+        assertHalf(0x8000, -0f);
+        // Smallest subnormal 2^-24, half of it is a tie with 0
+        assertHalf(0x0001, 0x1p-24f);
+        assertHalf(0x0000, 0x1p-25f);
+        assertHalf(0x0001, Math.nextUp(0x1p-25f));
+        assertHalf(0x8001, -0x1p-24f);
+        assertHalf(0x0000, Float.MIN_VALUE);
+        // Largest subnormal and smallest normal half float
+        assertHalf(0x03FF, 0x3FFp-24f);
+        assertHalf(0x0400, 0x1p-14f);
+        assertHalf(0x0400, Math.nextDown(0x1p-14f));
+        // Largest half float 65504, from 65520 on the result is infinity
+        assertHalf(0x7BFF, 65504f);
+        assertHalf(0x7BFF, Math.nextDown(65520f));
+        assertHalf(0x7C00, 65520f);
+        assertHalf(0x7C00, Float.MAX_VALUE);
+        assertHalf(0xFC00, -1e10f);
+        assertHalf(0x7C00, Float.POSITIVE_INFINITY);
+        assertHalf(0xFC00, Float.NEGATIVE_INFINITY);
+        assertHalf(0x3C00, 1f);
+        assertHalf(0x3555, 1f / 3f);
+    }
+
+    @Test
+    public void nanStaysNaN() {
+        assertTrue(isNaN(VertexFormat.floatToHalf(Float.NaN) & 0xFFFF));
+        assertTrue(isNaN(VertexFormat.floatToHalf(Float.intBitsToFloat(0x7F800001)) & 0xFFFF));
+    }
+
+    private static void assertHalf(int expected, float value) {
+        int half = VertexFormat.floatToHalf(value) & 0xFFFF;
+        assertEquals("floatToHalf(" + value + " = " + Float.toHexString(value) + ")",
+                Integer.toHexString(expected), Integer.toHexString(half));
+    }
+
+    private static boolean isNaN(int half) {
+        return (half & 0x7C00) == 0x7C00 && (half & 0x3FF) != 0;
+    }
+
+    // Exact value of a finite half float or infinity
+    private static float halfToFloat(int half) {
+        int exponent = (half >>> 10) & 0x1F;
+        int mantissa = half & 0x3FF;
+        float magnitude;
+        if (exponent == 0x1F)
+            magnitude = Float.POSITIVE_INFINITY;
+        else if (exponent == 0)
+            magnitude = mantissa * 0x1p-24f;
+        else
+            magnitude = (0x400 | mantissa) * (float) Math.pow(2, exponent - 25);
+        return (half & 0x8000) != 0 ? -magnitude : magnitude;
+    }
+}
@@ -0,0 +1,357 @@
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Generates the GL3 implementations that cannot be written by hand because
+ * they implement every method of the interface:
+ * - ForwardingGL3.java, the base class of GLStateCache
+ * - RecordingGL3.java, the base class of GLRecorder
+ *
+ * The methods are taken from the GL3 interface of the JOGL version on the class
+ * path, so the files have to be generated again after a JOGL upgrade. From the
+ * project directory:
+ *
+ * mvn -q -pl renderer dependency:build-classpath -Dmdep.outputFile=target/gl.classpath
+ * javac -d renderer/target/generator -cp "$(cat renderer/target/gl.classpath)" tools/GL3WrapperGenerator.java
+ * java -cp "renderer/target/generator:$(cat renderer/target/gl.classpath)" GL3WrapperGenerator src
+ */
+public class GL3WrapperGenerator {
+
+    private static final String FORWARDING_JAVADOC =
+            "/**\n"
+            + " * GL3 that forwards every call to another GL3 object and counts the OpenGL\n"
+            + " * calls (gl*). Wrappers such as GLStateCache extend it and override only the\n"
+            + " * calls they handle, all other calls cost one direct method call.\n"
+            + " * getGL(), getGL3(), ... return the forwarding object itself, so the wrapper\n"
+            + " * is not bypassed, getDownstreamGL() returns the wrapped GL object.\n"
+            + " *\n"
+            + " * The methods were generated from the GL3 interface of JOGL %s by\n"
+            + " * tools/GL3WrapperGenerator.java, which describes how to generate them again.\n"
+            + " */\n";
+
+    private static final String RECORDING_JAVADOC =
+            "/**\n"
+            + " * GL3 without OpenGL: passes every call with its arguments to the methods\n"
+            + " * call() and record() of a subclass (see GLRecorder) instead of calling a\n"
+            + " * driver. Every method has a function ID, the index of its signature in\n"
+            + " * FUNCTIONS, and costs one direct method call per argument, nothing is boxed.\n"
+            + " *\n"
+            + " * Calls are answered like by a driver that supports everything: new object\n"
+            + " * names for glGen* and glCreate*, signaled fences, complete framebuffers,\n"
+            + " * true for glIs*, is*Available and the GL3 profile checks. Names, glGet*\n"
+            + " * values, mapped buffers and strings are supplied by the subclass, all other\n"
+            + " * calls return 0, false or null.\n"
+            + " *\n"
+            + " * The methods were generated from the GL3 interface of JOGL %s by\n"
+            + " * tools/GL3WrapperGenerator.java, which describes how to generate them again.\n"
+            + " */\n";
+
+    private final Class<?> gl3;
+    // Methods of GL3 by name and parameter types, sorted
+    private final Map<String, Method> methods = new TreeMap<String, Method>();
+    // Classes used by the methods of the current file
+    private final TreeSet<String> imports = new TreeSet<String>();
+
+    private GL3WrapperGenerator() throws ClassNotFoundException {
+        gl3 = Class.forName("com.jogamp.opengl.GL3");
+        for (Method method : gl3.getMethods()) {
+            if (Modifier.isStatic(method.getModifiers()))
+                continue;
+            // A method inherited from several interfaces is implemented once, with the most specific return type
+            String key = method.getName() + Arrays.toString(method.getParameterTypes());
+            Method known = methods.get(key);
+            if (known == null || known.getReturnType().isAssignableFrom(method.getReturnType()))
+                methods.put(key, method);
+        }
+    }
+
+    /**
+     * Writes the generated files.
+     * @param args  Source directory of the renderer (src)
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            System.err.println("Usage: GL3WrapperGenerator <source directory>");
+            System.exit(1);
+        }
+        GL3WrapperGenerator generator = new GL3WrapperGenerator();
+        Path directory = Paths.get(args[0]);
+        generator.write(directory.resolve("ForwardingGL3.java"), generator.forwardingGL3());
+        generator.write(directory.resolve("RecordingGL3.java"), generator.recordingGL3());
+        System.out.println(generator.methods.size() + " methods of " + generator.gl3.getName() + " "
+                + jogampVersion(generator.gl3) + " written to " + directory);
+    }
+
+    private String forwardingGL3() {
+        imports.clear();
+        imports.add(gl3.getName());
+        StringBuilder body = new StringBuilder();
+        for (Method method : methods.values()) {
+            String name = method.getName();
+            Class<?>[] parameters = method.getParameterTypes();
+            appendDeclaration(body, method);
+            if (isGetGL(method)) {
+                body.append("        return this;\n");
+            } else if (name.equals("getDownstreamGL") && parameters.length == 0) {
+                body.append("        return downstream;\n");
+            } else {
+                if (name.startsWith("gl"))
+                    body.append("        calls++;\n");
+                body.append("        ").append(method.getReturnType() == void.class ? "" : "return ")
+                        .append("downstream.").append(name).append('(');
+                for (int i = 0; i < parameters.length; i++)
+                    body.append(i > 0 ? ", " : "").append("arg").append(i);
+                body.append(");\n");
+            }
+            body.append("    }\n");
+        }
+
+        StringBuilder file = new StringBuilder();
+        appendImports(file);
+        file.append('\n')
+                .append(String.format(FORWARDING_JAVADOC, jogampVersion(gl3)))
+                .append("public class ForwardingGL3 implements GL3 {\n\n")
+                .append("    protected final GL3 downstream;\n")
+                .append("    /** Number of gl* calls passed to the downstream GL object */\n")
+                .append("    protected long calls;\n\n")
+                .append("    /**\n")
+                .append("     * Creates a GL3 forwarding to a GL object.\n")
+                .append("     * @param downstream  GL object all calls are passed to\n")
+                .append("     */\n")
+                .append("    public ForwardingGL3(GL3 downstream) {\n")
+                .append("        this.downstream = downstream;\n")
+                .append("    }\n")
+                .append(body)
+                .append("}\n");
+        return file.toString();
+    }
+
+    private String recordingGL3() {
+        imports.clear();
+        imports.add(gl3.getName());
+        imports.add("java.nio.Buffer");
+        imports.add("java.nio.ByteBuffer");
+        imports.add("java.nio.IntBuffer");
+        imports.add("java.nio.LongBuffer");
+        StringBuilder functions = new StringBuilder();
+        StringBuilder body = new StringBuilder();
+        int function = 0;
+        for (Method method : methods.values()) {
+            functions.append("            \"").append(signatureOf(method)).append("\",\n");
+            appendDeclaration(body, method);
+            Class<?>[] parameters = method.getParameterTypes();
+            if (parameters.length == 0) {
+                body.append("        call(").append(function).append(");\n");
+            } else {
+                body.append("        if (call(").append(function).append(")) {\n");
+                for (int i = 0; i < parameters.length; i++)
+                    body.append("            record(arg").append(i).append(");\n");
+                body.append("        }\n");
+            }
+            appendAnswer(body, method);
+            body.append("    }\n");
+            function++;
+        }
+
+        StringBuilder file = new StringBuilder();
+        appendImports(file);
+        file.append('\n')
+                .append(String.format(RECORDING_JAVADOC, jogampVersion(gl3)))
+                .append("public abstract class RecordingGL3 implements GL3 {\n\n")
+                .append("    /** Name and JNI descriptor of every function by function ID, eg. \"glEnable(I)V\" */\n")
+                .append("    protected static final String[] FUNCTIONS = {\n")
+                .append(functions)
+                .append("    };\n\n")
+                .append("    /**\n")
+                .append("     * Counts a call, followed by record() of each argument if true is returned.\n")
+                .append("     * @param function    Function ID\n")
+                .append("     * @return            true if the arguments are recorded\n")
+                .append("     */\n")
+                .append("    protected abstract boolean call(int function);\n\n");
+        String[] recordedTypes = {"int", "long", "float", "double", "boolean", "byte", "short", "String",
+                "int[]", "long[]", "float[]", "double[]", "byte[]", "short[]", "String[]", "Buffer", "Object"};
+        file.append("    /** Records an argument of the last call() */\n");
+        for (String type : recordedTypes)
+            file.append("    protected abstract void record(").append(type).append(" value);\n\n");
+        file.append("    /** Writes count new object names to names, starting at offset */\n")
+                .append("    protected abstract void genNames(int count, int[] names, int offset);\n\n")
+                .append("    /** Writes count new object names to names, starting at its position */\n")
+                .append("    protected abstract void genNames(int count, IntBuffer names);\n\n")
+                .append("    /** Returns a new object name */\n")
+                .append("    protected abstract int createName();\n\n")
+                .append("    /**\n")
+                .append("     * Writes the value of a glGet* pname, nothing if values is null.\n")
+                .append("     * @return    true if the value was written\n")
+                .append("     */\n")
+                .append("    protected abstract boolean getValues(int pname, int[] values, int offset);\n\n")
+                .append("    protected abstract boolean getValues(int pname, long[] values, int offset);\n\n")
+                .append("    protected abstract boolean getValues(int pname, float[] values, int offset);\n\n")
+                .append("    protected abstract boolean getValues(int pname, IntBuffer values);\n\n")
+                .append("    protected abstract boolean getValues(int pname, LongBuffer values);\n\n")
+                .append("    /** Returns scratch memory of the given size for glMapBuffer* */\n")
+                .append("    protected abstract ByteBuffer mapBuffer(long length);\n\n")
+                .append("    /** Returns the string of glGetString and glGetStringi */\n")
+                .append("    protected abstract String getString(int name);\n")
+                .append(body)
+                .append("}\n");
+        return file.toString();
+    }
+
+    // Return statement of a RecordingGL3 method, see RECORDING_JAVADOC
+    private void appendAnswer(StringBuilder body, Method method) {
+        String name = method.getName();
+        Class<?>[] parameters = method.getParameterTypes();
+        Class<?> returnType = method.getReturnType();
+        if (isGetGL(method)) {
+            body.append("        return this;\n");
+        } else if (name.startsWith("glGen") && !name.equals("glGenerateMipmap")) {
+            // glGen*(n, int[] names, offset) or glGen*(n, IntBuffer names)
+            body.append(parameters.length == 3 ? "        genNames(arg0, arg1, arg2);\n"
+                    : "        genNames(arg0, arg1);\n");
+        } else if (name.startsWith("glCreate") && returnType == int.class) {
+            body.append("        return createName();\n");
+        } else if (name.startsWith("glGet") && returnType == void.class) {
+            appendGetValues(body, parameters);
+        } else if (name.startsWith("glMapBuffer")) {
+            // glMapBufferRange(target, offset, length, access) or glMapBuffer(target, access)
+            body.append(parameters.length == 4 ? "        return mapBuffer(arg2);\n"
+                    : "        return mapBuffer(1 << 16);\n");
+        } else if (name.equals("glFenceSync")) {
+            body.append("        return createName();\n");
+        } else if (name.equals("glClientWaitSync")) {
+            body.append("        return GL_ALREADY_SIGNALED;\n");
+        } else if (name.equals("glCheckFramebufferStatus")) {
+            body.append("        return GL_FRAMEBUFFER_COMPLETE;\n");
+        } else if (name.equals("glGetString") || name.equals("glGetStringi")) {
+            body.append("        return getString(arg0);\n");
+        } else if (returnType == boolean.class && (isGL3Check(name) || name.startsWith("glIs")
+                || name.equals("glUnmapBuffer") || name.startsWith("is") && name.endsWith("Available")
+                || name.equals("hasGLSL"))) {
+            body.append("        return true;\n");
+        } else if (returnType == boolean.class) {
+            body.append("        return false;\n");
+        } else if (returnType.isPrimitive() && returnType != void.class) {
+            body.append("        return 0;\n");
+        } else if (returnType != void.class) {
+            body.append("        return null;\n");
+        }
+    }
+
+    // glGet*(..., pname, values, offset) or glGet*(..., pname, Buffer values): the int
+    // parameter in front of the first non-null array or buffer argument is the pname
+    private static void appendGetValues(StringBuilder body, Class<?>[] parameters) {
+        List<String> calls = new ArrayList<String>();
+        for (int i = 1; i < parameters.length; i++) {
+            if (parameters[i - 1] != int.class)
+                continue;
+            Class<?> type = parameters[i];
+            if (type == int[].class || type == long[].class || type == float[].class) {
+                String offset = i + 1 < parameters.length && parameters[i + 1] == int.class ? "arg" + (i + 1) : "0";
+                calls.add("getValues(arg" + (i - 1) + ", arg" + i + ", " + offset + ")");
+            } else if (type == IntBuffer.class || type == LongBuffer.class) {
+                calls.add("getValues(arg" + (i - 1) + ", arg" + i + ")");
+            }
+        }
+        for (int i = 0; i < calls.size() - 1; i++)
+            body.append("        if (").append(calls.get(i)).append(")\n            return;\n");
+        if (!calls.isEmpty())
+            body.append("        ").append(calls.get(calls.size() - 1)).append(";\n");
+    }
+
+    private static boolean isGL3Check(String name) {
+        return name.equals("isGL") || name.equals("isGL3") || name.equals("isGL3core") || name.equals("isGLcore")
+                || name.equals("isGL2GL3") || name.equals("isGL2ES2") || name.equals("isGL2ES3")
+                || name.equals("isGLES2Compatible") || name.equals("isGLES3Compatible");
+    }
+
+    // Name and JNI descriptor, eg. "glEnable(I)V"
+    private static String signatureOf(Method method) {
+        StringBuilder signature = new StringBuilder(method.getName()).append('(');
+        for (Class<?> parameter : method.getParameterTypes())
+            signature.append(descriptorOf(parameter));
+        return signature.append(')').append(descriptorOf(method.getReturnType())).toString();
+    }
+
+    private static String descriptorOf(Class<?> type) {
+        if (type.isArray())
+            return type.getName().replace('.', '/');
+        if (type.isPrimitive()) {
+            switch (type.getName()) {
+                case "void": return "V";
+                case "int": return "I";
+                case "long": return "J";
+                case "float": return "F";
+                case "double": return "D";
+                case "boolean": return "Z";
+                case "byte": return "B";
+                case "short": return "S";
+                default: return "C";
+            }
+        }
+        return "L" + type.getName().replace('.', '/') + ";";
+    }
+
+    // getGL(), getGL3(), ... returning the GL object itself
+    private boolean isGetGL(Method method) {
+        return method.getName().startsWith("getGL") && method.getParameterTypes().length == 0
+                && method.getReturnType().isAssignableFrom(gl3);
+    }
+
+    // "@Override public <type> <name>(<type> arg0, ...) {"
+    private void appendDeclaration(StringBuilder body, Method method) {
+        body.append("\n    @Override\n    public ").append(typeName(method.getReturnType())).append(' ')
+                .append(method.getName()).append('(');
+        Class<?>[] parameters = method.getParameterTypes();
+        for (int i = 0; i < parameters.length; i++)
+            body.append(i > 0 ? ", " : "").append(typeName(parameters[i])).append(" arg").append(i);
+        body.append(") {\n");
+    }
+
+    // JOGL classes first, then the Java classes
+    private void appendImports(StringBuilder file) {
+        boolean java = false;
+        for (String name : imports) {
+            if (name.startsWith("java.") && !java && file.length() > 0)
+                file.append('\n');
+            java |= name.startsWith("java.");
+            file.append("import ").append(name).append(";\n");
+        }
+    }
+
+    // Simple name of a type, adds it to the imports
+    private String typeName(Class<?> type) {
+        if (type.isArray())
+            return typeName(type.getComponentType()) + "[]";
+        if (type.isPrimitive())
+            return type.getName();
+        String packageName = type.getPackage().getName();
+        if (!packageName.equals("java.lang"))
+            imports.add(type.getName());
+        return type.getSimpleName();
+    }
+
+    private static String jogampVersion(Class<?> type) {
+        String version = type.getPackage().getImplementationVersion();
+        return version != null ? version : "(unknown version)";
+    }
+
+    private void write(Path file, String content) throws IOException {
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            out.print(content);
+        }
+    }
+}